@@ -0,0 +1,102 @@
+package uk.gov.moj.cpp.defence.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static uk.gov.moj.cpp.defence.aggregate.util.CaseAssignmentHelper.buildCaseAssignedToAdvocate;
+import static uk.gov.moj.cpp.defence.aggregate.util.CaseAssignmentHelper.buildCasesAssignedToAdvocate;
+
+import uk.gov.justice.cps.defence.DefendantDetails;
+import uk.gov.justice.cps.defence.PersonDetails;
+import uk.gov.moj.cpp.defence.Organisation;
+import uk.gov.moj.cpp.defence.aggregate.Advocate;
+import uk.gov.moj.cpp.defence.aggregate.DefenceClient;
+import uk.gov.moj.cpp.defence.events.CasesAssignedToAdvocate;
+import uk.gov.moj.cpp.defence.events.DefenceClientReceived;
+import uk.gov.moj.cpp.defence.events.IdpcAccessByOrganisationRecorded;
+import uk.gov.moj.cpp.defence.events.InstructionDetailsRecorded;
+import uk.gov.moj.defence.domain.common.pojo.CaseHearingAssignmentDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rebuilding the Advocate and DefenceClient aggregates from their event streams, and building the case assignment
+ * events, for a given number of cases or instructing organisations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int events;
+
+    private final PersonDetails assignee = PersonDetails.personDetails().withUserId(randomUUID()).withFirstName("assignee").withLastName("advocate").build();
+    private final PersonDetails assignor = PersonDetails.personDetails().withUserId(randomUUID()).withFirstName("assignor").withLastName("advocate").build();
+    private final Organisation assigneeOrganisation = Organisation.organisation().withOrgId(randomUUID()).build();
+    private final Organisation assignorOrganisation = Organisation.organisation().withOrgId(randomUUID()).build();
+
+    private List<CaseHearingAssignmentDetails> caseHearingAssignmentDetails;
+    private List<Object> advocateEvents;
+    private List<Object> defenceClientEvents;
+
+    @Setup
+    public void setUp() {
+        caseHearingAssignmentDetails = new ArrayList<>(events);
+        advocateEvents = new ArrayList<>(events + 1);
+        defenceClientEvents = new ArrayList<>(events + 2);
+        final UUID prosecutingAuthorityId = randomUUID();
+        final UUID caseId = randomUUID();
+
+        defenceClientEvents.add(DefenceClientReceived.defenceClientReceived()
+                .withDefenceClientId(randomUUID())
+                .withDefendantId(randomUUID())
+                .withUrn("55DP0028116")
+                .withDefendantDetails(DefendantDetails.defendantDetails().withCaseId(caseId).withLastName("client").build())
+                .build());
+
+        for (int i = 0; i < events; i++) {
+            final UUID assignedCaseId = randomUUID();
+            caseHearingAssignmentDetails.add(new CaseHearingAssignmentDetails(assignee.getUserId(), assignedCaseId, randomUUID(), false, true, false, prosecutingAuthorityId, null, null));
+            advocateEvents.add(buildCaseAssignedToAdvocate(assignee, assigneeOrganisation, assignorOrganisation, assignor, assignedCaseId, prosecutingAuthorityId, true, false, "CPS"));
+            defenceClientEvents.add(InstructionDetailsRecorded.instructionDetailsRecorded().withOrganisationId(randomUUID()).withCaseId(caseId).build());
+        }
+        advocateEvents.add(buildCasesAssignedToAdvocate(assignee, assigneeOrganisation, assignorOrganisation, assignor, caseHearingAssignmentDetails, "CPS"));
+        defenceClientEvents.add(IdpcAccessByOrganisationRecorded.idpcAccessByOrganisationRecorded().withOrganisationId(randomUUID()).build());
+    }
+
+    @Benchmark
+    public CasesAssignedToAdvocate buildCasesAssigned() {
+        return buildCasesAssignedToAdvocate(assignee, assigneeOrganisation, assignorOrganisation, assignor, caseHearingAssignmentDetails, "CPS");
+    }
+
+    @Benchmark
+    public Advocate replayAdvocate() {
+        final Advocate advocate = new Advocate();
+        advocateEvents.forEach(advocate::apply);
+        return advocate;
+    }
+
+    @Benchmark
+    public DefenceClient replayDefenceClient() {
+        final DefenceClient defenceClient = new DefenceClient();
+        defenceClientEvents.forEach(defenceClient::apply);
+        return defenceClient;
+    }
+}
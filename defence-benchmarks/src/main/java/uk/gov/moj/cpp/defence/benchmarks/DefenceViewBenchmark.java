@@ -0,0 +1,223 @@
+package uk.gov.moj.cpp.defence.benchmarks;
+
+import static java.util.Objects.nonNull;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
+import static uk.gov.moj.cpp.defence.benchmarks.Fixtures.defendantIds;
+import static uk.gov.moj.cpp.defence.benchmarks.Fixtures.inject;
+
+import uk.gov.justice.core.courts.AssociatedPerson;
+import uk.gov.justice.core.courts.Defendant;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.cps.defence.Prosecutioncase;
+import uk.gov.justice.cps.defence.SearchCaseByUrn;
+import uk.gov.justice.cps.defence.caag.Defendants;
+import uk.gov.justice.cps.defence.caag.ProsecutioncaseCaag;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.defence.query.view.AdvocateCaseAuthorisation;
+import uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView;
+import uk.gov.moj.cpp.defence.query.view.DefenceQueryService;
+import uk.gov.moj.cpp.defence.query.view.StreamingJsonValueReader;
+import uk.gov.moj.cpp.defence.service.ProgressionService;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The defence views of a prosecution case: reading the progression payload, filtering it down to the advocate's
+ * authorised defendants, and for CAAG removing restricted results and enriching with associated persons. The
+ * advocate is authorised for every other defendant. Progression and the viewstore are replaced by in-memory stubs.
+ * {@code prosecutionCaseStringRoundTrip} and {@code prosecutionCaseCaagMapRoundTrip} keep the previous reading of the
+ * progression payloads, which printed them to a String and parsed them again, as the baseline for
+ * {@code readProsecutionCase} and {@code readProsecutionCaseCaag}. {@code enrichedDefendantsLinearScan} keeps the
+ * previous enrichment, which scanned every case defendant for each CAAG defendant, as the baseline for
+ * {@code enrichedDefendants}. {@code authorisedDefendantsListLookup} keeps the previous filtering against the list of
+ * authorised defendant ids as the baseline for {@code authorisedDefendantsSetLookup}, which hashes them once per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefenceViewBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int defendants;
+
+    private CpsCaseAccessQueryView view;
+    private ObjectMapper objectMapper;
+    private StreamingJsonValueReader prosecutionCaseReader;
+    private StreamingJsonValueReader prosecutionCaseCaagReader;
+    private JsonObject prosecutionCase;
+    private JsonObject prosecutionCaseCaag;
+    private Envelope<SearchCaseByUrn> request;
+    private AdvocateCaseAuthorisation authorisation;
+    private List<UUID> authorisedDefendantIds;
+    private List<Defendants> caagDefendants;
+    private List<Defendant> caseDefendants;
+
+    @Setup
+    public void setUp() throws IOException {
+        final UUID caseId = randomUUID();
+        final String userId = randomUUID().toString();
+        final List<UUID> defendantIds = defendantIds(defendants);
+        prosecutionCase = Fixtures.prosecutionCase(defendantIds);
+        prosecutionCaseCaag = Fixtures.prosecutionCaseCaag(defendantIds);
+
+        view = new CpsCaseAccessQueryView();
+        inject(view, "progressionService", new StubProgressionService(prosecutionCase, prosecutionCaseCaag));
+        inject(view, "defenceQueryService", new StubDefenceQueryService(caseId));
+
+        request = Envelope.envelopeFrom(
+                metadataBuilder().withId(randomUUID()).withName("advocate.query.prosecutioncase-defence").withUserId(userId).build(),
+                SearchCaseByUrn.searchCaseByUrn().withCaseId(caseId).withCaseUrn("53NP3458322").build());
+
+        authorisedDefendantIds = IntStream.range(0, defendantIds.size())
+                .filter(index -> index % 2 == 0)
+                .mapToObj(defendantIds::get)
+                .collect(toList());
+        authorisation = new AdvocateCaseAuthorisation(userId, caseId, false, true, false, authorisedDefendantIds);
+
+        objectMapper = new ObjectMapperProducer().objectMapper();
+        prosecutionCaseReader = new StreamingJsonValueReader(objectMapper);
+        prosecutionCaseCaagReader = new StreamingJsonValueReader(objectMapper, "caseDetails.migrationSourceSystem");
+        caagDefendants = view.queryProsecutioncaseProsecutorCaag(request).payload().getDefendants();
+        caseDefendants = objectMapper.readValue(prosecutionCase.getJsonObject("prosecutionCase").toString(), ProsecutionCase.class).getDefendants();
+    }
+
+    @Benchmark
+    public Prosecutioncase prosecutionCaseForDefence() throws IOException {
+        return view.queryProsecutioncaseDefence(request, authorisation).payload();
+    }
+
+    @Benchmark
+    public ProsecutioncaseCaag prosecutionCaseCaagForDefence() {
+        return view.queryProsecutioncaseDefenceCaag(request, authorisation).payload();
+    }
+
+    @Benchmark
+    public Prosecutioncase readProsecutionCase() throws IOException {
+        return prosecutionCaseReader.read(prosecutionCase, Prosecutioncase.class);
+    }
+
+    @Benchmark
+    public Prosecutioncase prosecutionCaseStringRoundTrip() throws IOException {
+        return objectMapper.readValue(prosecutionCase.toString(), Prosecutioncase.class);
+    }
+
+    @Benchmark
+    public ProsecutioncaseCaag readProsecutionCaseCaag() throws IOException {
+        return prosecutionCaseCaagReader.read(prosecutionCaseCaag, ProsecutioncaseCaag.class);
+    }
+
+    @Benchmark
+    public ProsecutioncaseCaag prosecutionCaseCaagMapRoundTrip() throws IOException {
+        final Map<String, Object> objectMap = objectMapper.readValue(prosecutionCaseCaag.toString(), new TypeReference<>() {});
+        final Map<String, Object> caseDetails = objectMapper.convertValue(objectMap.get("caseDetails"), new TypeReference<>() {});
+        caseDetails.remove("migrationSourceSystem");
+        objectMap.put("caseDetails", caseDetails);
+        return objectMapper.convertValue(objectMap, ProsecutioncaseCaag.class);
+    }
+
+    @Benchmark
+    public List<Defendants> enrichedDefendants() {
+        return view.getEnrichedDefendants(caagDefendants, caseDefendants);
+    }
+
+    @Benchmark
+    public List<Defendants> enrichedDefendantsLinearScan() {
+        return caagDefendants.stream()
+                .map(defendant -> Defendants.defendants()
+                        .withValuesFrom(defendant)
+                        .withAssociatedPersons(findAssociatedPersons(defendant.getId()))
+                        .build())
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Defendant> authorisedDefendantsSetLookup() {
+        final Set<UUID> authorisedIds = new HashSet<>(authorisedDefendantIds);
+        return caseDefendants.stream()
+                .filter(defendant -> authorisedIds.contains(defendant.getId()))
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Defendant> authorisedDefendantsListLookup() {
+        return caseDefendants.stream()
+                .filter(defendant -> authorisedDefendantIds.contains(defendant.getId()))
+                .collect(toList());
+    }
+
+    private List<AssociatedPerson> findAssociatedPersons(final UUID defendantId) {
+        return caseDefendants.stream()
+                .filter(defendant -> defendant.getId().equals(defendantId))
+                .filter(defendant -> nonNull(defendant.getAssociatedPersons()))
+                .findAny().map(Defendant::getAssociatedPersons).orElse(null);
+    }
+
+    private static final class StubProgressionService extends ProgressionService {
+        private final JsonObject prosecutionCase;
+        private final JsonObject prosecutionCaseCaag;
+
+        private StubProgressionService(final JsonObject prosecutionCase, final JsonObject prosecutionCaseCaag) {
+            this.prosecutionCase = prosecutionCase;
+            this.prosecutionCaseCaag = prosecutionCaseCaag;
+        }
+
+        @Override
+        public JsonObject getProsecutionCaseDetails(final Metadata metadata, final UUID caseId) {
+            return prosecutionCase;
+        }
+
+        @Override
+        public JsonValue getProsecutionCaseDetailsAsJson(final Metadata metadata, final UUID caseId) {
+            return prosecutionCase;
+        }
+
+        @Override
+        public JsonObject getProsecutionCaseDetailsForCaag(final Metadata metadata, final UUID caseId) {
+            return prosecutionCaseCaag;
+        }
+    }
+
+    private static final class StubDefenceQueryService extends DefenceQueryService {
+        private final UUID caseId;
+
+        private StubDefenceQueryService(final UUID caseId) {
+            this.caseId = caseId;
+        }
+
+        @Override
+        public UUID getCaseId(final String urn) {
+            return caseId;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.moj.cpp.defence.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Builds progression payloads of a given number of defendants by copying a defendant from the recorded fixtures under
+ * {@code /fixtures}, so that the benchmarks can be run at several case sizes.
+ */
+final class Fixtures {
+
+    private static final String DEFENDANT_ID_PLACEHOLDER = "DEFENDANT_ID";
+    private static final String PROSECUTION_CASE = "prosecutionCase";
+    private static final String DEFENDANTS = "defendants";
+    private static final String ID = "id";
+    private static final String MASTER_DEFENDANT_ID = "masterDefendantId";
+
+    private Fixtures() {
+    }
+
+    static List<UUID> defendantIds(final int count) {
+        final List<UUID> defendantIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            defendantIds.add(randomUUID());
+        }
+        return defendantIds;
+    }
+
+    /**
+     * The progression.query.prosecutioncase response with one copy of the template defendant per id.
+     */
+    static JsonObject prosecutionCase(final List<UUID> defendantIds) {
+        final JsonObject response = load("defence.query.prosecutioncase.json", defendantIds.get(0));
+        final JsonObject prosecutionCase = response.getJsonObject(PROSECUTION_CASE);
+        final JsonObject template = findDefendant(prosecutionCase, defendantIds.get(0));
+        return with(response, PROSECUTION_CASE, with(prosecutionCase, DEFENDANTS, copies(template, defendantIds)));
+    }
+
+    /**
+     * The progression.query.prosecutioncase.caag response with one copy of the template defendant per id.
+     */
+    static JsonObject prosecutionCaseCaag(final List<UUID> defendantIds) {
+        final JsonObject response = load("defence.query.prosecutioncase-caag.json", defendantIds.get(0));
+        final JsonObject template = findDefendant(response, defendantIds.get(0));
+        return with(response, DEFENDANTS, copies(template, defendantIds));
+    }
+
+    static void inject(final Object target, final String fieldName, final Object value) {
+        try {
+            final Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static JsonObject load(final String fixture, final UUID firstDefendantId) {
+        try (InputStream inputStream = Fixtures.class.getResourceAsStream("/fixtures/" + fixture)) {
+            final String payload = new String(inputStream.readAllBytes(), UTF_8).replace(DEFENDANT_ID_PLACEHOLDER, firstDefendantId.toString());
+            try (JsonReader reader = Json.createReader(new StringReader(payload))) {
+                return reader.readObject();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonObject findDefendant(final JsonObject parent, final UUID defendantId) {
+        return parent.getJsonArray(DEFENDANTS).getValuesAs(JsonObject.class).stream()
+                .filter(defendant -> defendantId.toString().equals(defendant.getString(ID)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Fixture has no defendant " + DEFENDANT_ID_PLACEHOLDER));
+    }
+
+    private static JsonValue copies(final JsonObject template, final List<UUID> defendantIds) {
+        final JsonArrayBuilder defendants = Json.createArrayBuilder();
+        defendantIds.forEach(defendantId -> defendants.add(with(
+                with(template, ID, Json.createValue(defendantId.toString())),
+                MASTER_DEFENDANT_ID, Json.createValue(randomUUID().toString()))));
+        return defendants.build();
+    }
+
+    private static JsonObject with(final JsonObject source, final String key, final JsonValue value) {
+        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (final Map.Entry<String, JsonValue> entry : source.entrySet()) {
+            builder.add(entry.getKey(), key.equals(entry.getKey()) ? value : entry.getValue());
+        }
+        if (!source.containsKey(key)) {
+            builder.add(key, value);
+        }
+        return builder.build();
+    }
+}
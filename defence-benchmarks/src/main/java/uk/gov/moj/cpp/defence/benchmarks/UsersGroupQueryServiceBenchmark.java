@@ -0,0 +1,66 @@
+package uk.gov.moj.cpp.defence.benchmarks;
+
+import static uk.gov.moj.cpp.defence.service.UsersGroupQueryService.GROUPS;
+import static uk.gov.moj.cpp.defence.service.UsersGroupQueryService.GROUP_NAME;
+import static uk.gov.moj.cpp.defence.service.UsersGroupQueryService.PROSECUTING_AUTHORITY;
+
+import uk.gov.moj.cpp.defence.service.UsersGroupQueryService;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Group membership checks against a users-groups response, with the matching group last.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsersGroupQueryServiceBenchmark {
+
+    private static final String NON_CPS_PROSECUTORS = "Non CPS Prosecutors";
+    private static final String SHORT_NAME = "DVLA";
+
+    @Param({"1", "10", "100", "1000"})
+    private int groups;
+
+    private final UsersGroupQueryService usersGroupQueryService = new UsersGroupQueryService();
+    private JsonObject userGroups;
+
+    @Setup
+    public void setUp() {
+        final JsonArrayBuilder groupsArray = Json.createArrayBuilder();
+        for (int i = 1; i < groups; i++) {
+            groupsArray.add(Json.createObjectBuilder().add(GROUP_NAME, "Group " + i).add(PROSECUTING_AUTHORITY, "AUTH" + i));
+        }
+        groupsArray.add(Json.createObjectBuilder().add(GROUP_NAME, NON_CPS_PROSECUTORS).add(PROSECUTING_AUTHORITY, SHORT_NAME));
+        userGroups = Json.createObjectBuilder().add(GROUPS, groupsArray).build();
+    }
+
+    @Benchmark
+    public Boolean isNonCpsUserGroup() {
+        return usersGroupQueryService.isNonCpsUserGroup(userGroups, NON_CPS_PROSECUTORS);
+    }
+
+    @Benchmark
+    public boolean isNonCpsProsecutorWithValidProsecutingAuthority() {
+        return usersGroupQueryService.isNonCPSProsecutorWithValidProsecutingAuthority(userGroups, NON_CPS_PROSECUTORS, SHORT_NAME);
+    }
+}
@@ -0,0 +1,133 @@
+package uk.gov.moj.cpp.defence.benchmarks;
+
+import static java.util.UUID.fromString;
+import static java.util.UUID.randomUUID;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE1;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE2;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE3;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE4;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_POSTCODE;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ORGANISATION_ID;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ORGANISATION_NAME;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.PERMISSIONS;
+
+import uk.gov.justice.cps.defence.Permission;
+import uk.gov.justice.services.messaging.JsonObjects;
+import uk.gov.moj.cpp.defence.Address;
+import uk.gov.moj.cpp.defence.Organisation;
+import uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding users-groups organisation details and permissions responses. {@code organisationSerialisedKeyLookup} and
+ * {@code permissionsStreamed} keep the previous decoding, which serialised the payload to check for each optional key
+ * and streamed the permissions through optionals, as the baseline for {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsersGroupsResponseDecoderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int permissions;
+
+    private JsonObject organisationDetails;
+    private JsonObject permissionsResponse;
+
+    @Setup
+    public void setUp() {
+        organisationDetails = Json.createObjectBuilder()
+                .add(ORGANISATION_ID, randomUUID().toString())
+                .add(ORGANISATION_NAME, "Smith & Co Solicitors")
+                .add("organisationType", "LEGAL_ORGANISATION")
+                .add(ADDRESS_LINE1, "1 High Street")
+                .add(ADDRESS_LINE2, "Westminster")
+                .add(ADDRESS_LINE4, "London")
+                .add(ADDRESS_POSTCODE, "SW1A 1AA")
+                .add("phoneNumber", "020 7946 0000")
+                .add("email", "office@smith.example")
+                .add("laaContractNumber", "1A234B")
+                .build();
+
+        final JsonArrayBuilder permissionsArray = Json.createArrayBuilder();
+        for (int i = 0; i < permissions; i++) {
+            permissionsArray.add(Json.createObjectBuilder()
+                    .add("action", "View")
+                    .add("object", "DefendantDocuments")
+                    .add("source", randomUUID().toString())
+                    .add("target", randomUUID().toString()));
+        }
+        permissionsResponse = Json.createObjectBuilder().add(PERMISSIONS, permissionsArray).build();
+    }
+
+    @Benchmark
+    public Organisation organisation() {
+        return UsersGroupsResponseDecoder.toOrganisation(organisationDetails);
+    }
+
+    @Benchmark
+    public Organisation organisationSerialisedKeyLookup() {
+        final Address.Builder addressBuilder = Address.address();
+        if (organisationDetails.toString().contains(ADDRESS_LINE1)) {
+            addressBuilder.withAddress1(organisationDetails.getJsonString(ADDRESS_LINE1).getString());
+        }
+        if (organisationDetails.toString().contains(ADDRESS_LINE2)) {
+            addressBuilder.withAddress2(organisationDetails.getJsonString(ADDRESS_LINE2).getString());
+        }
+        if (organisationDetails.toString().contains(ADDRESS_LINE3)) {
+            addressBuilder.withAddress3(organisationDetails.getJsonString(ADDRESS_LINE3).getString());
+        }
+        if (organisationDetails.toString().contains(ADDRESS_LINE4)) {
+            addressBuilder.withAddress4(organisationDetails.getJsonString(ADDRESS_LINE4).getString());
+        }
+        if (organisationDetails.toString().contains(ADDRESS_POSTCODE)) {
+            addressBuilder.withAddressPostcode(organisationDetails.getJsonString(ADDRESS_POSTCODE).getString());
+        }
+        return Organisation.organisation()
+                .withOrgId(fromString(organisationDetails.getJsonString(ORGANISATION_ID).getString()))
+                .withOrganisationName(organisationDetails.getJsonString(ORGANISATION_NAME).getString())
+                .withAddress(addressBuilder.build())
+                .build();
+    }
+
+    @Benchmark
+    public List<Permission> permissions() {
+        return UsersGroupsResponseDecoder.toPermissions(permissionsResponse);
+    }
+
+    @Benchmark
+    public List<Permission> permissionsStreamed() {
+        return permissionsResponse.getJsonArray(PERMISSIONS).stream()
+                .map(p -> (JsonObject) p)
+                .map(permission -> Permission.permission()
+                        .withAction(JsonObjects.getString(permission, "action").orElse(null))
+                        .withObject(JsonObjects.getString(permission, "object").orElse(null))
+                        .withSource(JsonObjects.getString(permission, "source").map(UUID::fromString).orElse(null))
+                        .withTarget(JsonObjects.getString(permission, "target").map(UUID::fromString).orElse(null))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -5,7 +5,7 @@ import static java.lang.Integer.parseInt;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
-import static java.util.UUID.fromString;
+import static java.util.stream.Collectors.toList;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_API;
 import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
@@ -31,12 +31,14 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.command.error.CaseNotFoundException;
 import uk.gov.moj.cpp.defence.command.error.OrganisationNotProsecutingAuthorityException;
 import uk.gov.moj.cpp.defence.command.service.DefenceService;
-import uk.gov.moj.cpp.defence.query.view.ProsecutionCaseAuthority;
 import uk.gov.moj.cpp.defence.service.ProgressionService;
 import uk.gov.moj.cpp.defence.service.ReferenceDataService;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
 import uk.gov.moj.cpp.defence.service.UsersGroupQueryService;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -126,18 +128,21 @@ public class CaseAccessCommandApi {
     private JsonObject enrichAssignCasePayload(final AssignCaseByHearing assignCaseByHearing, final Metadata metadata) {
         final JsonArrayBuilder caseHearingAssignmentDetails = createArrayBuilder();
         final PersonDetails assigneeDetails = usersGroupService.getUserDetailsWithEmail(assignCaseByHearing.getAssigneeEmailId(), metadata, requester);
+        final List<UUID> caseIds = assignCaseByHearing.getCaseHearings().stream().map(caseHearing -> caseHearing.getCaseId()).distinct().collect(toList());
+        final Map<UUID, UUID> prosecutionAuthorityIds = progressionService.getProsecutionAuthorityIdMap(metadata, caseIds);
+        final ProsecutorLookup prosecutorLookup = new ProsecutorLookup(metadata);
 
         assignCaseByHearing.getCaseHearings().forEach(caseHearing -> {
             final UUID caseId = caseHearing.getCaseId();
             final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder()
                     .add(CASE_ID, caseId.toString())
                     .add(HEARING_ID, caseHearing.getHearingId().toString());
-            final ProsecutionCaseAuthority prosecutionCaseAuthority = progressionService.getProsecutionCaseAuthority(metadata, caseId);
-            if (nonNull(prosecutionCaseAuthority)) {
-                validateProsecutionAuthorityAndCaptureErrors(metadata, prosecutionCaseAuthority.getProsecutionAuthorityId(), jsonObjectBuilder);
+            final UUID prosecutionAuthorityId = prosecutionAuthorityIds.get(caseId);
+            if (nonNull(prosecutionAuthorityId)) {
+                validateProsecutionAuthorityAndCaptureErrors(prosecutorLookup, prosecutionAuthorityId, jsonObjectBuilder);
                 jsonObjectBuilder
                         .add(IS_ASSIGNEE_DEFENDING_CASE, isAssigneeDefending(metadata, caseId, assigneeDetails))
-                        .add(PROSECUTION_AUTHORITY_ID, prosecutionCaseAuthority.getProsecutionAuthorityId().toString());
+                        .add(PROSECUTION_AUTHORITY_ID, prosecutionAuthorityId.toString());
                 ofNullable(assigneeDetails).ifPresent(assigneeDetailsObject -> jsonObjectBuilder.add(ASSIGNEE_ID, assigneeDetailsObject.getUserId().toString()));
             } else {
                 jsonObjectBuilder
@@ -157,14 +162,17 @@ public class CaseAccessCommandApi {
     private JsonObject enrichAssignCasePayload(final AssignCase assignCase, final Metadata metadata) {
         final JsonArrayBuilder caseAssignmentDetails = createArrayBuilder();
         final PersonDetails assigneeDetails = usersGroupService.getUserDetailsWithEmail(assignCase.getAssigneeEmailId(), metadata, requester);
+        final Map<UUID, UUID> prosecutionAuthorityIds = progressionService.getProsecutionAuthorityIdMap(metadata, assignCase.getCaseIds().stream().distinct().collect(toList()));
+        final ProsecutorLookup prosecutorLookup = new ProsecutorLookup(metadata);
+
         assignCase.getCaseIds().forEach(caseId -> {
-            final ProsecutionCaseAuthority prosecutionCaseAuthority = progressionService.getProsecutionCaseAuthority(metadata, UUID.fromString(caseId.toString()));
-            if (nonNull(prosecutionCaseAuthority)) {
+            final UUID prosecutionAuthorityId = prosecutionAuthorityIds.get(caseId);
+            if (nonNull(prosecutionAuthorityId)) {
                 final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
-                validateProsecutionAuthority(metadata, prosecutionCaseAuthority.getProsecutionAuthorityId(), jsonObjectBuilder);
+                validateProsecutionAuthority(prosecutorLookup, prosecutionAuthorityId, jsonObjectBuilder);
                 jsonObjectBuilder.add(IS_ASSIGNEE_DEFENDING_CASE, isAssigneeDefending(metadata, caseId, assigneeDetails))
                         .add(CASE_ID, caseId.toString())
-                        .add(PROSECUTION_AUTHORITY_ID, prosecutionCaseAuthority.getProsecutionAuthorityId().toString());
+                        .add(PROSECUTION_AUTHORITY_ID, prosecutionAuthorityId.toString());
                 ofNullable(assigneeDetails).ifPresent(assigneeDetailsObject -> jsonObjectBuilder.add(ASSIGNEE_ID, assigneeDetailsObject.getUserId().toString()));
                 caseAssignmentDetails.add(jsonObjectBuilder.build());
             } else {
@@ -188,10 +196,9 @@ public class CaseAccessCommandApi {
     }
 
     @SuppressWarnings("squid:S3655")
-    private void validateProsecutionAuthority(final Metadata metadata, final UUID prosecutionAuthorityId, final JsonObjectBuilder jsonObjectBuilder) {
-        final UUID userId = metadata.userId().isPresent() ? fromString(metadata.userId().get()) : null;
-        final Optional<JsonObject> prosecutorJsonObjectOptional = referenceDataService.getProsecutor(metadata, prosecutionAuthorityId);
-        final Optional<String> isNonCPSUserWithValidProsecutingAuthority = usersGroupQueryService.validateNonCPSUserOrg(metadata, userId, NON_CPS_PROSECUTORS, prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
+    private void validateProsecutionAuthority(final ProsecutorLookup prosecutorLookup, final UUID prosecutionAuthorityId, final JsonObjectBuilder jsonObjectBuilder) {
+        final Optional<JsonObject> prosecutorJsonObjectOptional = prosecutorLookup.getProsecutor(prosecutionAuthorityId);
+        final Optional<String> isNonCPSUserWithValidProsecutingAuthority = prosecutorLookup.validateNonCPSUserOrg(prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
         final JsonObject prosecutorJsonObject = prosecutorJsonObjectOptional.get();
         final boolean cpsFlag = getBooleanValue(prosecutorJsonObject, CPS_FLAG);
         final boolean policeFlag = getBooleanValue(prosecutorJsonObject, POLICE_FLAG);
@@ -212,10 +219,9 @@ public class CaseAccessCommandApi {
     }
 
     @SuppressWarnings("squid:S3655")
-    private void validateProsecutionAuthorityAndCaptureErrors(final Metadata metadata, final UUID prosecutionAuthorityId, final JsonObjectBuilder jsonObjectBuilder) {
-        final UUID userId = metadata.userId().isPresent() ? fromString(metadata.userId().get()) : null;
-        final Optional<JsonObject> prosecutorJsonObjectOptional = referenceDataService.getProsecutor(metadata, prosecutionAuthorityId);
-        final Optional<String> isNonCPSUserWithValidProsecutingAuthority = usersGroupQueryService.validateNonCPSUserOrg(metadata, userId, NON_CPS_PROSECUTORS, prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
+    private void validateProsecutionAuthorityAndCaptureErrors(final ProsecutorLookup prosecutorLookup, final UUID prosecutionAuthorityId, final JsonObjectBuilder jsonObjectBuilder) {
+        final Optional<JsonObject> prosecutorJsonObjectOptional = prosecutorLookup.getProsecutor(prosecutionAuthorityId);
+        final Optional<String> isNonCPSUserWithValidProsecutingAuthority = prosecutorLookup.validateNonCPSUserOrg(prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
         prosecutorJsonObjectOptional
                 .ifPresent(pJson -> {
                     final JsonObject prosecutorJsonObject = prosecutorJsonObjectOptional.get();
@@ -254,4 +260,29 @@ public class CaseAccessCommandApi {
         return false;
     }
 
+    /**
+     * Prosecutor details and the non-CPS organisation check only depend on the prosecuting authority,
+     * so they are looked up once per distinct authority however many cases are being assigned.
+     */
+    private final class ProsecutorLookup {
+
+        private final Metadata metadata;
+        private final UUID userId;
+        private final Map<UUID, Optional<JsonObject>> prosecutors = new HashMap<>();
+        private final Map<String, Optional<String>> nonCpsUserOrgValidations = new HashMap<>();
+
+        private ProsecutorLookup(final Metadata metadata) {
+            this.metadata = metadata;
+            this.userId = metadata.userId().map(UUID::fromString).orElse(null);
+        }
+
+        private Optional<JsonObject> getProsecutor(final UUID prosecutionAuthorityId) {
+            return prosecutors.computeIfAbsent(prosecutionAuthorityId, id -> referenceDataService.getProsecutor(metadata, id));
+        }
+
+        private Optional<String> validateNonCPSUserOrg(final String shortName) {
+            return nonCpsUserOrgValidations.computeIfAbsent(shortName, name -> usersGroupQueryService.validateNonCPSUserOrg(metadata, userId, NON_CPS_PROSECUTORS, name));
+        }
+    }
+
 }
@@ -24,7 +24,6 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.spi.DefaultJsonEnvelopeProvider;
 import uk.gov.moj.cpp.defence.command.error.OrganisationNotProsecutingAuthorityException;
 import uk.gov.moj.cpp.defence.command.service.DefenceService;
-import uk.gov.moj.cpp.defence.query.view.ProsecutionCaseAuthority;
 import uk.gov.moj.cpp.defence.service.ProgressionService;
 import uk.gov.moj.cpp.defence.service.ReferenceDataService;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
@@ -32,6 +31,7 @@ import uk.gov.moj.cpp.defence.service.UsersGroupQueryService;
 
 
 import javax.json.JsonObject;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,6 +45,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
@@ -105,8 +106,7 @@ public class CaseAccessCommandApiTest {
         when(assignCaseEnvelope.metadata()).thenReturn(metadata);
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMisMatch"));
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, assignCaseEnvelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(assignCaseEnvelope.metadata(), assignCase.getCaseIds().get(0))).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(assignCaseEnvelope.metadata(), of(assignCase.getCaseIds().get(0)))).thenReturn(Map.of(assignCase.getCaseIds().get(0), prosecutingAuthorityId));
         when(referenceDataService.getProsecutor(assignCaseEnvelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
         assertThrows(OrganisationNotProsecutingAuthorityException.class, () -> caseAccessCommandApi.assignCase(assignCaseEnvelope));
     }
@@ -123,8 +123,7 @@ public class CaseAccessCommandApiTest {
         UUID prosecutingAuthorityId = randomUUID();
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, assignCaseEnvelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(assignCaseEnvelope.metadata(), assignCase.getCaseIds().get(0))).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(assignCaseEnvelope.metadata(), of(assignCase.getCaseIds().get(0)))).thenReturn(Map.of(assignCase.getCaseIds().get(0), prosecutingAuthorityId));
         when(referenceDataService.getProsecutor(assignCaseEnvelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("shortName", "DVLA").build()));
         assertThrows(OrganisationNotProsecutingAuthorityException.class, () -> caseAccessCommandApi.assignCase(assignCaseEnvelope));
     }
@@ -174,8 +173,7 @@ public class CaseAccessCommandApiTest {
 
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of(assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId));
         when(defenceService.isAssigneeDefendingTheCase(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId(), userId)).thenReturn(false);
         when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
 
@@ -190,6 +188,30 @@ public class CaseAccessCommandApiTest {
         assertCaseAssignmentDetails(caseHearingAssignmentDetails, assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId);
     }
 
+    @Test
+    public void shouldLookUpProgressionAndProsecutorOnceWhenAssigningManyCasesByHearing() {
+        final UUID userId = randomUUID();
+        final UUID caseId1 = randomUUID();
+        final UUID caseId2 = randomUUID();
+        final AssignCaseByHearing assignCaseByHearing = new AssignCaseByHearing(EMAIL, randomUUID(), randomUUID(),
+                of(new CaseHearings(caseId1, randomUUID()), new CaseHearings(caseId2, randomUUID()), new CaseHearings(caseId1, randomUUID())));
+        final Envelope<AssignCaseByHearing> envelope = createEnvelopeForCaseAccess(EMAIL, assignCaseByHearing, userId);
+        final UUID prosecutingAuthorityId = randomUUID();
+
+        when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
+        when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(caseId1, caseId2))).thenReturn(Map.of(caseId1, prosecutingAuthorityId, caseId2, prosecutingAuthorityId));
+        when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
+
+        caseAccessCommandApi.assignCaseByHearingListing(envelope);
+
+        verify(sender).send(envelopeArgumentCaptor.capture());
+        assertThat(envelopeArgumentCaptor.getValue().payload().getJsonArray("caseHearingAssignmentDetails").size(), is(3));
+        verify(progressionService, times(1)).getProsecutionAuthorityIdMap(any(), any());
+        verify(referenceDataService, times(1)).getProsecutor(any(), any());
+        verify(usersGroupQueryService, times(1)).validateNonCPSUserOrg(any(), any(), any(), any());
+    }
+
     @Test
     public void shouldHandleAssignCaseByHearingNonCpsOrgMisMatch() {
         final UUID userId = randomUUID();
@@ -199,8 +221,7 @@ public class CaseAccessCommandApiTest {
 
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMisMatch"));
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of(assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId));
         when(defenceService.isAssigneeDefendingTheCase(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId(), userId)).thenReturn(false);
         when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
 
@@ -226,8 +247,7 @@ public class CaseAccessCommandApiTest {
 
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMatch"));
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of(assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId));
         when(defenceService.isAssigneeDefendingTheCase(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId(), userId)).thenReturn(false);
         when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
 
@@ -248,7 +268,7 @@ public class CaseAccessCommandApiTest {
         final AssignCaseByHearing assignCaseByHearing = new AssignCaseByHearing(EMAIL, randomUUID(), randomUUID(), of(new CaseHearings(randomUUID(), randomUUID())));
         final Envelope<AssignCaseByHearing> envelope = createEnvelopeForCaseAccess(EMAIL, assignCaseByHearing, userId);
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(null);
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of());
 
         caseAccessCommandApi.assignCaseByHearingListing(envelope);
 
@@ -271,8 +291,7 @@ public class CaseAccessCommandApiTest {
         final UUID prosecutingAuthorityId = randomUUID();
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMisMatch"));
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of(assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId));
         when(defenceService.isAssigneeDefendingTheCase(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId(), userId)).thenReturn(false);
         when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", false).add("policeFlag", false).add("shortName", "DVLA").build()));
 
@@ -297,8 +316,7 @@ public class CaseAccessCommandApiTest {
         final UUID prosecutingAuthorityId = randomUUID();
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMisMatch"));
         when(usersGroupService.getUserDetailsWithEmail(EMAIL, envelope.metadata(), requester)).thenReturn(PersonDetails.personDetails().withUserId(userId).build());
-        when(progressionService.getProsecutionCaseAuthority(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId())).thenReturn(ProsecutionCaseAuthority.prosecutionCaseAuthority()
-                .withProsecutionAuthorityId(prosecutingAuthorityId).build());
+        when(progressionService.getProsecutionAuthorityIdMap(envelope.metadata(), of(assignCaseByHearing.getCaseHearings().get(0).getCaseId()))).thenReturn(Map.of(assignCaseByHearing.getCaseHearings().get(0).getCaseId(), prosecutingAuthorityId));
         when(defenceService.isAssigneeDefendingTheCase(envelope.metadata(), assignCaseByHearing.getCaseHearings().get(0).getCaseId(), userId)).thenReturn(false);
         when(referenceDataService.getProsecutor(envelope.metadata(), prosecutingAuthorityId)).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", false).add("policeFlag", false).add("shortName", "DVLA").build()));
 
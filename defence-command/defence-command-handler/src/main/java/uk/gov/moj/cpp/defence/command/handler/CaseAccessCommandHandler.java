@@ -7,6 +7,7 @@ import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
 import static uk.gov.justice.services.eventsourcing.source.core.Events.streamOf;
 import static uk.gov.moj.cpp.defence.command.util.EventStreamAppender.appendEventsToStream;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.join;
 
 import uk.gov.justice.cps.defence.PersonDetails;
 import uk.gov.justice.cps.defence.commands.AssignCase;
@@ -24,14 +25,17 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.defence.CaseAssignmentDetails;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.aggregate.Advocate;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.events.SystemScheduledForAdvocateAccessTriggered;
 import uk.gov.moj.cpp.defence.service.DefenceService;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
 import uk.gov.moj.defence.domain.common.pojo.CaseHearingAssignmentDetails;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,6 +65,9 @@ public class CaseAccessCommandHandler {
     @Inject
     private DefenceService defenceService;
 
+    @Inject
+    private RemoteCallExecutor remoteCallExecutor;
+
     @Handles("defence.command.handler.advocate.assign-case")
     public void assignCase(final Envelope<AssignCase> envelope) throws EventStreamException {
 
@@ -74,27 +81,34 @@ public class CaseAccessCommandHandler {
 
         final PersonDetails assigneeDetails = usersGroupService.getUserDetailsWithEmail(assigneeEmailId, envelope.metadata(), requester);
         if (assigneeDetails != null) {
-            eventStream = eventSource.getStreamById(assigneeDetails.getUserId());
-            assigneeGroupList = usersGroupService.getGroupNamesForUser(assigneeDetails.getUserId(), envelope.metadata(), requester);
-            assigneeOrganisation = usersGroupService.getOrganisationDetailsForUser(assigneeDetails.getUserId(), envelope.metadata(), requester);
-
-            assignorDetails = usersGroupService.getUserDetailsWithUserId(assignCase.getAssignorId(), envelope.metadata(), requester);
-            assignorOrganisation = usersGroupService.getOrganisationDetailsForUser(assignCase.getAssignorId(), envelope.metadata(), requester);
+            final UUID assigneeUserId = assigneeDetails.getUserId();
+            final UUID assignorId = assignCase.getAssignorId();
+            final CompletableFuture<List<String>> assigneeGroups = remoteCallExecutor.submit(() -> usersGroupService.getGroupNamesForUser(assigneeUserId, envelope.metadata(), requester));
+            final CompletableFuture<Organisation> assigneeOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(assigneeUserId, envelope.metadata(), requester));
+            final CompletableFuture<PersonDetails> assignorDetailsLookup = remoteCallExecutor.submit(() -> usersGroupService.getUserDetailsWithUserId(assignorId, envelope.metadata(), requester));
+            final CompletableFuture<Organisation> assignorOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(assignorId, envelope.metadata(), requester));
+
+            eventStream = eventSource.getStreamById(assigneeUserId);
+            assigneeGroupList = join(assigneeGroups);
+            assigneeOrganisation = join(assigneeOrganisationLookup);
+            assignorDetails = join(assignorDetailsLookup);
+            assignorOrganisation = join(assignorOrganisationLookup);
 
         } else {
             eventStream = eventSource.getStreamById(randomUUID());
         }
         final Advocate advocateAggregate = aggregateService.get(eventStream, Advocate.class);
+        final List<Object> events = new ArrayList<>();
         for (final CaseAssignmentDetails caseAssignmentDetails : assignCase.getCaseAssignmentDetails()) {
             final String representingOrganisation = isNull(caseAssignmentDetails.getRepresentingOrganisation())  ?  CPS : caseAssignmentDetails.getRepresentingOrganisation() ;
-            final Stream<Object> events = advocateAggregate.assignCase(assigneeEmailId, assigneeDetails,
+            advocateAggregate.assignCase(assigneeEmailId, assigneeDetails,
                     assigneeOrganisation, assignorOrganisation,
                     assignorDetails, caseAssignmentDetails.getCaseId(), assigneeGroupList,
                     caseAssignmentDetails.getIsAssigneeDefendingCase(), caseAssignmentDetails.getProsecutionAuthorityId(),
-                    caseAssignmentDetails.getIsCps(), caseAssignmentDetails.getIsPolice(), representingOrganisation);
-            appendEventsToStream(envelope, eventStream, events);
-
+                    caseAssignmentDetails.getIsCps(), caseAssignmentDetails.getIsPolice(), representingOrganisation)
+                    .forEach(events::add);
         }
+        appendEventsToStream(envelope, eventStream, events.stream());
     }
 
     @Handles("defence.command.handler.advocate.remove-case-assignment")
@@ -136,17 +150,24 @@ public class CaseAccessCommandHandler {
         List<String> assigneeGroupList = emptyList();
         Organisation assigneeOrganisation = null;
 
+        final UUID assignorId = assignCaseByHearing.getAssignorId();
+        final CompletableFuture<PersonDetails> assignorDetailsLookup = remoteCallExecutor.submit(() -> usersGroupService.getUserDetailsWithUserId(assignorId, envelope.metadata(), requester));
+        final CompletableFuture<Organisation> assignorOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(assignorId, envelope.metadata(), requester));
+
         final PersonDetails assigneeDetails = usersGroupService.getUserDetailsWithEmail(assignCaseByHearing.getAssigneeEmailId(), envelope.metadata(), requester);
 
         if (nonNull(assigneeDetails)) {
-            eventStream = eventSource.getStreamById(assigneeDetails.getUserId());
-            assigneeGroupList = usersGroupService.getGroupNamesForUser(assigneeDetails.getUserId(), envelope.metadata(), requester);
-            assigneeOrganisation = usersGroupService.getOrganisationDetailsForUser(assigneeDetails.getUserId(), envelope.metadata(), requester);
+            final UUID assigneeUserId = assigneeDetails.getUserId();
+            final CompletableFuture<List<String>> assigneeGroups = remoteCallExecutor.submit(() -> usersGroupService.getGroupNamesForUser(assigneeUserId, envelope.metadata(), requester));
+            final CompletableFuture<Organisation> assigneeOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(assigneeUserId, envelope.metadata(), requester));
+            eventStream = eventSource.getStreamById(assigneeUserId);
+            assigneeGroupList = join(assigneeGroups);
+            assigneeOrganisation = join(assigneeOrganisationLookup);
         } else {
             eventStream = eventSource.getStreamById(randomUUID());
         }
-        final PersonDetails assignorDetails = usersGroupService.getUserDetailsWithUserId(assignCaseByHearing.getAssignorId(), envelope.metadata(), requester);
-        final Organisation assignorOrganisation = usersGroupService.getOrganisationDetailsForUser(assignCaseByHearing.getAssignorId(), envelope.metadata(), requester);
+        final PersonDetails assignorDetails = join(assignorDetailsLookup);
+        final Organisation assignorOrganisation = join(assignorOrganisationLookup);
 
         final Advocate advocateAggregate = aggregateService.get(eventStream, Advocate.class);
         final Stream<Object> events = advocateAggregate.assignCaseHearing(assignCaseByHearing.getAssigneeEmailId(),
@@ -4,9 +4,11 @@ import static java.time.LocalDate.parse;
 import static java.util.Objects.nonNull;
 import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toCollection;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.cps.defence.OffenceCode.offenceCode;
 import static uk.gov.moj.cpp.defence.command.util.EventStreamAppender.appendEventsToStream;
+import static uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey.offenceReferenceKey;
 
 import uk.gov.justice.core.courts.Offence;
 import uk.gov.justice.cps.defence.OffenceCode;
@@ -32,10 +34,16 @@ import uk.gov.moj.cpp.defence.commands.UpdateDefendantOffences;
 import uk.gov.moj.cpp.defence.event.listener.events.AddedOffences;
 import uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
+import uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey;
 import uk.gov.moj.cpp.defence.service.referencedata.ReferenceDataService;
+import uk.gov.moj.cpp.referencedata.query.Offences;
+
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -84,7 +92,10 @@ public class DefenceClientCommandHandler {
         List<uk.gov.moj.cpp.defence.event.listener.events.AddedOffences> addedOffenceList = null;
         List<uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences> deletedOffenceList = null;
 
-        addedOffenceList = getAddedOffences(envelope, updateDefendantOffences, defenceClientAggregate.getIsCivil(), defenceClientIdAtomicReference);
+        final Map<OffenceReferenceKey, Offences> refDataOffences = referenceDataService.getRefDataOffences(
+                getOffenceReferenceKeys(updateDefendantOffences, defenceClientAggregate.getIsCivil()), envelope.metadata());
+
+        addedOffenceList = getAddedOffences(refDataOffences, updateDefendantOffences, defenceClientAggregate.getIsCivil(), defenceClientIdAtomicReference);
         LOGGER.info("Inside addedOffenceList={}", addedOffenceList);
         deletedOffenceList = getDeletedOffences(updateDefendantOffences, defenceClientAggregate.getIsCivil(), defenceClientIdAtomicReference);
         LOGGER.info("Inside deletedOffenceList={}", deletedOffenceList);
@@ -93,7 +104,7 @@ public class DefenceClientCommandHandler {
             final List<uk.gov.moj.cpp.defence.event.listener.events.AddedOffences> addedOffenceUpdateList = updateDefendantOffences.getUpdatedOffences().stream()
                     .map(updatedOffences -> {
 
-                        final List<uk.gov.justice.cps.defence.Offence> offenceList = getOffenceList(updatedOffences.getOffences(), envelope, isCivil);
+                        final List<uk.gov.justice.cps.defence.Offence> offenceList = getOffenceList(updatedOffences.getOffences(), refDataOffences, isCivil);
 
                         defenceClientIdAtomicReference.set(updatedOffences.getDefendantId());
                         return AddedOffences.addedOffences()
@@ -110,18 +121,13 @@ public class DefenceClientCommandHandler {
 
 
             final List<uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences> deletedOffenceUpdateList = updateDefendantOffences.getUpdatedOffences().stream()
-                    .map(deletedOffence -> {
-
-                                final List<uk.gov.justice.cps.defence.Offence> offenceList = getOffenceList(deletedOffence.getOffences(), envelope, defenceClientAggregate.getIsCivil());
-
-                                return uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences.deletedOffences()
-                                        .withDefenceClientId(deletedOffence.getDefendantId())
-                                        .withDefendantId(deletedOffence.getDefendantId())
-                                        .withOffences(offenceList.stream().map(uk.gov.justice.cps.defence.Offence::getId).collect(Collectors.toList()))
-                                        .withProsecutionCaseId(deletedOffence.getProsecutionCaseId())
-                                        .withIsCivil(isCivil)
-                                        .build();
-                            }
+                    .map(deletedOffence -> uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences.deletedOffences()
+                            .withDefenceClientId(deletedOffence.getDefendantId())
+                            .withDefendantId(deletedOffence.getDefendantId())
+                            .withOffences(deletedOffence.getOffences().stream().map(Offence::getId).collect(Collectors.toList()))
+                            .withProsecutionCaseId(deletedOffence.getProsecutionCaseId())
+                            .withIsCivil(isCivil)
+                            .build()
                     ).collect(Collectors.toList());
 
             deletedOffenceList.addAll(deletedOffenceUpdateList);
@@ -209,14 +215,14 @@ public class DefenceClientCommandHandler {
         return new ArrayList<>();
     }
 
-    private List<AddedOffences> getAddedOffences(final Envelope<UpdateDefendantOffences> envelope, final UpdateDefendantOffences updateDefendantOffences, final Boolean isCivil, final AtomicReference<UUID> defenceClientIdAtomicReference) {
+    private List<AddedOffences> getAddedOffences(final Map<OffenceReferenceKey, Offences> refDataOffences, final UpdateDefendantOffences updateDefendantOffences, final Boolean isCivil, final AtomicReference<UUID> defenceClientIdAtomicReference) {
         if (updateDefendantOffences.getAddedOffences() == null) {
             return new ArrayList<>();
         } else {
             return updateDefendantOffences.getAddedOffences().stream()
                     .map(addedOffence -> {
 
-                        final List<uk.gov.justice.cps.defence.Offence> offenceList = getOffenceList(addedOffence.getOffences(), envelope, isCivil);
+                        final List<uk.gov.justice.cps.defence.Offence> offenceList = getOffenceList(addedOffence.getOffences(), refDataOffences, isCivil);
                         defenceClientIdAtomicReference.set(addedOffence.getDefendantId());
                         return AddedOffences.addedOffences()
                                 .withOffences(offenceList)
@@ -230,15 +236,22 @@ public class DefenceClientCommandHandler {
         }
     }
 
-    private List<uk.gov.justice.cps.defence.Offence> getOffenceList(final List<Offence> offenceList, final Envelope<UpdateDefendantOffences> envelope, final Boolean isCivil) {
+    private Set<OffenceReferenceKey> getOffenceReferenceKeys(final UpdateDefendantOffences updateDefendantOffences, final Boolean isCivil) {
+        final Stream<Offence> addedOffences = updateDefendantOffences.getAddedOffences() == null ? Stream.empty() :
+                updateDefendantOffences.getAddedOffences().stream().flatMap(addedOffence -> addedOffence.getOffences().stream());
+        final Stream<Offence> updatedOffences = updateDefendantOffences.getUpdatedOffences() == null ? Stream.empty() :
+                updateDefendantOffences.getUpdatedOffences().stream().flatMap(updatedOffence -> updatedOffence.getOffences().stream());
 
-        return offenceList.stream()
-                .map(offence -> {
+        return Stream.concat(addedOffences, updatedOffences)
+                .map(offence -> offenceReferenceKey(offence.getOffenceCode(), offence.getStartDate(), isCivil))
+                .collect(toCollection(LinkedHashSet::new));
+    }
 
-                    final uk.gov.moj.cpp.referencedata.query.Offences refDataOffences = referenceDataService.getRefDataOffences(offence.getOffenceCode(), offence.getStartDate(), envelope.metadata(), isCivil);
+    private List<uk.gov.justice.cps.defence.Offence> getOffenceList(final List<Offence> offenceList, final Map<OffenceReferenceKey, Offences> refDataOffences, final Boolean isCivil) {
 
-                    return getOffence(offence, refDataOffences);
-                }).collect(Collectors.toList());
+        return offenceList.stream()
+                .map(offence -> getOffence(offence, refDataOffences.get(offenceReferenceKey(offence.getOffenceCode(), offence.getStartDate(), isCivil))))
+                .collect(Collectors.toList());
 
     }
 
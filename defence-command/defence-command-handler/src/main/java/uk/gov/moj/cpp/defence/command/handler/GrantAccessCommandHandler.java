@@ -2,6 +2,7 @@ package uk.gov.moj.cpp.defence.command.handler;
 
 import static java.util.UUID.fromString;
 import static uk.gov.moj.cpp.defence.command.util.EventStreamAppender.appendEventsToStream;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.join;
 
 import uk.gov.justice.cps.defence.PersonDetails;
 import uk.gov.justice.services.core.aggregate.AggregateService;
@@ -19,11 +20,13 @@ import uk.gov.moj.cpp.defence.aggregate.DefenceClient;
 import uk.gov.moj.cpp.defence.commands.GrantDefenceAccess;
 import uk.gov.moj.cpp.defence.commands.RemoveAllGrantDefenceAccess;
 import uk.gov.moj.cpp.defence.commands.RemoveGrantDefenceAccess;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.service.DefenceService;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -46,6 +49,9 @@ public class GrantAccessCommandHandler {
     @Inject
     private Requester requester;
 
+    @Inject
+    private RemoteCallExecutor remoteCallExecutor;
+
 
     @Handles("defence.command.grant-defence-access")
     public void receiveGrantDefenceAccess(final Envelope<GrantDefenceAccess> envelope) throws EventStreamException {
@@ -70,14 +76,22 @@ public class GrantAccessCommandHandler {
 
         final PersonDetails granteeDetails = usersGroupService.getUserDetailsWithEmail(granteeEmail, envelope.metadata(), requester);
         if (granteeDetails != null) {
-            isInProsecutorRole = defenceService.isInProsecutorRole(envelope, defenceClientAggregate.getCaseId(), granteeDetails.getUserId());
-            granteeGroupList = usersGroupService.getGroupNamesForUser(granteeDetails.getUserId(), envelope.metadata(), requester);
-            granterDetails = usersGroupService.getUserDetailsWithUserId(granterUserId, envelope.metadata(), requester);
-            granterGroupList = usersGroupService.getGroupNamesForUser(granterDetails.getUserId(), envelope.metadata(), requester);
-            granteeOrganisation = usersGroupService.getOrganisationDetailsForUser(granteeDetails.getUserId(), envelope.metadata(), requester);
-
-            granterOrganisation = usersGroupService.getOrganisationDetailsForUser(granterUserId, envelope.metadata(), requester);
+            final UUID granteeUserId = granteeDetails.getUserId();
+            final CompletableFuture<List<String>> granteeGroups = remoteCallExecutor.submit(() -> usersGroupService.getGroupNamesForUser(granteeUserId, envelope.metadata(), requester));
+            final CompletableFuture<Organisation> granteeOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(granteeUserId, envelope.metadata(), requester));
+            final CompletableFuture<PersonDetails> granterDetailsLookup = remoteCallExecutor.submit(() -> usersGroupService.getUserDetailsWithUserId(granterUserId, envelope.metadata(), requester));
+            final CompletableFuture<List<String>> granterGroups = remoteCallExecutor.submit(() -> usersGroupService.getGroupNamesForUser(granterUserId, envelope.metadata(), requester));
+            final CompletableFuture<Organisation> granterOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(granterUserId, envelope.metadata(), requester));
+
+            // viewstore and event store reads stay on the command thread while the remote lookups are in flight
+            isInProsecutorRole = defenceService.isInProsecutorRole(envelope, defenceClientAggregate.getCaseId(), granteeUserId);
             associatedOrganisationId = getAssociatedOrganisationId(defenceClientAggregate.getDefendantId());
+
+            granteeGroupList = join(granteeGroups);
+            granteeOrganisation = join(granteeOrganisationLookup);
+            granterDetails = join(granterDetailsLookup);
+            granterGroupList = join(granterGroups);
+            granterOrganisation = join(granterOrganisationLookup);
         }
 
         final Stream<Object> events = defenceClientAggregate.grantAccessToUser(defenceClientId, granteeEmail, granteeDetails, granteeGroupList, granterGroupList, granteeOrganisation, granterOrganisation, granterDetails, associatedOrganisationId, isInProsecutorRole);
@@ -98,10 +112,14 @@ public class GrantAccessCommandHandler {
         final DefenceClient defenceClientAggregate = aggregateService.get(eventStream, DefenceClient.class);
 
 
+        final CompletableFuture<Organisation> loggedInUserOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(loggedInUserId, envelope.metadata(), requester));
+        final CompletableFuture<Organisation> granteeOrganisationLookup = remoteCallExecutor.submit(() -> usersGroupService.getOrganisationDetailsForUser(granteeUserId, envelope.metadata(), requester));
+        final CompletableFuture<List<String>> loggedInUserGroups = remoteCallExecutor.submit(() -> usersGroupService.getGroupNamesForUser(loggedInUserId, envelope.metadata(), requester));
+
         final UUID associatedOrganisationId = getAssociatedOrganisationId(defenceClientAggregate.getDefendantId());
-        final Organisation loggedInUserOrganisation = usersGroupService.getOrganisationDetailsForUser(loggedInUserId, envelope.metadata(), requester);
-        final Organisation granteeOrganisation = usersGroupService.getOrganisationDetailsForUser(granteeUserId, envelope.metadata(), requester);
-        final List<String> loggedInUserGroupList = usersGroupService.getGroupNamesForUser(loggedInUserId, envelope.metadata(), requester);
+        final Organisation loggedInUserOrganisation = join(loggedInUserOrganisationLookup);
+        final Organisation granteeOrganisation = join(granteeOrganisationLookup);
+        final List<String> loggedInUserGroupList = join(loggedInUserGroups);
 
         final Stream<Object> events = defenceClientAggregate.removeGrantAccessToUser(granteeUserId, loggedInUserId, associatedOrganisationId, loggedInUserOrganisation, granteeOrganisation, loggedInUserGroupList);
 
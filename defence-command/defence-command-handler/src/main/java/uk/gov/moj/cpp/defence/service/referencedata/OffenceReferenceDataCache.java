@@ -0,0 +1,65 @@
+package uk.gov.moj.cpp.defence.service.referencedata;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.defence.common.cache.ExpiringLruCache;
+import uk.gov.moj.cpp.referencedata.query.Offences;
+
+import java.time.Clock;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Bounded, time-to-live cache of reference data offences keyed on (cjs code, start date, civil).
+ * Entries are evicted in least-recently-used order once the configured size is reached.
+ * Null results are never cached.
+ */
+@ApplicationScoped
+public class OffenceReferenceDataCache {
+
+    private static final long DEFAULT_TTL_SECONDS = 3600L;
+    private static final int DEFAULT_MAX_ENTRIES = 2000;
+
+    @Inject
+    @Value(key = "defence.referencedata.offences.cache.ttl.seconds", defaultValue = "3600")
+    private String ttlSecondsValue;
+
+    @Inject
+    @Value(key = "defence.referencedata.offences.cache.max.entries", defaultValue = "2000")
+    private String maxEntriesValue;
+
+    private final ExpiringLruCache<OffenceReferenceKey, Offences> offences = new ExpiringLruCache<>(this::ttlSeconds, this::maxEntries);
+
+    public Offences get(final OffenceReferenceKey key, final Supplier<Offences> loader) {
+        return offences.get(key, loader);
+    }
+
+    public void invalidateAll() {
+        offences.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return offences.getHitCount();
+    }
+
+    public long getMissCount() {
+        return offences.getMissCount();
+    }
+
+    void setClock(final Clock clock) {
+        offences.setClock(clock);
+    }
+
+    private long ttlSeconds() {
+        return isNull(ttlSecondsValue) ? DEFAULT_TTL_SECONDS : parseLong(ttlSecondsValue);
+    }
+
+    private int maxEntries() {
+        return isNull(maxEntriesValue) ? DEFAULT_MAX_ENTRIES : parseInt(maxEntriesValue);
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.moj.cpp.defence.service.referencedata;
+
+import static java.lang.Boolean.TRUE;
+
+import java.util.Objects;
+
+/**
+ * Identifies a reference data offence lookup. The start date is kept at day granularity, which is the
+ * granularity offence validity periods are held at in reference data.
+ */
+public final class OffenceReferenceKey {
+
+    private final String cjsCode;
+    private final String startDate;
+    private final boolean civil;
+
+    private OffenceReferenceKey(final String cjsCode, final String startDate, final boolean civil) {
+        this.cjsCode = cjsCode;
+        this.startDate = startDate;
+        this.civil = civil;
+    }
+
+    public static OffenceReferenceKey offenceReferenceKey(final String cjsCode, final String startDate, final Boolean isCaseCivil) {
+        return new OffenceReferenceKey(cjsCode, startDate, TRUE.equals(isCaseCivil));
+    }
+
+    public String getCjsCode() {
+        return cjsCode;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public boolean isCivil() {
+        return civil;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OffenceReferenceKey that = (OffenceReferenceKey) o;
+        return civil == that.civil && Objects.equals(cjsCode, that.cjsCode) && Objects.equals(startDate, that.startDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cjsCode, startDate, civil);
+    }
+
+    @Override
+    public String toString() {
+        return cjsCode + "@" + startDate + (civil ? "/civil" : "");
+    }
+}
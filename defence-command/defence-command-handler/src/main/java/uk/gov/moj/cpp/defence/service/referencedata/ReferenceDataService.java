@@ -1,6 +1,6 @@
 package uk.gov.moj.cpp.defence.service.referencedata;
 
-import static java.lang.Boolean.TRUE;
+import static uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey.offenceReferenceKey;
 
 import uk.gov.justice.cps.defence.Offence;
 import uk.gov.justice.cps.defence.OffenceCodeReferenceData;
@@ -14,7 +14,10 @@ import uk.gov.moj.cpp.defence.common.util.GenericEnveloper;
 import uk.gov.moj.cpp.referencedata.query.Offences;
 import uk.gov.moj.cpp.referencedata.query.OffencesList;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -28,6 +31,9 @@ public class ReferenceDataService {
     @Inject
     GenericEnveloper genericEnveloper;
 
+    @Inject
+    OffenceReferenceDataCache offenceReferenceDataCache;
+
     public List<OffenceCodeReferenceData> retrieveReferenceDataForOffences(final List<Offence> offenceList, final Metadata metadata, final Boolean isCaseCivil) {
 
         return offenceList.stream()
@@ -43,12 +49,29 @@ public class ReferenceDataService {
                 }).collect(Collectors.toList());
     }
 
+    /**
+     * Looks up each distinct offence key once, serving repeats from the offence reference data cache.
+     */
+    public Map<OffenceReferenceKey, Offences> getRefDataOffences(final Collection<OffenceReferenceKey> offenceKeys, final Metadata metadata) {
+        final Map<OffenceReferenceKey, Offences> refDataOffences = new LinkedHashMap<>();
+        offenceKeys.forEach(offenceKey -> refDataOffences.computeIfAbsent(offenceKey, key -> lookupRefDataOffences(key, metadata)));
+        return refDataOffences;
+    }
+
     public Offences getRefDataOffences(final String cjsCode, final String startDate, final Metadata metadata, final Boolean isCaseCivil){
+        return lookupRefDataOffences(offenceReferenceKey(cjsCode, startDate, isCaseCivil), metadata);
+    }
+
+    private Offences lookupRefDataOffences(final OffenceReferenceKey offenceKey, final Metadata metadata) {
+        return offenceReferenceDataCache.get(offenceKey, () -> requestRefDataOffences(offenceKey, metadata));
+    }
+
+    private Offences requestRefDataOffences(final OffenceReferenceKey offenceKey, final Metadata metadata) {
         final ReferenceDataOffencesListRequest.Builder requestBuilder = ReferenceDataOffencesListRequest.referenceDataOffencesListRequest()
-                .withCjsoffencecode(cjsCode)
-                .withDate(startDate);
+                .withCjsoffencecode(offenceKey.getCjsCode())
+                .withDate(offenceKey.getStartDate());
 
-        if(TRUE.equals(isCaseCivil)){
+        if(offenceKey.isCivil()){
             requestBuilder.withSowRef("moj");
         }
 
@@ -5,7 +5,9 @@ import static com.google.common.collect.ImmutableList.of;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.nonNull;
 import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -15,15 +17,18 @@ import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.justice.services.test.utils.core.helper.EventStreamMockHelper.verifyAppendAndGetArgumentFrom;
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMatcher.isHandler;
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMethodMatcher.method;
 import static uk.gov.moj.cpp.defence.command.handler.CaseAccessCommandHandler.ASSIGNEE_USER_ID;
 import static uk.gov.moj.cpp.defence.command.handler.CaseAccessCommandHandler.CASE_ID;
 
 import uk.gov.justice.cps.defence.PersonDetails;
+import uk.gov.justice.cps.defence.UserNotFound;
 import uk.gov.justice.cps.defence.commands.AssignCase;
 import uk.gov.justice.cps.defence.commands.AssignCaseByHearing;
 import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.core.enveloper.Enveloper;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
 import uk.gov.justice.services.eventsourcing.source.core.EventStream;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
@@ -31,10 +36,12 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.MetadataBuilder;
+import uk.gov.justice.services.test.utils.core.enveloper.EnveloperFactory;
 import uk.gov.moj.cpp.defence.CaseAssignmentDetails;
 import uk.gov.moj.cpp.defence.CaseHearingAssignmentDetails;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.aggregate.Advocate;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.service.DefenceService;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
 
@@ -51,6 +58,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,6 +80,10 @@ public class CaseAccessCommandHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private RemoteCallExecutor remoteCallExecutor = new RemoteCallExecutor();
+    @Spy
+    private final Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(UserNotFound.class);
     @InjectMocks
     private CaseAccessCommandHandler caseAccessCommandHandler;
     @Mock
@@ -109,17 +121,16 @@ public class CaseAccessCommandHandlerTest {
 
         when(eventSource.getStreamById(any())).thenReturn(eventStream);
         when(aggregateService.get(eventStream, Advocate.class)).thenReturn(advocate);
-        when(newEvents.map(any())).thenReturn(mappedNewEvents);
         when(usersGroupService.getUserDetailsWithEmail(eq(EMAIL_ID), any(), any())).thenReturn(assigneeDetails);
         when(usersGroupService.getGroupNamesForUser(eq(assigneeUserId), any(), any())).thenReturn(getGroupNames());
         when(usersGroupService.getUserDetailsWithUserId(eq(userId), any(), any())).thenReturn(assignorDetails);
         when(usersGroupService.getOrganisationDetailsForUser(eq(userId), any(), any())).thenReturn(assignorOrg);
         when(usersGroupService.getOrganisationDetailsForUser(eq(assigneeUserId), any(), any())).thenReturn(assigneeOrg);
-        when(advocate.assignCase(EMAIL_ID, assigneeDetails, assigneeOrg, assignorOrg, assignorDetails, caseId, getGroupNames(), false, prosecutingAuthorityId, true, true, "CPS")).thenReturn(newEvents);
+        when(advocate.assignCase(EMAIL_ID, assigneeDetails, assigneeOrg, assignorOrg, assignorDetails, caseId, getGroupNames(), false, prosecutingAuthorityId, true, true, "CPS")).thenReturn(Stream.of(userNotFound()));
 
         caseAccessCommandHandler.assignCase(envelope);
 
-        checkEventsAppendedAreMappedNewEvents();
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream).count(), is(1L));
     }
 
     @Test
@@ -137,17 +148,55 @@ public class CaseAccessCommandHandlerTest {
 
         when(eventSource.getStreamById(any())).thenReturn(eventStream);
         when(aggregateService.get(eventStream, Advocate.class)).thenReturn(advocate);
-        when(newEvents.map(any())).thenReturn(mappedNewEvents);
         when(usersGroupService.getUserDetailsWithEmail(eq(EMAIL_ID), any(), any())).thenReturn(assigneeDetails);
         when(usersGroupService.getGroupNamesForUser(eq(assigneeUserId), any(), any())).thenReturn(getGroupNames());
         when(usersGroupService.getUserDetailsWithUserId(eq(userId), any(), any())).thenReturn(assignorDetails);
         when(usersGroupService.getOrganisationDetailsForUser(eq(userId), any(), any())).thenReturn(assignorOrg);
         when(usersGroupService.getOrganisationDetailsForUser(eq(assigneeUserId), any(), any())).thenReturn(assigneeOrg);
-        when(advocate.assignCase(EMAIL_ID, assigneeDetails, assigneeOrg, assignorOrg, assignorDetails, caseId, getGroupNames(), false, prosecutingAuthorityId, true, true, "DVLA")).thenReturn(newEvents);
+        when(advocate.assignCase(EMAIL_ID, assigneeDetails, assigneeOrg, assignorOrg, assignorDetails, caseId, getGroupNames(), false, prosecutingAuthorityId, true, true, "DVLA")).thenReturn(Stream.of(userNotFound()));
 
         caseAccessCommandHandler.assignCase(envelope);
 
-        checkEventsAppendedAreMappedNewEvents();
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream).count(), is(1L));
+    }
+
+    @Test
+    public void shouldAppendEventsForAllCasesInOneBatch() throws Exception {
+        final UUID userId = UUID.randomUUID();
+        final UUID assigneeUserId = UUID.randomUUID();
+        final UUID caseId1 = randomUUID();
+        final UUID caseId2 = randomUUID();
+        final UUID prosecutingAuthorityId = randomUUID();
+        final Envelope<AssignCase> envelope = envelopeFrom(Envelope.metadataBuilder()
+                .withName(DEFENCE_COMMAND_HANDLER_ADVOCATE_ASSIGN_CASE)
+                .withId(randomUUID())
+                .withUserId(userId.toString())
+                .build(), AssignCase.assignCase()
+                .withAssignorId(userId)
+                .withAssigneeEmailId(EMAIL_ID)
+                .withCaseAssignmentDetails(of(createCaseAssignmentDetails(caseId1, prosecutingAuthorityId), createCaseAssignmentDetails(caseId2, prosecutingAuthorityId)))
+                .build());
+
+        final PersonDetails assigneeDetails = createPersonDetails(assigneeUserId);
+        final Organisation assigneeOrg = createOrganisation(assigneeUserId);
+        final Organisation assignorOrg = createOrganisation(userId);
+        final PersonDetails assignorDetails = createAssignorDetails(userId);
+
+        when(eventSource.getStreamById(any())).thenReturn(eventStream);
+        when(aggregateService.get(eventStream, Advocate.class)).thenReturn(advocate);
+        when(usersGroupService.getUserDetailsWithEmail(eq(EMAIL_ID), any(), any())).thenReturn(assigneeDetails);
+        when(usersGroupService.getGroupNamesForUser(eq(assigneeUserId), any(), any())).thenReturn(getGroupNames());
+        when(usersGroupService.getUserDetailsWithUserId(eq(userId), any(), any())).thenReturn(assignorDetails);
+        when(usersGroupService.getOrganisationDetailsForUser(eq(userId), any(), any())).thenReturn(assignorOrg);
+        when(usersGroupService.getOrganisationDetailsForUser(eq(assigneeUserId), any(), any())).thenReturn(assigneeOrg);
+        when(advocate.assignCase(eq(EMAIL_ID), eq(assigneeDetails), eq(assigneeOrg), eq(assignorOrg), eq(assignorDetails), any(), eq(getGroupNames()), eq(false), eq(prosecutingAuthorityId), eq(true), eq(true), eq("CPS")))
+                .thenReturn(Stream.of(userNotFound()), Stream.of(userNotFound()));
+
+        caseAccessCommandHandler.assignCase(envelope);
+
+        final List<JsonEnvelope> appendedEvents = verifyAppendAndGetArgumentFrom(eventStream).collect(toList());
+        assertThat(appendedEvents.size(), is(2));
+        assertThat(appendedEvents.get(0).metadata().name(), is("defence.event.user-not-found"));
     }
 
     @Test
@@ -260,6 +309,20 @@ public class CaseAccessCommandHandlerTest {
     }
 
 
+    private UserNotFound userNotFound() {
+        return UserNotFound.userNotFound().withEmail(EMAIL_ID).build();
+    }
+
+    private CaseAssignmentDetails createCaseAssignmentDetails(final UUID caseId, final UUID prosecutingAuthorityId) {
+        return CaseAssignmentDetails.caseAssignmentDetails()
+                .withCaseId(caseId)
+                .withIsAssigneeDefendingCase(false)
+                .withProsecutionAuthorityId(prosecutingAuthorityId)
+                .withIsCps(true)
+                .withIsPolice(true)
+                .build();
+    }
+
     private List<String> getGroupNames() {
         return Arrays.asList("Chambers Admin", "System Users");
     }
@@ -3,7 +3,12 @@ package uk.gov.moj.cpp.defence.command.handler;
 import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.cps.defence.DefendantDetails.defendantDetails;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
@@ -13,6 +18,7 @@ import static uk.gov.justice.services.test.utils.core.helper.EventStreamMockHelp
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMatcher.isHandler;
 import static uk.gov.justice.services.test.utils.core.matchers.HandlerMethodMatcher.method;
 import static uk.gov.moj.cpp.defence.commands.RecordInstructionDetails.recordInstructionDetails;
+import static uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey.offenceReferenceKey;
 import static uk.gov.moj.cpp.defence.test.utils.HandlerTestHelper.matchEvent;
 import static uk.gov.moj.cpp.defence.test.utils.HandlerTestHelper.metadataFor;
 import static uk.gov.moj.cpp.defence.test.utils.HandlerTestHelper.toList;
@@ -45,13 +51,17 @@ import uk.gov.moj.cpp.defence.events.IdpcDetailsRecorded;
 import uk.gov.moj.cpp.defence.events.IdpcReceivedBeforeCase;
 import uk.gov.moj.cpp.defence.events.InstructionDetailsRecorded;
 import uk.gov.moj.cpp.defence.service.UserGroupService;
+import uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey;
 import uk.gov.moj.cpp.defence.service.referencedata.ReferenceDataService;
 import uk.gov.moj.cpp.defence.test.utils.FileResourceObjectMapper;
 import uk.gov.moj.cpp.referencedata.query.Offences;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.json.JsonObject;
@@ -63,6 +73,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class DefenceClientCommandHandlerTest {
@@ -164,7 +175,7 @@ class DefenceClientCommandHandlerTest {
         final UUID defenceClientId = defendantId;
         when(eventSourceMock.getStreamById(any())).thenReturn(eventStreamMock);
         when(aggregateServiceMock.get(eventStreamMock, DefenceClient.class)).thenReturn(defenceClientAggregate);
-        when(referenceDataServiceMock.getRefDataOffences(any(), any(), any(), any())).thenReturn(getRefDataMock());
+        when(referenceDataServiceMock.getRefDataOffences(anyCollection(), any())).thenAnswer(refDataFor(getRefDataMock()));
         caseDefenceClientMapAggregate.apply(DefenceClientMappedToACase.defenceClientMappedToACase()
                 .withDefenceClientId(defenceClientId)
                 .withDefendantDetails(defendantDetails().withId(defendantId).build())
@@ -180,6 +191,9 @@ class DefenceClientCommandHandlerTest {
         matchEvent(verifyAppendAndGetArgumentFrom(eventStreamMock),
                 "defence.event.defendant-offences-updated",
                 handlerTestHelper.convertFromFile("json/receiveOffenceUpdateReceivedEvent.json", JsonValue.class));
+        verify(referenceDataServiceMock).getRefDataOffences(eq(Set.of(
+                offenceReferenceKey("AAA", "2018-01-01", null),
+                offenceReferenceKey("PS90010", "2010-08-01", null))), any());
 
     }
 
@@ -189,7 +203,7 @@ class DefenceClientCommandHandlerTest {
         final UUID defenceClientId = defendantId;
         when(eventSourceMock.getStreamById(any())).thenReturn(eventStreamMock);
         when(aggregateServiceMock.get(eventStreamMock, DefenceClient.class)).thenReturn(defenceClientAggregate);
-        when(referenceDataServiceMock.getRefDataOffences(any(), any(), any(), any())).thenReturn(getRefDataMock());
+        when(referenceDataServiceMock.getRefDataOffences(anyCollection(), any())).thenAnswer(refDataFor(getRefDataMock()));
         caseDefenceClientMapAggregate.apply(DefenceClientMappedToACase.defenceClientMappedToACase()
                 .withDefenceClientId(defenceClientId)
                 .withDefendantDetails(defendantDetails()
@@ -217,7 +231,7 @@ class DefenceClientCommandHandlerTest {
         final UUID defenceClientId = defendantId;
         when(eventSourceMock.getStreamById(any())).thenReturn(eventStreamMock);
         when(aggregateServiceMock.get(eventStreamMock, DefenceClient.class)).thenReturn(defenceClientAggregate);
-        when(referenceDataServiceMock.getRefDataOffences(any(), any(), any(), any())).thenReturn(getRefDataMock());
+        when(referenceDataServiceMock.getRefDataOffences(anyCollection(), any())).thenAnswer(refDataFor(getRefDataMock()));
         caseDefenceClientMapAggregate.apply(DefenceClientMappedToACase.defenceClientMappedToACase()
                 .withDefenceClientId(defenceClientId)
                 .withDefendantDetails(defendantDetails()
@@ -268,6 +282,10 @@ class DefenceClientCommandHandlerTest {
         return handlerTestHelper.convertFromFile("json/refDataOffenceQuery.json", Offences.class);
     }
 
+    private Answer<Map<OffenceReferenceKey, Offences>> refDataFor(final Offences offences) {
+        return invocation -> invocation.<Collection<OffenceReferenceKey>>getArgument(0).stream().collect(toMap(identity(), key -> offences));
+    }
+
     @Test
     void shouldHandleRecordInstructionDetailsCommandWhenDefenceClientMissing() throws EventStreamException, IOException {
         final UUID defenceClientId = fromString("a4391788-f829-4514-a344-61f1d5d9690c");
@@ -395,7 +413,7 @@ class DefenceClientCommandHandlerTest {
         final UUID defenceClientId = defendantId;
         when(eventSourceMock.getStreamById(any())).thenReturn(eventStreamMock);
         when(aggregateServiceMock.get(eventStreamMock, DefenceClient.class)).thenReturn(defenceClientAggregate);
-        when(referenceDataServiceMock.getRefDataOffences(any(), any(), any(), any())).thenReturn(Offences.offences().build());
+        when(referenceDataServiceMock.getRefDataOffences(anyCollection(), any())).thenAnswer(refDataFor(Offences.offences().build()));
         caseDefenceClientMapAggregate.apply(DefenceClientMappedToACase.defenceClientMappedToACase()
                 .withDefenceClientId(defenceClientId)
                 .withDefendantDetails(defendantDetails().withId(defendantId).build())
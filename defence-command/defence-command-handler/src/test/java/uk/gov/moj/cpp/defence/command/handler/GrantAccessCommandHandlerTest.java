@@ -44,6 +44,7 @@ import uk.gov.moj.cpp.defence.aggregate.DefenceClient;
 import uk.gov.moj.cpp.defence.commands.GrantDefenceAccess;
 import uk.gov.moj.cpp.defence.commands.RemoveAllGrantDefenceAccess;
 import uk.gov.moj.cpp.defence.commands.RemoveGrantDefenceAccess;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.common.util.GrantAccessUtil;
 import uk.gov.moj.cpp.defence.events.RepresentationType;
 import uk.gov.moj.cpp.defence.service.DefenceService;
@@ -90,6 +91,8 @@ public class GrantAccessCommandHandlerTest {
     private EventStream eventStream;
     @Mock
     private AggregateService aggregateService;
+    @Spy
+    private RemoteCallExecutor remoteCallExecutor = new RemoteCallExecutor();
     @InjectMocks
     private GrantAccessCommandHandler grantAccessCommandHandler;
     private DefenceClient aggregate;
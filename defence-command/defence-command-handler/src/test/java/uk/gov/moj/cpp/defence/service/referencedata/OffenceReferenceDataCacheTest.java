@@ -0,0 +1,67 @@
+package uk.gov.moj.cpp.defence.service.referencedata;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey.offenceReferenceKey;
+
+import uk.gov.moj.cpp.referencedata.query.Offences;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OffenceReferenceDataCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+    private static final OffenceReferenceKey OFFENCE_KEY = offenceReferenceKey("OF61131", "2018-01-01", false);
+
+    private OffenceReferenceDataCache offenceReferenceDataCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        offenceReferenceDataCache = new OffenceReferenceDataCache();
+        offenceReferenceDataCache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromCache() {
+        assertThat(offenceReferenceDataCache.get(OFFENCE_KEY, this::load).getTitle(), is("title-1"));
+        assertThat(offenceReferenceDataCache.get(offenceReferenceKey("OF61131", "2018-01-01", null), this::load).getTitle(), is("title-1"));
+
+        assertThat(loads.get(), is(1));
+        assertThat(offenceReferenceDataCache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void shouldKeepCivilAndCriminalLookupsSeparate() {
+        offenceReferenceDataCache.get(OFFENCE_KEY, this::load);
+
+        assertThat(offenceReferenceDataCache.get(offenceReferenceKey("OF61131", "2018-01-01", true), this::load).getTitle(), is("title-2"));
+    }
+
+    @Test
+    public void shouldReloadOnceEntryHasExpired() {
+        offenceReferenceDataCache.get(OFFENCE_KEY, this::load);
+        offenceReferenceDataCache.setClock(Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+
+        assertThat(offenceReferenceDataCache.get(OFFENCE_KEY, this::load).getTitle(), is("title-2"));
+    }
+
+    @Test
+    public void shouldNotCacheNullResults() {
+        assertThat(offenceReferenceDataCache.get(OFFENCE_KEY, () -> null), is(nullValue()));
+        assertThat(offenceReferenceDataCache.get(OFFENCE_KEY, this::load).getTitle(), is("title-1"));
+    }
+
+    private Offences load() {
+        return Offences.offences().withTitle("title-" + loads.incrementAndGet()).build();
+    }
+}
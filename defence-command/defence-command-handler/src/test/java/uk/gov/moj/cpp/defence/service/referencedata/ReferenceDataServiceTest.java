@@ -10,8 +10,11 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static uk.gov.justice.cps.defence.Offence.offence;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
+import static uk.gov.moj.cpp.defence.service.referencedata.OffenceReferenceKey.offenceReferenceKey;
 import static uk.gov.moj.cpp.defence.test.utils.HandlerTestHelper.metadataFor;
 
 import uk.gov.justice.cps.defence.Offence;
@@ -20,12 +23,15 @@ import uk.gov.justice.cps.defence.ReferenceDataOffencesListRequest;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.common.util.GenericEnveloper;
+import uk.gov.moj.cpp.referencedata.query.Offences;
 import uk.gov.moj.cpp.referencedata.query.OffencesList;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,6 +54,9 @@ public class ReferenceDataServiceTest {
     @Spy
     private GenericEnveloper genericEnveloper = new GenericEnveloper();
 
+    @Spy
+    private OffenceReferenceDataCache offenceReferenceDataCache = new OffenceReferenceDataCache();
+
     @InjectMocks
     private ReferenceDataService referenceDataService;
 
@@ -106,6 +115,29 @@ public class ReferenceDataServiceTest {
         });
     }
 
+    @Test
+    public void shouldLookUpEachDistinctOffenceOnceAcrossCommands() {
+
+        doAnswer(invocation -> {
+                    final Envelope<ReferenceDataOffencesListRequest> envelope = invocation.getArgument(0, Envelope.class);
+                    return refDataOffenceDataForCjsOffencecode(envelope.payload().getCjsoffencecode());
+                }
+        ).when(requesterMock).request(any(Envelope.class), eq(OffencesList.class));
+
+        final Metadata metadata = metadataFor("command", randomUUID());
+        final List<OffenceReferenceKey> offenceKeys = asList(
+                offenceReferenceKey("OF61131", "2018-01-01", false),
+                offenceReferenceKey("PS90010", "2018-01-01", false),
+                offenceReferenceKey("OF61131", "2018-01-01", null),
+                offenceReferenceKey("PS90010", "2018-01-01", false));
+
+        final Map<OffenceReferenceKey, Offences> refDataOffences = referenceDataService.getRefDataOffences(offenceKeys, metadata);
+        referenceDataService.getRefDataOffences("PS90010", "2018-01-01", metadata, false);
+
+        assertThat(refDataOffences.size(), is(2));
+        assertThat(substringToColon(refDataOffences.get(offenceReferenceKey("OF61131", "2018-01-01", false)).getTitle()), is("REFDATA TITLE CODE OF61131"));
+        verify(requesterMock, times(2)).request(any(Envelope.class), eq(OffencesList.class));
+    }
 
     private String substringToColon(String str) {
         final int colonIndex = str.indexOf(":");
@@ -0,0 +1,98 @@
+package uk.gov.moj.cpp.defence.common.cache;
+
+import static java.lang.Boolean.TRUE;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Case ids keyed on upper-cased URN. Known URNs are kept for defence.case.urn.cache.ttl.seconds; unknown URNs
+ * are remembered for a short time only, as the case may be received on another instance. A case received by
+ * this instance drops any entry for its URN and any other URN held for it, so the next lookup reads the viewstore.
+ */
+@ApplicationScoped
+public class CaseUrnCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_TTL_SECONDS = 3600L;
+    private static final long DEFAULT_UNKNOWN_URN_TTL_SECONDS = 30L;
+
+    @Inject
+    @Value(key = "defence.case.urn.cache.max.entries", defaultValue = "10000")
+    private String maxEntriesValue;
+
+    @Inject
+    @Value(key = "defence.case.urn.cache.ttl.seconds", defaultValue = "3600")
+    private String ttlSecondsValue;
+
+    @Inject
+    @Value(key = "defence.case.urn.cache.unknown.ttl.seconds", defaultValue = "30")
+    private String unknownUrnTtlSecondsValue;
+
+    private final ExpiringLruCache<String, UUID> caseIds = new ExpiringLruCache<>(this::ttlSeconds, this::maxEntries);
+    private final ExpiringLruCache<String, Boolean> unknownUrns = new ExpiringLruCache<>(this::unknownUrnTtlSeconds, this::maxEntries);
+
+    /**
+     * Returns the case id for the URN, calling the loader with the upper-cased URN on a miss. The loader
+     * returns null for an unknown URN.
+     */
+    public UUID getCaseId(final String urn, final Function<String, UUID> loader) {
+        final String key = urn.toUpperCase();
+        return caseIds.get(key, () -> loadUnlessUnknown(key, loader));
+    }
+
+    public void caseReceived(final String urn, final UUID caseId) {
+        final String key = urn.toUpperCase();
+        unknownUrns.invalidateIf(key::equals);
+        caseIds.invalidateEntriesIf((cachedUrn, cachedCaseId) -> cachedUrn.equals(key) || cachedCaseId.equals(caseId));
+    }
+
+    public long getHitCount() {
+        return caseIds.getHitCount();
+    }
+
+    public long getMissCount() {
+        return caseIds.getMissCount();
+    }
+
+    int size() {
+        return caseIds.size() + unknownUrns.size();
+    }
+
+    void setClock(final Clock clock) {
+        caseIds.setClock(clock);
+        unknownUrns.setClock(clock);
+    }
+
+    private UUID loadUnlessUnknown(final String key, final Function<String, UUID> loader) {
+        if (TRUE.equals(unknownUrns.get(key, () -> null))) {
+            return null;
+        }
+        final UUID caseId = loader.apply(key);
+        if (caseId == null) {
+            unknownUrns.putIfAbsent(key, TRUE);
+        }
+        return caseId;
+    }
+
+    private int maxEntries() {
+        return isNull(maxEntriesValue) ? DEFAULT_MAX_ENTRIES : parseInt(maxEntriesValue);
+    }
+
+    private long ttlSeconds() {
+        return isNull(ttlSecondsValue) ? DEFAULT_TTL_SECONDS : parseLong(ttlSecondsValue);
+    }
+
+    private long unknownUrnTtlSeconds() {
+        return isNull(unknownUrnTtlSecondsValue) ? DEFAULT_UNKNOWN_URN_TTL_SECONDS : parseLong(unknownUrnTtlSecondsValue);
+    }
+}
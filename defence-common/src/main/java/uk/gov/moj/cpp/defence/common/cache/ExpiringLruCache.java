@@ -0,0 +1,135 @@
+package uk.gov.moj.cpp.defence.common.cache;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-to-live cache backing the lookup caches of this service. Entries are evicted in
+ * least-recently-used order once the maximum size is reached. Null results are never cached so that
+ * unknown keys are always looked up again. The time to live and maximum size are read on each put, so
+ * owners can pass their configured values before injection has completed.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final LongSupplier ttlSeconds;
+    private final IntSupplier maxEntries;
+
+    private final Map<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private Clock clock = Clock.systemUTC();
+
+    public ExpiringLruCache(final LongSupplier ttlSeconds, final IntSupplier maxEntries) {
+        this.ttlSeconds = ttlSeconds;
+        this.maxEntries = maxEntries;
+    }
+
+    public V get(final K key, final Supplier<V> loader) {
+        synchronized (entries) {
+            final CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > clock.millis()) {
+                    hitCount.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        missCount.incrementAndGet();
+        final V value = loader.get();
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Stores the value unless the key already holds an unexpired entry; returns whether the value was stored.
+     */
+    public boolean putIfAbsent(final K key, final V value) {
+        synchronized (entries) {
+            final CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > clock.millis()) {
+                return false;
+            }
+            put(key, value);
+            return true;
+        }
+    }
+
+    public void invalidateIf(final Predicate<K> keyFilter) {
+        synchronized (entries) {
+            entries.keySet().removeIf(keyFilter);
+        }
+    }
+
+    public void invalidateEntriesIf(final BiPredicate<K, V> entryFilter) {
+        synchronized (entries) {
+            entries.entrySet().removeIf(entry -> entryFilter.test(entry.getKey(), entry.getValue().value));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void setClock(final Clock clock) {
+        this.clock = clock;
+    }
+
+    private void put(final K key, final V value) {
+        final long expiresAt = clock.millis() + ttlSeconds.getAsLong() * 1000L;
+        final int limit = maxEntries.getAsInt();
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, expiresAt));
+            final Iterator<K> eldest = entries.keySet().iterator();
+            while (entries.size() > limit && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
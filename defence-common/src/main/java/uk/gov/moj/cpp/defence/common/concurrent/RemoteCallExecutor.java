@@ -0,0 +1,99 @@
+package uk.gov.moj.cpp.defence.common.concurrent;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs independent remote calls (users-groups, hearing, listing, progression) on the container's managed
+ * executor so that a handler waits for the slowest call rather than the sum of them. Calls run inline when
+ * no managed executor is available; a failure is then still reported by join rather than by submit.
+ * <p>
+ * A timeout only completes the returned future exceptionally. The call itself is not interrupted and keeps
+ * its executor thread until the remote service answers, so timeouts bound how long a handler waits, not how
+ * many threads slow dependencies can hold. Cancelling the returned future has the same limitation.
+ */
+@ApplicationScoped
+public class RemoteCallExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteCallExecutor.class);
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    public <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        if (isNull(managedExecutorService)) {
+            return runInline(call);
+        }
+        return supplyAsync(call, managedExecutorService);
+    }
+
+    public <T> CompletableFuture<T> submit(final Supplier<T> call, final long timeoutMillis) {
+        if (isNull(managedExecutorService)) {
+            return runInline(call);
+        }
+        return supplyAsync(call, managedExecutorService).orTimeout(timeoutMillis, MILLISECONDS);
+    }
+
+    public static <T> T join(final CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (final CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    public static <T> T join(final CompletableFuture<T> call, final String dependency) {
+        try {
+            return call.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException(format("Timed out waiting for %s", dependency), e.getCause());
+            }
+            throw unwrap(e);
+        }
+    }
+
+    public static <T> T joinOrDefault(final CompletableFuture<T> call, final String dependency, final T fallback) {
+        try {
+            return join(call, dependency);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to fetch {}, returning a partial result", dependency, e);
+            return fallback;
+        }
+    }
+
+    void setManagedExecutorService(final ManagedExecutorService managedExecutorService) {
+        this.managedExecutorService = managedExecutorService;
+    }
+
+    private static <T> CompletableFuture<T> runInline(final Supplier<T> call) {
+        try {
+            return completedFuture(call.get());
+        } catch (final RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return e;
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram, error count and in-flight gauge for a single action name.
+ * Latencies are counted into fixed millisecond buckets; the last bucket holds everything slower.
+ */
+public class ActionMetrics {
+
+    static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final String actionName;
+    private final String kind;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length + 1);
+
+    public ActionMetrics(final String actionName, final String kind) {
+        this.actionName = actionName;
+        this.kind = kind;
+    }
+
+    public long started() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void finished(final long startedAt, final boolean failed) {
+        inFlight.decrementAndGet();
+        record(System.nanoTime() - startedAt, failed);
+    }
+
+    void record(final long durationNanos, final boolean failed) {
+        count.increment();
+        totalNanos.add(durationNanos);
+        maxNanos.accumulateAndGet(durationNanos, Math::max);
+        buckets.incrementAndGet(bucketFor(NANOSECONDS.toMillis(durationNanos)));
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    public ActionMetricsSnapshot snapshot() {
+        final long total = count.sum();
+        final long[] bucketCounts = new long[buckets.length()];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = buckets.get(i);
+        }
+        final long maxMillis = NANOSECONDS.toMillis(maxNanos.get());
+
+        return new ActionMetricsSnapshot(
+                actionName,
+                kind,
+                total,
+                errorCount.sum(),
+                inFlight.get(),
+                total == 0 ? 0D : totalNanos.sum() / (double) total / MILLISECONDS.toNanos(1),
+                maxMillis,
+                percentile(bucketCounts, total, 0.50, maxMillis),
+                percentile(bucketCounts, total, 0.95, maxMillis),
+                percentile(bucketCounts, total, 0.99, maxMillis),
+                bucketCounts);
+    }
+
+    private static int bucketFor(final long millis) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+            if (millis <= BUCKET_UPPER_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_MILLIS.length;
+    }
+
+    private static long percentile(final long[] bucketCounts, final long total, final double quantile, final long maxMillis) {
+        if (total == 0) {
+            return 0L;
+        }
+        final long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+            cumulative += bucketCounts[i];
+            if (cumulative >= rank) {
+                return Math.min(BUCKET_UPPER_BOUNDS_MILLIS[i], maxMillis);
+            }
+        }
+        return maxMillis;
+    }
+}
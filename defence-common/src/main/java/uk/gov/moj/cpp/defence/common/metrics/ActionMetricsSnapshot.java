@@ -0,0 +1,84 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Point-in-time view of an {@link ActionMetrics}, exposed as composite data over JMX. Percentiles are the upper
+ * bound of the histogram bucket they fall in, capped at the slowest call seen.
+ */
+public class ActionMetricsSnapshot {
+
+    private final String actionName;
+    private final String kind;
+    private final long count;
+    private final long errorCount;
+    private final long inFlight;
+    private final double meanMillis;
+    private final long maxMillis;
+    private final long p50Millis;
+    private final long p95Millis;
+    private final long p99Millis;
+    private final long[] bucketCounts;
+
+    @ConstructorProperties({"actionName", "kind", "count", "errorCount", "inFlight", "meanMillis", "maxMillis",
+            "p50Millis", "p95Millis", "p99Millis", "bucketCounts"})
+    public ActionMetricsSnapshot(final String actionName, final String kind, final long count, final long errorCount,
+                                 final long inFlight, final double meanMillis, final long maxMillis, final long p50Millis,
+                                 final long p95Millis, final long p99Millis, final long[] bucketCounts) {
+        this.actionName = actionName;
+        this.kind = kind;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.inFlight = inFlight;
+        this.meanMillis = meanMillis;
+        this.maxMillis = maxMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.bucketCounts = bucketCounts.clone();
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP95Millis() {
+        return p95Millis;
+    }
+
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    public long[] getBucketCounts() {
+        return bucketCounts.clone();
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static java.util.Comparator.comparing;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-action metrics for local handlers and remote calls, plus named gauges read on demand, published on the platform MBean server under
+ * {@value #OBJECT_NAME} for scraping by the JMX exporter.
+ */
+@ApplicationScoped
+public class DefenceMetrics {
+
+    public static final String OBJECT_NAME = "uk.gov.moj.cpp.defence:type=DefenceMetrics";
+
+    static final String HANDLER = "handler";
+    static final String REMOTE = "remote";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefenceMetrics.class);
+
+    private final Map<String, ActionMetrics> handlers = new ConcurrentHashMap<>();
+    private final Map<String, ActionMetrics> remoteCalls = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    public ActionMetrics handler(final String actionName) {
+        return handlers.computeIfAbsent(actionName, name -> new ActionMetrics(name, HANDLER));
+    }
+
+    public ActionMetrics remoteCall(final String actionName) {
+        return remoteCalls.computeIfAbsent(actionName, name -> new ActionMetrics(name, REMOTE));
+    }
+
+    public void gauge(final String name, final LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public Map<String, Long> gaugeValues() {
+        final Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, value) -> values.put(name, value.getAsLong()));
+        return values;
+    }
+
+    public List<ActionMetricsSnapshot> handlerSnapshots() {
+        return snapshots(handlers);
+    }
+
+    public List<ActionMetricsSnapshot> remoteCallSnapshots() {
+        return snapshots(remoteCalls);
+    }
+
+    public void reset() {
+        handlers.clear();
+        remoteCalls.clear();
+    }
+
+    @PostConstruct
+    void register() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(new View(), objectName);
+        } catch (final JMException e) {
+            LOGGER.warn("Unable to register {}, defence metrics will not be published", OBJECT_NAME, e);
+        }
+    }
+
+    @PreDestroy
+    void unregister() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (final JMException e) {
+            LOGGER.warn("Unable to unregister {}", OBJECT_NAME, e);
+        }
+    }
+
+    private static List<ActionMetricsSnapshot> snapshots(final Map<String, ActionMetrics> metrics) {
+        return metrics.values().stream()
+                .map(ActionMetrics::snapshot)
+                .sorted(comparing(ActionMetricsSnapshot::getActionName))
+                .toList();
+    }
+
+    private class View implements DefenceMetricsMXBean {
+
+        @Override
+        public List<ActionMetricsSnapshot> getHandlerMetrics() {
+            return handlerSnapshots();
+        }
+
+        @Override
+        public List<ActionMetricsSnapshot> getRemoteCallMetrics() {
+            return remoteCallSnapshots();
+        }
+
+        @Override
+        public Map<String, Long> getGauges() {
+            return gaugeValues();
+        }
+
+        @Override
+        public long[] getBucketUpperBoundsMillis() {
+            return ActionMetrics.BUCKET_UPPER_BOUNDS_MILLIS.clone();
+        }
+
+        @Override
+        public void reset() {
+            DefenceMetrics.this.reset();
+        }
+    }
+}
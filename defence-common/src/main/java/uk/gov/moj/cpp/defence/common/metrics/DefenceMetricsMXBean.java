@@ -0,0 +1,17 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+public interface DefenceMetricsMXBean {
+
+    List<ActionMetricsSnapshot> getHandlerMetrics();
+
+    List<ActionMetricsSnapshot> getRemoteCallMetrics();
+
+    Map<String, Long> getGauges();
+
+    long[] getBucketUpperBoundsMillis();
+
+    void reset();
+}
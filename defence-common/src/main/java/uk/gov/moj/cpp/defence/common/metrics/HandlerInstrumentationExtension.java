@@ -0,0 +1,22 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import uk.gov.justice.services.core.annotation.Handles;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.WithAnnotations;
+
+/**
+ * Binds {@link Instrumented} to every bean declaring {@code @Handles} methods: the command-api, command-handler,
+ * event-listener, event-processor, query-api and query-view handlers, and the generated {@code @Remote} clients
+ * that outbound {@code Requester} and {@code Sender} calls are dispatched to.
+ */
+public class HandlerInstrumentationExtension implements Extension {
+
+    <T> void instrumentHandlers(@Observes @WithAnnotations(Handles.class) final ProcessAnnotatedType<T> processAnnotatedType) {
+        if (!processAnnotatedType.getAnnotatedType().getJavaClass().isInterface()) {
+            processAnnotatedType.configureAnnotatedType().add(Instrumented.Literal.INSTANCE);
+        }
+    }
+}
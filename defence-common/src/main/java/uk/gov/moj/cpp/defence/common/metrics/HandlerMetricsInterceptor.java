@@ -0,0 +1,51 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.core.annotation.Handles;
+import uk.gov.justice.services.core.annotation.Remote;
+
+import java.lang.reflect.Method;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Records latency, errors and in-flight calls for each {@code @Handles} method, keyed on its action name.
+ * Calls on {@code @Remote} clients are recorded as remote calls so that time spent in other contexts can be
+ * told apart from time spent handling locally.
+ */
+@Instrumented
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class HandlerMetricsInterceptor {
+
+    @Inject
+    private DefenceMetrics defenceMetrics;
+
+    @AroundInvoke
+    public Object record(final InvocationContext invocationContext) throws Exception {
+        final Method method = invocationContext.getMethod();
+        final Handles handles = isNull(method) ? null : method.getAnnotation(Handles.class);
+        if (isNull(handles)) {
+            return invocationContext.proceed();
+        }
+
+        final ActionMetrics actionMetrics = method.getDeclaringClass().isAnnotationPresent(Remote.class) ?
+                defenceMetrics.remoteCall(handles.value()) :
+                defenceMetrics.handler(handles.value());
+
+        final long startedAt = actionMetrics.started();
+        boolean failed = true;
+        try {
+            final Object result = invocationContext.proceed();
+            failed = false;
+            return result;
+        } finally {
+            actionMetrics.finished(startedAt, failed);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.AnnotationLiteral;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Binds {@link HandlerMetricsInterceptor}. Added by {@link HandlerInstrumentationExtension} to every bean
+ * with {@code @Handles} methods, so it does not need to be declared on handlers by hand.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Instrumented {
+
+    final class Literal extends AnnotationLiteral<Instrumented> implements Instrumented {
+
+        public static final Literal INSTANCE = new Literal();
+
+        private static final long serialVersionUID = 1L;
+    }
+}
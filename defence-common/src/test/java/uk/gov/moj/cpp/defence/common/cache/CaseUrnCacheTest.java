@@ -0,0 +1,107 @@
+package uk.gov.moj.cpp.defence.common.cache;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CaseUrnCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private CaseUrnCache caseUrnCache;
+
+    private final List<String> lookups = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        caseUrnCache = new CaseUrnCache();
+        caseUrnCache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldLookUpKnownUrnOnceWhateverItsCase() {
+        final UUID caseId = randomUUID();
+
+        assertThat(caseUrnCache.getCaseId("29gd7875621", urn -> lookup(urn, caseId)), is(caseId));
+        assertThat(caseUrnCache.getCaseId("29GD7875621", urn -> lookup(urn, caseId)), is(caseId));
+
+        assertThat(lookups, contains("29GD7875621"));
+        assertThat(caseUrnCache.getHitCount(), is(1L));
+        assertThat(caseUrnCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldRememberUnknownUrnUntilItExpires() {
+        assertThat(caseUrnCache.getCaseId("UNKNOWN", urn -> lookup(urn, null)), is(nullValue()));
+        assertThat(caseUrnCache.getCaseId("UNKNOWN", urn -> lookup(urn, null)), is(nullValue()));
+
+        caseUrnCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+        final UUID caseId = randomUUID();
+
+        assertThat(caseUrnCache.getCaseId("UNKNOWN", urn -> lookup(urn, caseId)), is(caseId));
+        assertThat(lookups.size(), is(2));
+    }
+
+    @Test
+    public void shouldReloadKnownUrnOnceItExpires() {
+        final UUID caseId = randomUUID();
+        caseUrnCache.getCaseId("KNOWN", urn -> lookup(urn, caseId));
+
+        caseUrnCache.setClock(Clock.fixed(NOW.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+
+        assertThat(caseUrnCache.getCaseId("KNOWN", urn -> lookup(urn, caseId)), is(caseId));
+        assertThat(lookups.size(), is(2));
+    }
+
+    @Test
+    public void shouldLookUpUnknownUrnAgainWhenCaseIsReceived() {
+        final UUID caseId = randomUUID();
+        caseUrnCache.getCaseId("NEWCASE", urn -> lookup(urn, null));
+
+        caseUrnCache.caseReceived("newcase", caseId);
+
+        assertThat(caseUrnCache.getCaseId("NEWCASE", urn -> lookup(urn, caseId)), is(caseId));
+        assertThat(lookups.size(), is(2));
+    }
+
+    @Test
+    public void shouldDropEntryOfUrnHeldByAnotherCaseWhenCaseIsReceived() {
+        caseUrnCache.getCaseId("SHAREDURN", urn -> lookup(urn, randomUUID()));
+
+        caseUrnCache.caseReceived("sharedurn", randomUUID());
+
+        assertThat(caseUrnCache.size(), is(0));
+    }
+
+    @Test
+    public void shouldDropPreviousUrnOfReceivedCase() {
+        final UUID caseId = randomUUID();
+        final UUID otherCaseId = randomUUID();
+        caseUrnCache.getCaseId("OLDURN", urn -> lookup(urn, caseId));
+        caseUrnCache.getCaseId("OTHERURN", urn -> lookup(urn, otherCaseId));
+
+        caseUrnCache.caseReceived("NEWURN", caseId);
+
+        assertThat(caseUrnCache.size(), is(1));
+        assertThat(caseUrnCache.getCaseId("OTHERURN", urn -> lookup(urn, null)), is(otherCaseId));
+        assertThat(caseUrnCache.getCaseId("OLDURN", urn -> lookup(urn, null)), is(nullValue()));
+    }
+
+    private UUID lookup(final String urn, final UUID caseId) {
+        lookups.add(urn);
+        return caseId;
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.moj.cpp.defence.common.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExpiringLruCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private ExpiringLruCache<String, String> cache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        cache = new ExpiringLruCache<>(() -> 30L, () -> 2);
+        cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldLoadOnceAndServeSubsequentLookupsFromCache() {
+        assertThat(cache.get("key", this::load), is("value-1"));
+        assertThat(cache.get("key", this::load), is("value-1"));
+
+        assertThat(loads.get(), is(1));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldReloadOnceEntryHasExpired() {
+        cache.get("key", this::load);
+        cache.setClock(Clock.fixed(NOW.plus(Duration.ofSeconds(30)), ZoneOffset.UTC));
+
+        assertThat(cache.get("key", this::load), is("value-2"));
+    }
+
+    @Test
+    public void shouldNotCacheNullResults() {
+        assertThat(cache.get("key", () -> null), nullValue());
+        assertThat(cache.get("key", this::load), is("value-1"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntryOnceFull() {
+        cache.get("first", this::load);
+        cache.get("second", this::load);
+        cache.get("first", this::load);
+        cache.get("third", this::load);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+        assertThat(cache.get("first", this::load), is("value-1"));
+        assertThat(cache.get("second", this::load), is("value-4"));
+    }
+
+    @Test
+    public void shouldInvalidateMatchingKeys() {
+        cache.get("first", this::load);
+        cache.get("second", this::load);
+
+        cache.invalidateIf("first"::equals);
+
+        assertThat(cache.size(), is(1));
+        cache.invalidateAll();
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldInvalidateMatchingEntries() {
+        cache.get("first", this::load);
+        cache.get("second", this::load);
+
+        cache.invalidateEntriesIf((key, value) -> value.equals("value-2"));
+
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get("first", this::load), is("value-1"));
+    }
+
+    @Test
+    public void shouldOnlyPutAbsentOrExpiredKeys() {
+        assertThat(cache.putIfAbsent("key", "first"), is(true));
+        assertThat(cache.putIfAbsent("key", "second"), is(false));
+        assertThat(cache.get("key", this::load), is("first"));
+
+        cache.setClock(Clock.fixed(NOW.plus(Duration.ofSeconds(30)), ZoneOffset.UTC));
+
+        assertThat(cache.putIfAbsent("key", "third"), is(true));
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.moj.cpp.defence.common.concurrent;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.join;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.joinOrDefault;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+public class RemoteCallExecutorTest {
+
+    private final RemoteCallExecutor remoteCallExecutor = new RemoteCallExecutor();
+
+    @Test
+    public void shouldRunCallInlineWhenNoManagedExecutorIsAvailable() {
+        final CompletableFuture<String> call = remoteCallExecutor.submit(() -> Thread.currentThread().getName());
+
+        assertThat(call.isDone(), is(true));
+        assertThat(join(call), is(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void shouldReportInlineFailureOnJoinUnwrapped() {
+        final CompletableFuture<String> call = remoteCallExecutor.submit(() -> {
+            throw new IllegalArgumentException("hearing unavailable");
+        }, 100L);
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> join(call, "hearing timeline"));
+        assertThat(exception.getMessage(), is("hearing unavailable"));
+    }
+
+    @Test
+    public void shouldReportTimeoutAgainstTheDependency() {
+        final CompletableFuture<String> call = new CompletableFuture<String>().orTimeout(1L, MILLISECONDS);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> join(call, "listed hearings"));
+        assertThat(exception.getMessage(), is("Timed out waiting for listed hearings"));
+        assertThat(exception.getCause(), instanceOf(TimeoutException.class));
+    }
+
+    @Test
+    public void shouldFallBackWhenOptionalCallFails() {
+        final CompletableFuture<String> call = remoteCallExecutor.submit(() -> {
+            throw new IllegalStateException("listing unavailable");
+        }, 100L);
+
+        assertThat(joinOrDefault(call, "listed hearings", "none"), is("none"));
+    }
+
+    @Test
+    public void shouldRunCallsConcurrentlyOnTheManagedExecutor() {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final RemoteCallExecutor managedRemoteCallExecutor = withManagedExecutor(executorService);
+            final CountDownLatch bothStarted = new CountDownLatch(2);
+
+            final CompletableFuture<Boolean> first = managedRemoteCallExecutor.submit(() -> awaitOther(bothStarted));
+            final CompletableFuture<Boolean> second = managedRemoteCallExecutor.submit(() -> awaitOther(bothStarted));
+
+            assertThat(join(first), is(true));
+            assertThat(join(second), is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRethrowAsyncFailureUnwrapped() {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<String> call = withManagedExecutor(executorService).submit(() -> {
+                throw new IllegalStateException("users groups unavailable");
+            });
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> join(call));
+            assertThat(exception.getMessage(), is("users groups unavailable"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldTimeOutSlowAsyncCall() {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch otherNeverStarts = new CountDownLatch(2);
+            final CompletableFuture<Boolean> call = withManagedExecutor(executorService).submit(() -> awaitOther(otherNeverStarts), 10L);
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> join(call, "hearing timeline"));
+            assertThat(exception.getMessage(), is("Timed out waiting for hearing timeline"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static RemoteCallExecutor withManagedExecutor(final ExecutorService executorService) {
+        final RemoteCallExecutor managedRemoteCallExecutor = new RemoteCallExecutor();
+        managedRemoteCallExecutor.setManagedExecutorService(mock(ManagedExecutorService.class, delegatesTo(executorService)));
+        return managedRemoteCallExecutor;
+    }
+
+    private static boolean awaitOther(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
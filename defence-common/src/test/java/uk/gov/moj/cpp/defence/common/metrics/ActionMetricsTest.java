@@ -0,0 +1,73 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public class ActionMetricsTest {
+
+    private final ActionMetrics actionMetrics = new ActionMetrics("defence.query.defence-client-id", DefenceMetrics.HANDLER);
+
+    @Test
+    public void shouldSummariseRecordedLatenciesAndErrors() {
+        for (int i = 0; i < 90; i++) {
+            actionMetrics.record(MILLISECONDS.toNanos(3), false);
+        }
+        for (int i = 0; i < 9; i++) {
+            actionMetrics.record(MILLISECONDS.toNanos(40), false);
+        }
+        actionMetrics.record(MILLISECONDS.toNanos(1200), true);
+
+        final ActionMetricsSnapshot snapshot = actionMetrics.snapshot();
+
+        assertThat(snapshot.getActionName(), is("defence.query.defence-client-id"));
+        assertThat(snapshot.getKind(), is("handler"));
+        assertThat(snapshot.getCount(), is(100L));
+        assertThat(snapshot.getErrorCount(), is(1L));
+        assertThat(snapshot.getMeanMillis(), closeTo(18.30, 0.001));
+        assertThat(snapshot.getMaxMillis(), is(1200L));
+        assertThat(snapshot.getP50Millis(), is(5L));
+        assertThat(snapshot.getP95Millis(), is(50L));
+        assertThat(snapshot.getP99Millis(), is(50L));
+        assertThat(snapshot.getBucketCounts()[2], is(90L));
+        assertThat(snapshot.getBucketCounts()[5], is(9L));
+        assertThat(snapshot.getBucketCounts()[10], is(1L));
+    }
+
+    @Test
+    public void shouldCapPercentilesAtTheSlowestCallAndCountOverflow() {
+        actionMetrics.record(MILLISECONDS.toNanos(7), false);
+        actionMetrics.record(MILLISECONDS.toNanos(30000), false);
+
+        final ActionMetricsSnapshot snapshot = actionMetrics.snapshot();
+
+        assertThat(snapshot.getP50Millis(), is(10L));
+        assertThat(snapshot.getP99Millis(), is(30000L));
+        assertThat(snapshot.getBucketCounts()[ActionMetrics.BUCKET_UPPER_BOUNDS_MILLIS.length], is(1L));
+    }
+
+    @Test
+    public void shouldTrackCallsInFlight() {
+        final long first = actionMetrics.started();
+        actionMetrics.started();
+
+        assertThat(actionMetrics.snapshot().getInFlight(), is(2L));
+
+        actionMetrics.finished(first, false);
+
+        assertThat(actionMetrics.snapshot().getInFlight(), is(1L));
+        assertThat(actionMetrics.snapshot().getCount(), is(1L));
+    }
+
+    @Test
+    public void shouldReportEmptySnapshotBeforeAnyCall() {
+        final ActionMetricsSnapshot snapshot = actionMetrics.snapshot();
+
+        assertThat(snapshot.getCount(), is(0L));
+        assertThat(snapshot.getMeanMillis(), is(0D));
+        assertThat(snapshot.getP95Millis(), is(0L));
+    }
+}
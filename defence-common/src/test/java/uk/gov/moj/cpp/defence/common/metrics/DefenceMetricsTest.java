@@ -0,0 +1,82 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static uk.gov.moj.cpp.defence.common.metrics.DefenceMetrics.OBJECT_NAME;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DefenceMetricsTest {
+
+    private final DefenceMetrics defenceMetrics = new DefenceMetrics();
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    @AfterEach
+    public void tearDown() {
+        defenceMetrics.unregister();
+    }
+
+    @Test
+    public void shouldPublishHandlerAndRemoteCallMetricsOverJmx() throws Exception {
+        defenceMetrics.register();
+        defenceMetrics.handler("defence.query.defence-client-id").record(1_000_000L, false);
+        defenceMetrics.remoteCall("progression.query.prosecutioncase").record(30_000_000L, true);
+
+        final CompositeData[] handlerMetrics = (CompositeData[]) mBeanServer.getAttribute(new ObjectName(OBJECT_NAME), "HandlerMetrics");
+        final CompositeData[] remoteCallMetrics = (CompositeData[]) mBeanServer.getAttribute(new ObjectName(OBJECT_NAME), "RemoteCallMetrics");
+
+        assertThat(handlerMetrics.length, is(1));
+        assertThat(handlerMetrics[0].get("actionName"), is("defence.query.defence-client-id"));
+        assertThat(handlerMetrics[0].get("count"), is(1L));
+        assertThat(remoteCallMetrics[0].get("actionName"), is("progression.query.prosecutioncase"));
+        assertThat(remoteCallMetrics[0].get("errorCount"), is(1L));
+        assertThat(remoteCallMetrics[0].get("p50Millis"), is(30L));
+    }
+
+    @Test
+    public void shouldReuseMetricsForTheSameActionAndClearOnReset() throws Exception {
+        defenceMetrics.register();
+        defenceMetrics.handler("defence.command.grant-access").record(1L, false);
+        defenceMetrics.handler("defence.command.grant-access").record(1L, false);
+
+        assertThat(defenceMetrics.handlerSnapshots().get(0).getCount(), is(2L));
+
+        mBeanServer.invoke(new ObjectName(OBJECT_NAME), "reset", new Object[0], new String[0]);
+
+        assertThat(defenceMetrics.handlerSnapshots().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldReplaceRegistrationLeftByPreviousDeployment() throws Exception {
+        new DefenceMetrics().register();
+
+        defenceMetrics.register();
+        defenceMetrics.remoteCall("usersgroups.get-groups-by-user").record(1L, false);
+
+        final CompositeData[] remoteCallMetrics = (CompositeData[]) mBeanServer.getAttribute(new ObjectName(OBJECT_NAME), "RemoteCallMetrics");
+        assertThat(remoteCallMetrics.length, is(1));
+    }
+
+    @Test
+    public void shouldPublishCurrentGaugeValuesOverJmx() throws Exception {
+        final AtomicLong backlog = new AtomicLong(12L);
+        defenceMetrics.register();
+        defenceMetrics.gauge("expired-assignments.backlog", backlog::get);
+        backlog.set(5L);
+
+        final TabularData gauges = (TabularData) mBeanServer.getAttribute(new ObjectName(OBJECT_NAME), "Gauges");
+
+        assertThat(gauges.size(), is(1));
+        assertThat(gauges.get(new Object[]{"expired-assignments.backlog"}).get("value"), is(5L));
+    }
+}
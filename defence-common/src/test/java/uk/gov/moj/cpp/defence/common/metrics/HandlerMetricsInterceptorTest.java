@@ -0,0 +1,98 @@
+package uk.gov.moj.cpp.defence.common.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.core.annotation.Handles;
+import uk.gov.justice.services.core.annotation.Remote;
+
+import javax.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+public class HandlerMetricsInterceptorTest {
+
+    @Spy
+    private DefenceMetrics defenceMetrics = new DefenceMetrics();
+
+    @InjectMocks
+    private HandlerMetricsInterceptor handlerMetricsInterceptor;
+
+    private final InvocationContext invocationContext = mock(InvocationContext.class);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void shouldRecordLocalHandlerByActionName() throws Exception {
+        when(invocationContext.getMethod()).thenReturn(LocalHandler.class.getMethod("handle"));
+        when(invocationContext.proceed()).thenReturn("result");
+
+        assertThat(handlerMetricsInterceptor.record(invocationContext), is("result"));
+
+        final ActionMetricsSnapshot snapshot = defenceMetrics.handlerSnapshots().get(0);
+        assertThat(snapshot.getActionName(), is("defence.command.record-instruction-details"));
+        assertThat(snapshot.getCount(), is(1L));
+        assertThat(snapshot.getErrorCount(), is(0L));
+        assertThat(snapshot.getInFlight(), is(0L));
+        assertThat(defenceMetrics.remoteCallSnapshots(), is(empty()));
+    }
+
+    @Test
+    public void shouldRecordRemoteClientCallSeparatelyFromHandlers() throws Exception {
+        when(invocationContext.getMethod()).thenReturn(RemoteClient.class.getMethod("getGroupsByUser"));
+
+        handlerMetricsInterceptor.record(invocationContext);
+
+        assertThat(defenceMetrics.handlerSnapshots(), is(empty()));
+        assertThat(defenceMetrics.remoteCallSnapshots().get(0).getActionName(), is("usersgroups.get-groups-by-user"));
+        assertThat(defenceMetrics.remoteCallSnapshots().get(0).getKind(), is("remote"));
+    }
+
+    @Test
+    public void shouldCountFailureAndRethrow() throws Exception {
+        when(invocationContext.getMethod()).thenReturn(LocalHandler.class.getMethod("handle"));
+        when(invocationContext.proceed()).thenThrow(new IllegalStateException("view store unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> handlerMetricsInterceptor.record(invocationContext));
+
+        final ActionMetricsSnapshot snapshot = defenceMetrics.handlerSnapshots().get(0);
+        assertThat(snapshot.getCount(), is(1L));
+        assertThat(snapshot.getErrorCount(), is(1L));
+        assertThat(snapshot.getInFlight(), is(0L));
+    }
+
+    @Test
+    public void shouldNotRecordMethodsWithoutHandles() throws Exception {
+        when(invocationContext.getMethod()).thenReturn(LocalHandler.class.getMethod("toString"));
+        when(invocationContext.proceed()).thenReturn("handler");
+
+        assertThat(handlerMetricsInterceptor.record(invocationContext), is("handler"));
+        assertThat(defenceMetrics.handlerSnapshots(), is(empty()));
+    }
+
+    public static class LocalHandler {
+
+        @Handles("defence.command.record-instruction-details")
+        public void handle() {
+        }
+    }
+
+    @Remote
+    public static class RemoteClient {
+
+        @Handles("usersgroups.get-groups-by-user")
+        public void getGroupsByUser() {
+        }
+    }
+}
@@ -28,8 +28,9 @@ import java.util.stream.Stream;
 
 public class CaseDefenceClientMap implements Aggregate {
 
+    private static final long serialVersionUID = 2336164810572458301L;
     private final Map<UUID, UUID> defenceClients = new HashMap<>();
-    private final Set<UUID> defendants = new HashSet();
+    private final Set<UUID> defendants = new HashSet<>();
     private UUID caseId;
     private String urn;
     private Boolean isCivil;
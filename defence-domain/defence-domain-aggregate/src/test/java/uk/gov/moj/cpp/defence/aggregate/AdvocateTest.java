@@ -3,6 +3,7 @@ package uk.gov.moj.cpp.defence.aggregate;
 import static com.google.common.collect.ImmutableList.of;
 import static java.lang.Integer.parseInt;
 import static java.util.UUID.randomUUID;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -119,6 +120,29 @@ public class AdvocateTest {
         assertThat(userAlreadyAssigned.getEmail(), is(assigneeEmail));
     }
 
+    @Test
+    public void shouldKeepAssignedCasesWhenRestoredFromSnapshot() {
+
+        final String assigneeEmail = "email@hmcts.net";
+        final PersonDetails assigneePersonDetails = PersonDetails.personDetails()
+                .withFirstName("assignee_name")
+                .withLastName("assignee_lastname")
+                .withUserId(randomUUID())
+                .build();
+        final List<String> assigneeGroupList = of(DEFENCE_LAWYERS);
+        final Organisation assigneeOrganisation = Organisation.organisation().withOrgId(randomUUID()).build();
+        final Organisation assignerOrganisation = Organisation.organisation().withOrgId(randomUUID()).build();
+        final UUID caseId = randomUUID();
+
+        advocate.assignCase(assigneeEmail, assigneePersonDetails, assigneeOrganisation, assignerOrganisation, null, caseId, assigneeGroupList, false, randomUUID(), true, true, "CPS");
+        final Advocate restoredAdvocate = roundtrip(advocate);
+
+        final List<?> eventList = restoredAdvocate.assignCase(assigneeEmail, assigneePersonDetails, assigneeOrganisation, assignerOrganisation, null, caseId, assigneeGroupList, false, randomUUID(), true, true, "CPS")
+                .collect(Collectors.toList());
+        assertThat(eventList.size(), is(1));
+        assertThat(eventList.get(0).getClass().getName(), is(UserAlreadyAssigned.class.getName()));
+    }
+
     @Test
     public void shouldRaiseAssigneeIsDefendingTheCaseEventWhenAssigneeIsDefending() {
 
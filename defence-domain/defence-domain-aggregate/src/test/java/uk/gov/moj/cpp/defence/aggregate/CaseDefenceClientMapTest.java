@@ -3,6 +3,7 @@ package uk.gov.moj.cpp.defence.aggregate;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.UUID.randomUUID;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
 import static org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -107,6 +108,18 @@ public class CaseDefenceClientMapTest {
         assertThat(duplicateDefendantReceivedAgainstADefenceClient.getDuplicateDefendantId(), is(DEFENDANT_ID));
     }
 
+    @Test
+    public void shouldDetectDuplicateDefendantWhenRestoredFromSnapshot() {
+
+        caseDefenceClientMap.addADefendant(DEFENDANT_ID, DEFENCE_CLIENT_IDS, POLICE_DEFENDANT_ID, getTestOffenceList());
+        final CaseDefenceClientMap restoredCaseDefenceClientMap = roundtrip(caseDefenceClientMap);
+
+        final List<?> eventList = restoredCaseDefenceClientMap.addADefendant(DEFENDANT_ID, DEFENCE_CLIENT_IDS, POLICE_DEFENDANT_ID, getTestOffenceList())
+                .collect(Collectors.toList());
+
+        assertThat(eventList.stream().anyMatch(DuplicateDefendantReceivedAgainstADefenceClient.class::isInstance), is(true));
+    }
+
     @Test
     public void shouldHandleDuplicateDefendantAddedAfterSupspectCharged_WhenCaseIsCivil() throws Exception {
 
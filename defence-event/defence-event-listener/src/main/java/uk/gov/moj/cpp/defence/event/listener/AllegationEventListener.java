@@ -14,7 +14,6 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.defence.event.listener.events.AddedOffences;
 import uk.gov.moj.cpp.defence.event.listener.events.DefendantOffencesUpdated;
 import uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences;
-import uk.gov.moj.cpp.defence.persistence.AllegationRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.Allegation;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
@@ -27,12 +26,13 @@ import java.util.Objects;
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
 
 @ServiceComponent(EVENT_LISTENER)
 public class AllegationEventListener {
 
     @Inject
-    private AllegationRepository allegationRepository;
+    private EntityManager entityManager;
 
     @Inject
     private DefenceClientRepository defenceClientRepository;
@@ -65,7 +65,7 @@ public class AllegationEventListener {
                     });
 
 
-            allegationRepository.save(builder.build());
+            entityManager.persist(builder.build());
         });
 
     }
@@ -116,7 +116,7 @@ public class AllegationEventListener {
                                     .withTitle(offence.getOffenceCodeDetails().getTitle())
                                     .withOffenceId(offence.getId());
                             final Allegation allegation = allegationBuilder.build();
-                            allegationRepository.save(allegation);
+                            entityManager.persist(allegation);
                             defenceClient.getAllegationList().add(allegation);
                         }
                     }
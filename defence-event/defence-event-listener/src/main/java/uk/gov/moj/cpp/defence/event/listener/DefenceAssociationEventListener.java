@@ -16,6 +16,7 @@ import uk.gov.moj.cpp.defence.events.DefenceOrganisationAssociatedBdf;
 import uk.gov.moj.cpp.defence.events.DefenceOrganisationAssociationUnlockedBdf;
 import uk.gov.moj.cpp.defence.events.DefenceOrganisationDisassociated;
 import uk.gov.moj.cpp.defence.events.DefendantDefenceAssociationLockedForLaa;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceAssociationDefendantRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceAssociationRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
@@ -47,6 +48,9 @@ public class DefenceAssociationEventListener {
     @Inject
     private DefenceClientRepository defenceClientRepository;
 
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
 
     @Handles("defence.event.defence-organisation-associated")
     public void processOrganisationAssociated(final Envelope<DefenceOrganisationAssociated> event) {
@@ -85,6 +89,7 @@ public class DefenceAssociationEventListener {
         final DefenceAssociationDefendant defenceAssociationDefendant
                 = prepareDefenceAssociationEntity(defendantId, userId, defenceOrganisationId, startDate, representationType, laaContractNumber);
         defenceAssociationDefendantRepository.save(defenceAssociationDefendant);
+        advocateCaseRoleRepository.refreshCasesOfDefendant(defendantId);
     }
 
     @Handles("defence.event.defence-organisation-disassociated")
@@ -106,6 +111,7 @@ public class DefenceAssociationEventListener {
             final DefenceAssociationDefendant updatedDefenceAssociationDefendant = disassociateOrganisation(defenceAssociationDefendant, organisationId, endDate);
 
             defenceAssociationDefendantRepository.save(updatedDefenceAssociationDefendant);
+            advocateCaseRoleRepository.refreshCasesOfDefendant(defendantId);
         }
 
     }
@@ -126,7 +132,7 @@ public class DefenceAssociationEventListener {
         final DefenceAssociationDefendant defenceAssociationDefendant
                 = prepareDefenceAssociationEntity(defendantId, fromString(userId), null, envelope.metadata().createdAt().orElse(now()), null, defendantDefenceAssociationLockedForLaaEvent.getLaaContractNumber());
         defenceAssociationDefendantRepository.save(defenceAssociationDefendant);
-
+        advocateCaseRoleRepository.refreshCasesOfDefendant(defendantId);
     }
 
     @Handles("defence.event.defence-organisation-association-unlocked-bdf")
@@ -145,6 +151,7 @@ public class DefenceAssociationEventListener {
             defenceAssociationRepository.save(da);
         });
         associateWithDefenceClient(defendantId, defenceOrganisationAssociationUnlockedBdf.getOrganisationId());
+        advocateCaseRoleRepository.refreshCasesOfDefendant(defendantId);
     }
 
     private boolean associateWithDefenceClient(final UUID defendantId, final UUID organisationId) {
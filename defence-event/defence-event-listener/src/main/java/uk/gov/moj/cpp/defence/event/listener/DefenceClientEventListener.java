@@ -13,6 +13,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.event.listener.events.DefendantUpdateReceived;
 import uk.gov.moj.cpp.defence.events.DefenceClientReceived;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
 
@@ -28,6 +29,8 @@ public class DefenceClientEventListener {
     @Inject
     private DefenceClientRepository defenceClientRepository;
 
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
 
     @Handles("defence.events.defence-client-received")
     public void defenceClientReceived(final Envelope<DefenceClientReceived> envelope) {
@@ -43,10 +46,12 @@ public class DefenceClientEventListener {
                     defendantDetails.getFirstName(), defendantDetails.getLastName(), caseId
                     , dateOfBirth, defenceClientReceived.getDefendantId());
             defenceClientRepository.save(defenceClient);
+            refreshCaseRoles(caseId);
         } else if (nonNull(organisation) && isNotBlank(organisation.getOrganisationName())) {
             final DefenceClient defenceClient = new DefenceClient(defenceClientReceived.getDefenceClientId(),
                     organisation.getOrganisationName(), caseId, defenceClientReceived.getDefendantId());
             defenceClientRepository.save(defenceClient);
+            refreshCaseRoles(caseId);
         }
 
     }
@@ -61,6 +66,16 @@ public class DefenceClientEventListener {
         defenceClientRepository.save(defenceClient);
     }
 
+    /**
+     * Associations and grants can be recorded before the defence client that links their defendant to a case, so the
+     * case roles are derived again once the client arrives.
+     */
+    private void refreshCaseRoles(final UUID caseId) {
+        if (nonNull(caseId)) {
+            advocateCaseRoleRepository.refreshCase(caseId);
+        }
+    }
+
     private DefenceClient getDefenceClient(final DefendantDetails defendantDetails, final UUID defendantId) {
         final DefenceClient defenceClient = defenceClientRepository.findOptionalByDefendantIdAndCaseId(defendantId, defendantDetails.getCaseId());
 
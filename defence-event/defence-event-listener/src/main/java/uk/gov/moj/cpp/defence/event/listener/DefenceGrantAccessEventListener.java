@@ -10,6 +10,7 @@ import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.defence.Organisation;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceGrantAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
@@ -32,6 +33,9 @@ public class DefenceGrantAccessEventListener {
     @Inject
     private DefenceClientRepository defenceClientRepository;
 
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
 
     @Handles("defence.event.access-granted")
     public void defenceEventAccessGranted(final Envelope<AccessGranted> envelope) {
@@ -62,7 +66,7 @@ public class DefenceGrantAccessEventListener {
         defenceGrantAccess.setGranteeOrganisationDetails(organisationDetails);
 
         defenceGrantAccessRepository.save(defenceGrantAccess);
-
+        refreshCaseRoles(defenceClient.get());
     }
 
     @Handles("defence.event.access-grant-removed")
@@ -74,8 +78,15 @@ public class DefenceGrantAccessEventListener {
             permissionEntity.setRemoved(true);
             permissionEntity.setEndDate(ZonedDateTime.now());
             defenceGrantAccessRepository.save(permissionEntity);
+            refreshCaseRoles(permissionEntity.getDefenceClient());
         }
 
     }
 
+    private void refreshCaseRoles(final DefenceClient defenceClient) {
+        if (nonNull(defenceClient.getCaseId())) {
+            advocateCaseRoleRepository.refreshCase(defenceClient.getCaseId());
+        }
+    }
+
 }
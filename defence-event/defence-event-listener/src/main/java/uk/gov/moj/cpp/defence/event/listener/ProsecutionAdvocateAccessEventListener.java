@@ -18,6 +18,7 @@ import uk.gov.moj.cpp.defence.events.CaseAssignmentToAdvocateRemoved;
 import uk.gov.moj.cpp.defence.events.CaseHearingAssignments;
 import uk.gov.moj.cpp.defence.events.CasesAssignedToAdvocate;
 import uk.gov.moj.cpp.defence.persistence.AdvocateAccessRepository;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
@@ -45,6 +46,9 @@ public class ProsecutionAdvocateAccessEventListener {
     @Inject
     private OrganisationAccessRepository organisationAccessRepository;
 
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Inject
     private ApplicationParameters applicationParameters;
 
@@ -64,6 +68,7 @@ public class ProsecutionAdvocateAccessEventListener {
         final ProsecutionAdvocateAccess advocateAccess = toAdvocateAccess(caseAssignedToAdvocate.getAssigneeDetails(), caseAssignedToAdvocate.getAssignorDetails(),
                 caseAssignedToAdvocate.getAssignorOrganisation(), assigneeOrganisationAccess, caseAssignedToAdvocate.getAssignmentTimestamp());
         advocateAssignmentRepository.save(advocateAccess);
+        advocateCaseRoleRepository.refreshCase(caseAssignedToAdvocate.getCaseId());
     }
 
     @Handles("defence.events.case-assignment-to-advocate-removed")
@@ -85,6 +90,7 @@ public class ProsecutionAdvocateAccessEventListener {
         } else {
             organisationAccessRepository.save(prosecutionOrganisationAccess);
         }
+        advocateCaseRoleRepository.refreshCase(caseAssignmentToAdvocateRemoved.getCaseId());
     }
 
     @Handles("defence.events.cases-assigned-to-advocate")
@@ -114,6 +120,7 @@ public class ProsecutionAdvocateAccessEventListener {
 
                 advocateAssignmentRepository.save(advocateAccess);
             }
+            advocateCaseRoleRepository.refreshCase(caa.getCaseId());
         });
 
     }
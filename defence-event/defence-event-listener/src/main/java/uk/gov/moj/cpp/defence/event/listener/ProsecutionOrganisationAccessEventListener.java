@@ -10,6 +10,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.moj.cpp.defence.events.CaseAssigmentToOrganisationRemoved;
 import uk.gov.moj.cpp.defence.events.CaseAssignedToOrganisation;
 import uk.gov.moj.cpp.defence.events.CasesAssignedToOrganisation;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
@@ -23,6 +24,9 @@ public class ProsecutionOrganisationAccessEventListener {
     @Inject
     private OrganisationAccessRepository organisationAccessRepository;
 
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Inject
     private ProsecutionOrganisationService prosecutionOrganisationService;
 
@@ -36,6 +40,7 @@ public class ProsecutionOrganisationAccessEventListener {
                 caseAssignedToOrganisation.getAssignorDetails(), caseAssignedToOrganisation.getAssignorOrganisation(), caseAssignedToOrganisation.getRepresentingOrganisation(),
                 caseAssignedToOrganisation.getAssignmentTimestamp());
         organisationAccessRepository.save(organisationAccess);
+        advocateCaseRoleRepository.refreshCase(caseAssignedToOrganisation.getCaseId());
     }
 
     @Handles("defence.events.case-assignment-to-organisation-removed")
@@ -49,6 +54,7 @@ public class ProsecutionOrganisationAccessEventListener {
                 entityManager.merge(prosecutionOrganisationAccess);
             }
             organisationAccessRepository.remove(prosecutionOrganisationAccess);
+            advocateCaseRoleRepository.refreshCase(caseAssigmentToOrganisationRemoved.getCaseId());
         }
     }
 
@@ -57,9 +63,12 @@ public class ProsecutionOrganisationAccessEventListener {
         final CasesAssignedToOrganisation casesAssignedToOrganisation = envelope.payload();
 
         casesAssignedToOrganisation.getCaseHearingAssignments()
-                .forEach(cha -> prosecutionOrganisationService.updateOrSave(cha.getCaseId(), casesAssignedToOrganisation.getAssigneeDetails(), casesAssignedToOrganisation.getAssigneeOrganisation(), casesAssignedToOrganisation.getAssignorDetails(),
-                        casesAssignedToOrganisation.getAssignorOrganisation(), casesAssignedToOrganisation.getRepresentingOrganisation(),
-                        casesAssignedToOrganisation.getAssignmentTimestamp()));
+                .forEach(cha -> {
+                    prosecutionOrganisationService.updateOrSave(cha.getCaseId(), casesAssignedToOrganisation.getAssigneeDetails(), casesAssignedToOrganisation.getAssigneeOrganisation(), casesAssignedToOrganisation.getAssignorDetails(),
+                            casesAssignedToOrganisation.getAssignorOrganisation(), casesAssignedToOrganisation.getRepresentingOrganisation(),
+                            casesAssignedToOrganisation.getAssignmentTimestamp());
+                    advocateCaseRoleRepository.refreshCase(cha.getCaseId());
+                });
     }
 
 }
@@ -23,7 +23,6 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.event.listener.events.AddedOffences;
 import uk.gov.moj.cpp.defence.event.listener.events.DefendantOffencesUpdated;
 import uk.gov.moj.cpp.defence.event.listener.events.DeletedOffences;
-import uk.gov.moj.cpp.defence.persistence.AllegationRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.Allegation;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
@@ -32,6 +31,8 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.UUID;
 
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -50,7 +51,7 @@ public class AllegationEventListenerTest {
 
 
     @Mock
-    private AllegationRepository allegationRepositoryMock;
+    private EntityManager entityManager;
 
     @Mock
     private DefenceClientRepository defenceClientRepository;
@@ -74,7 +75,7 @@ public class AllegationEventListenerTest {
 
         allegationEventListener.suspectIsCharged(allegationsReceivedAgainstADefenceClientEnvelope);
 
-        verify(allegationRepositoryMock, times(1)).save(argumentCaptor.capture());
+        verify(entityManager, times(1)).persist(argumentCaptor.capture());
 
         final Allegation savedAllegation = argumentCaptor.getValue();
 
@@ -128,6 +129,7 @@ public class AllegationEventListenerTest {
         assertThat(savedAllegation.getLastName(), is(defenceClient.getLastName()));
         assertThat(savedAllegation.getCaseId(), is(defenceClient.getCaseId()));
         assertThat(savedAllegation.getAllegationList().size(), is(1));
+        verify(entityManager).persist(savedAllegation.getAllegationList().iterator().next());
 
     }
 
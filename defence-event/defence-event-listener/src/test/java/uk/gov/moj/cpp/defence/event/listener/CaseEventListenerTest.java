@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.moj.cpp.defence.common.cache.CaseUrnCache;
 import uk.gov.moj.cpp.defence.events.ProsecutionCaseReceived;
 import uk.gov.moj.cpp.defence.persistence.DefenceCaseRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
@@ -25,6 +26,9 @@ public class CaseEventListenerTest {
     @Mock
     private DefenceCaseRepository defenceCaseRepository;
 
+    @Mock
+    private CaseUrnCache caseUrnCache;
+
     @Mock
     private Envelope<ProsecutionCaseReceived> envelope;
 
@@ -50,5 +54,6 @@ public class CaseEventListenerTest {
         caseEventListener.prosecutionCaseReceived(envelope);
 
         verify(defenceCaseRepository).save(any(DefenceCase.class));
+        verify(caseUrnCache).caseReceived(urn, caseId);
     }
 }
@@ -22,6 +22,7 @@ import uk.gov.moj.cpp.defence.events.DefenceOrganisationAssociated;
 import uk.gov.moj.cpp.defence.events.DefenceOrganisationAssociatedBdf;
 import uk.gov.moj.cpp.defence.events.DefenceOrganisationDisassociated;
 import uk.gov.moj.cpp.defence.events.DefendantDefenceAssociationLockedForLaa;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceAssociationDefendantRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
@@ -62,6 +63,9 @@ public class DefenceAssociationEventListenerTest {
     @Mock
     private DefenceAssociationDefendantRepository defenceAssociationDefendantRepository;
 
+    @Mock
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Captor
     private ArgumentCaptor<DefenceClient> argumentCaptor;
 
@@ -90,7 +94,7 @@ public class DefenceAssociationEventListenerTest {
 
         final DefenceAssociationDefendant defenceAssociationDefendant = defenceAssociationDefendantArgumentCaptor.getValue();
         assertThat(DEFENDANT_ID, is(defenceAssociationDefendant.getDefendantId()));
-
+        verify(advocateCaseRoleRepository).refreshCasesOfDefendant(DEFENDANT_ID);
     }
 
     @Test
@@ -144,6 +148,7 @@ public class DefenceAssociationEventListenerTest {
         //Then
         verify(defenceClientRepository, never()).save(any());
         verify(defenceAssociationDefendantRepository, never()).save(any());
+        verify(advocateCaseRoleRepository, never()).refreshCasesOfDefendant(any());
     }
 
     @Test
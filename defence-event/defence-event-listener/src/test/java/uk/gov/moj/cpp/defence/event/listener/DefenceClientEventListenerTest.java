@@ -5,6 +5,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +19,7 @@ import uk.gov.moj.cpp.defence.common.util.GenericEnveloper;
 import uk.gov.moj.cpp.defence.event.listener.events.DefendantUpdateReceived;
 import uk.gov.moj.cpp.defence.events.DefenceClientReceived;
 import uk.gov.moj.cpp.defence.events.DefendantDefenceAssociationLockedForLaa;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
 
@@ -56,6 +58,9 @@ public class DefenceClientEventListenerTest {
     @Mock
     private DefenceClientRepository defenceClientRepositoryMock;
 
+    @Mock
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Captor
     private ArgumentCaptor<DefenceClient> argumentCaptor;
 
@@ -79,6 +84,17 @@ public class DefenceClientEventListenerTest {
         assertEquals(caseId, argumentCaptor.getValue().getCaseId());
         assertEquals(DOB, argumentCaptor.getValue().getDateOfBirth());
         assertEquals(DEFENDANT_ID,argumentCaptor.getValue().getDefendantId());
+        verify(advocateCaseRoleRepository).refreshCase(caseId);
+    }
+
+    @Test
+    public void shouldNotRefreshCaseRolesWhenDefenceClientHasNoCase() {
+
+        defenceClientEventListener.defenceClientReceived(createEnvelope(null));
+
+        verify(defenceClientRepositoryMock).save(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getCaseId(), nullValue());
+        verify(advocateCaseRoleRepository, never()).refreshCase(any());
     }
 
     @Test
@@ -108,6 +124,8 @@ public class DefenceClientEventListenerTest {
         assertThat(argumentCaptor.getValue().getCaseId(),is(caseId));
         assertThat(argumentCaptor.getValue().getDefendantId(),is(DEFENDANT_ID));
         assertThat(argumentCaptor.getValue().getOrganisationName(),nullValue());
+        assertThat(argumentCaptor.getValue().getNormalisedFirstName(),is(FIRST_NAME));
+        assertThat(argumentCaptor.getValue().getNormalisedLastName(), is(LAST_NAME));
 
     }
 
@@ -138,6 +156,20 @@ public class DefenceClientEventListenerTest {
         assertThat(argumentCaptor.getValue().getCaseId(),is(caseId));
         assertThat(argumentCaptor.getValue().getDefendantId(),is(DEFENDANT_ID));
         assertThat(argumentCaptor.getValue().getOrganisationName(),is(UPDATED_ORGANISATION_NAME));
+        assertThat(argumentCaptor.getValue().getNormalisedOrganisationName(),is(UPDATED_ORGANISATION_NAME.toUpperCase()));
+    }
+
+    @Test
+    public void shouldNormaliseNamesLikePostgresUpperTrim() {
+
+        final DefenceClient defenceClient = new DefenceClient();
+        defenceClient.setFirstName("  brian ");
+        defenceClient.setLastName("\tstraße\n");
+        defenceClient.setOrganisationName("   ");
+
+        assertThat(defenceClient.getNormalisedFirstName(), is(FIRST_NAME));
+        assertThat(defenceClient.getNormalisedLastName(), is("\tSTRAßE\n"));
+        assertThat(defenceClient.getNormalisedOrganisationName(), is(""));
     }
 
     @Test
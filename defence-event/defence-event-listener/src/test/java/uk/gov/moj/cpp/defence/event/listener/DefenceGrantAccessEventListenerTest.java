@@ -19,6 +19,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.common.util.GenericEnveloper;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceGrantAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
@@ -45,6 +46,9 @@ public class DefenceGrantAccessEventListenerTest {
     @Mock
     private DefenceClientRepository defenceClientRepository;
 
+    @Mock
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @InjectMocks
     private DefenceGrantAccessEventListener defenceGrantAccessEventListener;
 
@@ -61,8 +65,10 @@ public class DefenceGrantAccessEventListenerTest {
         final Envelope<AccessGranted> envelope = createEnvelopeForGrantAccess(defenceClientId, userId);
         final AccessGranted accessGranted = envelope.payload();
 
+        final UUID caseId = randomUUID();
         DefenceClient defenceClient = new DefenceClient();
         defenceClient.setId(defenceClientId);
+        defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findOptionalBy(any())).thenReturn(of(defenceClient));
 
         defenceGrantAccessEventListener.defenceEventAccessGranted(envelope);
@@ -82,6 +88,7 @@ public class DefenceGrantAccessEventListenerTest {
         assertThat(defenceGrantAccess.getGranteeOrganisationDetails().getOrganisationId(), is(accessGranted.getGranteeOrganisation().getOrgId()));
         assertThat(defenceGrantAccess.getGranteeOrganisationDetails().getOrganisationName(), is(accessGranted.getGranteeOrganisation().getOrganisationName()));
         assertThat(defenceGrantAccess.isRemoved(), is(false));
+        verify(advocateCaseRoleRepository).refreshCase(caseId);
     }
 
     @Test
@@ -97,7 +104,7 @@ public class DefenceGrantAccessEventListenerTest {
         defenceGrantAccessEventListener.defenceEventAccessGranted(envelope);
 
         verify(defenceGrantAccessRepository, never()).save(argumentCaptor.capture());
-
+        verify(advocateCaseRoleRepository, never()).refreshCase(any());
 
     }
 
@@ -109,10 +116,13 @@ public class DefenceGrantAccessEventListenerTest {
         final Envelope<AccessGrantRemoved> envelope = createEnvelopeForRemoveGrantAccess(userId, defendantId);
         final AccessGrantRemoved accessGrantRemoved = envelope.payload();
 
+        final UUID caseId = randomUUID();
         DefenceClient defenceClient = new DefenceClient();
         defenceClient.setId(defendantId);
+        defenceClient.setCaseId(caseId);
 
         final DefenceGrantAccess defenceGrantAccessMock = new DefenceGrantAccess();
+        defenceGrantAccessMock.setDefenceClient(defenceClient);
         defenceGrantAccessMock.setRemoved(false);
         defenceGrantAccessMock.setId(accessGrantRemoved.getPermissions().get(0).getId());
 
@@ -125,7 +135,36 @@ public class DefenceGrantAccessEventListenerTest {
         assertThat(defenceGrantAccess.getId(), is(defenceGrantAccessMock.getId()));
         assertThat(defenceGrantAccess.isRemoved(), is(true));
         assertThat(defenceGrantAccess.getEndDate(), notNullValue());
+        verify(advocateCaseRoleRepository).refreshCase(caseId);
+
+    }
+
+    @Test
+    public void shouldNotRefreshCaseRolesWhenGrantedDefenceClientHasNoCase() {
+        final UUID defenceClientId = randomUUID();
+        final DefenceClient defenceClient = new DefenceClient();
+        defenceClient.setId(defenceClientId);
+        when(defenceClientRepository.findOptionalBy(any())).thenReturn(of(defenceClient));
+
+        defenceGrantAccessEventListener.defenceEventAccessGranted(createEnvelopeForGrantAccess(defenceClientId, randomUUID()));
+
+        verify(defenceGrantAccessRepository).save(argumentCaptor.capture());
+        verify(advocateCaseRoleRepository, never()).refreshCase(any());
+    }
 
+    @Test
+    public void shouldNotRefreshCaseRolesWhenGrantRemovedFromDefenceClientWithNoCase() {
+        final DefenceClient defenceClient = new DefenceClient();
+        defenceClient.setId(randomUUID());
+        final DefenceGrantAccess defenceGrantAccess = new DefenceGrantAccess();
+        defenceGrantAccess.setDefenceClient(defenceClient);
+        when(defenceGrantAccessRepository.findByDefenceClient(any(), any())).thenReturn(defenceGrantAccess);
+
+        defenceGrantAccessEventListener.defenceEventAccessGrantRemoved(createEnvelopeForRemoveGrantAccess(randomUUID(), randomUUID()));
+
+        verify(defenceGrantAccessRepository).save(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().isRemoved(), is(true));
+        verify(advocateCaseRoleRepository, never()).refreshCase(any());
     }
 
     private Envelope<AccessGranted> createEnvelopeForGrantAccess(final UUID target, final UUID source) {
@@ -16,6 +16,7 @@ import uk.gov.moj.cpp.defence.events.CaseAssignmentToAdvocateRemoved;
 import uk.gov.moj.cpp.defence.events.CaseHearingAssignments;
 import uk.gov.moj.cpp.defence.events.CasesAssignedToAdvocate;
 import uk.gov.moj.cpp.defence.persistence.AdvocateAccessRepository;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
@@ -52,6 +53,9 @@ public class ProsecutionAdvocateAccessEventListenerTest {
     @Mock
     private OrganisationAccessRepository organisationAccessRepository;
 
+    @Mock
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Mock
     private Envelope<CaseAssignedToAdvocate> envelope;
 
@@ -104,7 +108,7 @@ public class ProsecutionAdvocateAccessEventListenerTest {
         assertProsecutionAdvocateAccess(caseAssignedToAdvocate.getAssigneeDetails(), caseAssignedToAdvocate.getAssignorDetails(),
                 caseAssignedToAdvocate.getAssignmentTimestamp(), prosecutionOrganisationAccess, actualAdvocateAssignment);
         assertThat(actualAdvocateAssignment.getAssignmentExpiryDate(), is(nullValue()));
-
+        verify(advocateCaseRoleRepository).refreshCase(caseAssignedToAdvocate.getCaseId());
     }
 
     @Test
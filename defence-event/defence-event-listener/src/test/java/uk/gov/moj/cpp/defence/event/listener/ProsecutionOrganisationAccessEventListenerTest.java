@@ -18,6 +18,7 @@ import uk.gov.moj.cpp.defence.events.CaseAssigmentToOrganisationRemoved;
 import uk.gov.moj.cpp.defence.events.CaseAssignedToOrganisation;
 import uk.gov.moj.cpp.defence.events.CaseHearingAssignments;
 import uk.gov.moj.cpp.defence.events.CasesAssignedToOrganisation;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
@@ -40,6 +41,9 @@ public class ProsecutionOrganisationAccessEventListenerTest {
     @Mock
     private OrganisationAccessRepository organisationAccessRepository;
 
+    @Mock
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
     @Mock
     private Envelope<CaseAssignedToOrganisation> envelope;
 
@@ -88,6 +92,7 @@ public class ProsecutionOrganisationAccessEventListenerTest {
                 caseAssignedToOrganisation.getAssigneeDetails(), caseAssignedToOrganisation.getAssignorDetails(),
                 caseAssignedToOrganisation.getAssignorOrganisation());
         assertThat(actualAdvocateAssignment.getAssignmentExpiryDate(), is(nullValue()));
+        verify(advocateCaseRoleRepository).refreshCase(caseAssignedToOrganisation.getCaseId());
     }
 
     @Test
@@ -110,6 +115,7 @@ public class ProsecutionOrganisationAccessEventListenerTest {
         organisationAccessEventListener.prosecutionRemoveCaseAssignmentToOrganisationReceived(envelopeRemoveCaseAssignment);
 
         verify(organisationAccessRepository, times(1)).remove(any(ProsecutionOrganisationAccess.class));
+        verify(advocateCaseRoleRepository).refreshCase(caseId);
     }
 
     @Test
@@ -17,6 +17,7 @@ import uk.gov.moj.cpp.defence.event.converter.DefendantsAddedConverter;
 import uk.gov.moj.cpp.defence.event.converter.ProsecutionCaseConverter;
 import uk.gov.moj.cpp.defence.event.processor.events.CaseRemovedFromGroupCases;
 import uk.gov.moj.cpp.defence.event.service.ProgressionService;
+import uk.gov.moj.cpp.defence.event.service.ProsecutionCaseCache;
 import uk.gov.moj.cpp.defence.events.CaseCreatedBdf;
 import uk.gov.moj.cpp.progression.json.schema.event.ProsecutionCaseCreated;
 
@@ -29,6 +30,8 @@ import javax.json.JsonObject;
 public class DefenceClientMapEventProcessor {
 
     public static final String DEFENCE_COMMAND_PROSECUTION_CASE_RECEIVE_DETAILS = "defence.command.prosecution-case-receive-details";
+    private static final String DEFENCE_COMMAND_ADD_DEFENDANT = "defence.command.add-defendant";
+
     @Inject
     ProgressionService progressionService;
 
@@ -40,6 +43,10 @@ public class DefenceClientMapEventProcessor {
 
     @Inject
     DefendantsAddedConverter defendantsAddedConverter;
+
+    @Inject
+    ProsecutionCaseCache prosecutionCaseCache;
+
     @Inject
     private Sender sender;
 
@@ -51,7 +58,8 @@ public class DefenceClientMapEventProcessor {
                 metadataFrom(envelope.metadata()),
                 createObjectBuilder()
         );
-        final JsonObject prosecutionCaseJson = progressionService.getProsecutionCaseByCaseId(requestEnvelopeWithCaseId, payload.getProsecutionCaseId().toString());
+        final JsonObject prosecutionCaseJson = prosecutionCaseCache.get(payload.getProsecutionCaseId(),
+                () -> progressionService.getProsecutionCaseByCaseId(requestEnvelopeWithCaseId, payload.getProsecutionCaseId().toString()));
         final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
 
         if(Objects.isNull(payload.getDefendantId())) {
@@ -60,7 +68,7 @@ public class DefenceClientMapEventProcessor {
         } else {
             prosecutionCase.getDefendants().stream().filter(def -> def.getId().equals(payload.getDefendantId()))
                     .forEach(defendant ->
-                        sender.send(envelopeFrom(metadataFrom(envelope.metadata()).withName("defence.command.add-defendant"), defendantsAddedConverter.convert(defendant)))
+                        sender.send(envelopeFrom(metadataFrom(envelope.metadata()).withName(DEFENCE_COMMAND_ADD_DEFENDANT), defendantsAddedConverter.convert(defendant)))
                     );
         }
     }
@@ -79,13 +87,8 @@ public class DefenceClientMapEventProcessor {
 
     @Handles("public.progression.defendants-added-to-case")
     public void handleSpiProsecutionDefendantsAdded(final Envelope<DefendantsAddedToCase> envelope) {
-
-        envelope.payload().getDefendants().forEach(defendant -> {
-            defendantsAddedConverter.convert(defendant);
-            sender.send(envelopeFrom(metadataFrom(envelope.metadata()).withName("defence.command.add-defendant"), defendantsAddedConverter.convert(defendant)));
-
-        });
-
+        envelope.payload().getDefendants().forEach(defendant ->
+                sender.send(envelopeFrom(metadataFrom(envelope.metadata()).withName(DEFENCE_COMMAND_ADD_DEFENDANT), defendantsAddedConverter.convert(defendant))));
     }
 
 }
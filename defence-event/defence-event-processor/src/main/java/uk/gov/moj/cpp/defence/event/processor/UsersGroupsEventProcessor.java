@@ -10,6 +10,7 @@ import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.defence.event.service.DefenceService;
+import uk.gov.moj.cpp.defence.service.UserGroupCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,11 +39,16 @@ public class UsersGroupsEventProcessor {
     @Inject
     private DefenceService defenceService;
 
+    @Inject
+    private UserGroupCache userGroupCache;
+
     @Handles("public.usersgroups.organisation-created")
     public void setUpLAAOrganisation(final JsonEnvelope envelope) {
 
         LOGGER.info("Received Organisation Created Event  {}", envelope.payloadAsJsonObject());
 
+        userGroupCache.invalidateAll();
+
         final JsonObject payload = envelope.payloadAsJsonObject().getJsonObject("organisationDetails");
 
         if (payload.containsKey(LAA_CONTRACT_NUMBERS)) {
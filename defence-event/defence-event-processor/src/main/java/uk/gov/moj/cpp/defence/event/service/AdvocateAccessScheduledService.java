@@ -1,34 +1,59 @@
 package uk.gov.moj.cpp.defence.event.service;
 
+import static java.lang.Boolean.TRUE;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.time.Instant.EPOCH;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Objects.isNull;
 import static java.util.UUID.randomUUID;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_CASE_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_ID;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_ASSIGNMENTS_SELECT_COUNT;
 
-import uk.gov.justice.cps.defence.ExpiredProsecutorAssignments;
-import uk.gov.justice.cps.defence.ExpiredProsecutorOrganisationAssignments;
 import uk.gov.justice.services.common.configuration.Value;
-import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.MetadataBuilder;
+import uk.gov.moj.cpp.defence.OrganisationAssignment;
+import uk.gov.moj.cpp.defence.ProsecutorAssignment;
+import uk.gov.moj.cpp.defence.common.cache.ExpiringLruCache;
+import uk.gov.moj.cpp.defence.common.metrics.DefenceMetrics;
 import uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView;
 
+import java.time.Clock;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
-import javax.json.JsonArray;
-import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-
+/**
+ * Sweeps expired prosecutor and organisation assignments and sends a remove-case-assignment command for each.
+ * Expired rows are read a page at a time, oldest first, continuing from the last row of the previous page, until
+ * the backlog is empty or the sweep runs out of its time or command budget; whatever is left is picked up by the
+ * next trigger. A trigger that arrives while a sweep is still running is skipped, and an assignment whose removal was
+ * sent recently is not sent again while its command may still be queued.
+ */
+@ApplicationScoped
 @SuppressWarnings("squid:S1135")
 public class AdvocateAccessScheduledService {
 
@@ -36,6 +61,16 @@ public class AdvocateAccessScheduledService {
     public static final String DEFENCE_QUERY_EXPIRED_PROSECUTOR_ASSIGNMENTS = "advocate.query.expired-prosecutor-assignments";
     public static final String DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS = "advocate.query.expired-prosecutor-organisation-assignments";
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final long DEFAULT_TIME_BUDGET_SECONDS = 60L;
+    private static final int DEFAULT_MAX_COMMANDS = 2000;
+    private static final long DEFAULT_PENDING_REMOVAL_TTL_SECONDS = 300L;
+    private static final int DEFAULT_PENDING_REMOVAL_MAX_ENTRIES = 10000;
+
+    // keyset position before every expired assignment, so that each page of a sweep uses the ordered keyset query
+    private static final String SWEEP_START_EXPIRY = EPOCH.atZone(UTC).toString();
+    private static final String SWEEP_START_ID = new UUID(0L, 0L).toString();
+
     @Inject
     @ServiceComponent(EVENT_PROCESSOR)
     private Sender sender;
@@ -46,11 +81,10 @@ public class AdvocateAccessScheduledService {
 
     @Inject
     @ServiceComponent(EVENT_PROCESSOR)
-    private ObjectToJsonObjectConverter objectToJsonObjectConverter;
+    private CpsCaseAccessQueryView cpsCaseAccessQueryView;
 
     @Inject
-    @ServiceComponent(EVENT_PROCESSOR)
-    private CpsCaseAccessQueryView cpsCaseAccessQueryView;
+    private DefenceMetrics defenceMetrics;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AdvocateAccessScheduledService.class);
 
@@ -58,50 +92,209 @@ public class AdvocateAccessScheduledService {
     @Value(key = "defence.expired.prosecutor.assignments.select.count", defaultValue = "50")
     private String expiredProsecutorAssignmentsSelectCount;
 
+    @Inject
+    @Value(key = "defence.expired.assignments.sweep.time.budget.seconds", defaultValue = "60")
+    private String sweepTimeBudgetSeconds;
+
+    @Inject
+    @Value(key = "defence.expired.assignments.sweep.max.commands", defaultValue = "2000")
+    private String sweepMaxCommands;
+
+    @Inject
+    @Value(key = "defence.expired.assignments.pending.removal.ttl.seconds", defaultValue = "300")
+    private String pendingRemovalTtlSeconds;
+
+    @Inject
+    @Value(key = "defence.expired.assignments.pending.removal.max.entries", defaultValue = "10000")
+    private String pendingRemovalMaxEntries;
+
+    private final ExpiringLruCache<String, Boolean> pendingRemovals = new ExpiringLruCache<>(this::pendingRemovalTtlSeconds, this::pendingRemovalMaxEntries);
+
+    private final AtomicBoolean sweepInProgress = new AtomicBoolean();
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong removalCommandsSent = new AtomicLong();
+    private final AtomicLong lastDrainRatePerSecond = new AtomicLong();
+
+    private Clock clock = Clock.systemUTC();
+
+    @PostConstruct
+    void registerGauges() {
+        defenceMetrics.gauge("expired-assignments.backlog", this::getBacklogSize);
+        defenceMetrics.gauge("expired-assignments.removal-commands-sent", this::getRemovalCommandsSent);
+        defenceMetrics.gauge("expired-assignments.drain-rate-per-second", this::getLastDrainRatePerSecond);
+    }
+
     public void unassignExpiredAssignments() {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("AdvocateAccessScheduledService scheduler triggered.");
         }
 
+        if (!sweepInProgress.compareAndSet(false, true)) {
+            LOGGER.info("Expired assignment sweep already in progress, skipping this trigger");
+            return;
+        }
+        try {
+            sweepExpiredAssignments();
+        } finally {
+            sweepInProgress.set(false);
+        }
+    }
+
+    public long getBacklogSize() {
+        return backlogSize.get();
+    }
+
+    public long getRemovalCommandsSent() {
+        return removalCommandsSent.get();
+    }
+
+    public long getLastDrainRatePerSecond() {
+        return lastDrainRatePerSecond.get();
+    }
+
+    void setClock(final Clock clock) {
+        this.clock = clock;
+        pendingRemovals.setClock(clock);
+    }
+
+    private void sweepExpiredAssignments() {
+        final long startedAt = clock.millis();
+        final long backlog = cpsCaseAccessQueryView.countExpiredProsecutorAssignments() + cpsCaseAccessQueryView.countExpiredProsecutorOrganisationAssignments();
         final UUID metaDataId = randomUUID();
-        JsonEnvelope requestEnvelope = envelopeFrom(
-                metadataBuilder().withId(metaDataId).withName(DEFENCE_QUERY_EXPIRED_PROSECUTOR_ASSIGNMENTS).build(),
-                createObjectBuilder().add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, expiredProsecutorAssignmentsSelectCount).build());
         final MetadataBuilder metadataBuilder = metadataBuilder().withId(metaDataId).withName(DEFENCE_COMMAND_ADVOCATE_REMOVE_CASE_ASSIGNMENT);
-
-        final ExpiredProsecutorAssignments expiredProsecutorAssignments = cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(requestEnvelope).payload();
-        final JsonObject response = objectToJsonObjectConverter.convert(expiredProsecutorAssignments);
-        LOGGER.info("Expired prosecutor assignments: {}", expiredProsecutorAssignments.getProsecutorAssignments().size());
+        final SweepBudget budget = new SweepBudget(startedAt + timeBudgetSeconds() * 1000L, maxCommands());
 
         // 1. Query and process expired advocate prosecutor assignments
-        final JsonArray prosecutorAssignments = response.getJsonArray("prosecutorAssignments");
-        if (prosecutorAssignments != null) {
-            sendCommandToRemoveCaseAssignment(prosecutorAssignments, metadataBuilder);
-        }
+        final int prosecutorAssignments = sweepProsecutorAssignments(metaDataId, metadataBuilder, budget);
 
         // 2. Query and process expired organisation assignments
-        requestEnvelope = envelopeFrom(
-                metadataBuilder().withId(metaDataId).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS).build(),
-                createObjectBuilder().add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, expiredProsecutorAssignmentsSelectCount).build());
-        final ExpiredProsecutorOrganisationAssignments expiredProsecutorOrganisationAssignments = cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(requestEnvelope).payload();
-        LOGGER.info("Expired organisation assignments: {}", expiredProsecutorOrganisationAssignments.getOrganisationAssignments().size());
-
-        final JsonArray organisationAssignments = objectToJsonObjectConverter.convert(expiredProsecutorOrganisationAssignments).getJsonArray("organisationAssignments");
-        if (organisationAssignments != null) {
-            sendCommandToRemoveCaseAssignment(organisationAssignments, metadataBuilder);
+        final int organisationAssignments = sweepOrganisationAssignments(metaDataId, metadataBuilder, budget);
+
+        final int sent = prosecutorAssignments + organisationAssignments;
+        final long elapsedMillis = max(clock.millis() - startedAt, 1L);
+        backlogSize.set(max(backlog - sent, 0L));
+        removalCommandsSent.addAndGet(sent);
+        lastDrainRatePerSecond.set(sent * 1000L / elapsedMillis);
+        LOGGER.info("Expired assignment sweep sent {} removal commands ({} prosecutor, {} organisation) in {} ms, {} per second, backlog {} of {} remaining",
+                sent, prosecutorAssignments, organisationAssignments, elapsedMillis, lastDrainRatePerSecond.get(), backlogSize.get(), backlog);
+    }
+
+    private int sweepProsecutorAssignments(final UUID metaDataId, final MetadataBuilder metadataBuilder, final SweepBudget budget) {
+        int sent = 0;
+        String expiredAfter = SWEEP_START_EXPIRY;
+        String idAfter = SWEEP_START_ID;
+        while (budget.hasCapacity()) {
+            final int pageSize = min(pageSize(), budget.remainingCommands());
+            final JsonObjectBuilder request = createObjectBuilder().add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, String.valueOf(pageSize))
+                    .add(EXPIRED_AFTER, expiredAfter)
+                    .add(EXPIRED_AFTER_ID, idAfter);
+            final JsonEnvelope requestEnvelope = envelopeFrom(
+                    metadataBuilder().withId(metaDataId).withName(DEFENCE_QUERY_EXPIRED_PROSECUTOR_ASSIGNMENTS).build(), request.build());
+            final List<ProsecutorAssignment> page = cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(requestEnvelope).payload().getProsecutorAssignments();
+            if (isNull(page)) {
+                break;
+            }
+
+            sent += page.stream()
+                    .filter(assignment -> sendCommandToRemoveCaseAssignment(assignment.getCaseId(), assignment.getAssigneeUserId(), metadataBuilder))
+                    .count();
+            budget.consume(page.size());
+
+            if (page.size() < pageSize || isNull(page.get(page.size() - 1).getId())) {
+                break;
+            }
+            final ProsecutorAssignment last = page.get(page.size() - 1);
+            expiredAfter = last.getAssignmentExpiryDate().toString();
+            idAfter = last.getId().toString();
+        }
+        return sent;
+    }
+
+    private int sweepOrganisationAssignments(final UUID metaDataId, final MetadataBuilder metadataBuilder, final SweepBudget budget) {
+        int sent = 0;
+        String expiredAfter = SWEEP_START_EXPIRY;
+        String caseIdAfter = SWEEP_START_ID;
+        String assigneeOrganisationIdAfter = SWEEP_START_ID;
+        while (budget.hasCapacity()) {
+            final int pageSize = min(pageSize(), budget.remainingCommands());
+            final JsonObjectBuilder request = createObjectBuilder().add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, String.valueOf(pageSize))
+                    .add(EXPIRED_AFTER, expiredAfter)
+                    .add(EXPIRED_AFTER_CASE_ID, caseIdAfter)
+                    .add(EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID, assigneeOrganisationIdAfter);
+            final JsonEnvelope requestEnvelope = envelopeFrom(
+                    metadataBuilder().withId(metaDataId).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS).build(), request.build());
+            final List<OrganisationAssignment> page = cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(requestEnvelope).payload().getOrganisationAssignments();
+            if (isNull(page)) {
+                break;
+            }
+
+            sent += page.stream()
+                    .filter(assignment -> sendCommandToRemoveCaseAssignment(assignment.getCaseId(), assignment.getAssigneeUserId(), metadataBuilder))
+                    .count();
+            budget.consume(page.size());
+
+            if (page.size() < pageSize) {
+                break;
+            }
+            final OrganisationAssignment last = page.get(page.size() - 1);
+            expiredAfter = last.getAssignmentExpiryDate().toString();
+            caseIdAfter = last.getCaseId().toString();
+            assigneeOrganisationIdAfter = last.getAssigneeOrganisationId().toString();
         }
+        return sent;
     }
 
-    private void sendCommandToRemoveCaseAssignment(final JsonArray caseAssignments, final MetadataBuilder metadataBuilder) {
-        for (int i = 0; i < caseAssignments.size(); i++) {
-            final String caseId = caseAssignments.getJsonObject(i).getString("caseId");
-            final String assigneeUserId = caseAssignments.getJsonObject(i).getString("assigneeUserId");
-            sender.sendAsAdmin(Envelope.envelopeFrom(metadataBuilder, createObjectBuilder()
-                    .add("caseId", caseId)
-                    .add("assigneeUserId", assigneeUserId)
-                    .add("isAutomaticUnassignment", true)
-                    .build()));
+    private boolean sendCommandToRemoveCaseAssignment(final UUID caseId, final UUID assigneeUserId, final MetadataBuilder metadataBuilder) {
+        if (!pendingRemovals.putIfAbsent(caseId + ":" + assigneeUserId, TRUE)) {
+            return false;
         }
+        sender.sendAsAdmin(Envelope.envelopeFrom(metadataBuilder, createObjectBuilder()
+                .add("caseId", caseId.toString())
+                .add("assigneeUserId", assigneeUserId.toString())
+                .add("isAutomaticUnassignment", true)
+                .build()));
+        return true;
+    }
+
+    private int pageSize() {
+        return isNull(expiredProsecutorAssignmentsSelectCount) ? DEFAULT_PAGE_SIZE : parseInt(expiredProsecutorAssignmentsSelectCount);
+    }
+
+    private long timeBudgetSeconds() {
+        return isNull(sweepTimeBudgetSeconds) ? DEFAULT_TIME_BUDGET_SECONDS : parseLong(sweepTimeBudgetSeconds);
     }
 
+    private int maxCommands() {
+        return isNull(sweepMaxCommands) ? DEFAULT_MAX_COMMANDS : parseInt(sweepMaxCommands);
+    }
+
+    private long pendingRemovalTtlSeconds() {
+        return isNull(pendingRemovalTtlSeconds) ? DEFAULT_PENDING_REMOVAL_TTL_SECONDS : parseLong(pendingRemovalTtlSeconds);
+    }
+
+    private int pendingRemovalMaxEntries() {
+        return isNull(pendingRemovalMaxEntries) ? DEFAULT_PENDING_REMOVAL_MAX_ENTRIES : parseInt(pendingRemovalMaxEntries);
+    }
+
+    private final class SweepBudget {
+        private final long deadline;
+        private int remainingCommands;
+
+        private SweepBudget(final long deadline, final int maxCommands) {
+            this.deadline = deadline;
+            this.remainingCommands = maxCommands;
+        }
+
+        private boolean hasCapacity() {
+            return remainingCommands > 0 && clock.millis() < deadline;
+        }
+
+        private int remainingCommands() {
+            return remainingCommands;
+        }
+
+        private void consume(final int commands) {
+            remainingCommands -= commands;
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package uk.gov.moj.cpp.defence.event.service;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.defence.common.cache.ExpiringLruCache;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonObject;
+
+/**
+ * Short-lived cache of progression prosecution cases keyed on caseId. A bulk data fix replays one
+ * case-created-bdf event per defendant, so the case is fetched once per replay rather than once per event.
+ * Null results are never cached.
+ */
+@ApplicationScoped
+public class ProsecutionCaseCache {
+
+    private static final long DEFAULT_TTL_SECONDS = 120L;
+    private static final int DEFAULT_MAX_ENTRIES = 200;
+
+    @Inject
+    @Value(key = "defence.bdf.prosecution.case.cache.ttl.seconds", defaultValue = "120")
+    private String ttlSecondsValue;
+
+    @Inject
+    @Value(key = "defence.bdf.prosecution.case.cache.max.entries", defaultValue = "200")
+    private String maxEntriesValue;
+
+    private final ExpiringLruCache<UUID, JsonObject> prosecutionCases = new ExpiringLruCache<>(this::ttlSeconds, this::maxEntries);
+
+    public JsonObject get(final UUID caseId, final Supplier<JsonObject> loader) {
+        return prosecutionCases.get(caseId, loader);
+    }
+
+    public long getHitCount() {
+        return prosecutionCases.getHitCount();
+    }
+
+    public long getMissCount() {
+        return prosecutionCases.getMissCount();
+    }
+
+    void setClock(final Clock clock) {
+        prosecutionCases.setClock(clock);
+    }
+
+    private long ttlSeconds() {
+        return isNull(ttlSecondsValue) ? DEFAULT_TTL_SECONDS : parseLong(ttlSecondsValue);
+    }
+
+    private int maxEntries() {
+        return isNull(maxEntriesValue) ? DEFAULT_MAX_ENTRIES : parseInt(maxEntriesValue);
+    }
+}
@@ -38,6 +38,7 @@ import uk.gov.moj.cpp.defence.event.converter.ProsecutionCaseConverter;
 import uk.gov.moj.cpp.defence.event.processor.commands.ProsecutionCaseReceiveDetails;
 import uk.gov.moj.cpp.defence.event.processor.events.CaseRemovedFromGroupCases;
 import uk.gov.moj.cpp.defence.event.service.ProgressionService;
+import uk.gov.moj.cpp.defence.event.service.ProsecutionCaseCache;
 import uk.gov.moj.cpp.defence.events.CaseCreatedBdf;
 import uk.gov.moj.cpp.defence.json.schema.event.DefendantAdded;
 import uk.gov.moj.cpp.progression.json.schema.event.ProsecutionCaseCreated;
@@ -85,6 +86,9 @@ class DefenceClientMapEventProcessorTest {
     @Mock
     private ProgressionService progressionService;
 
+    @Spy
+    ProsecutionCaseCache prosecutionCaseCache = new ProsecutionCaseCache();
+
     @Spy
     ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper());
 
@@ -289,6 +293,57 @@ class DefenceClientMapEventProcessorTest {
         }
     }
 
+    @Test
+    void shouldFetchProsecutionCaseOncePerCaseAcrossBdfReplay() {
+        final UUID caseId = randomUUID();
+        final UUID firstDefendantId = randomUUID();
+        final UUID secondDefendantId = randomUUID();
+        final ProsecutionCase prosecutionCase = ProsecutionCase.prosecutionCase()
+                .withId(caseId)
+                .withProsecutionCaseIdentifier(ProsecutionCaseIdentifier.prosecutionCaseIdentifier().withCaseURN("CASEURN").build())
+                .withDefendants(List.of(
+                        Defendant.defendant().withId(firstDefendantId).withProsecutionAuthorityReference("reference").build(),
+                        Defendant.defendant().withId(secondDefendantId).withProsecutionAuthorityReference("reference").build()))
+                .build();
+
+        when(progressionService.getProsecutionCaseByCaseId(any(), any())).thenReturn(objectToJsonObjectConverter.convert(prosecutionCase));
+        when(defendantsAddedConverter.convert(any())).thenAnswer(invocation -> DefendantAdded.defendantAdded()
+                .withDefendantId(invocation.<Defendant>getArgument(0).getId())
+                .build());
+
+        defenceClientMapEventProcessor.handleProsecutionCaseCreatedBdf(envelopeFrom(metadataWithRandomUUID("defence.event.case_created-bdf"),
+                CaseCreatedBdf.caseCreatedBdf().withProsecutionCaseId(caseId).withDefendantId(firstDefendantId).build()));
+        defenceClientMapEventProcessor.handleProsecutionCaseCreatedBdf(envelopeFrom(metadataWithRandomUUID("defence.event.case_created-bdf"),
+                CaseCreatedBdf.caseCreatedBdf().withProsecutionCaseId(caseId).withDefendantId(secondDefendantId).build()));
+
+        verify(progressionService, times(1)).getProsecutionCaseByCaseId(any(), any());
+        verify(sender, times(2)).send(envelopeAddDefendantCaptor.capture());
+        assertThat(envelopeAddDefendantCaptor.getAllValues().get(0).payload().getDefendantId(), is(firstDefendantId));
+        assertThat(envelopeAddDefendantCaptor.getAllValues().get(1).payload().getDefendantId(), is(secondDefendantId));
+    }
+
+    @Test
+    void shouldSendAddDefendantCommandsInPayloadOrder() {
+        final List<Defendant> defendants = List.of(
+                Defendant.defendant().withId(randomUUID()).build(),
+                Defendant.defendant().withId(randomUUID()).build(),
+                Defendant.defendant().withId(randomUUID()).build());
+
+        when(defendantsAddedConverter.convert(any())).thenAnswer(invocation -> DefendantAdded.defendantAdded()
+                .withDefendantId(invocation.<Defendant>getArgument(0).getId())
+                .build());
+
+        defenceClientMapEventProcessor.handleSpiProsecutionDefendantsAdded(createTypedEnvelope(DefendantsAddedToCase.defendantsAddedToCase()
+                .withDefendants(defendants)
+                .build()));
+
+        verify(defendantsAddedConverter, times(3)).convert(any());
+        verify(sender, times(3)).send(envelopeAddDefendantCaptor.capture());
+        for (int i = 0; i < defendants.size(); i++) {
+            assertThat(envelopeAddDefendantCaptor.getAllValues().get(i).payload().getDefendantId(), is(defendants.get(i).getId()));
+        }
+    }
+
     private <T> Envelope<T> createTypedEnvelope(final T t) {
 
         final Metadata metadata = metadataBuilder()
@@ -13,6 +13,7 @@ import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.defence.event.service.DefenceService;
+import uk.gov.moj.cpp.defence.service.UserGroupCache;
 
 import java.util.UUID;
 
@@ -44,6 +45,9 @@ public class UsersGroupsEventProcessorTest {
     @Mock
     private Sender sender;
 
+    @Mock
+    private UserGroupCache userGroupCache;
+
     @InjectMocks
     private UsersGroupsEventProcessor usersGroupsEventProcessor;
 
@@ -64,6 +68,7 @@ public class UsersGroupsEventProcessorTest {
 
         usersGroupsEventProcessor.setUpLAAOrganisation(jsonEnvelope);
 
+        verify(userGroupCache).invalidateAll();
         verify(sender).send(envelopeCaptor.capture());
 
         final Envelope<JsonObject> command = envelopeCaptor.getValue();
@@ -1,11 +1,23 @@
 package uk.gov.moj.cpp.defence.event.service;
 
+import static java.time.ZonedDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
+import static uk.gov.moj.cpp.defence.event.service.AdvocateAccessScheduledService.DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS;
+import static uk.gov.moj.cpp.defence.event.service.AdvocateAccessScheduledService.DEFENCE_QUERY_EXPIRED_PROSECUTOR_ASSIGNMENTS;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_ID;
 
 import uk.gov.justice.cps.defence.ExpiredProsecutorAssignments;
 import uk.gov.justice.cps.defence.ExpiredProsecutorOrganisationAssignments;
@@ -13,11 +25,18 @@ import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil;
+import uk.gov.moj.cpp.defence.ProsecutorAssignment;
+import uk.gov.moj.cpp.defence.common.metrics.DefenceMetrics;
 import uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 import javax.json.JsonObject;
 
@@ -84,9 +103,18 @@ public class AdvocateAccessScheduledServiceTest {
     @Mock
     private Sender sender;
 
+    @Mock
+    private DefenceMetrics defenceMetrics;
+
+    @Captor
+    ArgumentCaptor<LongSupplier> gaugeArgumentCaptor;
+
     @Captor
     ArgumentCaptor<Envelope<JsonObject>> envelopeArgumentCaptor;
 
+    @Captor
+    ArgumentCaptor<JsonEnvelope> queryArgumentCaptor;
+
     @InjectMocks
     private AdvocateAccessScheduledService advocateAccessScheduledService;
 
@@ -127,4 +155,121 @@ public class AdvocateAccessScheduledServiceTest {
         assertThat(allValues.get(2).payload().getString("assigneeUserId"), is("9cc46992-5e7d-4eab-a65f-75cd00feecd2"));
 
     }
+
+    @Test
+    public void shouldPageThroughExpiredAssignmentsFromLastRowOfPreviousPage() {
+        ReflectionUtil.setField(advocateAccessScheduledService, "expiredProsecutorAssignmentsSelectCount", "2");
+
+        final ProsecutorAssignment first = prosecutorAssignment(now().minusDays(3));
+        final ProsecutorAssignment second = prosecutorAssignment(now().minusDays(2));
+        final ProsecutorAssignment third = prosecutorAssignment(now().minusDays(1));
+        when(cpsCaseAccessQueryView.countExpiredProsecutorAssignments()).thenReturn(3L);
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(any()))
+                .thenReturn(expiredProsecutorAssignments(first, second), expiredProsecutorAssignments(third));
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(any()))
+                .thenReturn(Envelope.envelopeFrom(metadataBuilder().withId(randomUUID()).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS),
+                        ExpiredProsecutorOrganisationAssignments.expiredProsecutorOrganisationAssignments().withOrganisationAssignments(emptyList()).build()));
+
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(cpsCaseAccessQueryView, times(2)).queryExpiredProsecutorAssignments(queryArgumentCaptor.capture());
+        final JsonObject firstPageQuery = queryArgumentCaptor.getAllValues().get(0).payloadAsJsonObject();
+        final JsonObject secondPageQuery = queryArgumentCaptor.getAllValues().get(1).payloadAsJsonObject();
+        assertThat(firstPageQuery.getString(EXPIRED_AFTER), is("1970-01-01T00:00Z"));
+        assertThat(firstPageQuery.getString(EXPIRED_AFTER_ID), is("00000000-0000-0000-0000-000000000000"));
+        assertThat(secondPageQuery.getString(EXPIRED_AFTER), is(second.getAssignmentExpiryDate().toString()));
+        assertThat(secondPageQuery.getString(EXPIRED_AFTER_ID), is(second.getId().toString()));
+
+        verify(sender, times(3)).sendAsAdmin(any());
+        assertThat(advocateAccessScheduledService.getBacklogSize(), is(0L));
+        assertThat(advocateAccessScheduledService.getRemovalCommandsSent(), is(3L));
+    }
+
+    @Test
+    public void shouldStopSweepingOnceCommandBudgetIsUsed() {
+        ReflectionUtil.setField(advocateAccessScheduledService, "expiredProsecutorAssignmentsSelectCount", "2");
+        ReflectionUtil.setField(advocateAccessScheduledService, "sweepMaxCommands", "2");
+
+        when(cpsCaseAccessQueryView.countExpiredProsecutorAssignments()).thenReturn(5L);
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(any()))
+                .thenReturn(expiredProsecutorAssignments(prosecutorAssignment(now().minusDays(2)), prosecutorAssignment(now().minusDays(1))));
+
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(cpsCaseAccessQueryView, times(1)).queryExpiredProsecutorAssignments(any());
+        verify(cpsCaseAccessQueryView, never()).queryExpiredProsecutorOrganisationAssignments(any());
+        verify(sender, times(2)).sendAsAdmin(any());
+        assertThat(advocateAccessScheduledService.getBacklogSize(), is(3L));
+    }
+
+    @Test
+    public void shouldSkipTriggerThatArrivesWhileASweepIsInProgress() {
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(any()))
+                .thenReturn(expiredProsecutorAssignments(prosecutorAssignment(now().minusDays(1))));
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(any()))
+                .thenReturn(Envelope.envelopeFrom(metadataBuilder().withId(randomUUID()).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS),
+                        ExpiredProsecutorOrganisationAssignments.expiredProsecutorOrganisationAssignments().withOrganisationAssignments(emptyList()).build()));
+        doAnswer(invocation -> {
+            advocateAccessScheduledService.unassignExpiredAssignments();
+            return null;
+        }).when(sender).sendAsAdmin(any());
+
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(cpsCaseAccessQueryView, times(1)).queryExpiredProsecutorAssignments(any());
+        verify(sender, times(1)).sendAsAdmin(any());
+    }
+
+    @Test
+    public void shouldNotResendRemovalWhileEarlierCommandMayStillBeQueued() {
+        final ProsecutorAssignment pending = prosecutorAssignment(now().minusDays(1));
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(any())).thenReturn(expiredProsecutorAssignments(pending));
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(any()))
+                .thenReturn(Envelope.envelopeFrom(metadataBuilder().withId(randomUUID()).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS),
+                        ExpiredProsecutorOrganisationAssignments.expiredProsecutorOrganisationAssignments().withOrganisationAssignments(emptyList()).build()));
+
+        advocateAccessScheduledService.unassignExpiredAssignments();
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(sender, times(1)).sendAsAdmin(any());
+        assertThat(advocateAccessScheduledService.getRemovalCommandsSent(), is(1L));
+
+        advocateAccessScheduledService.setClock(Clock.offset(Clock.systemUTC(), Duration.ofMinutes(10)));
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(sender, times(2)).sendAsAdmin(any());
+    }
+
+    @Test
+    public void shouldPublishSweepMetricsAsGauges() {
+        when(cpsCaseAccessQueryView.countExpiredProsecutorAssignments()).thenReturn(4L);
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorAssignments(any()))
+                .thenReturn(expiredProsecutorAssignments(prosecutorAssignment(now().minusDays(1))));
+        when(cpsCaseAccessQueryView.queryExpiredProsecutorOrganisationAssignments(any()))
+                .thenReturn(Envelope.envelopeFrom(metadataBuilder().withId(randomUUID()).withName(DEFENCE_QUERY_EXPIRED_ORGANISATION_ASSIGNMENTS),
+                        ExpiredProsecutorOrganisationAssignments.expiredProsecutorOrganisationAssignments().withOrganisationAssignments(emptyList()).build()));
+
+        advocateAccessScheduledService.registerGauges();
+        advocateAccessScheduledService.unassignExpiredAssignments();
+
+        verify(defenceMetrics).gauge(eq("expired-assignments.backlog"), gaugeArgumentCaptor.capture());
+        assertThat(gaugeArgumentCaptor.getValue().getAsLong(), is(3L));
+        verify(defenceMetrics).gauge(eq("expired-assignments.removal-commands-sent"), gaugeArgumentCaptor.capture());
+        assertThat(gaugeArgumentCaptor.getValue().getAsLong(), is(1L));
+        verify(defenceMetrics).gauge(eq("expired-assignments.drain-rate-per-second"), any());
+    }
+
+    private static ProsecutorAssignment prosecutorAssignment(final ZonedDateTime assignmentExpiryDate) {
+        return ProsecutorAssignment.prosecutorAssignment()
+                .withId(randomUUID())
+                .withCaseId(randomUUID())
+                .withAssigneeUserId(randomUUID())
+                .withAssignmentExpiryDate(assignmentExpiryDate)
+                .build();
+    }
+
+    private static Envelope<ExpiredProsecutorAssignments> expiredProsecutorAssignments(final ProsecutorAssignment... prosecutorAssignments) {
+        return Envelope.envelopeFrom(metadataBuilder().withId(randomUUID()).withName(DEFENCE_QUERY_EXPIRED_PROSECUTOR_ASSIGNMENTS),
+                ExpiredProsecutorAssignments.expiredProsecutorAssignments().withProsecutorAssignments(asList(prosecutorAssignments)).build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package uk.gov.moj.cpp.defence.event.service;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProsecutionCaseCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private ProsecutionCaseCache prosecutionCaseCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        prosecutionCaseCache = new ProsecutionCaseCache();
+        prosecutionCaseCache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldFetchCaseOnceWithinTimeToLive() {
+        final UUID caseId = randomUUID();
+
+        assertThat(prosecutionCaseCache.get(caseId, this::load).getInt("load"), is(1));
+        assertThat(prosecutionCaseCache.get(caseId, this::load).getInt("load"), is(1));
+
+        assertThat(loads.get(), is(1));
+        assertThat(prosecutionCaseCache.getHitCount(), is(1L));
+        assertThat(prosecutionCaseCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldFetchCaseAgainOnceEntryHasExpired() {
+        final UUID caseId = randomUUID();
+
+        prosecutionCaseCache.get(caseId, this::load);
+        prosecutionCaseCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+
+        assertThat(prosecutionCaseCache.get(caseId, this::load).getInt("load"), is(2));
+    }
+
+    @Test
+    public void shouldNotCacheMissingCase() {
+        final UUID caseId = randomUUID();
+
+        assertThat(prosecutionCaseCache.get(caseId, () -> null), is(nullValue()));
+        assertThat(prosecutionCaseCache.get(caseId, this::load).getInt("load"), is(1));
+    }
+
+    private JsonObject load() {
+        return createObjectBuilder().add("load", loads.incrementAndGet()).build();
+    }
+}
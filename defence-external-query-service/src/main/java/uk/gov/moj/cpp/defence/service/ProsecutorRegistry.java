@@ -0,0 +1,166 @@
+package uk.gov.moj.cpp.defence.service;
+
+import static java.lang.Long.parseLong;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.defence.refdata.ProsecutorDetails;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory copy of the reference data prosecutors list, indexed by id.
+ * The list is loaded on first use and reloaded once it is older than the configured refresh
+ * interval. While a reload is in progress, or if it fails, callers keep using the previous copy.
+ * A load that fails or returns no prosecutors is retried after a short interval; until then an
+ * empty list is served on warm-up, so callers fall back to looking prosecutors up one at a time.
+ */
+@ApplicationScoped
+public class ProsecutorRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProsecutorRegistry.class);
+
+    private static final String PROSECUTORS = "prosecutors";
+    private static final String ID = "id";
+    private static final String SHORT_NAME = "shortName";
+    private static final String CPS_FLAG = "cpsFlag";
+    private static final String POLICE_FLAG = "policeFlag";
+    private static final long DEFAULT_REFRESH_MINUTES = 60L;
+    private static final long DEFAULT_RETRY_SECONDS = 30L;
+
+    private static final Prosecutors NONE = new Prosecutors(emptyMap(), emptyMap(), 0L);
+
+    @Inject
+    @Value(key = "defence.referencedata.prosecutors.refresh.minutes", defaultValue = "60")
+    private String refreshMinutesValue;
+
+    @Inject
+    @Value(key = "defence.referencedata.prosecutors.retry.seconds", defaultValue = "30")
+    private String retrySecondsValue;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Prosecutors prosecutors;
+
+    private Clock clock = Clock.systemUTC();
+
+    public Prosecutors get(final Supplier<Optional<JsonObject>> prosecutorsLoader) {
+        final Prosecutors current = prosecutors;
+        if (isNull(current)) {
+            return warmUp(prosecutorsLoader);
+        }
+        if (clock.millis() >= current.refreshAt && refreshing.compareAndSet(false, true)) {
+            try {
+                load(prosecutorsLoader, current);
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return prosecutors;
+    }
+
+    public void clear() {
+        prosecutors = null;
+    }
+
+    void setClock(final Clock clock) {
+        this.clock = clock;
+    }
+
+    private synchronized Prosecutors warmUp(final Supplier<Optional<JsonObject>> prosecutorsLoader) {
+        if (isNull(prosecutors)) {
+            load(prosecutorsLoader, NONE);
+        }
+        return prosecutors;
+    }
+
+    private void load(final Supplier<Optional<JsonObject>> prosecutorsLoader, final Prosecutors current) {
+        final long now = clock.millis();
+        try {
+            final Optional<JsonArray> prosecutorsArray = prosecutorsLoader.get()
+                    .map(response -> response.getJsonArray(PROSECUTORS));
+            if (prosecutorsArray.isPresent()) {
+                prosecutors = index(prosecutorsArray.get(), now + refreshMinutes() * 60_000L);
+                LOGGER.info("Loaded {} prosecutors from reference data", prosecutors.byId.size());
+                return;
+            }
+            LOGGER.warn("Reference data returned no prosecutors, keeping the previous list and retrying in {} seconds", retrySeconds());
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to load prosecutors from reference data, keeping the previous list and retrying in {} seconds", retrySeconds(), e);
+        }
+        prosecutors = current.refreshingAt(now + retrySeconds() * 1000L);
+    }
+
+    private static Prosecutors index(final JsonArray prosecutorsArray, final long refreshAt) {
+        final Map<UUID, JsonObject> byId = new HashMap<>();
+        final Map<UUID, ProsecutorDetails> detailsById = new HashMap<>();
+        prosecutorsArray.getValuesAs(JsonObject.class).forEach(prosecutor -> {
+            final UUID id = UUID.fromString(prosecutor.getString(ID));
+            byId.put(id, prosecutor);
+            detailsById.put(id, ProsecutorDetails.prosecutorDetails()
+                    //ProsecutorDetails.ProsecutionAuthorityId contains prosecutor id received from reference data.
+                    .withProsecutionAuthorityId(id)
+                    .withIsCps(getFlag(prosecutor, CPS_FLAG))
+                    .withIsPolice(getFlag(prosecutor, POLICE_FLAG))
+                    .withShortName(prosecutor.getString(SHORT_NAME))
+                    .build());
+        });
+        return new Prosecutors(byId, detailsById, refreshAt);
+    }
+
+    private static Boolean getFlag(final JsonObject jsonObject, final String flag) {
+        if (jsonObject.containsKey(flag)) {
+            return jsonObject.getBoolean(flag);
+        }
+        return false;
+    }
+
+    private long refreshMinutes() {
+        return isNull(refreshMinutesValue) ? DEFAULT_REFRESH_MINUTES : parseLong(refreshMinutesValue);
+    }
+
+    private long retrySeconds() {
+        return isNull(retrySecondsValue) ? DEFAULT_RETRY_SECONDS : parseLong(retrySecondsValue);
+    }
+
+    public static final class Prosecutors {
+
+        private final Map<UUID, JsonObject> byId;
+        private final Map<UUID, ProsecutorDetails> detailsById;
+        private final long refreshAt;
+
+        private Prosecutors(final Map<UUID, JsonObject> byId, final Map<UUID, ProsecutorDetails> detailsById, final long refreshAt) {
+            this.byId = unmodifiableMap(byId);
+            this.detailsById = unmodifiableMap(detailsById);
+            this.refreshAt = refreshAt;
+        }
+
+        private Prosecutors refreshingAt(final long refreshAt) {
+            return new Prosecutors(byId, detailsById, refreshAt);
+        }
+
+        public Optional<JsonObject> findById(final UUID id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        public Map<UUID, ProsecutorDetails> getProsecutorDetails() {
+            return detailsById;
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package uk.gov.moj.cpp.defence.service;
 
-import static java.util.Collections.emptyMap;
 import static java.util.Objects.isNull;
-import static java.util.UUID.fromString;
-import static java.util.stream.Collectors.toMap;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_API;
 import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
@@ -30,7 +27,6 @@ public class ReferenceDataService {
     public static final String REFERENCEDATA_QUERY_PROSECUTOR = "referencedata.query.prosecutor";
     public static final String REFERENCEDATA_QUERY_PROSECUTORS = "referencedata.query.prosecutors";
     public static final String ID = "id";
-    private static final String SHORT_NAME = "shortName";
     public static final String PROSECUTORS = "prosecutors";
     public static final String CPS_FLAG = "cpsFlag";
     public static final String POLICE_FLAG = "policeFlag";
@@ -39,9 +35,16 @@ public class ReferenceDataService {
     @ServiceComponent(COMMAND_API)
     private Requester requester;
 
+    @Inject
+    private ProsecutorRegistry prosecutorRegistry;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataService.class);
 
     public Optional<JsonObject> getProsecutor(final Metadata metadata, final UUID id) {
+        final Optional<JsonObject> prosecutor = prosecutorRegistry.get(() -> getProsecutors(metadata)).findById(id);
+        if (prosecutor.isPresent()) {
+            return prosecutor;
+        }
 
         LOGGER.info(" Calling {} to get prosecutors for {} ", REFERENCEDATA_QUERY_PROSECUTOR, id);
 
@@ -72,33 +75,7 @@ public class ReferenceDataService {
     }
 
     public Map<UUID, ProsecutorDetails> getProsecutorsAsMap(final Metadata metadata) {
-        final Optional<JsonObject> prosecutorJsonObjectOptional = getProsecutors(metadata);
-
-        return prosecutorJsonObjectOptional.map(responseJsonObject -> responseJsonObject.getJsonArray(PROSECUTORS).stream()
-                .map(JsonObject.class::cast)
-                .map(jsonObject -> ProsecutorDetails.prosecutorDetails()
-                        //ProsecutorDetails.ProsecutionAuthorityId contains prosecutor id received from reference data.
-                        .withProsecutionAuthorityId(fromString(jsonObject.getString(ID)))
-                        .withIsCps(getIsCpsFlag(jsonObject))
-                        .withIsPolice(getIsPoliceFlag(jsonObject))
-                        .withShortName(jsonObject.getString(SHORT_NAME))
-                        .build())
-                .collect(toMap(ProsecutorDetails::getProsecutionAuthorityId, prosecutorDetails -> prosecutorDetails))).orElse(emptyMap());
-
-    }
-
-    private Boolean getIsCpsFlag(final JsonObject jsonObject) {
-        if (jsonObject.containsKey(CPS_FLAG)) {
-            return jsonObject.getBoolean(CPS_FLAG);
-        }
-        return false;
-    }
-
-    private Boolean getIsPoliceFlag(final JsonObject jsonObject) {
-        if (jsonObject.containsKey(POLICE_FLAG)) {
-            return jsonObject.getBoolean(POLICE_FLAG);
-        }
-        return false;
+        return prosecutorRegistry.get(() -> getProsecutors(metadata)).getProsecutorDetails();
     }
 
 }
\ No newline at end of file
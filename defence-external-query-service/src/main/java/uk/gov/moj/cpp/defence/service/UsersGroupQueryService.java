@@ -4,6 +4,8 @@ package uk.gov.moj.cpp.defence.service;
 import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.hasGroupWith;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toOrganisationId;
 
 import uk.gov.justice.services.core.annotation.Component;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
@@ -14,7 +16,6 @@ import uk.gov.justice.services.messaging.Metadata;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.json.JsonObject;
@@ -35,7 +36,7 @@ public class UsersGroupQueryService {
         final Metadata metadataWithActionName = metadataFrom(metadata).withName("usersgroups.get-organisation-details-for-user").build();
         final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithActionName, getOrganisationForUserRequest);
         final Envelope<JsonObject> response = requester.requestAsAdmin(requestEnvelope, JsonObject.class);
-        return response.payload().getString("organisationId");
+        return toOrganisationId(response.payload());
     }
 
     public JsonObject getUserGroups(final Metadata metadata, final UUID userId) {
@@ -69,16 +70,10 @@ public class UsersGroupQueryService {
     }
 
     public Boolean isNonCpsUserGroup(final JsonObject userGroups, final String groupName) {
-        final Stream<JsonObject> stream = userGroups.getJsonArray(GROUPS).getValuesAs(JsonObject.class).stream();
-        return stream
-                .filter(usergroup -> usergroup.containsKey(GROUP_NAME))
-                .anyMatch(usergroup -> groupName.equals(usergroup.getString(GROUP_NAME)));
+        return hasGroupWith(userGroups, GROUP_NAME, groupName);
     }
 
     public Boolean isNonCpsProsecutors(final JsonObject userGroups, final String shortName) {
-        final Stream<JsonObject> stream = userGroups.getJsonArray(GROUPS).getValuesAs(JsonObject.class).stream();
-        return stream
-                .filter(usergroup -> usergroup.containsKey(PROSECUTING_AUTHORITY))
-                .anyMatch(usergroup -> shortName.equals(usergroup.getString(PROSECUTING_AUTHORITY)));
+        return hasGroupWith(userGroups, PROSECUTING_AUTHORITY, shortName);
     }
 }
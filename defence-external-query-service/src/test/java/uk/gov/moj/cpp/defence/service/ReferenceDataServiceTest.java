@@ -6,6 +6,8 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUIDAndName;
@@ -16,6 +18,10 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.refdata.ProsecutorDetails;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,12 +33,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class ReferenceDataServiceTest {
     @Mock
     private Requester requester;
+    @Spy
+    private ProsecutorRegistry prosecutorRegistry = new ProsecutorRegistry();
     @InjectMocks
     private ReferenceDataService referenceDataService;
 
@@ -68,6 +77,81 @@ public class ReferenceDataServiceTest {
         assertThat(prosecutor.get().getString("id"), is(prosecutorId.toString()));
     }
 
+    @Test
+    public void shouldServeProsecutorFromRegistryOnceWarmedUp() {
+        final UUID prosecutorId = fromString("1c2a2913-8908-33fb-8833-0b6198fa9dc2");
+
+        final JsonObject allProsecutorsJsonResponse = readJson("all-prosecutors.json", JsonObject.class);
+        final Metadata metadata = metadataWithRandomUUIDAndName().build();
+
+        when(requester.requestAsAdmin(any(), any())).thenReturn(envelopeFrom(metadataWithRandomUUIDAndName(), allProsecutorsJsonResponse));
+
+        referenceDataService.getProsecutorsAsMap(metadata);
+        final Optional<JsonObject> prosecutor = referenceDataService.getProsecutor(metadata, prosecutorId);
+
+        assertThat(prosecutor.get().getString("id"), is(prosecutorId.toString()));
+        verify(requester, times(1)).requestAsAdmin(any(), any());
+    }
+
+    @Test
+    public void shouldReloadProsecutorsOnceRefreshIntervalHasPassed() {
+        final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+        final JsonObject allProsecutorsJsonResponse = readJson("all-prosecutors.json", JsonObject.class);
+        final Metadata metadata = metadataWithRandomUUIDAndName().build();
+
+        when(requester.requestAsAdmin(any(), any())).thenReturn(envelopeFrom(metadataWithRandomUUIDAndName(), allProsecutorsJsonResponse));
+
+        prosecutorRegistry.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        referenceDataService.getProsecutorsAsMap(metadata);
+        referenceDataService.getProsecutorsAsMap(metadata);
+        verify(requester, times(1)).requestAsAdmin(any(), any());
+
+        prosecutorRegistry.setClock(Clock.fixed(now.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+        final Map<UUID, ProsecutorDetails> prosecutorsMap = referenceDataService.getProsecutorsAsMap(metadata);
+
+        assertThat(prosecutorsMap.size(), is(108));
+        verify(requester, times(2)).requestAsAdmin(any(), any());
+    }
+
+    @Test
+    public void shouldFallBackToSingleProsecutorLookupWhenProsecutorsCannotBeLoaded() {
+        final UUID prosecutorId = fromString("1c2a2913-8908-33fb-8833-0b6198fa9dc2");
+
+        final JsonObject prosecutorJsonResponse = readJson("prosecutor.json", JsonObject.class);
+        final Metadata metadata = metadataWithRandomUUIDAndName().build();
+
+        when(requester.requestAsAdmin(any(), any()))
+                .thenThrow(new IllegalStateException("reference data unavailable"))
+                .thenReturn(envelopeFrom(metadataWithRandomUUIDAndName(), prosecutorJsonResponse));
+
+        final Optional<JsonObject> prosecutor = referenceDataService.getProsecutor(metadata, prosecutorId);
+
+        assertThat(prosecutor.get().getString("id"), is(prosecutorId.toString()));
+        verify(requester, times(2)).requestAsAdmin(any(), any());
+    }
+
+    @Test
+    public void shouldRetryLoadingProsecutorsShortlyAfterAFailedWarmUp() {
+        final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+        final JsonObject allProsecutorsJsonResponse = readJson("all-prosecutors.json", JsonObject.class);
+        final Metadata metadata = metadataWithRandomUUIDAndName().build();
+
+        when(requester.requestAsAdmin(any(), any()))
+                .thenThrow(new IllegalStateException("reference data unavailable"))
+                .thenReturn(envelopeFrom(metadataWithRandomUUIDAndName(), allProsecutorsJsonResponse));
+
+        prosecutorRegistry.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        assertThat(referenceDataService.getProsecutorsAsMap(metadata).isEmpty(), is(true));
+        assertThat(referenceDataService.getProsecutorsAsMap(metadata).isEmpty(), is(true));
+        verify(requester, times(1)).requestAsAdmin(any(), any());
+
+        prosecutorRegistry.setClock(Clock.fixed(now.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+        final Map<UUID, ProsecutorDetails> prosecutorsMap = referenceDataService.getProsecutorsAsMap(metadata);
+
+        assertThat(prosecutorsMap.size(), is(108));
+        verify(requester, times(2)).requestAsAdmin(any(), any());
+    }
+
     public static <T> T readJson(final String jsonPath, final Class<T> clazz) {
         try {
             final ObjectMapper OBJECT_MAPPER = new ObjectMapperProducer().objectMapper();
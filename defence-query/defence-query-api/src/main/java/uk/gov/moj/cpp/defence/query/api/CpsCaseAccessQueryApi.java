@@ -4,17 +4,14 @@ import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
 import static java.util.Optional.ofNullable;
 import static java.util.UUID.fromString;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.BooleanUtils.toBoolean;
-import static uk.gov.justice.cps.defence.IsAdvocateDefendingOrProsecuting.DEFENDING;
-import static uk.gov.justice.cps.defence.IsAdvocateDefendingOrProsecuting.PROSECUTING;
-import static uk.gov.justice.services.core.enveloper.Enveloper.envelop;
 import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
-import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
@@ -23,17 +20,11 @@ import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRES
 import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_2;
 import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_3;
 import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_4;
-import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_LINE_1;
-import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_LINE_2;
-import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_LINE_3;
-import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_LINE_4;
 import static uk.gov.moj.cpp.defence.query.api.DefenceAssociationQueryApi.ADDRESS_POSTCODE;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY;
 
-import uk.gov.justice.cps.defence.CaseAdvocateAccess;
 import uk.gov.justice.cps.defence.ExpiredProsecutorAssignments;
 import uk.gov.justice.cps.defence.ExpiredProsecutorOrganisationAssignments;
-import uk.gov.justice.cps.defence.IsAdvocateDefendingOrProsecuting;
 import uk.gov.justice.cps.defence.Prosecutioncase;
 import uk.gov.justice.cps.defence.SearchCaseByUrn;
 import uk.gov.justice.cps.defence.caag.CaseDetails;
@@ -47,6 +38,7 @@ import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.defence.Address;
 import uk.gov.moj.cpp.defence.query.api.hearing.AssignedProsecutor;
 import uk.gov.moj.cpp.defence.query.api.hearing.CourtRoom;
 import uk.gov.moj.cpp.defence.query.api.hearing.Defendant;
@@ -54,8 +46,10 @@ import uk.gov.moj.cpp.defence.query.api.hearing.ProsecutionCase;
 import uk.gov.moj.cpp.defence.query.api.service.UsersAndGroupsService;
 import uk.gov.moj.cpp.defence.query.hearing.api.HearingSummary;
 import uk.gov.moj.cpp.defence.query.hearing.api.ProsecutionCaseSummary;
+import uk.gov.moj.cpp.defence.query.view.AdvocateCaseAuthorisation;
 import uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView;
 import uk.gov.moj.cpp.defence.query.view.DefenceQueryService;
+import uk.gov.moj.cpp.defence.query.view.ProsecutionCaseAssigneeVO;
 import uk.gov.moj.cpp.defence.refdata.ProsecutorDetails;
 import uk.gov.moj.cpp.defence.service.ProgressionService;
 import uk.gov.moj.cpp.defence.service.ReferenceDataService;
@@ -146,11 +140,12 @@ public class CpsCaseAccessQueryApi {
 
     @Handles("defence.query.prosecutioncase-defence-caag")
     public Envelope<ProsecutioncaseCaag> queryProsecutioncaseDefenceCaag(final Envelope<SearchCaseByUrn> request) {
-        if (isNotInDefenceRole(request)) {
+        final AdvocateCaseAuthorisation authorisation = cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(request);
+        if (authorisation.isNotInDefenceRole()) {
             throw new ForbiddenRequestException("User has no permission for defence view!");
         }
 
-        final Envelope<ProsecutioncaseCaag> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseDefenceCaag(request);
+        final Envelope<ProsecutioncaseCaag> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseDefenceCaag(request, authorisation);
         final ProsecutioncaseCaag prosecutioncaseCaag = removeUnAuthorisedDataForDefence(responseEnvelop.payload());
 
         return envelopeFrom(
@@ -161,11 +156,12 @@ public class CpsCaseAccessQueryApi {
 
     @Handles("advocate.query.prosecutioncase-defence")
     public Envelope<Prosecutioncase> queryProsecutioncaseDefence(final Envelope<SearchCaseByUrn> request) throws IOException {
-        if (isNotInDefenceRoleByCaseId(request)) {
+        final AdvocateCaseAuthorisation authorisation = cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseId(request);
+        if (authorisation.isNotInDefenceRole()) {
             throw new ForbiddenRequestException("User has no permission for defence view!");
         }
 
-        final Envelope<Prosecutioncase> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseDefence(request);
+        final Envelope<Prosecutioncase> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseDefence(request, authorisation);
         final Prosecutioncase prosecutioncase = removeUnAuthorisedDataForDefence(responseEnvelop.payload());
 
         return envelopeFrom(
@@ -177,7 +173,7 @@ public class CpsCaseAccessQueryApi {
 
     @Handles("advocate.query.prosecutioncase-prosecutor")
     public Envelope<Prosecutioncase> queryProsecutioncaseProsecutor(final Envelope<SearchCaseByUrn> request) throws IOException {
-        if (isNotInAdvocateRoleByCaseId(request)) {
+        if (cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseId(request).isNotInAdvocateRole()) {
             throw new ForbiddenRequestException(USER_HAS_NO_PERMISSION_FOR_PROSECUTOR_VIEW);
         }
         final Envelope<Prosecutioncase> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseProsecutor(request);
@@ -196,7 +192,7 @@ public class CpsCaseAccessQueryApi {
         final UUID prosecutorId = progressionService.getProsecutorOrProsecutionCaseAuthorityID(request.metadata(), caseId);
         final Optional<JsonObject> prosecutorJsonObjectOptional = referenceDataService.getProsecutor(request.metadata(), prosecutorId);
         final Boolean isNonCpsProsecutor = usersGroupQueryService.validateNonCPSUser(request.metadata(), userId, NON_CPS_PROSECUTORS, prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
-        if (isNotInAdvocateRole(request) && !isNonCpsProsecutor) {
+        if (cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(request).isNotInAdvocateRole() && !isNonCpsProsecutor) {
             throw new ForbiddenRequestException(USER_HAS_NO_PERMISSION_FOR_PROSECUTOR_VIEW);
         }
         final Envelope<ProsecutioncaseCaag> responseEnvelop = cpsCaseAccessQueryView.queryProsecutioncaseProsecutorCaag(request);
@@ -236,7 +232,7 @@ public class CpsCaseAccessQueryApi {
                 .collect(toList());
 
         final Hearings responseHearings = Hearings.hearings()
-                .withCourtRooms(getCourtRooms(query.metadata(), distinctCourtRoomIds, hearings))
+                .withCourtRooms(getCourtRooms(distinctCourtRoomIds, hearings))
                 .build();
 
         if (isEmpty(responseHearings.getCourtRooms())) {
@@ -296,7 +292,9 @@ public class CpsCaseAccessQueryApi {
                 .collect(toList());
     }
 
-    private List<CourtRoom> getCourtRooms(final Metadata metadata, final List<UUID> distinctCourtRoomIds, final uk.gov.moj.cpp.defence.query.hearing.api.Hearings hearings) {
+    private List<CourtRoom> getCourtRooms(final List<UUID> distinctCourtRoomIds, final uk.gov.moj.cpp.defence.query.hearing.api.Hearings hearings) {
+
+        final Map<UUID, List<ProsecutionCaseAssigneeVO>> assigneesByCaseId = cpsCaseAccessQueryView.getAssignedUsersToTheCases(getCaseIdsAsList(hearings.getHearingSummaries()));
 
         final List<CourtRoom> courtRooms = distinctCourtRoomIds.stream()
                 .map(courtRoomId -> hearings.getHearingSummaries().stream()
@@ -305,7 +303,7 @@ public class CpsCaseAccessQueryApi {
                         .map(hearingSummary -> CourtRoom.courtRoom()
                                 .withId(hearingSummary.getCourtCentre().getRoomId())
                                 .withName(hearingSummary.getCourtCentre().getRoomName())
-                                .withProsecutionCases(getProsecutionCases(metadata, hearingSummary))
+                                .withProsecutionCases(getProsecutionCases(hearingSummary, assigneesByCaseId))
                                 .build())
                         .collect(toList())).flatMap(Collection::stream).collect(toList());
 
@@ -331,7 +329,7 @@ public class CpsCaseAccessQueryApi {
                 .collect(toList());
     }
 
-    private List<ProsecutionCase> getProsecutionCases(final Metadata metadata, final HearingSummary hearingSummary) {
+    private List<ProsecutionCase> getProsecutionCases(final HearingSummary hearingSummary, final Map<UUID, List<ProsecutionCaseAssigneeVO>> assigneesByCaseId) {
         return hearingSummary.getProsecutionCaseSummaries().stream()
                 .map(prosecutionCaseSummary -> ProsecutionCase.prosecutionCase()
                         .withHearingId(hearingSummary.getId())
@@ -341,30 +339,23 @@ public class CpsCaseAccessQueryApi {
                                         ? prosecutionCaseSummary.getProsecutionCaseIdentifier().getCaseURN()
                                         : prosecutionCaseSummary.getProsecutionCaseIdentifier().getProsecutionAuthorityReference())
                         .withDefendants(getDefendants(prosecutionCaseSummary.getDefendants()))
-                        .withAssignedProsecutors(getAssignedProsecutors(metadata, prosecutionCaseSummary.getId()))
+                        .withAssignedProsecutors(getAssignedProsecutors(assigneesByCaseId.get(prosecutionCaseSummary.getId())))
                         .build())
                 .collect(toList());
 
     }
 
     @SuppressWarnings("squid:S1168")
-    private List<AssignedProsecutor> getAssignedProsecutors(final Metadata metadata, final UUID caseId) {
-
-        final JsonEnvelope queryEnvelope = envelopeFrom(metadataFrom(metadata)
-                        .withName("defence.query.case-cps-assignees"),
-                createObjectBuilder().
-                        add("caseId", caseId.toString()).build());
-        final JsonObject payload = cpsCaseAccessQueryView.getAssignedUsersToTheCase(queryEnvelope).payloadAsJsonObject();
-        final CaseAdvocateAccess caseAdvocateAccess = this.jsonObjectToObjectConverter.convert(payload, CaseAdvocateAccess.class);
+    private List<AssignedProsecutor> getAssignedProsecutors(final List<ProsecutionCaseAssigneeVO> assignees) {
 
-        if (isNull(caseAdvocateAccess) || isEmpty(caseAdvocateAccess.getAssignees())) {
+        if (isEmpty(assignees)) {
             return null;
         }
 
-        return caseAdvocateAccess.getAssignees().stream()
-                .map(assignees -> AssignedProsecutor.assignedProsecutor()
-                        .withId(assignees.getAssigneeUserId())
-                        .withFullName(assignees.getAssigneeName())
+        return assignees.stream()
+                .map(assignee -> AssignedProsecutor.assignedProsecutor()
+                        .withId(assignee.getAssigneeUserId())
+                        .withFullName(assignee.getAssigneeName())
                         .build())
                 .collect(toList());
 
@@ -392,58 +383,6 @@ public class CpsCaseAccessQueryApi {
         );
     }
 
-    private boolean isNotInAdvocateRole(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCaseJsonObject = queryRoleInCase(request);
-        return isNotInAdvocateRole(roleInCaseJsonObject);
-    }
-
-    private boolean isNotInAdvocateRoleByCaseId(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCaseJsonObject = queryRoleInCaseByCaseId(request);
-        return isNotInAdvocateRole(roleInCaseJsonObject);
-    }
-
-    private boolean isNotInAdvocateRole(final JsonObject roleInCaseJsonObject) {
-        return !roleInCaseJsonObject.containsKey(IS_ADVOCATE_DEFENDING_OR_PROSECUTING) || DEFENDING == IsAdvocateDefendingOrProsecuting.valueFor(roleInCaseJsonObject.getJsonString(IS_ADVOCATE_DEFENDING_OR_PROSECUTING).getString()).orElse(null);
-    }
-
-    private boolean isNotInDefenceRole(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCaseJsonObject = queryRoleInCase(request);
-        return isNotInDefenceRole(roleInCaseJsonObject);
-    }
-
-
-    private boolean isNotInDefenceRoleByCaseId(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCaseJsonObject = queryRoleInCaseByCaseId(request);
-        return isNotInDefenceRole(roleInCaseJsonObject);
-    }
-
-    private boolean isNotInDefenceRole(final JsonObject roleInCaseJsonObject) {
-        return !roleInCaseJsonObject.containsKey(IS_ADVOCATE_DEFENDING_OR_PROSECUTING) || PROSECUTING == IsAdvocateDefendingOrProsecuting.valueFor(roleInCaseJsonObject.getJsonString(IS_ADVOCATE_DEFENDING_OR_PROSECUTING).getString()).orElse(null);
-    }
-
-    private JsonObject queryRoleInCase(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCasePayload = createObjectBuilder()
-                .add("caseUrn", request.payload().getCaseUrn())
-                .build();
-        final Envelope<JsonObject> requestEnvelope = envelop(roleInCasePayload)
-                .withName("advocate.query.role-in-case").withMetadataFrom(request);
-
-        return cpsCaseAccessQueryView.findAdvocatesRoleInCase(envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload())).payloadAsJsonObject();
-
-    }
-
-    private JsonObject queryRoleInCaseByCaseId(final Envelope<SearchCaseByUrn> request) {
-        final JsonObject roleInCasePayload = createObjectBuilder()
-                .add("caseId", request.payload().getCaseId().toString())
-                .build();
-        final Envelope<JsonObject> requestEnvelope = envelop(roleInCasePayload)
-                .withName("advocate.query.role-in-case-by-caseid").withMetadataFrom(request);
-        final JsonEnvelope roleInCaseRequestEnvelope = JsonEnvelope.envelopeFrom(requestEnvelope.metadata(), requestEnvelope.payload());
-        final JsonEnvelope response = cpsCaseAccessQueryView.findAdvocatesRoleInCaseByCaseId(roleInCaseRequestEnvelope);
-        return response.payloadAsJsonObject();
-
-    }
-
     private ProsecutioncaseCaag removeUnAuthorisedDataForDefence(final ProsecutioncaseCaag prosecutioncaseCaag) {
         return ProsecutioncaseCaag.prosecutioncaseCaag()
                 .withValuesFrom(prosecutioncaseCaag)
@@ -510,28 +449,17 @@ public class CpsCaseAccessQueryApi {
     }
 
     private JsonObject getAddressJsonObject(final JsonEnvelope viewResponseEnvelope, final JsonObject jsonValue) {
-        final JsonObject organisationDetailsForUserJsonObject = usersAndGroupsService.getOrganisationDetails(viewResponseEnvelope, getOrganisationId(jsonValue));
-        String address2 = "";
-        String address3 = "";
-        if (nonNull(organisationDetailsForUserJsonObject)) {
-            if (organisationDetailsForUserJsonObject.toString().contains(ADDRESS_LINE_2)) {
-                address2 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_2);
-            }
-            if (organisationDetailsForUserJsonObject.toString().contains(ADDRESS_LINE_3)) {
-                address3 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_3);
-            }
-            return createObjectBuilder()
-                    .add(ADDRESS_1, organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_1))
-                    .add(ADDRESS_2, address2)
-                    .add(ADDRESS_3, address3)
-                    .add(ADDRESS_4, organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_4))
-                    .add(ADDRESS_POSTCODE, organisationDetailsForUserJsonObject.getString(ADDRESS_POSTCODE))
-                    .build();
-        } else {
+        final Address address = usersAndGroupsService.getOrganisationAddress(viewResponseEnvelope, getOrganisationId(jsonValue));
+        if (isNull(address)) {
             return null;
         }
-
-
+        return createObjectBuilder()
+                .add(ADDRESS_1, address.getAddress1())
+                .add(ADDRESS_2, requireNonNullElse(address.getAddress2(), ""))
+                .add(ADDRESS_3, requireNonNullElse(address.getAddress3(), ""))
+                .add(ADDRESS_4, address.getAddress4())
+                .add(ADDRESS_POSTCODE, address.getAddressPostcode())
+                .build();
     }
 
     private UUID getOrganisationId(final JsonObject jsonValue) {
@@ -138,15 +138,9 @@ public class DefenceAssociationQueryApi {
         String address3 = "";
         String email = "";
         if (nonNull(organisationDetailsForUserJsonObject)) {
-            if (organisationDetailsForUserJsonObject.toString().contains(ADDRESS_LINE_2)) {
-                address2 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_2);
-            }
-            if (organisationDetailsForUserJsonObject.toString().contains(ADDRESS_LINE_3)) {
-                address3 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_3);
-            }
-            if (organisationDetailsForUserJsonObject.toString().contains(EMAIL)) {
-                email = organisationDetailsForUserJsonObject.getString(EMAIL);
-            }
+            address2 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_2, address2);
+            address3 = organisationDetailsForUserJsonObject.getString(ADDRESS_LINE_3, address3);
+            email = organisationDetailsForUserJsonObject.getString(EMAIL, email);
         }
         if (nonNull(organisationDetailsForUserJsonObject)) {
             final JsonObjectBuilder objectBuilder = createObjectBuilder()
@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.defence.query.api;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
@@ -55,11 +56,12 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -283,13 +285,14 @@ public class DefenceQueryApi {
         }
 
         final String defendantId = responsePayload.getString(DEFENCE_CLIENT_ID);
-        final JsonObject associatedOrganisationJsonObject = getAssociatedOrganisation(response);
-
 
         checkIfUserAuthorisedToViewClientInfo(defendantId, response.metadata());
 
+        final Map<String, String> organisationNames = getOrganisationNames(response);
+        final JsonObject associatedOrganisationJsonObject = getAssociatedOrganisation(response, organisationNames);
+
         //populate last associated organisation details if present
-        final JsonObject lastAssociatedOrganisation = getLastAssociatedOrganisation(response);
+        final JsonObject lastAssociatedOrganisation = getLastAssociatedOrganisation(response, organisationNames);
         final String actualDefendantId = responsePayload.getString(DEFENDANT_ID);
         final UUID caseId = fromString(response.payloadAsJsonObject().getString(CASE_ID));
         final Optional<JsonArray> defendants = getDefendants(response, caseId);
@@ -300,7 +303,7 @@ public class DefenceQueryApi {
         final String caseUrn = responsePayload.getString(CASE_URN);
 
         //populate idpc access organisation details if present and return final response
-        return createResponseWithIdpcAccessOrganisation(response, associatedOrganisationJsonObject, lastAssociatedOrganisation, associatedPersons, caseUrn, isCivil);
+        return createResponseWithIdpcAccessOrganisation(response, associatedOrganisationJsonObject, lastAssociatedOrganisation, associatedPersons, caseUrn, isCivil, organisationNames);
     }
 
     @Handles("defence.query.defendant-idpc-metadata")
@@ -493,7 +496,30 @@ public class DefenceQueryApi {
         return builder.build();
     }
 
-    private JsonObject getAssociatedOrganisation(final JsonEnvelope response) {
+    /**
+     * Resolves the names of every organisation referenced by the client (associated, last associated, IDPC
+     * accessing and instructing) in a single users-groups call.
+     */
+    private Map<String, String> getOrganisationNames(final JsonEnvelope response) {
+        final JsonObject responsePayload = response.payloadAsJsonObject();
+        final Set<String> orgIdsToLookup = new LinkedHashSet<>();
+        getOrganisationId(responsePayload.getJsonObject(ASSOCIATED_ORGANISATION)).ifPresent(orgIdsToLookup::add);
+        getOrganisationId(responsePayload.getJsonObject(LAST_ASSOCIATED_ORGANISATION)).ifPresent(orgIdsToLookup::add);
+        orgIdsToLookup.addAll(getOrgIdsToLookUp(responsePayload.getJsonArray(IDPC_ACCESSING_ORGANISATIONS)));
+        orgIdsToLookup.addAll(getOrgIdsToLookUp(responsePayload.getJsonArray(INSTRUCTING_ORGANISATIONS)));
+
+        if (orgIdsToLookup.isEmpty()) {
+            return emptyMap();
+        }
+        return getOrganisationNamesForOrganisationIds(response.metadata(), new ArrayList<>(orgIdsToLookup)).stream()
+                .collect(Collectors.toMap(OrganisationNameVO::getOrganisationId, OrganisationNameVO::getOrganisationName, (first, second) -> first));
+    }
+
+    private Optional<String> getOrganisationId(final JsonObject associatedOrganisation) {
+        return associatedOrganisationExists(associatedOrganisation) ? Optional.of(associatedOrganisation.getString(ORGANISATION_ID)) : Optional.empty();
+    }
+
+    private JsonObject getAssociatedOrganisation(final JsonEnvelope response, final Map<String, String> organisationNames) {
         final JsonObject responsePayload = response.payloadAsJsonObject();
         final JsonObject associatedOrganisation = responsePayload.getJsonObject(ASSOCIATED_ORGANISATION);
         final JsonObjectBuilder associatedOrganisationJsonObjectBuilder = createObjectBuilder();
@@ -501,30 +527,22 @@ public class DefenceQueryApi {
         if (associatedOrganisationExists(associatedOrganisation)) {
             final String associatedOrganisationId = associatedOrganisation.getString(ORGANISATION_ID);
             associatedOrganisationJsonObjectBuilder.add(ORGANISATION_ID, associatedOrganisationId);
-            associatedOrganisationJsonObjectBuilder.add(ORGANISATION_NAME, getAssociatedOrganisationName(response.metadata(), associatedOrganisationId));
+            associatedOrganisationJsonObjectBuilder.add(ORGANISATION_NAME, organisationNames.getOrDefault(associatedOrganisationId, ""));
         }
         return associatedOrganisationJsonObjectBuilder.build();
     }
 
-    private String getAssociatedOrganisationName(final Metadata metadata, String associatedOrganisationId) {
-        final List<String> ids = new ArrayList<>();
-        ids.add(associatedOrganisationId);
-        final List<OrganisationNameVO> organisationNamesForOrganisationIds = getOrganisationNamesForOrganisationIds(metadata, ids);
-        return !organisationNamesForOrganisationIds.isEmpty() ? organisationNamesForOrganisationIds.get(0).getOrganisationName() : "";
-    }
-
     private boolean associatedOrganisationExists(JsonObject associatedOrganisation) {
         return (associatedOrganisation != null && associatedOrganisation.size() > 0 && associatedOrganisation.getString(ORGANISATION_ID) != null);
     }
 
-    private JsonObject getLastAssociatedOrganisation(final JsonEnvelope response) {
+    private JsonObject getLastAssociatedOrganisation(final JsonEnvelope response, final Map<String, String> organisationNames) {
         final JsonObject responsePayload = response.payloadAsJsonObject();
         final JsonObjectBuilder associatedOrganisationJsonObjectBuilder = createObjectBuilder();
         final JsonObject lastAssociatedOrganisation = responsePayload.getJsonObject(LAST_ASSOCIATED_ORGANISATION);
         if (associatedOrganisationExists(lastAssociatedOrganisation)) {
             final String lastAssociatedOrganisationId = lastAssociatedOrganisation.getString(ORGANISATION_ID);
-            final List<OrganisationNameVO> organisationNamesForIds = organisationQueryService.getOrganisationNamesForIds(Collections.singletonList(lastAssociatedOrganisationId), response.metadata());
-            final String lastOrganisationName = organisationNamesForIds.isEmpty() ? "" : organisationNamesForIds.get(0).getOrganisationName();
+            final String lastOrganisationName = organisationNames.getOrDefault(lastAssociatedOrganisationId, "");
             associatedOrganisationJsonObjectBuilder.add(ORGANISATION_ID, lastAssociatedOrganisationId);
             associatedOrganisationJsonObjectBuilder.add(ORGANISATION_NAME, lastOrganisationName);
         }
@@ -532,7 +550,8 @@ public class DefenceQueryApi {
     }
 
     private JsonEnvelope createResponseWithIdpcAccessOrganisation(final JsonEnvelope response, final JsonObject associatedOrganisation, final JsonObject lastAssociatedOrganisation,
-                                                                  final Optional<JsonArray> associatedPersons, final String caseUrn, final boolean isCivil) {
+                                                                  final Optional<JsonArray> associatedPersons, final String caseUrn, final boolean isCivil,
+                                                                  final Map<String, String> organisationNames) {
 
         final JsonObject responsePayload = response.payloadAsJsonObject();
         final JsonArrayBuilder associatedPersonsArray = createArrayBuilder();
@@ -550,14 +569,8 @@ public class DefenceQueryApi {
         }
 
         final JsonArray idpcAccessingOrganisations = responsePayload.getJsonArray(IDPC_ACCESSING_ORGANISATIONS);
-        final ArrayList<String> orgIdsToLookup = getOrgIdsToLookUp(idpcAccessingOrganisations);
-        if (!orgIdsToLookup.isEmpty()) {
-            final List<OrderedOrganisationDetailsVO> orderedOrganisationDetailsVO = getOrgDetailsWithOrgNames(response.metadata(), idpcAccessingOrganisations, orgIdsToLookup);
-            jsonObjectBuilder.add(IDPC_ACCESSING_ORGANISATIONS, buildOrgList(orderedOrganisationDetailsVO));
-        } else {
-            jsonObjectBuilder.add(IDPC_ACCESSING_ORGANISATIONS, createArrayBuilder().build());
-        }
-        jsonObjectBuilder.add(INSTRUCTING_ORGANISATIONS, prepareInstructionHistory(response));
+        jsonObjectBuilder.add(IDPC_ACCESSING_ORGANISATIONS, buildOrgList(getOrgDetailsWithOrgNames(idpcAccessingOrganisations, organisationNames)));
+        jsonObjectBuilder.add(INSTRUCTING_ORGANISATIONS, prepareInstructionHistory(response, organisationNames));
 
         final Optional<JsonObject> prosecutor = getProsecutor(responsePayload.getString(CASE_ID), response);
         prosecutor.ifPresent(jsonObject -> jsonObjectBuilder.add(PROSECUTOR, jsonObject));
@@ -573,16 +586,10 @@ public class DefenceQueryApi {
         return prosecutionCaseDetailById.map(jsonObject -> jsonObject.getJsonObject(PROSECUTION_CASE).getJsonObject(PROSECUTOR));
     }
 
-    private JsonArray prepareInstructionHistory(final JsonEnvelope response) {
+    private JsonArray prepareInstructionHistory(final JsonEnvelope response, final Map<String, String> organisationNames) {
         final JsonObject responsePayload = response.payloadAsJsonObject();
         final JsonArray instructingOrganisation = responsePayload.getJsonArray(INSTRUCTING_ORGANISATIONS);
-        final ArrayList<String> orgIdsToLookup = getOrgIdsToLookUp(instructingOrganisation);
-        if (!orgIdsToLookup.isEmpty()) {
-            final List<DefenceClientInstructionHistoryVO> instructingOrgDetailsWithOrgNames = getInstructingOrgDetailsWithOrgNames(response.metadata(), instructingOrganisation, orgIdsToLookup);
-            return buildInstructingOrgList(instructingOrgDetailsWithOrgNames);
-        } else {
-            return createArrayBuilder().build();
-        }
+        return buildInstructingOrgList(getInstructingOrgDetailsList(instructingOrganisation, organisationNames));
     }
 
     private JsonArray buildInstructingOrgList(List<DefenceClientInstructionHistoryVO> instructingOrganisations) {
@@ -614,27 +621,17 @@ public class DefenceQueryApi {
         return jsonArrayBuilder.build();
     }
 
-    private List<OrderedOrganisationDetailsVO> getOrgDetailsWithOrgNames(final Metadata metadata, final JsonArray idpcAccessingOrganisations, final ArrayList<String> orgIdsToLookup) {
-        final List<OrganisationNameVO> organisationNameVOS = getOrganisationNamesForOrganisationIds(metadata, orgIdsToLookup);
-        return organisationNameVOS.stream().map(i -> mapNameToOrganisation(i, getOrgDetailsList(idpcAccessingOrganisations))).toList();
-    }
-
-    private List<DefenceClientInstructionHistoryVO> getInstructingOrgDetailsWithOrgNames(final Metadata metadata, final JsonArray instructingOrganisation, final ArrayList<String> orgIdsToLookup) {
-        final List<OrganisationNameVO> organisationNameVOS = getOrganisationNamesForOrganisationIds(metadata, orgIdsToLookup);
-        final Map<String, String> organisationNames = organisationNameVOS.stream().collect(Collectors.toMap(OrganisationNameVO::getOrganisationId, OrganisationNameVO::getOrganisationName));
-
-        return getInstructingOrgDetailsList(instructingOrganisation, organisationNames);
+    private List<OrderedOrganisationDetailsVO> getOrgDetailsWithOrgNames(final JsonArray idpcAccessingOrganisations, final Map<String, String> organisationNames) {
+        return getOrgDetailsList(idpcAccessingOrganisations).stream()
+                .filter(i -> organisationNames.containsKey(i.getOrganisationId().toString()))
+                .map(i -> new OrderedOrganisationDetailsVO(i.getOrder(), i.getOrganisationId(), organisationNames.get(i.getOrganisationId().toString())))
+                .toList();
     }
 
     private List<OrganisationNameVO> getOrganisationNamesForOrganisationIds(final Metadata metadata, final List<String> orgIdsToLookup) {
         return organisationQueryService.getOrganisationNamesForIds(orgIdsToLookup, metadata);
     }
 
-    @SuppressWarnings("squid:S3655")
-    private OrderedOrganisationDetailsVO mapNameToOrganisation(OrganisationNameVO organisationNameVO, List<OrderedOrganisationDetailsVO> idpcAccessingOrganisations) {
-        return idpcAccessingOrganisations.stream().filter(i -> i.getOrganisationId().toString().equals(organisationNameVO.getOrganisationId())).map(i -> new OrderedOrganisationDetailsVO(i.getOrder(), i.getOrganisationId(), organisationNameVO.getOrganisationName())).findFirst().get();
-    }
-
     private List<OrderedOrganisationDetailsVO> getOrgDetailsList(final JsonArray idpcAccessingOrganisations) {
         final List<OrderedOrganisationDetailsVO> idpcAccessingOrganisationList = new ArrayList<>();
         if (idpcAccessingOrganisations != null) {
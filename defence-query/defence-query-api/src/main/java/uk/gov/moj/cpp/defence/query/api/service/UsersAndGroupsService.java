@@ -1,14 +1,17 @@
 package uk.gov.moj.cpp.defence.query.api.service;
 
+import static java.util.Objects.isNull;
 import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toAddress;
 
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.enveloper.Enveloper;
 import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.defence.Address;
 
 import java.util.UUID;
 
@@ -30,9 +33,10 @@ public class UsersAndGroupsService {
         return getOrganisationDetailsFromUserGroups(envelope, organisationDetail);
     }
 
-    public JsonObject getOrganisationDetails(final JsonEnvelope envelope, final UUID organisationId) {
+    public Address getOrganisationAddress(final JsonEnvelope envelope, final UUID organisationId) {
         final JsonObject organisationDetail = createObjectBuilder().add(ORGANISATION_ID, organisationId.toString()).build();
-        return getOrganisationDetailsFromUserGroups(envelope, organisationDetail);
+        final JsonObject organisationDetails = getOrganisationDetailsFromUserGroups(envelope, organisationDetail);
+        return isNull(organisationDetails) ? null : toAddress(organisationDetails);
     }
 
     private JsonObject getOrganisationDetailsFromUserGroups(final JsonEnvelope envelope, final JsonObject organisationDetail) {
@@ -0,0 +1,140 @@
+package uk.gov.moj.cpp.defence.query.api.service;
+
+import static java.lang.Long.parseLong;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.util.Objects.isNull;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.join;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.requester.Requester;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Working days of a public-holiday division, partitioned by year. A year's public holidays are fetched
+ * from reference data the first time the year is needed and refreshed once they are older than the
+ * refresh interval (a day by default). Each year is held as a bitset of its working days, so counting
+ * working days between two dates needs no remote call. Only one caller loads a given year at a time; others
+ * wait for that load, or carry on with the stale year while it is being refreshed. A failed refresh keeps
+ * the stale year and is retried a few minutes later.
+ */
+@ApplicationScoped
+public class WorkingDayCalendar {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkingDayCalendar.class);
+
+    private static final long DEFAULT_REFRESH_HOURS = 24L;
+    private static final long RETRY_AFTER_FAILED_REFRESH_MILLIS = 300_000L;
+
+    @Inject
+    private RefDataService referenceDataService;
+
+    @Inject
+    @Value(key = "defence.public.holidays.refresh.hours", defaultValue = "24")
+    private String refreshHoursValue;
+
+    private final Map<String, WorkingDaysOfYear> years = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<WorkingDaysOfYear>> loading = new ConcurrentHashMap<>();
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Counts the working days from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public long workingDaysBetween(final String division, final LocalDate from, final LocalDate to, final Requester requester) {
+        long workingDays = 0;
+        LocalDate start = from;
+        while (start.isBefore(to)) {
+            final LocalDate startOfNextYear = LocalDate.of(start.getYear() + 1, 1, 1);
+            final int fromIndex = start.getDayOfYear() - 1;
+            final int toIndex = to.isBefore(startOfNextYear) ? to.getDayOfYear() - 1 : start.lengthOfYear();
+            workingDays += workingDaysOf(division, start.getYear(), requester).get(fromIndex, toIndex).cardinality();
+            start = startOfNextYear;
+        }
+        return workingDays;
+    }
+
+    void setClock(final Clock clock) {
+        this.clock = clock;
+    }
+
+    private BitSet workingDaysOf(final String division, final int year, final Requester requester) {
+        final String key = division + "/" + year;
+        final long now = clock.millis();
+        final WorkingDaysOfYear loaded = years.get(key);
+        if (loaded != null && loaded.refreshAt > now) {
+            return loaded.workingDays;
+        }
+
+        final CompletableFuture<WorkingDaysOfYear> load = new CompletableFuture<>();
+        final CompletableFuture<WorkingDaysOfYear> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return loaded != null ? loaded.workingDays : join(inFlight).workingDays;
+        }
+
+        try {
+            final WorkingDaysOfYear current = years.get(key);
+            if (current != null && current.refreshAt > now) {
+                load.complete(current);
+                return current.workingDays;
+            }
+            final WorkingDaysOfYear refreshed = new WorkingDaysOfYear(load(division, year, requester), now + refreshHours() * 3_600_000L);
+            years.put(key, refreshed);
+            load.complete(refreshed);
+            return refreshed.workingDays;
+        } catch (final RuntimeException e) {
+            load.completeExceptionally(e);
+            if (loaded == null) {
+                throw e;
+            }
+            LOGGER.warn("Unable to refresh public holidays for {}, keeping the previous ones", key, e);
+            years.put(key, new WorkingDaysOfYear(loaded.workingDays, now + RETRY_AFTER_FAILED_REFRESH_MILLIS));
+            return loaded.workingDays;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private BitSet load(final String division, final int year, final Requester requester) {
+        final LocalDate firstDay = LocalDate.of(year, 1, 1);
+        final List<LocalDate> publicHolidays = referenceDataService.getPublicHolidays(division, firstDay, LocalDate.of(year, 12, 31), requester);
+
+        final BitSet workingDays = new BitSet(firstDay.lengthOfYear());
+        for (LocalDate day = firstDay; day.getYear() == year; day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != SATURDAY && day.getDayOfWeek() != SUNDAY) {
+                workingDays.set(day.getDayOfYear() - 1);
+            }
+        }
+        publicHolidays.stream()
+                .filter(publicHoliday -> publicHoliday.getYear() == year)
+                .forEach(publicHoliday -> workingDays.clear(publicHoliday.getDayOfYear() - 1));
+        return workingDays;
+    }
+
+    private long refreshHours() {
+        return isNull(refreshHoursValue) ? DEFAULT_REFRESH_HOURS : parseLong(refreshHoursValue);
+    }
+
+    private static final class WorkingDaysOfYear {
+        private final BitSet workingDays;
+        private final long refreshAt;
+
+        private WorkingDaysOfYear(final BitSet workingDays, final long refreshAt) {
+            this.workingDays = workingDays;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
@@ -30,13 +30,16 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory;
+import uk.gov.moj.cpp.defence.Address;
 import uk.gov.moj.cpp.defence.query.api.service.UsersAndGroupsService;
 import uk.gov.moj.cpp.defence.query.hearing.api.Defendants;
 import uk.gov.moj.cpp.defence.query.hearing.api.HearingSummary;
 import uk.gov.moj.cpp.defence.query.hearing.api.Hearings;
 import uk.gov.moj.cpp.defence.query.hearing.api.ProsecutionCaseSummary;
+import uk.gov.moj.cpp.defence.query.view.AdvocateCaseAuthorisation;
 import uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView;
 import uk.gov.moj.cpp.defence.query.view.DefenceQueryService;
+import uk.gov.moj.cpp.defence.query.view.ProsecutionCaseAssigneeVO;
 import uk.gov.moj.cpp.defence.refdata.ProsecutorDetails;
 import uk.gov.moj.cpp.defence.service.ProgressionService;
 import uk.gov.moj.cpp.defence.service.ReferenceDataService;
@@ -48,7 +51,9 @@ import javax.json.JsonValue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -69,6 +74,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
@@ -93,10 +99,6 @@ public class CpsCaseAccessQueryApiTest {
     public static final String PROSECUTING = "prosecuting";
     public static final String CASE_URN = "99AB21233";
     public static final String ASSIGNEES = "assignees";
-    public static final String ADDRESS_LINE_1 = "addressLine1";
-    public static final String ADDRESS_LINE_2 = "addressLine2";
-    public static final String ADDRESS_LINE_3 = "addressLine3";
-    public static final String ADDRESS_LINE_4 = "addressLine4";
     public static final String ASSIGNEE_NAME_1 = "assigneeName1";
     public static final String ASSIGNEE_NAME_2 = "assigneeName2";
     public static final String CASE_2_URN = "case2urn";
@@ -190,8 +192,8 @@ public class CpsCaseAccessQueryApiTest {
         final String addressPrefixForOrg2 = "org2";
         final JsonEnvelope responseJsonEnvelopForViewQuery = getMockResponseForAssigneeQuery(assigneeOrganisationId1, assigneeOrganisationId2);
         when(cpsCaseAccessQueryView.getAssignedUsersToTheCase((any(JsonEnvelope.class)))).thenReturn(responseJsonEnvelopForViewQuery);
-        when(usersAndGroupsService.getOrganisationDetails(responseJsonEnvelopForViewQuery, assigneeOrganisationId1)).thenReturn(getMockedAddressData(addressPrefixForOrg1));
-        when(usersAndGroupsService.getOrganisationDetails(responseJsonEnvelopForViewQuery, assigneeOrganisationId2)).thenReturn(getMockedAddressData(addressPrefixForOrg2));
+        when(usersAndGroupsService.getOrganisationAddress(responseJsonEnvelopForViewQuery, assigneeOrganisationId1)).thenReturn(getMockedAddressData(addressPrefixForOrg1));
+        when(usersAndGroupsService.getOrganisationAddress(responseJsonEnvelopForViewQuery, assigneeOrganisationId2)).thenReturn(getMockedAddressData(addressPrefixForOrg2));
 
         final JsonEnvelope enrichedQueryResponseEnvelope = cpsCaseAccessQueryApi.getAssigneesToTheCase(query);
 
@@ -222,8 +224,8 @@ public class CpsCaseAccessQueryApiTest {
         final String addressPrefixForOrg1 = "org1";
         final JsonEnvelope responseJsonEnvelopForViewQuery = getMockResponseForAssigneeQuery(assigneeOrganisationId1, assigneeOrganisationId2);
         when(cpsCaseAccessQueryView.getAssignedUsersToTheCase((any(JsonEnvelope.class)))).thenReturn(responseJsonEnvelopForViewQuery);
-        when(usersAndGroupsService.getOrganisationDetails(responseJsonEnvelopForViewQuery, assigneeOrganisationId1)).thenReturn(getMockedAddressData(addressPrefixForOrg1));
-        when(usersAndGroupsService.getOrganisationDetails(responseJsonEnvelopForViewQuery, assigneeOrganisationId2)).thenReturn(null);
+        when(usersAndGroupsService.getOrganisationAddress(responseJsonEnvelopForViewQuery, assigneeOrganisationId1)).thenReturn(getMockedAddressData(addressPrefixForOrg1));
+        when(usersAndGroupsService.getOrganisationAddress(responseJsonEnvelopForViewQuery, assigneeOrganisationId2)).thenReturn(null);
 
         final JsonEnvelope enrichedQueryResponseEnvelope = cpsCaseAccessQueryApi.getAssigneesToTheCase(query);
 
@@ -242,16 +244,27 @@ public class CpsCaseAccessQueryApiTest {
 
     }
 
-    private JsonObject getMockedAddressData(final String prefix) {
-        return createObjectBuilder()
-                .add(ADDRESS_LINE_1, prefix + "-addressLine1")
-                .add(ADDRESS_LINE_2, prefix + "-addressLine2")
-                .add(ADDRESS_LINE_3, prefix + "-addressLine3")
-                .add(ADDRESS_LINE_4, prefix + "-addressLine4")
-                .add(ADDRESS_POSTCODE, prefix + "-addressPostcode")
+    private Address getMockedAddressData(final String prefix) {
+        return Address.address()
+                .withAddress1(prefix + "-addressLine1")
+                .withAddress2(prefix + "-addressLine2")
+                .withAddress3(prefix + "-addressLine3")
+                .withAddress4(prefix + "-addressLine4")
+                .withAddressPostcode(prefix + "-addressPostcode")
                 .build();
     }
 
+    private Answer<Map<UUID, List<ProsecutionCaseAssigneeVO>>> getMockAssigneesForCases() {
+        return invocationOnMock -> {
+            final Collection<UUID> caseIds = invocationOnMock.getArgument(0);
+            final Map<UUID, List<ProsecutionCaseAssigneeVO>> assigneesByCaseId = new HashMap<>();
+            caseIds.forEach(caseId -> assigneesByCaseId.put(caseId, asList(
+                    new ProsecutionCaseAssigneeVO(randomUUID(), ASSIGNEE_NAME_1, randomUUID(), null, null, null, null, now()),
+                    new ProsecutionCaseAssigneeVO(randomUUID(), ASSIGNEE_NAME_2, randomUUID(), null, null, null, null, now()))));
+            return assigneesByCaseId;
+        };
+    }
+
     private JsonEnvelope getMockResponseForAssigneeQuery(final UUID assigneeOrganisationId1, final UUID assigneeOrganisationId2) {
         final JsonObject jsonObject = createObjectBuilder()
                 .add(ASSIGNEES, createArrayBuilder()
@@ -315,7 +328,7 @@ public class CpsCaseAccessQueryApiTest {
     @Test
     public void shouldFailQueryCaagWhenNotInDefenceRole() {
 
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCase(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(false));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(any())).thenReturn(advocateCaseAuthorisation(false));
         assertThrows(ForbiddenRequestException.class, () -> cpsCaseAccessQueryApi.queryProsecutioncaseDefenceCaag(requestEnvelopeForApiView));
     }
 
@@ -334,10 +347,9 @@ public class CpsCaseAccessQueryApiTest {
                 stubbedMetadataBuilder(randomUUID()),
                 prosecutioncaseCaag);
 
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCase(
-                argThat(arg -> !arg.payloadAsJsonObject().containsKey(ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY))))
-                .thenReturn(getProsecutionCaseDefenceCaagJsonMock(true));
-        when(cpsCaseAccessQueryView.queryProsecutioncaseDefenceCaag(any())).thenReturn(responseEnvelopForCaagQuery);
+        final AdvocateCaseAuthorisation authorisation = advocateCaseAuthorisation(true);
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(requestEnvelopeForApiView)).thenReturn(authorisation);
+        when(cpsCaseAccessQueryView.queryProsecutioncaseDefenceCaag(requestEnvelopeForApiView, authorisation)).thenReturn(responseEnvelopForCaagQuery);
         final Envelope<ProsecutioncaseCaag> responseEnvelope = cpsCaseAccessQueryApi.queryProsecutioncaseDefenceCaag(requestEnvelopeForApiView);
         assertThat(responseEnvelope.payload().getCaseDetails().getCaseURN(), is(prosecutioncaseCaag.getCaseDetails().getCaseURN()));
         assertThat(responseEnvelope.payload().getCaseDetails().getCaseStatus(), is(prosecutioncaseCaag.getCaseDetails().getCaseStatus()));
@@ -355,7 +367,7 @@ public class CpsCaseAccessQueryApiTest {
                 .createdAt(now()).build();
         final Envelope<SearchCaseByUrn> queryEnvelope = Envelope.envelopeFrom(metadata, SearchCaseByUrn.searchCaseByUrn().withCaseId(caseId).build());
 
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCaseByCaseId(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(false));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseId(any())).thenReturn(advocateCaseAuthorisation(false));
         assertThrows(ForbiddenRequestException.class, () -> cpsCaseAccessQueryApi.queryProsecutioncaseDefence(queryEnvelope));
     }
 
@@ -375,8 +387,8 @@ public class CpsCaseAccessQueryApiTest {
                                 .build()))
                         .build())
                 .build());
-        when(cpsCaseAccessQueryView.queryProsecutioncaseDefence(any())).thenReturn(prosecutionCaseResponseEnvelope);
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCaseByCaseId(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(true));
+        when(cpsCaseAccessQueryView.queryProsecutioncaseDefence(any(), any())).thenReturn(prosecutionCaseResponseEnvelope);
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseId(any())).thenReturn(advocateCaseAuthorisation(true));
         final Envelope<Prosecutioncase> prosecutioncaseEnvelope = cpsCaseAccessQueryApi.queryProsecutioncaseDefence(queryEnvelope);
 
         assertThat(prosecutioncaseEnvelope.payload().getProsecutionCase().getCaseMarkers(), nullValue());
@@ -391,7 +403,7 @@ public class CpsCaseAccessQueryApiTest {
                 .createdAt(now()).build();
         final Envelope<SearchCaseByUrn> queryEnvelope = Envelope.envelopeFrom(metadata, SearchCaseByUrn.searchCaseByUrn().withCaseId(caseId).build());
 
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCaseByCaseId(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(true));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseId(any())).thenReturn(advocateCaseAuthorisation(true));
         assertThrows(ForbiddenRequestException.class, () -> cpsCaseAccessQueryApi.queryProsecutioncaseProsecutor(queryEnvelope));
     }
 
@@ -458,8 +470,7 @@ public class CpsCaseAccessQueryApiTest {
         when(referenceDataService.getProsecutorsAsMap(any())).thenReturn(prosecutorDetailsMap);
         when(cpsCaseAccessQueryView.getHearings(any())).thenAnswer(getMockForRequester(validCaseId1, validCaseId2, validCaseId3, queryEnvelope.metadata(), hearings));
 
-        final JsonEnvelope responseJsonEnvelopForViewQuery = getMockResponseForAssigneeQuery(randomUUID(), randomUUID());
-        when(cpsCaseAccessQueryView.getAssignedUsersToTheCase(any())).thenReturn(responseJsonEnvelopForViewQuery);
+        when(cpsCaseAccessQueryView.getAssignedUsersToTheCases(anyCollection())).thenAnswer(getMockAssigneesForCases());
 
         final Envelope<uk.gov.moj.cpp.defence.query.api.Hearings> hearingQueryResponseEnvelope = cpsCaseAccessQueryApi.getHearings(queryEnvelope);
 
@@ -576,8 +587,7 @@ public class CpsCaseAccessQueryApiTest {
         when(usersGroupQueryService.isNonCpsUserGroup(userGroups, "Non CPS Prosecutors")).thenReturn(true);
         when(usersGroupQueryService.isNonCPSProsecutorWithValidProsecutingAuthority(userGroups, "Non CPS Prosecutors", "DVLA" )).thenReturn(true);
 
-        final JsonEnvelope responseJsonEnvelopForViewQuery = getMockResponseForAssigneeQuery(randomUUID(), randomUUID());
-        when(cpsCaseAccessQueryView.getAssignedUsersToTheCase(any())).thenReturn(responseJsonEnvelopForViewQuery);
+        when(cpsCaseAccessQueryView.getAssignedUsersToTheCases(anyCollection())).thenAnswer(getMockAssigneesForCases());
 
         final Envelope<uk.gov.moj.cpp.defence.query.api.Hearings> hearingQueryResponseEnvelope = cpsCaseAccessQueryApi.getHearings(queryEnvelope);
 
@@ -717,7 +727,7 @@ public class CpsCaseAccessQueryApiTest {
         when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(any(), any())).thenReturn(prosecutingAuthorityId);
         when(referenceDataService.getProsecutor(any(), any())).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
         when(usersGroupQueryService.validateNonCPSUser(any(),any(),any(),any())).thenReturn(true);
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCase(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(true));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(any())).thenReturn(advocateCaseAuthorisation(true));
         when(cpsCaseAccessQueryView.queryProsecutioncaseProsecutorCaag(any())).thenReturn(responseEnvelopForCaagQuery);
 
 
@@ -745,7 +755,7 @@ public class CpsCaseAccessQueryApiTest {
         when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(any(), any())).thenReturn(prosecutingAuthorityId);
         when(referenceDataService.getProsecutor(any(), any())).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
         when(usersGroupQueryService.validateNonCPSUser(any(),any(),any(),any())).thenReturn(true);
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCase(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(false));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(any())).thenReturn(advocateCaseAuthorisation(false));
         when(cpsCaseAccessQueryView.queryProsecutioncaseProsecutorCaag(any())).thenReturn(responseEnvelopForCaagQuery);
 
 
@@ -767,7 +777,7 @@ public class CpsCaseAccessQueryApiTest {
         when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(any(), any())).thenReturn(prosecutingAuthorityId);
         when(referenceDataService.getProsecutor(any(), any())).thenReturn(Optional.of(createObjectBuilder().add("cpsFlag", true).add("policeFlag", true).add("shortName", "DVLA").build()));
         when(usersGroupQueryService.validateNonCPSUser(any(),any(),any(),any())).thenReturn(false);
-        when(cpsCaseAccessQueryView.findAdvocatesRoleInCase(any())).thenReturn(getProsecutionCaseDefenceCaagJsonMock(true));
+        when(cpsCaseAccessQueryView.getAdvocateCaseAuthorisationByCaseUrn(any())).thenReturn(advocateCaseAuthorisation(true));
 
         assertThrows(ForbiddenRequestException.class, ()-> cpsCaseAccessQueryApi.queryProsecutioncaseProsecutorCaag(requestEnvelopeForApiView));
     }
@@ -911,6 +921,11 @@ public class CpsCaseAccessQueryApiTest {
         return envelopeFrom(metadata, getProsecutionCaseDefenceCaagResponseJson(isDefending));
     }
 
+    private AdvocateCaseAuthorisation advocateCaseAuthorisation(final boolean isDefending) {
+        return new AdvocateCaseAuthorisation(randomUUID().toString(), randomUUID(), false, isDefending, !isDefending,
+                asList(authorizedDefendantId1, authorizedDefendantId2));
+    }
+
     private JsonEnvelope getProsecutionCaseDefenceCaagWithEmptyPayloadJsonMock() {
         final Metadata metadata = Envelope.metadataBuilder().withId(randomUUID())
                 .withName(ADVOCATE_QUERY_ROLE_IN_CASE)
@@ -73,7 +73,6 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -217,14 +216,12 @@ public class DefenceQueryApiTest {
         when(defenceQueryView.getDefenceClientByDefendantId(any())).thenReturn(defenceClientEnvelope);
 
 
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2), responseFromView.metadata()))
-                .thenReturn(stubbedIdpcOrganisationNameDetails(idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2, idpcOrgName_1, idpcOrgName_2));
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(lastAssociatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedAssociatedOrganisationNameDetail(lastAssociatedOrganisationId, lastAssociatedOrgName));
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId, additionalInstructingOrganisation), responseFromView.metadata()))
-                .thenReturn(stubbedIdpcOrganisationNameDetails(associatedOrganisationId, additionalInstructingOrganisation, associatedOrgName, additionalInstructingOrgName));
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedIdpcOrganisationNameDetails(associatedOrganisationId, additionalInstructingOrganisation, associatedOrgName, additionalInstructingOrgName));
+        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId, lastAssociatedOrganisationId, idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2, additionalInstructingOrganisation), responseFromView.metadata()))
+                .thenReturn(asList(new OrganisationNameVO(associatedOrganisationId.toString(), associatedOrgName),
+                        new OrganisationNameVO(lastAssociatedOrganisationId.toString(), lastAssociatedOrgName),
+                        new OrganisationNameVO(idpcAccessingOrganisationId_1.toString(), idpcOrgName_1),
+                        new OrganisationNameVO(idpcAccessingOrganisationId_2.toString(), idpcOrgName_2),
+                        new OrganisationNameVO(additionalInstructingOrganisation.toString(), additionalInstructingOrgName)));
         stubGetAssociatedOrganisationAndPermissions("defence.query.associated-organisation-details-empty.json", associatedOrganisationId.toString());
         stubUserPermissions();
         when(progressionQueryService.getProsecutionCaseDetailById(any(JsonEnvelope.class), anyString()))
@@ -321,16 +318,12 @@ public class DefenceQueryApiTest {
 
         stubGetAssociatedOrganisationAndPermissions("defence.query.associated-organisation-details.json", associatedOrganisationId.toString());
         when(organisationQueryService.getOrganisationOfLoggedInUser(any())).thenReturn(associatedOrganisationId.toString());
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2), responseFromView.metadata()))
-                .thenReturn(stubbedIdpcOrganisationNameDetails(idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2, idpcOrgName_1, idpcOrgName_2));
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(lastAssociatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedAssociatedOrganisationNameDetail(lastAssociatedOrganisationId, lastAssociatedOrgName));
-
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedAssociatedOrganisationNameDetail(associatedOrganisationId, associatedOrgName));
-
-        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId, additionalInstructingOrganisation), responseFromView.metadata()))
-                .thenReturn(stubbedIdpcOrganisationNameDetails(associatedOrganisationId, additionalInstructingOrganisation, associatedOrgName, additionalInstructingOrgName));
+        when(organisationQueryService.getOrganisationNamesForIds(createOrgIdList(associatedOrganisationId, lastAssociatedOrganisationId, idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2, additionalInstructingOrganisation), responseFromView.metadata()))
+                .thenReturn(asList(new OrganisationNameVO(associatedOrganisationId.toString(), associatedOrgName),
+                        new OrganisationNameVO(lastAssociatedOrganisationId.toString(), lastAssociatedOrgName),
+                        new OrganisationNameVO(idpcAccessingOrganisationId_1.toString(), idpcOrgName_1),
+                        new OrganisationNameVO(idpcAccessingOrganisationId_2.toString(), idpcOrgName_2),
+                        new OrganisationNameVO(additionalInstructingOrganisation.toString(), additionalInstructingOrgName)));
 
 
         //When
@@ -346,6 +339,7 @@ public class DefenceQueryApiTest {
         assertLastAssociatedOrganisation(lastAssociatedOrganisationId, lastAssociatedOrgName, payload);
         assertIdpcAccessingOrganisationDetails(idpcAccessingOrganisationId_1, idpcAccessingOrganisationId_2, idpcOrgName_1, idpcOrgName_2, payload);
         assetInstructingOrganisation(asList(associatedOrganisationId, additionalInstructingOrganisation), payload);
+        verify(organisationQueryService, times(1)).getOrganisationNamesForIds(any(), any());
     }
 
     @Test
@@ -534,7 +528,6 @@ public class DefenceQueryApiTest {
         final UUID defendantid = randomUUID();
         final UUID organisationIdOfLoggedInUser = randomUUID();
         final UUID associatedOrganisationId = randomUUID();
-        final String associatedOrgName = "ASSOCIATED_ORG_NAME";
         final UUID idpcAccessingOrganisationId_1 = randomUUID();
         final UUID idpcAccessingOrganisationId_2 = randomUUID();
         final String caseUrn = "TVL123MXC";
@@ -547,8 +540,6 @@ public class DefenceQueryApiTest {
         when(defenceQueryView.findClientByCriteria((any(JsonEnvelope.class)))).thenReturn(responseFromView);
         when(organisationQueryService.getOrganisationOfLoggedInUser(responseFromView.metadata()))
                 .thenReturn(ORGANISATION_ID);
-        when(organisationQueryService.getOrganisationNamesForIds(createAssociatedOrganisationId(associatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedAssociatedOrganisationNameDetail(associatedOrganisationId, associatedOrgName));
 
         when(requester.requestAsAdmin(any(JsonEnvelope.class), any())).thenAnswer(invocationOnMock -> {
             final JsonEnvelope envelope = (JsonEnvelope) invocationOnMock.getArguments()[0];
@@ -576,7 +567,6 @@ public class DefenceQueryApiTest {
         final UUID defendantid = randomUUID();
         final UUID organisationIdOfLoggedInUser = randomUUID();
         final UUID associatedOrganisationId = randomUUID();
-        final String associatedOrgName = "ASSOCIATED_ORG_NAME";
         final UUID idpcAccessingOrganisationId_1 = randomUUID();
         final UUID idpcAccessingOrganisationId_2 = randomUUID();
         final String caseUrn = "TVL123MXC";
@@ -590,8 +580,6 @@ public class DefenceQueryApiTest {
 
         when(organisationQueryService.getOrganisationOfLoggedInUser(responseFromView.metadata()))
                 .thenReturn(ORGANISATION_ID);
-        when(organisationQueryService.getOrganisationNamesForIds(createAssociatedOrganisationId(associatedOrganisationId), responseFromView.metadata()))
-                .thenReturn(stubbedAssociatedOrganisationNameDetail(associatedOrganisationId, associatedOrgName));
         when(requester.requestAsAdmin(any(JsonEnvelope.class), any())).thenAnswer(invocationOnMock -> {
             final JsonEnvelope envelope = (JsonEnvelope) invocationOnMock.getArguments()[0];
             JsonObject responsePayload = null;
@@ -950,12 +938,6 @@ public class DefenceQueryApiTest {
         assertThat(associatedOrganisation.getString(ORGANISATION_NAME), is(associatedOrgName));
     }
 
-    private List<String> createAssociatedOrganisationId(final UUID associatedOrganisationId) {
-        List<String> ids = new ArrayList<>();
-        ids.add(associatedOrganisationId.toString());
-        return ids;
-    }
-
     private List<String> createOrgIdList(final UUID... organisationIds) {
         return Arrays.stream(organisationIds).map(i -> i.toString()).collect(Collectors.toList());
     }
@@ -1018,26 +1000,6 @@ public class DefenceQueryApiTest {
                         .build());
     }
 
-    private List<OrganisationNameVO> stubbedAssociatedOrganisationNameDetail(final UUID associatedOrganisationId, final String organisationName) {
-        List<OrganisationNameVO> organisationNameVOList = new ArrayList<>();
-        OrganisationNameVO organisationNameVO = new OrganisationNameVO(associatedOrganisationId.toString(), organisationName);
-        organisationNameVOList.add(organisationNameVO);
-        return organisationNameVOList;
-    }
-
-    private List<OrganisationNameVO> stubbedIdpcOrganisationNameDetails(final UUID idpcAccessingOrganisationId_1,
-                                                                        final UUID idpcAccessingOrganisationId_2,
-                                                                        final String idpcAccessingOrganisationName_1,
-                                                                        final String idpcAccessingOrganisationName_2) {
-        List<OrganisationNameVO> organisationNameVOList = new ArrayList<>();
-        OrganisationNameVO organisationNameVO = new OrganisationNameVO(idpcAccessingOrganisationId_1.toString(), idpcAccessingOrganisationName_1);
-        organisationNameVOList.add(organisationNameVO);
-        organisationNameVO = new OrganisationNameVO(idpcAccessingOrganisationId_2.toString(), idpcAccessingOrganisationName_2);
-        organisationNameVOList.add(organisationNameVO);
-        return organisationNameVOList;
-    }
-
-
     private JsonEnvelope stubbedSuccessResponseWithNoAssociation(final UUID defenceClientId,
                                                                  final UUID caseId,
                                                                  final UUID defendantid,
@@ -16,7 +16,8 @@ import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.lenient;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -29,11 +30,14 @@ public class CalendarServiceTest {
     private Requester requester;
 
     @InjectMocks
-    private CalendarService calendarService;
+    private WorkingDayCalendar workingDayCalendar;
+
+    private final CalendarService calendarService = new CalendarService();
 
     @BeforeEach
     public void setUp() {
-        when(referenceDataService.getPublicHolidays(any(), any(), any(), any())).thenReturn(getPublicHolidays());
+        setField(calendarService, "workingDayCalendar", workingDayCalendar);
+        lenient().when(referenceDataService.getPublicHolidays(any(), any(), any(), any())).thenReturn(getPublicHolidays());
     }
 
 
@@ -62,6 +66,12 @@ public class CalendarServiceTest {
     }
 
 
+    @Test
+    public void shouldReturnDaysBetweenAcrossMonthsExcludingHolidays() {
+        final long result = calendarService.daysBetweenExcludeHolidays(LocalDate.parse("2024-01-12"), LocalDate.parse("2024-02-16"), requester);
+        assertThat(result, is(23L));
+    }
+
     private List<LocalDate> getPublicHolidays() {
         final List<LocalDate> publicHolidays = new ArrayList<>();
         publicHolidays.add(LocalDate.parse("2024-02-13"));
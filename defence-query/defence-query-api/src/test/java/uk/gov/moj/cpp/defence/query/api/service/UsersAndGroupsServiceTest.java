@@ -10,6 +10,7 @@ import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
+import uk.gov.moj.cpp.defence.Address;
 
 import javax.json.JsonObject;
 import java.util.UUID;
@@ -18,6 +19,7 @@ import static java.util.UUID.randomUUID;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -64,7 +66,7 @@ public class UsersAndGroupsServiceTest {
     }
 
     @Test
-    public void shouldGetOrganisationDetailsWithOrganisationId() {
+    public void shouldGetOrganisationAddressWithOrganisationId() {
         final UUID organisationId = randomUUID();
         final JsonEnvelope requestEnvelope = mock(JsonEnvelope.class);
         final Envelope responseEnvelope = mock(Envelope.class);
@@ -83,10 +85,11 @@ public class UsersAndGroupsServiceTest {
         when(requestEnvelope.metadata()).thenReturn(getMetaData(randomUUID(), randomUUID()));
         when(requester.requestAsAdmin(any(), any())).thenReturn(responseEnvelope);
 
-        final JsonObject organisationDetails = usersAndGroupsService.getOrganisationDetails(requestEnvelope, organisationId);
+        final Address address = usersAndGroupsService.getOrganisationAddress(requestEnvelope, organisationId);
 
-        assertThat(organisationDetails.getString(ADDRESS_LINE_1), is(ADDRESS_LINE_1));
-        assertThat(organisationDetails.getString(ADDRESS_POSTCODE), is(ADDRESS_POSTCODE));
+        assertThat(address.getAddress1(), is(ADDRESS_LINE_1));
+        assertThat(address.getAddress2(), is(nullValue()));
+        assertThat(address.getAddressPostcode(), is(ADDRESS_POSTCODE));
     }
 
 
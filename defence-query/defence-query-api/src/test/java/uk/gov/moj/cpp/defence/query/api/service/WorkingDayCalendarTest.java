@@ -0,0 +1,184 @@
+package uk.gov.moj.cpp.defence.query.api.service;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.defence.query.api.service.CalendarService.ENGLAND_AND_WALES_DIVISION;
+
+import uk.gov.justice.services.core.requester.Requester;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkingDayCalendarTest {
+
+    private static final Instant NOW = Instant.parse("2024-12-20T09:00:00Z");
+
+    @Mock
+    private RefDataService referenceDataService;
+
+    @Mock
+    private Requester requester;
+
+    @InjectMocks
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Test
+    public void shouldLoadEachYearOnceAndCountAcrossTheYearBoundary() {
+        workingDayCalendar.setClock(Clock.fixed(NOW, UTC));
+        when(referenceDataService.getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-01-01"), LocalDate.parse("2024-12-31"), requester))
+                .thenReturn(List.of(LocalDate.parse("2024-12-25"), LocalDate.parse("2024-12-26")));
+        when(referenceDataService.getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2025-01-01"), LocalDate.parse("2025-12-31"), requester))
+                .thenReturn(List.of(LocalDate.parse("2025-01-01")));
+
+        final long firstCount = workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-20"), LocalDate.parse("2025-01-08"), requester);
+        final long secondCount = workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-23"), LocalDate.parse("2025-01-03"), requester);
+
+        assertThat(firstCount, is(10L));
+        assertThat(secondCount, is(6L));
+        verify(referenceDataService, times(2)).getPublicHolidays(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldRefreshYearOnceItIsOlderThanADay() {
+        when(referenceDataService.getPublicHolidays(any(), any(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(LocalDate.parse("2024-12-23")));
+
+        workingDayCalendar.setClock(Clock.fixed(NOW, UTC));
+        assertThat(workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-23"), LocalDate.parse("2024-12-24"), requester), is(1L));
+
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(23 * 3600), UTC));
+        assertThat(workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-23"), LocalDate.parse("2024-12-24"), requester), is(1L));
+
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(24 * 3600), UTC));
+        assertThat(workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-23"), LocalDate.parse("2024-12-24"), requester), is(0L));
+        verify(referenceDataService, times(2)).getPublicHolidays(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotCacheAFailedLoad() {
+        when(referenceDataService.getPublicHolidays(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("reference data unavailable"))
+                .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class,
+                () -> workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-02-05"), LocalDate.parse("2024-02-12"), requester));
+
+        assertThat(workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-02-05"), LocalDate.parse("2024-02-12"), requester), is(5L));
+    }
+
+    @Test
+    public void shouldKeepStaleYearWhenRefreshFailsAndRetryLater() {
+        when(referenceDataService.getPublicHolidays(any(), any(), any(), any()))
+                .thenReturn(List.of(LocalDate.parse("2024-12-23")))
+                .thenThrow(new IllegalStateException("reference data unavailable"))
+                .thenReturn(List.of());
+
+        workingDayCalendar.setClock(Clock.fixed(NOW, UTC));
+        assertThat(workingDaysOn23December(), is(0L));
+
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(24 * 3600), UTC));
+        assertThat(workingDaysOn23December(), is(0L));
+
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(24 * 3600 + 60), UTC));
+        assertThat(workingDaysOn23December(), is(0L));
+        verify(referenceDataService, times(2)).getPublicHolidays(any(), any(), any(), any());
+
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(24 * 3600 + 300), UTC));
+        assertThat(workingDaysOn23December(), is(1L));
+        verify(referenceDataService, times(3)).getPublicHolidays(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldServeStaleYearWhileAnotherCallerRefreshesIt() throws Exception {
+        final CountDownLatch refreshStarted = new CountDownLatch(1);
+        final CountDownLatch releaseRefresh = new CountDownLatch(1);
+        when(referenceDataService.getPublicHolidays(any(), any(), any(), any()))
+                .thenReturn(List.of(LocalDate.parse("2024-12-23")))
+                .thenAnswer(invocation -> {
+                    refreshStarted.countDown();
+                    releaseRefresh.await(5, SECONDS);
+                    return List.of();
+                });
+        workingDayCalendar.setClock(Clock.fixed(NOW, UTC));
+        workingDaysOn23December();
+        workingDayCalendar.setClock(Clock.fixed(NOW.plusSeconds(24 * 3600), UTC));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> refreshing = executorService.submit(this::workingDaysOn23December);
+            assertThat(refreshStarted.await(5, SECONDS), is(true));
+
+            assertThat(workingDaysOn23December(), is(0L));
+
+            releaseRefresh.countDown();
+            assertThat(refreshing.get(5, SECONDS), is(1L));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(referenceDataService, times(2)).getPublicHolidays(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldLoadAYearOnceForConcurrentCallers() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(referenceDataService.getPublicHolidays(any(), any(), any(), any())).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, SECONDS);
+            return List.of(LocalDate.parse("2024-12-23"));
+        });
+        workingDayCalendar.setClock(Clock.fixed(NOW, UTC));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> loading = executorService.submit(this::workingDaysOn23December);
+            assertThat(loadStarted.await(5, SECONDS), is(true));
+
+            final AtomicLong waitingCount = new AtomicLong(-1L);
+            final Thread waiting = new Thread(() -> waitingCount.set(workingDaysOn23December()));
+            waiting.start();
+            while (waiting.getState() != Thread.State.WAITING && waiting.isAlive()) {
+                Thread.onSpinWait();
+            }
+            releaseLoad.countDown();
+            waiting.join(5000L);
+
+            assertThat(loading.get(5, SECONDS), is(0L));
+            assertThat(waitingCount.get(), is(0L));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(referenceDataService, times(1)).getPublicHolidays(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldReturnZeroWhenEndIsNotAfterStart() {
+        assertThat(workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-02-09"), LocalDate.parse("2024-02-05"), requester), is(0L));
+    }
+
+    private long workingDaysOn23December() {
+        return workingDayCalendar.workingDaysBetween(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2024-12-23"), LocalDate.parse("2024-12-24"), requester);
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.moj.cpp.defence.query.view;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.ASSIGNEE_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.AUTHORIZED_DEFENDANT_IDS;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.BOTH;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.CASE_URN;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.DEFENDING;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.IS_ADVOCATE_DEFENDING_OR_PROSECUTING;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.PROSECUTING;
+
+import uk.gov.justice.cps.defence.caag.Defendants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * A user's role in a case and the defendants they are authorised to see, resolved once from the users-groups
+ * lookups and access repositories so that the query api and view can share it for the rest of the request.
+ */
+public class AdvocateCaseAuthorisation {
+
+    private final String userId;
+    private final UUID caseId;
+    private final boolean activeProsecutingAssignmentsOnly;
+    private final String role;
+    private final List<UUID> authorisedDefendantIds;
+
+    public AdvocateCaseAuthorisation(final String userId, final UUID caseId, final boolean activeProsecutingAssignmentsOnly,
+                                     final boolean isDefending, final boolean isProsecuting, final List<UUID> authorisedDefendantIds) {
+        this.userId = userId;
+        this.caseId = caseId;
+        this.activeProsecutingAssignmentsOnly = activeProsecutingAssignmentsOnly;
+        this.role = role(isDefending, isProsecuting);
+        this.authorisedDefendantIds = unmodifiableList(new ArrayList<>(authorisedDefendantIds));
+    }
+
+    public boolean isFor(final String userId, final UUID caseId, final boolean activeProsecutingAssignmentsOnly) {
+        return Objects.equals(this.userId, userId)
+                && Objects.equals(this.caseId, caseId)
+                && this.activeProsecutingAssignmentsOnly == activeProsecutingAssignmentsOnly;
+    }
+
+    public Optional<String> getRole() {
+        return ofNullable(role);
+    }
+
+    public boolean isNotInDefenceRole() {
+        return isNull(role) || PROSECUTING.equals(role);
+    }
+
+    public boolean isNotInAdvocateRole() {
+        return isNull(role) || DEFENDING.equals(role);
+    }
+
+    public List<UUID> getAuthorisedDefendantIds() {
+        return authorisedDefendantIds;
+    }
+
+    public List<UUID> getAuthorisedDefendantIdsWithMasterDefendantIds(final List<Defendants> defendants) {
+        final List<UUID> defendantIds = new ArrayList<>(authorisedDefendantIds);
+        if (isNull(defendants)) {
+            return defendantIds;
+        }
+        final Map<UUID, UUID> masterDefendantIds = new HashMap<>();
+        defendants.forEach(defendant -> masterDefendantIds.put(defendant.getId(), defendant.getMasterDefendantId()));
+        authorisedDefendantIds.stream()
+                .map(masterDefendantIds::get)
+                .filter(Objects::nonNull)
+                .forEach(defendantIds::add);
+        return defendantIds;
+    }
+
+    public JsonObject toRoleInCase(final Optional<String> caseUrn) {
+        final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder().add(ASSIGNEE_ID, userId);
+        caseUrn.ifPresent(urn -> jsonObjectBuilder.add(CASE_URN, urn));
+        if (nonNull(role)) {
+            jsonObjectBuilder.add(IS_ADVOCATE_DEFENDING_OR_PROSECUTING, role);
+        }
+        final JsonArrayBuilder defendantIdArrayBuilder = createArrayBuilder();
+        authorisedDefendantIds.forEach(defendantId -> defendantIdArrayBuilder.add(defendantId.toString()));
+        jsonObjectBuilder.add(AUTHORIZED_DEFENDANT_IDS, defendantIdArrayBuilder.build());
+        return jsonObjectBuilder.build();
+    }
+
+    private static String role(final boolean isDefending, final boolean isProsecuting) {
+        if (isProsecuting && isDefending) {
+            return BOTH;
+        } else if (isProsecuting) {
+            return PROSECUTING;
+        } else if (isDefending) {
+            return DEFENDING;
+        }
+        return null;
+    }
+}
@@ -1,11 +1,14 @@
 package uk.gov.moj.cpp.defence.query.view;
 
 
+import static java.lang.Long.parseLong;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
@@ -13,6 +16,7 @@ import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static java.util.UUID.fromString;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
@@ -21,8 +25,11 @@ import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
-import static uk.gov.justice.services.messaging.JsonObjects.getJsonArray;
 import static uk.gov.justice.services.messaging.JsonObjects.getString;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.join;
+import static uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor.joinOrDefault;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.ORGANISATION;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.USER;
 
 import uk.gov.justice.core.courts.AssociatedPerson;
 import uk.gov.justice.core.courts.CourtApplicationParty;
@@ -44,7 +51,7 @@ import uk.gov.justice.json.schemas.hearing.HearingSummaries;
 import uk.gov.justice.json.schemas.hearing.Timeline;
 import uk.gov.justice.listing.events.CourtApplication;
 import uk.gov.justice.listing.events.Hearing;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.common.converter.ListToJsonArrayConverter;
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
@@ -58,13 +65,13 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.OrganisationAssignment;
 import uk.gov.moj.cpp.defence.ProsecutorAssignment;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.persistence.AdvocateAccessRepository;
-import uk.gov.moj.cpp.defence.persistence.DefenceAssociationRepository;
-import uk.gov.moj.cpp.defence.persistence.DefenceGrantAccessRepository;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
-import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceGrantAccess;
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole;
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType;
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.Role;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.query.hearing.api.Hearings;
@@ -78,26 +85,26 @@ import uk.gov.moj.cpp.hearing.Application;
 import uk.gov.moj.cpp.hearing.Person;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
-import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
-import javax.json.JsonString;
 import javax.json.JsonValue;
-import javax.persistence.NoResultException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -126,20 +133,30 @@ public class CpsCaseAccessQueryView {
     static final String NAME_STR = "%s %s";
     private static final String NAME_STR_STATUS = "%s %s %s";
     public static final String EXPIRED_ASSIGNMENTS_SELECT_COUNT = "expiredAssignmentsSelectCount";
+    public static final String EXPIRED_AFTER = "expiredAfter";
+    public static final String EXPIRED_AFTER_ID = "expiredAfterId";
+    public static final String EXPIRED_AFTER_CASE_ID = "expiredAfterCaseId";
+    public static final String EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID = "expiredAfterAssigneeOrganisationId";
     public static final String ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY = "activeProsecutingAssignmentsOnly";
     public static final String USER_ID = "userId";
     public static final String PROSECUTION_CASE = "prosecutionCase";
+    private static final String DEFENDANTS = "defendants";
+    private static final String ID = "id";
+    private static final String ASSOCIATED_PERSONS_FIELD = "associatedPersons";
     public static final String NON_CPS_PROSECUTORS = "Non CPS Prosecutors";
     public static final String SHORT_NAME = "shortName";
     public static final String ORGANISATION_MIS_MATCH = "OrganisationMisMatch";
     public static final String USER_HAS_NO_PERMISSION_FOR_THE_S_VIEW = "User has no permission for the %s view";
+    private static final int CASE_ID_BATCH_SIZE = 500;
+    private static final long DEFAULT_REMOTE_FETCH_TIMEOUT_MILLIS = 10000L;
+    private static final String PROSECUTOR_CHECK = "prosecutor check";
+    private static final String HEARING_TIMELINE = "hearing timeline";
+    private static final String LISTED_HEARINGS = "listed hearings";
 
-    @Inject
-    DefenceAssociationRepository defenceAssociationRepository;
     @Inject
     private AdvocateAccessRepository advocateAssignmentRepository;
     @Inject
-    private DefenceGrantAccessRepository defenceGrantAccessRepository;
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
     @Inject
     private OrganisationAccessRepository organisationAccessRepository;
     @Inject
@@ -166,13 +183,29 @@ public class CpsCaseAccessQueryView {
     private Requester requester;
     @Inject
     private ProgressionService progressionService;
-    @Inject
-    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
 
     @Inject
     private UsersGroupQueryService usersGroupQueryService;
 
+    @Inject
+    private RemoteCallExecutor remoteCallExecutor;
+
+    @Inject
+    @Value(key = "defence.query.hearings-timeline.prosecutor.timeout.millis", defaultValue = "10000")
+    private String prosecutorCheckTimeout;
+
+    @Inject
+    @Value(key = "defence.query.hearings-timeline.hearing.timeout.millis", defaultValue = "10000")
+    private String hearingTimelineTimeout;
+
+    @Inject
+    @Value(key = "defence.query.hearings-timeline.listing.timeout.millis", defaultValue = "10000")
+    private String listedHearingsTimeout;
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapperProducer().objectMapper();
+    private static final StreamingJsonValueReader CAAG_READER = new StreamingJsonValueReader(OBJECT_MAPPER, "caseDetails.migrationSourceSystem");
+    private static final StreamingJsonValueReader PROSECUTION_CASE_READER = new StreamingJsonValueReader(OBJECT_MAPPER);
+    private static final TypeReference<List<AssociatedPerson>> ASSOCIATED_PERSONS = new TypeReference<>() {};
 
     @Handles("defence.query.case-cps-assignees")
     public JsonEnvelope getAssignedUsersToTheCase(final JsonEnvelope envelope) {
@@ -182,17 +215,9 @@ public class CpsCaseAccessQueryView {
 
         final JsonArrayBuilder assigneesJson = createArrayBuilder();
 
-        assigneeOrganisationList.forEach(assigneeOrganisation -> {
-            if (isNotEmpty(assigneeOrganisation.getProsecutionAdvocatesWithAccess())) {
-                assigneeOrganisation.getProsecutionAdvocatesWithAccess().forEach(prosecutionAdvocateAccess -> {
-                    final ProsecutionCaseAssigneeVO prosecutionAdvocateCaseAssignment = toProsecutionCaseAssigneeVO(assigneeOrganisation, prosecutionAdvocateAccess);
-                    assigneesJson.add(objectToJsonObjectConverter.convert(prosecutionAdvocateCaseAssignment));
-                });
-            } else {
-                final ProsecutionCaseAssigneeVO prosecutionOrganisationCaseAssignment = toProsecutionCaseAssigneeVO(assigneeOrganisation);
-                assigneesJson.add(objectToJsonObjectConverter.convert(prosecutionOrganisationCaseAssignment));
-            }
-        });
+        assigneeOrganisationList.stream()
+                .flatMap(assigneeOrganisation -> toProsecutionCaseAssigneeVOs(assigneeOrganisation).stream())
+                .forEach(prosecutionCaseAssignment -> assigneesJson.add(objectToJsonObjectConverter.convert(prosecutionCaseAssignment)));
 
         return envelopeFrom(
                 envelope.metadata(),
@@ -201,6 +226,20 @@ public class CpsCaseAccessQueryView {
                         .build());
     }
 
+    public Map<UUID, List<ProsecutionCaseAssigneeVO>> getAssignedUsersToTheCases(final Collection<UUID> caseIds) {
+        final Map<UUID, List<ProsecutionCaseAssigneeVO>> assigneesByCaseId = new HashMap<>();
+        final List<UUID> distinctCaseIds = caseIds.stream().distinct().collect(toList());
+
+        for (int from = 0; from < distinctCaseIds.size(); from += CASE_ID_BATCH_SIZE) {
+            final List<UUID> batch = distinctCaseIds.subList(from, Math.min(from + CASE_ID_BATCH_SIZE, distinctCaseIds.size()));
+            organisationAccessRepository.findByCaseIdIn(batch).forEach(assigneeOrganisation ->
+                    assigneesByCaseId.computeIfAbsent(assigneeOrganisation.getId().getCaseId(), caseId -> new ArrayList<>())
+                            .addAll(toProsecutionCaseAssigneeVOs(assigneeOrganisation)));
+        }
+
+        return assigneesByCaseId;
+    }
+
     @Handles("defence.query.case-organisation-assignees")
     public JsonEnvelope getAssignedAdvocatesToTheCaseAndOrganisation(final JsonEnvelope envelope) {
 
@@ -235,7 +274,7 @@ public class CpsCaseAccessQueryView {
         final String caseUrn = urn != null && !urn.isEmpty() ? urn.toUpperCase() : urn;
         final UUID caseId = defenceQueryService.getCaseId(caseUrn);
         final boolean activeProsecutingAssignmentsOnly = envelope.payloadAsJsonObject().getBoolean(ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY, false);
-        final JsonObject jsonObject = getAdvocateRole(of(caseUrn), userId, envelope.metadata(), caseId, activeProsecutingAssignmentsOnly);
+        final JsonObject jsonObject = getAdvocateCaseAuthorisation(userId, envelope.metadata(), caseId, activeProsecutingAssignmentsOnly).toRoleInCase(of(caseUrn));
 
         return envelopeFrom(
                 envelope.metadata(),
@@ -247,7 +286,7 @@ public class CpsCaseAccessQueryView {
         final String userId = envelope.metadata().userId().orElse(null);
         final UUID caseId = fromString(envelope.payloadAsJsonObject().getString(CASE_ID));
 
-        final JsonObject jsonObject = getAdvocateRole(empty(), userId, envelope.metadata(), caseId, false);
+        final JsonObject jsonObject = getAdvocateCaseAuthorisation(userId, envelope.metadata(), caseId, false).toRoleInCase(empty());
 
         return envelopeFrom(
                 envelope.metadata(),
@@ -258,17 +297,26 @@ public class CpsCaseAccessQueryView {
     @Handles("defence.query.hearings-timeline")
     public JsonEnvelope getCaseAndApplicationTimelines(final JsonEnvelope envelope) {
         final String caseId = envelope.payloadAsJsonObject().getString(CASE_ID);
-        final List<UUID> applicationIds = getApplicationIds(envelope.payloadAsJsonObject());
+        final Set<UUID> applicationIds = getApplicationIds(envelope.payloadAsJsonObject());
+
+        // none of the remote fetches depend on the advocate's role, so they run while it is resolved
+        final CompletableFuture<Optional<String>> nonCpsProsecutorCheck = remoteCallExecutor.submit(
+                () -> isNonCPSProsecutor(envelope, fromString(caseId)), timeoutMillis(prosecutorCheckTimeout));
+        final CompletableFuture<Timeline> timelineFetch = remoteCallExecutor.submit(
+                () -> hearingService.getHearingTimelineByCaseId(envelope.metadata(), fromString(caseId)), timeoutMillis(hearingTimelineTimeout));
+        final CompletableFuture<List<Hearing>> listedHearingsFetch = remoteCallExecutor.submit(
+                () -> listingService.getHearings(envelope.metadata(), caseId), timeoutMillis(listedHearingsTimeout));
 
         final String advocateRole = getString(envelope.payloadAsJsonObject(), ADVOCATE_ROLE).orElse(null);
         final String userId = envelope.metadata().userId().orElse(null);
-        final JsonObject jsonObject = getAdvocateRole(empty(), userId, envelope.metadata(), fromString(caseId), false);
-        final JsonArray jsonArray = getJsonArray(jsonObject, AUTHORIZED_DEFENDANT_IDS).orElse(null);
-        final List<UUID> defendantIds = jsonArray.stream().map(jsonValue -> fromString(((JsonString) jsonValue).getString())).collect(toList());
-        final boolean isDefending = isDefending(advocateRole, getString(jsonObject, IS_ADVOCATE_DEFENDING_OR_PROSECUTING).orElse(null), envelope, fromString(caseId));
+        final AdvocateCaseAuthorisation authorisation = getAdvocateCaseAuthorisation(userId, envelope.metadata(), fromString(caseId), false);
+        final Set<UUID> defendantIds = new HashSet<>(authorisation.getAuthorisedDefendantIds());
+        final boolean isDefending = isDefending(advocateRole, authorisation.getRole().orElse(null), join(nonCpsProsecutorCheck, PROSECUTOR_CHECK));
+
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
-        final List<HearingSummaries> caseHearingSummaries = getCaseHearingSummaries(isDefending, defendantIds, envelope.metadata(), caseId, applicationIds);
-        final List<Hearing> unallocatedHearings = getUnallocatedHearings(envelope.metadata(), caseId, caseHearingSummaries, isDefending, defendantIds, applicationIds);
+        final List<HearingSummaries> caseHearingSummaries = getCaseHearingSummaries(isDefending, defendantIds, join(timelineFetch, HEARING_TIMELINE), applicationIds);
+        final List<Hearing> listedHearings = joinOrDefault(listedHearingsFetch, LISTED_HEARINGS, emptyList());
+        final List<Hearing> unallocatedHearings = getUnallocatedHearings(listedHearings, caseHearingSummaries, isDefending, defendantIds, applicationIds);
         of(caseHearingSummaries).ifPresent(caseHearingSummary -> jsonObjectBuilder.add(HEARING_SUMMARIES, listToJsonArrayConverter.convert(caseHearingSummary)));
         of(unallocatedHearings).ifPresent(unallocatedHearing -> jsonObjectBuilder.add(UNALLOCATED_HEARINGS, listToJsonArrayConverter.convert(unallocatedHearing)));
         return envelopeFrom(
@@ -288,23 +336,29 @@ public class CpsCaseAccessQueryView {
 
     @Handles("defence.query.prosecutioncase-defence-caag")
     public Envelope<ProsecutioncaseCaag> queryProsecutioncaseDefenceCaag(final Envelope<SearchCaseByUrn> request) {
+        return queryProsecutioncaseDefenceCaag(request, null);
+    }
+
+    public Envelope<ProsecutioncaseCaag> queryProsecutioncaseDefenceCaag(final Envelope<SearchCaseByUrn> request, final AdvocateCaseAuthorisation resolvedAuthorisation) {
         final UUID caseId = defenceQueryService.getCaseId(request.payload().getCaseUrn());
-        final String userId = request.metadata().userId().orElse(null);
-        final JsonObject roleInCaseJsonObject = getAdvocateRole(empty(), userId, request.metadata(), caseId, false);
+        final AdvocateCaseAuthorisation authorisation = reuseOrResolve(resolvedAuthorisation, request.metadata(), caseId);
         final ProsecutioncaseCaag prosecutioncaseCaag = getProsecutionCaseCaag(request, caseId);
-        final SearchCaseByUrn searchCaseByUrn = updateSearchCaseByUrnWithAuthorizedDefendantIds(request, roleInCaseJsonObject, prosecutioncaseCaag.getDefendants());
-        final ProsecutioncaseCaag prosecutionCaseDefenceCaag = filterProsecutionCaseForDefenceView(prosecutioncaseCaag, searchCaseByUrn.getAuthorisedDefendantIds(), asList(DEFENCE));
+        final SearchCaseByUrn searchCaseByUrn = updateSearchCaseByUrnWithAuthorizedDefendantIds(request, authorisation, prosecutioncaseCaag.getDefendants());
+        final ProsecutioncaseCaag prosecutionCaseDefenceCaag = filterProsecutionCaseForDefenceView(prosecutioncaseCaag, new HashSet<>(searchCaseByUrn.getAuthorisedDefendantIds()), asList(DEFENCE));
         return envelopeFrom(request.metadata(), prosecutionCaseDefenceCaag);
     }
 
     @Handles("advocate.query.prosecutioncase-defence")
     public Envelope<Prosecutioncase> queryProsecutioncaseDefence(final Envelope<SearchCaseByUrn> request) throws IOException {
+        return queryProsecutioncaseDefence(request, null);
+    }
+
+    public Envelope<Prosecutioncase> queryProsecutioncaseDefence(final Envelope<SearchCaseByUrn> request, final AdvocateCaseAuthorisation resolvedAuthorisation) throws IOException {
         final UUID caseId = request.payload().getCaseId();
-        final String userId = request.metadata().userId().orElse(null);
-        final JsonObject roleInCaseJsonObject = getAdvocateRole(empty(), userId, request.metadata(), caseId, false);
-        final SearchCaseByUrn searchCaseByUrn = updateSearchCaseByUrnWithAuthorizedDefendantIds(request, roleInCaseJsonObject, null);
+        final AdvocateCaseAuthorisation authorisation = reuseOrResolve(resolvedAuthorisation, request.metadata(), caseId);
+        final SearchCaseByUrn searchCaseByUrn = updateSearchCaseByUrnWithAuthorizedDefendantIds(request, authorisation, null);
 
-        final Prosecutioncase prosecutioncase = filterProsecutionCaseForDefenceView(getProsecutionCase(request, caseId), searchCaseByUrn.getAuthorisedDefendantIds());
+        final Prosecutioncase prosecutioncase = filterProsecutionCaseForDefenceView(getProsecutionCase(request, caseId), new HashSet<>(searchCaseByUrn.getAuthorisedDefendantIds()));
         return envelopeFrom(request.metadata(), prosecutioncase);
     }
 
@@ -321,9 +375,13 @@ public class CpsCaseAccessQueryView {
 
     @Handles("advocate.query.expired-prosecutor-assignments")
     public Envelope<ExpiredProsecutorAssignments> queryExpiredProsecutorAssignments(final JsonEnvelope envelope) {
+        final JsonObject payload = envelope.payloadAsJsonObject();
         final List<ProsecutionAdvocateAccess> expiredProsecutorAssignmentList;
-        if (envelope.payloadAsJsonObject().containsKey(EXPIRED_ASSIGNMENTS_SELECT_COUNT)) {
-            expiredProsecutorAssignmentList = advocateAssignmentRepository.findExpiredCaseAssignments(Integer.valueOf(envelope.payloadAsJsonObject().getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
+        if (payload.containsKey(EXPIRED_AFTER)) {
+            expiredProsecutorAssignmentList = advocateAssignmentRepository.findExpiredCaseAssignmentsAfter(ZonedDateTime.parse(payload.getString(EXPIRED_AFTER)),
+                    fromString(payload.getString(EXPIRED_AFTER_ID)), Integer.valueOf(payload.getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
+        } else if (payload.containsKey(EXPIRED_ASSIGNMENTS_SELECT_COUNT)) {
+            expiredProsecutorAssignmentList = advocateAssignmentRepository.findExpiredCaseAssignments(Integer.valueOf(payload.getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
         } else {
             expiredProsecutorAssignmentList = advocateAssignmentRepository.findExpiredCaseAssignments();
         }
@@ -333,15 +391,28 @@ public class CpsCaseAccessQueryView {
 
     @Handles("advocate.query.expired-prosecutor-organisation-assignments")
     public Envelope<ExpiredProsecutorOrganisationAssignments> queryExpiredProsecutorOrganisationAssignments(final JsonEnvelope envelope) {
+        final JsonObject payload = envelope.payloadAsJsonObject();
         final List<ProsecutionOrganisationAccess> expiredProsecutorAssignmentList;
-        if (envelope.payloadAsJsonObject().containsKey(EXPIRED_ASSIGNMENTS_SELECT_COUNT)) {
-            expiredProsecutorAssignmentList = organisationAccessRepository.findExpiredCaseAssignments(Integer.valueOf(envelope.payloadAsJsonObject().getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
+        if (payload.containsKey(EXPIRED_AFTER)) {
+            expiredProsecutorAssignmentList = organisationAccessRepository.findExpiredCaseAssignmentsAfter(ZonedDateTime.parse(payload.getString(EXPIRED_AFTER)),
+                    fromString(payload.getString(EXPIRED_AFTER_CASE_ID)), fromString(payload.getString(EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID)),
+                    Integer.valueOf(payload.getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
+        } else if (payload.containsKey(EXPIRED_ASSIGNMENTS_SELECT_COUNT)) {
+            expiredProsecutorAssignmentList = organisationAccessRepository.findExpiredCaseAssignments(Integer.valueOf(payload.getString(EXPIRED_ASSIGNMENTS_SELECT_COUNT)));
         } else {
             expiredProsecutorAssignmentList = organisationAccessRepository.findExpiredCaseAssignments();
         }
         return envelopeFrom(envelope.metadata(), getExpiredOrganisationAssignmentsView(expiredProsecutorAssignmentList));
     }
 
+    public long countExpiredProsecutorAssignments() {
+        return advocateAssignmentRepository.countExpiredCaseAssignments();
+    }
+
+    public long countExpiredProsecutorOrganisationAssignments() {
+        return organisationAccessRepository.countExpiredCaseAssignments();
+    }
+
     private ProsecutioncaseCaag getProsecutionCaseCaag(final Envelope<SearchCaseByUrn> request, final UUID caseId) {
         final JsonObject prosecutionCaseJson = progressionService.getProsecutionCaseDetailsForCaag(request.metadata(), caseId);
         final ProsecutioncaseCaag prosecutioncaseCaag = removeMigrationSourceSystem(prosecutionCaseJson);
@@ -351,45 +422,66 @@ public class CpsCaseAccessQueryView {
 
     private ProsecutioncaseCaag removeMigrationSourceSystem(final JsonObject prosecutionCaseJson) {
         try {
-            Map<String, Object> objectMap = OBJECT_MAPPER.readValue(prosecutionCaseJson.toString(), new TypeReference<>() {});
-            Map<String, Object> caseDetails = OBJECT_MAPPER.convertValue(objectMap.get("caseDetails"), new TypeReference<>() {});
-            caseDetails.remove("migrationSourceSystem");
-            objectMap.put("caseDetails", caseDetails);
-            return OBJECT_MAPPER.convertValue(objectMap, ProsecutioncaseCaag.class);
-        } catch (JsonProcessingException e) {
+            return CAAG_READER.read(prosecutionCaseJson, ProsecutioncaseCaag.class);
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
     private Prosecutioncase getProsecutionCase(final Envelope<SearchCaseByUrn> request, final UUID caseId) throws IOException {
         final JsonValue prosecutionCaseJson = progressionService.getProsecutionCaseDetailsAsJson(request.metadata(), caseId);
-        return OBJECT_MAPPER.readValue(prosecutionCaseJson.toString(), Prosecutioncase.class);
+        return PROSECUTION_CASE_READER.read(prosecutionCaseJson, Prosecutioncase.class);
     }
 
     private ProsecutioncaseCaag enrichProsecutionCaseCaag(final Metadata metadata, final ProsecutioncaseCaag prosecutioncaseCaag) {
         final JsonObject prosecutionCaseJson = progressionService.getProsecutionCaseDetails(metadata, fromString(prosecutioncaseCaag.getCaseId()));
-        final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCaseJson.getJsonObject(PROSECUTION_CASE), ProsecutionCase.class);
         return ProsecutioncaseCaag.prosecutioncaseCaag()
                 .withValuesFrom(prosecutioncaseCaag)
-                .withDefendants(getEnrichedDefendants(prosecutioncaseCaag.getDefendants(), prosecutionCase.getDefendants()))
+                .withDefendants(getEnrichedDefendants(prosecutioncaseCaag.getDefendants(), getAssociatedPersonsByDefendantId(prosecutionCaseJson, prosecutioncaseCaag.getDefendants())))
                 .build();
     }
 
+    /**
+     * Reads only the associated persons of the caag defendants from the full prosecution case, rather than converting
+     * every defendant, offence and hearing in it.
+     */
+    private Map<UUID, List<AssociatedPerson>> getAssociatedPersonsByDefendantId(final JsonObject prosecutionCaseJson, final List<Defendants> caagDefendants) {
+        final Map<UUID, List<AssociatedPerson>> associatedPersonsByDefendantId = new HashMap<>();
+        final JsonObject prosecutionCase = prosecutionCaseJson.getJsonObject(PROSECUTION_CASE);
+        if (isNull(prosecutionCase) || !prosecutionCase.containsKey(DEFENDANTS) || isEmpty(caagDefendants)) {
+            return associatedPersonsByDefendantId;
+        }
+        final Set<String> caagDefendantIds = caagDefendants.stream().map(defendant -> defendant.getId().toString()).collect(toSet());
+        for (final JsonObject defendant : prosecutionCase.getJsonArray(DEFENDANTS).getValuesAs(JsonObject.class)) {
+            final String defendantId = defendant.getString(ID, null);
+            if (caagDefendantIds.contains(defendantId) && defendant.containsKey(ASSOCIATED_PERSONS_FIELD)) {
+                try {
+                    associatedPersonsByDefendantId.putIfAbsent(fromString(defendantId), PROSECUTION_CASE_READER.read(defendant.get(ASSOCIATED_PERSONS_FIELD), ASSOCIATED_PERSONS));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return associatedPersonsByDefendantId;
+    }
+
     public List<Defendants> getEnrichedDefendants(final List<Defendants> caagDefendants, final List<Defendant> caseDefendants) {
+        final Map<UUID, List<AssociatedPerson>> associatedPersonsByDefendantId = new HashMap<>();
+        caseDefendants.stream()
+                .filter(defendant -> nonNull(defendant.getAssociatedPersons()))
+                .forEach(defendant -> associatedPersonsByDefendantId.putIfAbsent(defendant.getId(), defendant.getAssociatedPersons()));
+        return getEnrichedDefendants(caagDefendants, associatedPersonsByDefendantId);
+    }
+
+    private List<Defendants> getEnrichedDefendants(final List<Defendants> caagDefendants, final Map<UUID, List<AssociatedPerson>> associatedPersonsByDefendantId) {
         return caagDefendants.stream()
                 .map(defendant -> Defendants.defendants()
                         .withValuesFrom(defendant)
-                        .withAssociatedPersons(findAssociatedPersons(caseDefendants, defendant.getId()))
+                        .withAssociatedPersons(associatedPersonsByDefendantId.get(defendant.getId()))
                         .build())
                 .collect(toList());
     }
 
-    private List<AssociatedPerson> findAssociatedPersons(final List<Defendant> caseDefendants, final UUID defendantId) {
-        return caseDefendants.stream()
-                .filter(defendant -> defendant.getId().equals(defendantId))
-                .filter(defendant -> nonNull(defendant.getAssociatedPersons()))
-                .findAny().map(Defendant::getAssociatedPersons).orElse(null);
-    }
-
     private ExpiredProsecutorOrganisationAssignments getExpiredOrganisationAssignmentsView(final List<ProsecutionOrganisationAccess> expiredProsecutorAssignmentList) {
         final List<OrganisationAssignment> organisationAssignments = expiredProsecutorAssignmentList.stream()
                 .map(prosecutionOrganisationAccess -> OrganisationAssignment.organisationAssignment()
@@ -409,6 +501,7 @@ public class CpsCaseAccessQueryView {
     private ExpiredProsecutorAssignments getExpiredProsecutorAssignmentsView(final List<ProsecutionAdvocateAccess> expiredProsecutorAssignmentList) {
         final List<ProsecutorAssignment> prosecutorAssignments = expiredProsecutorAssignmentList.stream()
                 .map(prosecutionAdvocateAccess -> ProsecutorAssignment.prosecutorAssignment()
+                        .withId(prosecutionAdvocateAccess.getId())
                         .withAssignmentExpiryDate(prosecutionAdvocateAccess.getAssignmentExpiryDate())
                         .withAssigneeUserId(prosecutionAdvocateAccess.getAssigneeDetails().getUserId())
                         .withCaseId(prosecutionAdvocateAccess.getCaseId())
@@ -419,155 +512,155 @@ public class CpsCaseAccessQueryView {
         return ExpiredProsecutorAssignments.expiredProsecutorAssignments().withProsecutorAssignments(prosecutorAssignments).build();
     }
 
-    private JsonObject getAdvocateRole(Optional<String> urn, String userId, Metadata metadata, final UUID caseId, final boolean activeProsecutingAssignmentsOnly) {
-        final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder().add(ASSIGNEE_ID, userId);
-        urn.ifPresent(urnStr -> jsonObjectBuilder.add(CASE_URN, urnStr));
+    public AdvocateCaseAuthorisation getAdvocateCaseAuthorisationByCaseUrn(final Envelope<SearchCaseByUrn> request) {
+        final String urn = request.payload().getCaseUrn();
+        final String caseUrn = urn != null && !urn.isEmpty() ? urn.toUpperCase() : urn;
+        return getAdvocateCaseAuthorisation(request.metadata().userId().orElse(null), request.metadata(), defenceQueryService.getCaseId(caseUrn), false);
+    }
+
+    public AdvocateCaseAuthorisation getAdvocateCaseAuthorisationByCaseId(final Envelope<SearchCaseByUrn> request) {
+        return getAdvocateCaseAuthorisation(request.metadata().userId().orElse(null), request.metadata(), request.payload().getCaseId(), false);
+    }
+
+    private AdvocateCaseAuthorisation reuseOrResolve(final AdvocateCaseAuthorisation resolvedAuthorisation, final Metadata metadata, final UUID caseId) {
+        final String userId = metadata.userId().orElse(null);
+        if (nonNull(resolvedAuthorisation) && resolvedAuthorisation.isFor(userId, caseId, false)) {
+            return resolvedAuthorisation;
+        }
+        return getAdvocateCaseAuthorisation(userId, metadata, caseId, false);
+    }
+
+    private AdvocateCaseAuthorisation getAdvocateCaseAuthorisation(final String userId, final Metadata metadata, final UUID caseId, final boolean activeProsecutingAssignmentsOnly) {
         final Organisation userOrganisation = userGroupService.getOrganisationDetailsForUser(fromString(userId), metadata, requester);
         final UUID userOrganisationId = nonNull(userOrganisation) ? userOrganisation.getOrgId() : null;
-        final List<String> authorizedDefendantIds = getAuthorizedDefendantIds(caseId, userOrganisationId, fromString(userId));
+        final List<AdvocateCaseRole> caseRoles = advocateCaseRoleRepository.findByCaseIdAndPrincipalIds(caseId, getPrincipalIds(fromString(userId), userOrganisationId));
+        final List<UUID> authorizedDefendantIds = getAuthorizedDefendantIds(caseRoles, userOrganisationId, fromString(userId));
         final boolean isDefending = isNotEmpty(authorizedDefendantIds);
-        boolean isProsecuting;
-        if (activeProsecutingAssignmentsOnly) {
-            isProsecuting = isProsecutingTheCaseWithActiveAssignments(userId, caseId, userOrganisationId, metadata);
-        } else {
-            isProsecuting = isProsecutingTheCase(userId, caseId, userOrganisationId, metadata);
-        }
+        final boolean isProsecuting = isProsecutingTheCase(caseRoles, userId, userOrganisationId, metadata, activeProsecutingAssignmentsOnly);
 
-        if (isProsecuting && isDefending) {
-            jsonObjectBuilder.add(IS_ADVOCATE_DEFENDING_OR_PROSECUTING, BOTH);
-        } else if (isProsecuting) {
-            jsonObjectBuilder.add(IS_ADVOCATE_DEFENDING_OR_PROSECUTING, PROSECUTING);
-        } else if (isDefending) {
-            jsonObjectBuilder.add(IS_ADVOCATE_DEFENDING_OR_PROSECUTING, DEFENDING);
-        }
-        final JsonArrayBuilder defendantIdArrayBuilder = createArrayBuilder();
-        authorizedDefendantIds.forEach(defendantIdArrayBuilder::add);
-        jsonObjectBuilder.add(AUTHORIZED_DEFENDANT_IDS, defendantIdArrayBuilder.build());
-        return jsonObjectBuilder.build();
+        return new AdvocateCaseAuthorisation(userId, caseId, activeProsecutingAssignmentsOnly, isDefending, isProsecuting, authorizedDefendantIds);
     }
 
-    private ProsecutioncaseCaag filterProsecutionCaseForDefenceView(final ProsecutioncaseCaag prosecutioncaseCaag, final List<UUID> authorisedDefendantList, final List<String> userGroups) {
+    private ProsecutioncaseCaag filterProsecutionCaseForDefenceView(final ProsecutioncaseCaag prosecutioncaseCaag, final Set<UUID> authorisedDefendantIds, final List<String> userGroups) {
         return ProsecutioncaseCaag.prosecutioncaseCaag()
                 .withCaseId(prosecutioncaseCaag.getCaseId())
-                .withDefendants(filterRestrictedResultAndPrompts(filterDefendantsForCaag(prosecutioncaseCaag.getDefendants(), authorisedDefendantList), userGroups))
+                .withDefendants(filterRestrictedResultAndPrompts(filterDefendantsForCaag(prosecutioncaseCaag.getDefendants(), authorisedDefendantIds), userGroups))
                 .withCaseDetails(prosecutioncaseCaag.getCaseDetails())
-                .withLinkedApplications(getLinkedApplicationsSummaryForCaagWithFilteredDefendants(prosecutioncaseCaag.getLinkedApplications(), authorisedDefendantList))
+                .withLinkedApplications(getLinkedApplicationsSummaryForCaagWithFilteredDefendants(prosecutioncaseCaag.getLinkedApplications(), authorisedDefendantIds))
                 .withProsecutorDetails(prosecutioncaseCaag.getProsecutorDetails())
                 .build();
     }
 
-    private Prosecutioncase filterProsecutionCaseForDefenceView(final Prosecutioncase prosecutioncase, final List<UUID> authorisedDefendantList) {
+    private Prosecutioncase filterProsecutionCaseForDefenceView(final Prosecutioncase prosecutioncase, final Set<UUID> authorisedDefendantIds) {
         return Prosecutioncase.prosecutioncase()
-                .withProsecutionCase(getProsecutionCaseWithFilteredDefendants(prosecutioncase.getProsecutionCase(), authorisedDefendantList))
-                .withActiveCourtOrders(getFilteredActiveCourtOrders(prosecutioncase.getActiveCourtOrders(), authorisedDefendantList))
-                .withHearingsAtAGlance(getFilteredHearingsAtAGlance(prosecutioncase.getHearingsAtAGlance(), authorisedDefendantList))
-                .withLinkedApplicationsSummary(getLinkedApplicationsSummaryWithFilteredDefendants(prosecutioncase.getLinkedApplicationsSummary(), authorisedDefendantList))
-                .withRelatedCases(getFilteredRelatedCases(prosecutioncase.getRelatedCases(), authorisedDefendantList))
+                .withProsecutionCase(getProsecutionCaseWithFilteredDefendants(prosecutioncase.getProsecutionCase(), authorisedDefendantIds))
+                .withActiveCourtOrders(getFilteredActiveCourtOrders(prosecutioncase.getActiveCourtOrders(), authorisedDefendantIds))
+                .withHearingsAtAGlance(getFilteredHearingsAtAGlance(prosecutioncase.getHearingsAtAGlance(), authorisedDefendantIds))
+                .withLinkedApplicationsSummary(getLinkedApplicationsSummaryWithFilteredDefendants(prosecutioncase.getLinkedApplicationsSummary(), authorisedDefendantIds))
+                .withRelatedCases(getFilteredRelatedCases(prosecutioncase.getRelatedCases(), authorisedDefendantIds))
                 .build();
     }
 
-    private HearingsAtAGlance getFilteredHearingsAtAGlance(final HearingsAtAGlance hearingsAtAGlance, final List<UUID> authorisedDefendantList) {
+    private HearingsAtAGlance getFilteredHearingsAtAGlance(final HearingsAtAGlance hearingsAtAGlance, final Set<UUID> authorisedDefendantIds) {
         if (isNull(hearingsAtAGlance)) {
             return null;
         }
         return HearingsAtAGlance.hearingsAtAGlance()
-                .withHearings(getFilteredHearings(hearingsAtAGlance.getHearings(), authorisedDefendantList))
-                .withCourtApplications(filterCourtApplications(hearingsAtAGlance.getCourtApplications(), authorisedDefendantList))
-                .withDefendantHearings(filterDefendantHearings(hearingsAtAGlance.getDefendantHearings(), authorisedDefendantList))
+                .withHearings(getFilteredHearings(hearingsAtAGlance.getHearings(), authorisedDefendantIds))
+                .withCourtApplications(filterCourtApplications(hearingsAtAGlance.getCourtApplications(), authorisedDefendantIds))
+                .withDefendantHearings(filterDefendantHearings(hearingsAtAGlance.getDefendantHearings(), authorisedDefendantIds))
                 .withId(hearingsAtAGlance.getId())
                 .withLatestHearingJurisdictionType(hearingsAtAGlance.getLatestHearingJurisdictionType())
                 .withProsecutionCaseIdentifier(hearingsAtAGlance.getProsecutionCaseIdentifier())
                 .build();
     }
 
-    private List<uk.gov.justice.core.courts.CourtApplication> filterCourtApplications(final List<uk.gov.justice.core.courts.CourtApplication> courtApplications, final List<UUID> authorisedDefendantList) {
+    private List<uk.gov.justice.core.courts.CourtApplication> filterCourtApplications(final List<uk.gov.justice.core.courts.CourtApplication> courtApplications, final Set<UUID> authorisedDefendantIds) {
         if (isNull(courtApplications)) {
             return null;
         }
         return courtApplications.stream()
-                .filter(courtApplication -> isApplicationRelatedWithOneOfTheDefendants(courtApplication, authorisedDefendantList))
+                .filter(courtApplication -> isApplicationRelatedWithOneOfTheDefendants(courtApplication, authorisedDefendantIds))
                 .collect(toList());
     }
 
 
-    private boolean isApplicationRelatedWithOneOfTheDefendants(final uk.gov.justice.core.courts.CourtApplication courtApplication, final List<UUID> authorisedDefendantList) {
-        return (nonNull(courtApplication.getApplicant()) && isApplicantRelatedWithOneOfTheDefendants(courtApplication.getApplicant().getId(), authorisedDefendantList)) ||
-                isApplicationRespondentsRelatedWithOneOfTheDefendants(courtApplication.getRespondents(), authorisedDefendantList) ||
-                (nonNull(courtApplication.getSubject()) && isSubjectRelatedWithOneOfTheDefendants(courtApplication.getSubject().getId(), authorisedDefendantList));
+    private boolean isApplicationRelatedWithOneOfTheDefendants(final uk.gov.justice.core.courts.CourtApplication courtApplication, final Set<UUID> authorisedDefendantIds) {
+        return (nonNull(courtApplication.getApplicant()) && isApplicantRelatedWithOneOfTheDefendants(courtApplication.getApplicant().getId(), authorisedDefendantIds)) ||
+                isApplicationRespondentsRelatedWithOneOfTheDefendants(courtApplication.getRespondents(), authorisedDefendantIds) ||
+                (nonNull(courtApplication.getSubject()) && isSubjectRelatedWithOneOfTheDefendants(courtApplication.getSubject().getId(), authorisedDefendantIds));
     }
 
-    private boolean isApplicationRespondentsRelatedWithOneOfTheDefendants(final List<CourtApplicationParty> respondents, final List<UUID> authorisedDefendantList) {
+    private boolean isApplicationRespondentsRelatedWithOneOfTheDefendants(final List<CourtApplicationParty> respondents, final Set<UUID> authorisedDefendantIds) {
         if (isNull(respondents)) {
             return false;
         }
         return respondents.stream()
                 .map(CourtApplicationParty::getId)
-                .anyMatch(authorisedDefendantList::contains);
+                .anyMatch(authorisedDefendantIds::contains);
     }
 
-    private List<uk.gov.justice.cps.defence.progression.Hearing> getFilteredHearings(final List<uk.gov.justice.cps.defence.progression.Hearing> hearings, final List<UUID> authorisedDefendantList) {
+    private List<uk.gov.justice.cps.defence.progression.Hearing> getFilteredHearings(final List<uk.gov.justice.cps.defence.progression.Hearing> hearings, final Set<UUID> authorisedDefendantIds) {
         if (isNull(hearings)) {
             return null;
         }
         return hearings.stream()
                 .map(hearing -> uk.gov.justice.cps.defence.progression.Hearing.hearing()
                         .withValuesFrom(hearing)
-                        .withDefendants(filterDefendantsForHearing(hearing.getDefendants(), authorisedDefendantList))
+                        .withDefendants(filterDefendantsForHearing(hearing.getDefendants(), authorisedDefendantIds))
                         .build())
                 .filter(hearing -> isNotEmpty(hearing.getDefendants()))
                 .collect(toList());
     }
 
-    private List<uk.gov.justice.cps.defence.progression.HearingDefendant> filterDefendantsForHearing(final List<uk.gov.justice.cps.defence.progression.HearingDefendant> defendants, final List<UUID> authorisedDefendantList) {
+    private List<uk.gov.justice.cps.defence.progression.HearingDefendant> filterDefendantsForHearing(final List<uk.gov.justice.cps.defence.progression.HearingDefendant> defendants, final Set<UUID> authorisedDefendantIds) {
         if (isNull(defendants)) {
             return null;
         }
         return defendants.stream()
-                .filter(defendant -> authorisedDefendantList.contains(defendant.getId()))
+                .filter(defendant -> authorisedDefendantIds.contains(defendant.getId()))
                 .collect(toList());
     }
 
-    private List<DefendantHearings> filterDefendantHearings(final List<DefendantHearings> defendantHearings, final List<UUID> authorisedDefendantList) {
+    private List<DefendantHearings> filterDefendantHearings(final List<DefendantHearings> defendantHearings, final Set<UUID> authorisedDefendantIds) {
         if (isNull(defendantHearings)) {
             return null;
         }
         return defendantHearings.stream()
-                .filter(defendantHearing -> authorisedDefendantList.contains(defendantHearing.getDefendantId()))
+                .filter(defendantHearing -> authorisedDefendantIds.contains(defendantHearing.getDefendantId()))
                 .collect(toList());
     }
 
-    private List<RelatedCase> getFilteredRelatedCases(final List<RelatedCase> relatedCases, final List<UUID> authorisedDefendantList) {
+    private List<RelatedCase> getFilteredRelatedCases(final List<RelatedCase> relatedCases, final Set<UUID> authorisedDefendantIds) {
         if (isNull(relatedCases)) {
             return null;
         }
         return relatedCases.stream()
-                .filter(relatedCase -> authorisedDefendantList.contains(relatedCase.getMasterDefendantId()))
+                .filter(relatedCase -> authorisedDefendantIds.contains(relatedCase.getMasterDefendantId()))
                 .collect(toList());
     }
 
-    private List<CourtOrder> getFilteredActiveCourtOrders(final List<CourtOrder> activeCourtOrders, final List<UUID> authorisedDefendantList) {
+    private List<CourtOrder> getFilteredActiveCourtOrders(final List<CourtOrder> activeCourtOrders, final Set<UUID> authorisedDefendantIds) {
         if (isNull(activeCourtOrders)) {
             return null;
         }
         return activeCourtOrders.stream()
-                .filter(activeCourtOrder -> authorisedDefendantList.contains(activeCourtOrder.getMasterDefendantId()))
+                .filter(activeCourtOrder -> authorisedDefendantIds.contains(activeCourtOrder.getMasterDefendantId()))
                 .collect(toList());
     }
 
-    private ProsecutionCase getProsecutionCaseWithFilteredDefendants(final ProsecutionCase prosecutionCase, final List<UUID> authorisedDefendantList) {
+    private ProsecutionCase getProsecutionCaseWithFilteredDefendants(final ProsecutionCase prosecutionCase, final Set<UUID> authorisedDefendantIds) {
         if (isNull(prosecutionCase)) {
             return null;
         }
         return ProsecutionCase.prosecutionCase()
                 .withValuesFrom(prosecutionCase)
-                .withDefendants(filterDefendants(prosecutionCase.getDefendants(), authorisedDefendantList))
+                .withDefendants(filterDefendants(prosecutionCase.getDefendants(), authorisedDefendantIds))
                 .build();
 
     }
 
-    private boolean isDefending(String inputRole, String roleFromDB, final JsonEnvelope envelope, final UUID caseId) {
-
-        final Optional<String> isNonCps = isNonCPSProsecutor(envelope, caseId);
+    private boolean isDefending(String inputRole, String roleFromDB, final Optional<String> isNonCps) {
 
         if (isNonCps.isPresent()) {
             if (ORGANISATION_MIS_MATCH.equals(isNonCps.get())) {
@@ -590,6 +683,10 @@ public class CpsCaseAccessQueryView {
         return usersGroupQueryService.validateNonCPSUserOrg(request.metadata(), userId, NON_CPS_PROSECUTORS, prosecutorJsonObjectOptional.get().getString(SHORT_NAME));
     }
 
+    private static long timeoutMillis(final String timeout) {
+        return isNull(timeout) ? DEFAULT_REMOTE_FETCH_TIMEOUT_MILLIS : parseLong(timeout);
+    }
+
     private List<UUID> getMasterDefendantIds(List<Person> persons) {
         return ofNullable(persons).orElse(emptyList()).stream()
                 .filter(applicant -> nonNull(applicant.getMasterDefendantId()))
@@ -597,9 +694,11 @@ public class CpsCaseAccessQueryView {
     }
 
 
-    private List<HearingSummaries> getCaseHearingSummaries(boolean isDefending, List<UUID> defendantIds, final Metadata metadata, String caseId, List<UUID> applicationIds) {
-        final Timeline timeline = hearingService.getHearingTimelineByCaseId(metadata, fromString(caseId));
+    private List<HearingSummaries> getCaseHearingSummaries(boolean isDefending, Set<UUID> defendantIds, final Timeline timeline, Set<UUID> applicationIds) {
         final List<HearingSummaries> caseHearingSummaries = new ArrayList<>();
+        if (isNull(timeline) || isNull(timeline.getHearingSummaries())) {
+            return caseHearingSummaries;
+        }
         if (isDefending) {
             prepareHearingSummariesForDefending(defendantIds, applicationIds, timeline, caseHearingSummaries);
         } else {
@@ -609,7 +708,7 @@ public class CpsCaseAccessQueryView {
         return caseHearingSummaries;
     }
 
-    private void prepareHearingSummariesForDefending(final List<UUID> defendantIds, final List<UUID> applicationIds, final Timeline timeline, final List<HearingSummaries> caseHearingSummaries) {
+    private void prepareHearingSummariesForDefending(final Set<UUID> defendantIds, final Set<UUID> applicationIds, final Timeline timeline, final List<HearingSummaries> caseHearingSummaries) {
         timeline.getHearingSummaries().forEach(hearingSummary -> {
 
             if (isNotEmpty(hearingSummary.getDefendants())) {
@@ -621,7 +720,7 @@ public class CpsCaseAccessQueryView {
         });
     }
 
-    private void prepareHearingSummaryFoApplication(final List<UUID> defendantIds, final List<UUID> applicationIds, final List<HearingSummaries> caseHearingSummaries, final HearingSummaries hearingSummary) {
+    private void prepareHearingSummaryFoApplication(final Set<UUID> defendantIds, final Set<UUID> applicationIds, final List<HearingSummaries> caseHearingSummaries, final HearingSummaries hearingSummary) {
         final List<Application> applications = hearingSummary.getApplications().stream()
                 .filter(application -> applicationIds.contains(application.getApplicationId()))
                 .collect(toList());
@@ -630,7 +729,7 @@ public class CpsCaseAccessQueryView {
         }
     }
 
-    private void prepareHearingSummaryForCase(final List<UUID> defendantIds, final List<HearingSummaries> caseHearingSummaries, final HearingSummaries hearingSummary) {
+    private void prepareHearingSummaryForCase(final Set<UUID> defendantIds, final List<HearingSummaries> caseHearingSummaries, final HearingSummaries hearingSummary) {
         final List<uk.gov.moj.cpp.hearing.Defendant> defendants = ofNullable(hearingSummary.getDefendants()).orElse(emptyList()).stream()
                 .filter(defendant -> defendantIds.contains(defendant.getId()))
                 .collect(toList());
@@ -652,19 +751,19 @@ public class CpsCaseAccessQueryView {
         return masterDefendantIds;
     }
 
-    private List<UUID> getApplicationIds(JsonObject jsonObject) {
+    private Set<UUID> getApplicationIds(JsonObject jsonObject) {
         final String applicationIds = getString(jsonObject, APPLICATION_ID).orElse(null);
-        return nonNull(applicationIds) ? stream(applicationIds.split(COMMA)).map(UUID::fromString).collect(toList()) : emptyList();
+        return nonNull(applicationIds) ? stream(applicationIds.split(COMMA)).map(UUID::fromString).collect(toSet()) : emptySet();
     }
 
-    private List<UUID> getAllocatedHearingsId(List<HearingSummaries> caseHearingSummaries) {
-        return caseHearingSummaries.stream().map(HearingSummaries::getHearingId).collect(toList());
+    private Set<UUID> getAllocatedHearingsId(List<HearingSummaries> caseHearingSummaries) {
+        return caseHearingSummaries.stream().map(HearingSummaries::getHearingId).collect(toSet());
     }
 
-    private List<Hearing> getUnallocatedHearings(final Metadata metadata, final String caseId, List<HearingSummaries> caseHearingSummaries, final boolean isDefending, final List<UUID> defendantIds, final List<UUID> applicationIds) {
-        final List<UUID> allocatedHearings = getAllocatedHearingsId(caseHearingSummaries);
+    private List<Hearing> getUnallocatedHearings(final List<Hearing> listedHearings, List<HearingSummaries> caseHearingSummaries, final boolean isDefending, final Set<UUID> defendantIds, final Set<UUID> applicationIds) {
+        final Set<UUID> allocatedHearings = getAllocatedHearingsId(caseHearingSummaries);
 
-        final List<Hearing> hearingList = listingService.getHearings(metadata, caseId).stream()
+        final List<Hearing> hearingList = listedHearings.stream()
                 .filter(hearing -> !allocatedHearings.contains(hearing.getId()))
                 .collect(toList());
 
@@ -690,122 +789,99 @@ public class CpsCaseAccessQueryView {
 
     }
 
-    private List<LinkedApplications> getLinkedApplicationsSummaryForCaagWithFilteredDefendants(final List<LinkedApplications> linkedApplications, final List<UUID> authorisedDefendantList) {
+    private List<LinkedApplications> getLinkedApplicationsSummaryForCaagWithFilteredDefendants(final List<LinkedApplications> linkedApplications, final Set<UUID> authorisedDefendantIds) {
         if (isNull(linkedApplications)) {
             return null;
         }
         return linkedApplications.stream()
-                .filter(application -> isApplicationRelatedWithOneOfTheDefendants(application, authorisedDefendantList))
+                .filter(application -> isApplicationRelatedWithOneOfTheDefendants(application, authorisedDefendantIds))
                 .collect(toList());
     }
 
-    private List<ApplicationSummary> getLinkedApplicationsSummaryWithFilteredDefendants(final List<ApplicationSummary> linkedApplicationsSummaries, final List<UUID> authorisedDefendantList) {
+    private List<ApplicationSummary> getLinkedApplicationsSummaryWithFilteredDefendants(final List<ApplicationSummary> linkedApplicationsSummaries, final Set<UUID> authorisedDefendantIds) {
         if (isNull(linkedApplicationsSummaries)) {
             return null;
         }
         return linkedApplicationsSummaries.stream()
-                .filter(linkedApplicationsSummary -> isApplicationRelatedWithOneOfTheDefendants(linkedApplicationsSummary, authorisedDefendantList))
+                .filter(linkedApplicationsSummary -> isApplicationRelatedWithOneOfTheDefendants(linkedApplicationsSummary, authorisedDefendantIds))
                 .collect(toList());
     }
 
-    private boolean isApplicationRelatedWithOneOfTheDefendants(final LinkedApplications linkedApplication, final List<UUID> authorisedDefendantList) {
-        return isApplicantRelatedWithOneOfTheDefendants(linkedApplication.getApplicantId(), authorisedDefendantList) ||
-                isRespondentsRelatedWithOneOfTheDefendants(linkedApplication.getRespondentIds(), authorisedDefendantList) ||
-                isSubjectRelatedWithOneOfTheDefendants(linkedApplication.getSubjectId(), authorisedDefendantList);
+    private boolean isApplicationRelatedWithOneOfTheDefendants(final LinkedApplications linkedApplication, final Set<UUID> authorisedDefendantIds) {
+        return isApplicantRelatedWithOneOfTheDefendants(linkedApplication.getApplicantId(), authorisedDefendantIds) ||
+                isRespondentsRelatedWithOneOfTheDefendants(linkedApplication.getRespondentIds(), authorisedDefendantIds) ||
+                isSubjectRelatedWithOneOfTheDefendants(linkedApplication.getSubjectId(), authorisedDefendantIds);
     }
 
-    private boolean isApplicationRelatedWithOneOfTheDefendants(final ApplicationSummary linkedApplicationsSummary, final List<UUID> authorisedDefendantList) {
-        return isApplicantRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getApplicantId(), authorisedDefendantList) ||
-                isRespondentsRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getRespondentIds(), authorisedDefendantList) ||
-                isSubjectRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getSubjectId(), authorisedDefendantList);
+    private boolean isApplicationRelatedWithOneOfTheDefendants(final ApplicationSummary linkedApplicationsSummary, final Set<UUID> authorisedDefendantIds) {
+        return isApplicantRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getApplicantId(), authorisedDefendantIds) ||
+                isRespondentsRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getRespondentIds(), authorisedDefendantIds) ||
+                isSubjectRelatedWithOneOfTheDefendants(linkedApplicationsSummary.getSubjectId(), authorisedDefendantIds);
     }
 
-    private boolean isSubjectRelatedWithOneOfTheDefendants(final UUID subjectId, final List<UUID> authorisedDefendantList) {
+    private boolean isSubjectRelatedWithOneOfTheDefendants(final UUID subjectId, final Set<UUID> authorisedDefendantIds) {
         if (isNull(subjectId)) {
             return false;
         }
-        return authorisedDefendantList.contains(subjectId);
+        return authorisedDefendantIds.contains(subjectId);
     }
 
-    private boolean isRespondentsRelatedWithOneOfTheDefendants(final List<UUID> respondentIds, final List<UUID> authorisedDefendantList) {
+    private boolean isRespondentsRelatedWithOneOfTheDefendants(final List<UUID> respondentIds, final Set<UUID> authorisedDefendantIds) {
         if (isNull(respondentIds)) {
             return false;
         }
-        return respondentIds.stream().anyMatch(authorisedDefendantList::contains);
+        return respondentIds.stream().anyMatch(authorisedDefendantIds::contains);
     }
 
-    private boolean isApplicantRelatedWithOneOfTheDefendants(final UUID applicantId, final List<UUID> authorisedDefendantList) {
+    private boolean isApplicantRelatedWithOneOfTheDefendants(final UUID applicantId, final Set<UUID> authorisedDefendantIds) {
         if (isNull(applicantId)) {
             return false;
         }
-        return authorisedDefendantList.contains(applicantId);
+        return authorisedDefendantIds.contains(applicantId);
     }
 
-    @SuppressWarnings("squid:S1166")
-    private List<String> getAuthorizedDefendantIds(final UUID caseId, final UUID orgId, final UUID userId) {
-        // check if the organisation is associated
-        final List<DefenceAssociation> defenceAssociations = defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId);
-        final List<String> authorizedDefendantIds = defenceAssociations.stream()
-                .filter(defenceAssociation -> isNull(defenceAssociation.getEndDate()))
-                .map(defenceAssociation -> defenceAssociation.getDefenceAssociationDefendant().getDefendantId().toString())
-                .collect(toList());
+    private List<UUID> getPrincipalIds(final UUID userId, final UUID orgId) {
+        return nonNull(orgId) ? asList(userId, orgId) : singletonList(userId);
+    }
+
+    private List<UUID> getAuthorizedDefendantIds(final List<AdvocateCaseRole> caseRoles, final UUID orgId, final UUID userId) {
+        // check if the organisation is associated, then whether the user has been granted access
+        final List<UUID> authorizedDefendantIds = getDefendantIds(caseRoles, ORGANISATION, orgId);
         if (isEmpty(authorizedDefendantIds)) {
-            try {
-                final List<DefenceGrantAccess> defenceGrantAccesses = getAccessGrants(caseId, userId);
-                if (isNamedAdvocateAccessGranted(defenceGrantAccesses)) {
-                    authorizedDefendantIds.addAll(getDefendantsAsList(defenceGrantAccesses));
-                }
-            } catch (NoResultException exception) {
-                return emptyList();
-            }
+            return getDefendantIds(caseRoles, USER, userId);
         }
         return authorizedDefendantIds;
     }
 
-    private boolean isNamedAdvocateAccessGranted(final List<DefenceGrantAccess> defenceGrantAccesses) {
-        return isNotEmpty(defenceGrantAccesses);
-    }
-
-    private List<DefenceGrantAccess> getAccessGrants(final UUID caseId, final UUID userId) {
-        return defenceGrantAccessRepository.findByGranteeAndCaseId(caseId, userId);
-    }
-
-    private Collection<String> getDefendantsAsList(final List<DefenceGrantAccess> defenceGrantAccesses) {
-        return defenceGrantAccesses.stream().map(defenceGrantAccess -> defenceGrantAccess.getDefenceClient().getDefendantId().toString()).collect(toList());
-    }
-
-    private boolean isProsecutingTheCase(final String userId, final UUID caseId, final UUID orgId, final Metadata metadata) {
-        final List<String> userGroupList = userGroupService.getGroupNamesForUser(fromString(userId), metadata, requester);
-        final List<AssignmentUserDetails> prosecutionOrganisationAccesses = new ArrayList<>();
-        if (userGroupList.contains(DEFENCE_LAWYERS)) {
-            prosecutionOrganisationAccesses.addAll(convertOrganisationAccessToUserList(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)));
-        }
-        prosecutionOrganisationAccesses.addAll(convertAdvocateAccessToUserList(advocateAssignmentRepository.findByCaseIdAndAssigneeId(caseId, fromString(userId))));
-        return isNotEmpty(prosecutionOrganisationAccesses);
+    private List<UUID> getDefendantIds(final List<AdvocateCaseRole> caseRoles, final PrincipalType principalType, final UUID principalId) {
+        return caseRoles.stream()
+                .filter(caseRole -> caseRole.getRole() == Role.DEFENDING && caseRole.isHeldBy(principalType, principalId))
+                .map(AdvocateCaseRole::getDefendantId)
+                .collect(toList());
     }
 
-    private boolean isProsecutingTheCaseWithActiveAssignments(final String userId, final UUID caseId, final UUID orgId, final Metadata metadata) {
-        final List<String> userGroupList = userGroupService.getGroupNamesForUser(fromString(userId), metadata, requester);
-        final List<AssignmentUserDetails> prosecutionOrganisationAccesses = new ArrayList<>();
-        if (userGroupList.contains(DEFENCE_LAWYERS)) {
-            prosecutionOrganisationAccesses.addAll(convertOrganisationAccessToUserList(organisationAccessRepository.findActiveByCaseIdAndAssigneeOrganisationId(caseId, orgId)));
+    private boolean isProsecutingTheCase(final List<AdvocateCaseRole> caseRoles, final String userId, final UUID orgId, final Metadata metadata, final boolean activeAssignmentsOnly) {
+        if (isAssignedToProsecute(caseRoles, USER, fromString(userId), activeAssignmentsOnly)) {
+            return true;
         }
-        prosecutionOrganisationAccesses.addAll(convertAdvocateAccessToUserList(advocateAssignmentRepository.findActiveByCaseIdAndAssigneeId(caseId, fromString(userId))));
-        return isNotEmpty(prosecutionOrganisationAccesses);
+        return isAssignedToProsecute(caseRoles, ORGANISATION, orgId, activeAssignmentsOnly)
+                && userGroupService.getGroupNamesForUser(fromString(userId), metadata, requester).contains(DEFENCE_LAWYERS);
     }
 
-    private Collection<? extends AssignmentUserDetails> convertOrganisationAccessToUserList(final List<ProsecutionOrganisationAccess> prosecutionOrganisationAccesses) {
-        if (isEmpty(prosecutionOrganisationAccesses)) {
-            return emptyList();
-        }
-        return prosecutionOrganisationAccesses.stream().map(ProsecutionOrganisationAccess::getAssigneeDetails).collect(toList());
+    private boolean isAssignedToProsecute(final List<AdvocateCaseRole> caseRoles, final PrincipalType principalType, final UUID principalId, final boolean activeAssignmentsOnly) {
+        final ZonedDateTime now = ZonedDateTime.now();
+        return caseRoles.stream()
+                .filter(caseRole -> caseRole.getRole() == Role.PROSECUTING && caseRole.isHeldBy(principalType, principalId))
+                .anyMatch(caseRole -> !activeAssignmentsOnly || caseRole.isActiveAt(now));
     }
 
-    private Collection<? extends AssignmentUserDetails> convertAdvocateAccessToUserList(final List<ProsecutionAdvocateAccess> prosecutionAdvocateAccesses) {
-        if (isEmpty(prosecutionAdvocateAccesses)) {
-            return emptyList();
+    private List<ProsecutionCaseAssigneeVO> toProsecutionCaseAssigneeVOs(final ProsecutionOrganisationAccess assigneeOrganisation) {
+        if (isNotEmpty(assigneeOrganisation.getProsecutionAdvocatesWithAccess())) {
+            return assigneeOrganisation.getProsecutionAdvocatesWithAccess().stream()
+                    .map(prosecutionAdvocateAccess -> toProsecutionCaseAssigneeVO(assigneeOrganisation, prosecutionAdvocateAccess))
+                    .collect(toList());
         }
-        return prosecutionAdvocateAccesses.stream().map(ProsecutionAdvocateAccess::getAssigneeDetails).collect(toList());
+        return asList(toProsecutionCaseAssigneeVO(assigneeOrganisation));
     }
 
     private ProsecutionCaseAssigneeVO toProsecutionCaseAssigneeVO(ProsecutionOrganisationAccess prosecutionOrganisationAccess, ProsecutionAdvocateAccess prosecutionAdvocateAccess) {
@@ -830,38 +906,22 @@ public class CpsCaseAccessQueryView {
                 prosecutionOrganisationAccess.getAssignedDate());
     }
 
-    private SearchCaseByUrn updateSearchCaseByUrnWithAuthorizedDefendantIds(final Envelope<SearchCaseByUrn> request, JsonObject roleInCaseJsonObject, final List<Defendants> defendants) {
-        final Map<UUID, UUID> defendantMasterDefMap = new HashMap<>();
-        ofNullable(defendants).ifPresent(defendantsList -> defendantsList.forEach(def -> defendantMasterDefMap.put(def.getId(), def.getMasterDefendantId())));
-        final List<UUID> authorizedDefendantIds = roleInCaseJsonObject.getJsonArray(AUTHORIZED_DEFENDANT_IDS).stream()
-                .map(id -> ((JsonString) id).getString())
-                .map(UUID::fromString)
-                .collect(toList());
-        if (!defendantMasterDefMap.isEmpty()) {
-            final List<UUID> masterDefendantIds = authorizedDefendantIds.stream()
-                    .map(defendantMasterDefMap::get)
-                    .filter(Objects::nonNull)
-                    .toList();
-            if (isNotEmpty(masterDefendantIds)) {
-                authorizedDefendantIds.addAll(masterDefendantIds);
-            }
-        }
-
+    private SearchCaseByUrn updateSearchCaseByUrnWithAuthorizedDefendantIds(final Envelope<SearchCaseByUrn> request, final AdvocateCaseAuthorisation authorisation, final List<Defendants> defendants) {
         return SearchCaseByUrn.searchCaseByUrn().withValuesFrom(request.payload())
-                .withAuthorisedDefendantIds(authorizedDefendantIds)
+                .withAuthorisedDefendantIds(authorisation.getAuthorisedDefendantIdsWithMasterDefendantIds(defendants))
                 .build();
     }
 
-    private List<Defendants> filterDefendantsForCaag(final List<Defendants> defendants, final List<UUID> authorisedDefendantList) {
+    private List<Defendants> filterDefendantsForCaag(final List<Defendants> defendants, final Set<UUID> authorisedDefendantIds) {
         return defendants.stream()
-                .filter(defendant -> authorisedDefendantList.contains(defendant.getId()))
+                .filter(defendant -> authorisedDefendantIds.contains(defendant.getId()))
                 .collect(toList());
     }
 
 
-    private List<Defendant> filterDefendants(final List<Defendant> defendants, final List<UUID> authorisedDefendantList) {
+    private List<Defendant> filterDefendants(final List<Defendant> defendants, final Set<UUID> authorisedDefendantIds) {
         return defendants.stream()
-                .filter(defendant -> authorisedDefendantList.contains(defendant.getId()))
+                .filter(defendant -> authorisedDefendantIds.contains(defendant.getId()))
                 .collect(toList());
     }
 
@@ -1,6 +1,5 @@
 package uk.gov.moj.cpp.defence.query.view;
 
-import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
@@ -13,10 +12,8 @@ import uk.gov.justice.services.common.converter.ZonedDateTimes;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
-import uk.gov.moj.cpp.defence.persistence.DefenceAssociationDefendantRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceAssociationRepository;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociationDefendant;
+import uk.gov.moj.cpp.defence.persistence.projection.DefenceAssociationSummary;
 
 import java.time.ZonedDateTime;
 import java.util.Comparator;
@@ -29,16 +26,12 @@ import javax.inject.Inject;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
-import javax.persistence.NoResultException;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @ServiceComponent(QUERY_VIEW)
 public class DefenceAssociationQueryView {
 
     public static final String EMPTY_VALUE = "";
-    private static final Logger LOGGER = LoggerFactory.getLogger(DefenceAssociationQueryView.class);
     private static final String DEFENDANT_ID = "defendantId";
     private static final String USER_ID = "userId";
     private static final String ASSOCIATED = "Active Barrister/Solicitor of record";
@@ -56,23 +49,13 @@ public class DefenceAssociationQueryView {
     private static final String END_DATE = "endDate";
     private static final String REPRESENTATION_TYPE = "representationType";
 
-    @Inject
-    private DefenceAssociationDefendantRepository defenceAssociationDefendantRepository;
-
     @Inject
     private DefenceAssociationRepository defenceAssociationRepository;
 
     @Handles("defence.query.associated-organisation")
     public JsonEnvelope getAssociatedOrganisation(final JsonEnvelope envelope) {
         final UUID defendantId = fromString(envelope.payloadAsJsonObject().getString(DEFENDANT_ID));
-        final DefenceAssociationDefendant defenceAssociationDefendant;
-        try {
-            defenceAssociationDefendant = defenceAssociationDefendantRepository.findOptionalByDefendantId(defendantId);
-        } catch (final NoResultException nre) {
-            LOGGER.debug("No Association exist", nre);
-            return emptyAssociation(envelope);
-        }
-        final DefenceAssociation defenceAssociation = extractCurrentDefenceAssociation(defenceAssociationDefendant);
+        final DefenceAssociationSummary defenceAssociation = extractCurrentDefenceAssociation(defenceAssociationRepository.findSummariesByDefendantId(defendantId));
         if (defenceAssociation == null || defenceAssociation.getOrgId() == null) {
             return emptyAssociation(envelope);
         }
@@ -82,14 +65,7 @@ public class DefenceAssociationQueryView {
     @Handles("defence.query.associated-organisations")
     public JsonEnvelope getAssociatedOrganisations(final JsonEnvelope envelope) {
         final UUID defendantId = fromString(envelope.payloadAsJsonObject().getString(DEFENDANT_ID));
-        final DefenceAssociationDefendant defenceAssociationDefendant;
-        try {
-            defenceAssociationDefendant = defenceAssociationDefendantRepository.findOptionalByDefendantId(defendantId);
-        } catch (final NoResultException nre) {
-            LOGGER.debug("No Association exist", nre);
-            return emptyAssociations(envelope);
-        }
-        final List<DefenceAssociation> defenceAssociationList = extractDefenceAssociations(defenceAssociationDefendant);
+        final List<DefenceAssociationSummary> defenceAssociationList = extractDefenceAssociations(defenceAssociationRepository.findSummariesByDefendantId(defendantId));
         if (isNull(defenceAssociationList) || defenceAssociationList.isEmpty()) {
             return emptyAssociations(envelope);
         }
@@ -102,36 +78,27 @@ public class DefenceAssociationQueryView {
     public JsonEnvelope getAssociatedDefendants(final JsonEnvelope envelope) {
         final UUID userId = fromString(envelope.payloadAsJsonObject().getString(USER_ID));
 
-        final List<DefenceAssociation> defenceAssociations = defenceAssociationRepository.findByUserIdAndCurrentDate(userId, ZonedDateTime.now());
-        if (!defenceAssociations.isEmpty()) {
-            return getDefendantIds(envelope, defenceAssociations);
+        final List<UUID> defendantIds = defenceAssociationRepository.findDefendantIdsByUserIdAndCurrentDate(userId, ZonedDateTime.now());
+        if (!defendantIds.isEmpty()) {
+            return getDefendantIds(envelope, defendantIds);
         }
         return emptyDefendants(envelope);
     }
 
-    private boolean isDefenceAssociationEmpty(final DefenceAssociationDefendant defenceAssociationDefendant) {
-        return defenceAssociationDefendant == null ||
-                defenceAssociationDefendant.getDefenceAssociations() == null ||
-                defenceAssociationDefendant.getDefenceAssociations().isEmpty();
-    }
-
-    private JsonEnvelope formResponseWithAssociationDetails(final JsonEnvelope envelope, final DefenceAssociation defenceAssociation) {
+    private JsonEnvelope formResponseWithAssociationDetails(final JsonEnvelope envelope, final DefenceAssociationSummary defenceAssociation) {
         return JsonEnvelope.envelopeFrom(
                 envelope.metadata(),
                 formDefenceAssociationPayload(defenceAssociation));
     }
 
-    private JsonEnvelope getDefendantIds(final JsonEnvelope envelope, List<DefenceAssociation> defenceAssociations) {
+    private JsonEnvelope getDefendantIds(final JsonEnvelope envelope, List<UUID> defendantIds) {
         return JsonEnvelope.envelopeFrom(
                 envelope.metadata(),
-                getDefendants(defenceAssociations));
+                getDefendants(defendantIds));
     }
 
-    private DefenceAssociation extractCurrentDefenceAssociation(final DefenceAssociationDefendant defenceAssociationDefendant) {
-        if (isDefenceAssociationEmpty(defenceAssociationDefendant)) {
-            return null;
-        }
-        final List<DefenceAssociation> defenceAssociations = defenceAssociationDefendant.getDefenceAssociations()
+    private DefenceAssociationSummary extractCurrentDefenceAssociation(final List<DefenceAssociationSummary> defendantAssociations) {
+        final List<DefenceAssociationSummary> defenceAssociations = defendantAssociations
                 .stream()
                 .filter(d -> d.getEndDate() == null)
                 .collect(Collectors.toList());
@@ -143,17 +110,14 @@ public class DefenceAssociationQueryView {
         return !defenceAssociations.isEmpty() ? defenceAssociations.get(0) : null;
     }
 
-    private List<DefenceAssociation> extractDefenceAssociations(final DefenceAssociationDefendant defenceAssociationDefendant) {
-        if (isDefenceAssociationEmpty(defenceAssociationDefendant)) {
-            return emptyList();
-        }
-        return defenceAssociationDefendant.getDefenceAssociations().stream()
+    private List<DefenceAssociationSummary> extractDefenceAssociations(final List<DefenceAssociationSummary> defendantAssociations) {
+        return defendantAssociations.stream()
                 .filter(d -> nonNull(d.getOrgId()))
-                .sorted(Comparator.comparing(DefenceAssociation::getStartDate))
+                .sorted(Comparator.comparing(DefenceAssociationSummary::getStartDate))
                 .toList();
     }
 
-    private JsonObject formDefenceAssociationsPayload(final List<DefenceAssociation> defenceAssociation) {
+    private JsonObject formDefenceAssociationsPayload(final List<DefenceAssociationSummary> defenceAssociation) {
 
         final JsonArrayBuilder associationJsonArray = createArrayBuilder();
         defenceAssociation.forEach(da -> {
@@ -184,7 +148,7 @@ public class DefenceAssociationQueryView {
                 .build();
     }
 
-    private JsonObject formDefenceAssociationPayload(final DefenceAssociation defenceAssociation) {
+    private JsonObject formDefenceAssociationPayload(final DefenceAssociationSummary defenceAssociation) {
 
         String organisationId = EMPTY_VALUE;
         String status = EMPTY_VALUE;
@@ -237,12 +201,10 @@ public class DefenceAssociationQueryView {
                         .build());
     }
 
-    private JsonObject getDefendants(List<DefenceAssociation> defenceAssociations) {
+    private JsonObject getDefendants(List<UUID> defendantIds) {
 
         final JsonArrayBuilder defendantIdsBuilder = createArrayBuilder();
-        defenceAssociations.forEach(defenceAssociation ->
-                defendantIdsBuilder.add(defenceAssociation.getDefenceAssociationDefendant().getDefendantId().toString())
-        );
+        defendantIds.forEach(defendantId -> defendantIdsBuilder.add(defendantId.toString()));
         return createObjectBuilder()
                 .add("defendantIds", defendantIdsBuilder.build())
                 .build();
@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.defence.query.view;
 
+import static java.lang.String.format;
 import static java.time.LocalDate.parse;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -29,6 +30,7 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.defence.CaseDefendantsWithOrganisation;
 import uk.gov.moj.cpp.defence.IdpcMetadata;
 import uk.gov.moj.cpp.defence.common.Defendant;
+import uk.gov.moj.cpp.defence.common.cache.CaseUrnCache;
 import uk.gov.moj.cpp.defence.persistence.DefenceCaseRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.IdpcAccessHistoryRepository;
@@ -38,9 +40,13 @@ import uk.gov.moj.cpp.defence.persistence.entity.Allegation;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcDetails;
+import uk.gov.moj.cpp.defence.persistence.projection.CaseIdpcAccessOrganisation;
+import uk.gov.moj.cpp.defence.persistence.projection.DefendantOrganisationSummary;
+import uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -70,6 +76,9 @@ public class DefenceQueryService {
     @Inject
     private DefenceCaseRepository defenceCaseRepository;
 
+    @Inject
+    private CaseUrnCache caseUrnCache;
+
     @Inject
     @ServiceComponent(QUERY_API)
     private Requester requester;
@@ -147,11 +156,15 @@ public class DefenceQueryService {
     }
 
     public UUID getCaseId(final String urn) {
-        final DefenceCase defenceCase = defenceCaseRepository.findOptionalByUrn(urn.toUpperCase());
-        if (isNull(defenceCase)) {
-            return null;
+        return caseUrnCache.getCaseId(urn, this::findCaseIdByUpperCaseUrn);
+    }
+
+    private UUID findCaseIdByUpperCaseUrn(final String upperCaseUrn) {
+        final List<UUID> caseIds = defenceCaseRepository.findCaseIdsByUrn(upperCaseUrn);
+        if (caseIds.size() > 1) {
+            throw new IllegalStateException(format("URN %s is held by %d cases", upperCaseUrn, caseIds.size()));
         }
-        return defenceCase.getId();
+        return caseIds.isEmpty() ? null : caseIds.get(0);
     }
 
     private DefenceClientIdpcAccessOrganisations getDefenceClientIdpcAccessOrganisations(final List<DefenceClient> defenceClientList) {
@@ -159,9 +172,14 @@ public class DefenceQueryService {
 
         if (defenceClient != null) {
 
-            final List<UUID> idsOfOrganisationAccessingIdpc = idpcAccessHistoryRepository.findOrderedDistinctOrgIdsOfIdpcAccessForDefenceClient(defenceClient.getId());
+            final List<CaseIdpcAccessOrganisation> caseIdpcAccessOrganisations =
+                    idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClient.getId(), defenceClient.getCaseId());
+            final CaseIdpcAccessOrganisation defenceCase = caseIdpcAccessOrganisations.isEmpty() ? null : caseIdpcAccessOrganisations.get(0);
 
-            final DefenceCase defenceCase = defenceCaseRepository.findBy(defenceClient.getCaseId());
+            final List<UUID> idsOfOrganisationAccessingIdpc = caseIdpcAccessOrganisations.stream()
+                    .map(CaseIdpcAccessOrganisation::getOrganisationId)
+                    .filter(Objects::nonNull)
+                    .collect(toList());
 
             final List<OrderedOrganisationDetailsVO> orgList = IntStream
                     .range(0, idsOfOrganisationAccessingIdpc.size())
@@ -181,8 +199,8 @@ public class DefenceQueryService {
                     orgList,
                     instructionHistory,
                     defenceClient.isLockedByRepOrder(),
-                    defenceCase.getProsecutionAuthorityCode(),
-                    defenceCase.getUrn());
+                    isNull(defenceCase) ? null : defenceCase.getProsecutionAuthorityCode(),
+                    isNull(defenceCase) ? null : defenceCase.getUrn());
         }
         return null;
     }
@@ -269,7 +287,7 @@ public class DefenceQueryService {
 
     public Envelope<DefenceClientIdpcMetadata> findIdpcMetadataForDefenceClient(final Envelope<DefenceClientId> query) {
         final UUID defenceClientId = query.payload().getDefenceClientId();
-        final IdpcDetails idpcDetails = idpcDetailsRepository.findOptionalByDefenceClientId(defenceClientId);
+        final IdpcMetadataSummary idpcDetails = idpcDetailsRepository.findIdpcMetadataForDefenceClient(defenceClientId);
         if (idpcDetails == null) {
             return envelopeFrom(query.metadata(), null);
         }
@@ -280,7 +298,7 @@ public class DefenceQueryService {
 
     public Envelope<DefenceClientIdpcMetadata> findIdpcMetadataForDefendant(final Envelope<Defendant> query) {
         final UUID defendantId = query.payload().getDefendantId();
-        final IdpcDetails idpcDetails = idpcDetailsRepository.findIdpcDetailsForDefendantId(defendantId);
+        final IdpcMetadataSummary idpcDetails = idpcDetailsRepository.findIdpcMetadataForDefendantId(defendantId);
         if (idpcDetails == null) {
             return envelopeFrom(query.metadata(), null);
         }
@@ -290,7 +308,7 @@ public class DefenceQueryService {
     }
 
     public String getIdpcFileName(final UUID defenceClientId) {
-        final IdpcDetails idpcDetails = idpcDetailsRepository.findOptionalByDefenceClientId(defenceClientId);
+        final IdpcMetadataSummary idpcDetails = idpcDetailsRepository.findIdpcMetadataForDefenceClient(defenceClientId);
         String fileName = DEFAULT_FILE_NAME;
         if (idpcDetails != null) {
             fileName = idpcDetails.getDocumentName().replaceAll(SPACE, "_").concat(".pdf");
@@ -301,14 +319,14 @@ public class DefenceQueryService {
     public Envelope<CaseDefendantsOrganisations> getCaseDefendantsWithOrganisations(final JsonEnvelope query) {
         final UUID caseId = UUID.fromString(query.payloadAsJsonObject().getString("caseId"));
         final DefenceCase defenceCase = defenceCaseRepository.findBy(caseId);
-        final List<DefenceClient> defenceClients = defenceClientRepository.findByCaseId(caseId);
-        final List<Defendant> defendantsList = defenceClients.stream().map(
-                        defenceClient -> Defendant.defendant()
-                                .withAssociatedOrganisation(defenceClient.getAssociatedOrganisation())
-                                .withDefendantId(defenceClient.getDefendantId())
-                                .withDefendantFirstName(defenceClient.getFirstName())
-                                .withDefendantLastName(defenceClient.getLastName())
-                                .withOrganisationName(defenceClient.getOrganisationName()).build())
+        final List<DefendantOrganisationSummary> defendantSummaries = defenceClientRepository.findDefendantOrganisationSummariesByCaseId(caseId);
+        final List<Defendant> defendantsList = defendantSummaries.stream().map(
+                        defendantSummary -> Defendant.defendant()
+                                .withAssociatedOrganisation(defendantSummary.getAssociatedOrganisation())
+                                .withDefendantId(defendantSummary.getDefendantId())
+                                .withDefendantFirstName(defendantSummary.getFirstName())
+                                .withDefendantLastName(defendantSummary.getLastName())
+                                .withOrganisationName(defendantSummary.getOrganisationName()).build())
                 .collect(Collectors.toList());
 
         final CaseDefendantsWithOrganisation.Builder caseDefendantsBuilder = caseDefendantsWithOrganisation()
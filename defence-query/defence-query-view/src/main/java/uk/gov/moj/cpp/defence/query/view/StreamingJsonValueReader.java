@@ -0,0 +1,117 @@
+package uk.gov.moj.cpp.defence.query.view;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Reads an already parsed javax.json payload into a pojo by replaying it as Jackson tokens, dropping the configured
+ * fields on the way. This replaces printing the payload to a String, parsing it again and converting it through
+ * intermediate maps.
+ */
+public class StreamingJsonValueReader {
+
+    private final ObjectMapper objectMapper;
+    private final FieldFilter droppedFields = new FieldFilter();
+
+    /**
+     * @param droppedFields dotted paths of fields to leave out, e.g. {@code caseDetails.migrationSourceSystem}; array
+     *                      elements share the path of their array
+     */
+    public StreamingJsonValueReader(final ObjectMapper objectMapper, final String... droppedFields) {
+        this.objectMapper = objectMapper;
+        for (final String droppedField : droppedFields) {
+            this.droppedFields.add(droppedField.split("\\."), 0);
+        }
+    }
+
+    public <T> T read(final JsonValue json, final Class<T> type) throws IOException {
+        return read(json, objectMapper.constructType(type));
+    }
+
+    public <T> T read(final JsonValue json, final TypeReference<T> type) throws IOException {
+        return read(json, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> T read(final JsonValue json, final JavaType type) throws IOException {
+        final TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+        write(json, droppedFields, tokens);
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            return objectMapper.readValue(parser, type);
+        }
+    }
+
+    private static void write(final JsonValue value, final FieldFilter filter, final TokenBuffer tokens) throws IOException {
+        switch (value.getValueType()) {
+            case OBJECT:
+                tokens.writeStartObject();
+                for (final Map.Entry<String, JsonValue> field : ((JsonObject) value).entrySet()) {
+                    final FieldFilter fieldFilter = isNull(filter) ? null : filter.children.get(field.getKey());
+                    if (isNull(fieldFilter) || !fieldFilter.dropped) {
+                        tokens.writeFieldName(field.getKey());
+                        write(field.getValue(), fieldFilter, tokens);
+                    }
+                }
+                tokens.writeEndObject();
+                break;
+            case ARRAY:
+                tokens.writeStartArray();
+                for (final JsonValue element : (JsonArray) value) {
+                    write(element, filter, tokens);
+                }
+                tokens.writeEndArray();
+                break;
+            case STRING:
+                tokens.writeString(((JsonString) value).getString());
+                break;
+            case NUMBER:
+                writeNumber((JsonNumber) value, tokens);
+                break;
+            case TRUE:
+                tokens.writeBoolean(true);
+                break;
+            case FALSE:
+                tokens.writeBoolean(false);
+                break;
+            default:
+                tokens.writeNull();
+        }
+    }
+
+    private static void writeNumber(final JsonNumber number, final TokenBuffer tokens) throws IOException {
+        if (!number.isIntegral()) {
+            tokens.writeNumber(number.bigDecimalValue());
+        } else if (number.bigIntegerValue().bitLength() < Long.SIZE) {
+            tokens.writeNumber(number.longValue());
+        } else {
+            tokens.writeNumber(number.bigIntegerValue());
+        }
+    }
+
+    private static final class FieldFilter {
+        private final Map<String, FieldFilter> children = new HashMap<>();
+        private boolean dropped;
+
+        private void add(final String[] path, final int index) {
+            if (index == path.length) {
+                dropped = true;
+                return;
+            }
+            children.computeIfAbsent(path[index], name -> new FieldFilter()).add(path, index + 1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.defence.query.view;
 
 import static com.google.common.collect.ImmutableList.of;
+import static java.lang.String.format;
 import static java.time.ZonedDateTime.now;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -16,6 +17,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 import static uk.gov.justice.services.messaging.Envelope.metadataBuilder;
@@ -24,7 +28,13 @@ import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.ASSIGNEES;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.CASE_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.HEARING_SUMMARIES;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.IS_ADVOCATE_DEFENDING_OR_PROSECUTING;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.UNALLOCATED_HEARINGS;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.ORGANISATION;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.USER;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.Role.DEFENDING;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.Role.PROSECUTING;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.ORGANISATION_ID;
 
 import uk.gov.justice.core.courts.AssociatedPerson;
@@ -34,7 +44,6 @@ import uk.gov.justice.cps.defence.caag.ProsecutioncaseCaag;
 import uk.gov.justice.json.schemas.hearing.HearingSummaries;
 import uk.gov.justice.json.schemas.hearing.Timeline;
 import uk.gov.justice.listing.events.Hearing;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.ListToJsonArrayConverter;
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
@@ -46,13 +55,12 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.defence.Organisation;
+import uk.gov.moj.cpp.defence.common.concurrent.RemoteCallExecutor;
 import uk.gov.moj.cpp.defence.persistence.AdvocateAccessRepository;
-import uk.gov.moj.cpp.defence.persistence.DefenceAssociationRepository;
-import uk.gov.moj.cpp.defence.persistence.DefenceGrantAccessRepository;
+import uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository;
 import uk.gov.moj.cpp.defence.persistence.OrganisationAccessRepository;
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole;
 import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociationDefendant;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
@@ -73,6 +81,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -94,7 +103,7 @@ public class CpsCaseAccessQueryViewTest {
     private static final String ASSIGNEE_ORG_NAME = "ABC & Co.";
     private final ZonedDateTime assignedDate = ZonedDateTime.now();
     @Mock
-    private DefenceAssociationRepository defenceAssociationRepository;
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
     @Mock
     private AdvocateAccessRepository advocateAssignmentRepository;
     @Mock
@@ -103,8 +112,6 @@ public class CpsCaseAccessQueryViewTest {
     private final ObjectMapper mapper = new ObjectMapperProducer().objectMapper();
     @Spy
     private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(mapper);
-    @Spy
-    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(mapper);
     @Mock
     private JsonEnvelope envelope;
 
@@ -116,8 +123,6 @@ public class CpsCaseAccessQueryViewTest {
     @Mock
     private JsonObject jsonPayload;
     @Mock
-    private DefenceGrantAccessRepository defenceGrantAccessRepository;
-    @Mock
     private DefenceQueryService defenceQueryService;
     @Mock
     private ProgressionService progressionService;
@@ -135,6 +140,8 @@ public class CpsCaseAccessQueryViewTest {
     private HearingService hearingService;
     @Mock
     private ListingService listingService;
+    @Spy
+    private RemoteCallExecutor remoteCallExecutor = new RemoteCallExecutor();
 
     @BeforeEach
     public void initMocks() {
@@ -232,6 +239,27 @@ public class CpsCaseAccessQueryViewTest {
         assertThat(assignedUsersToTheCase.payloadAsJsonObject().getJsonArray(ASSIGNEES).getJsonObject(0).getString("status"), is("Access granted by John Smith"));
     }
 
+    @Test
+    public void shouldGetAssigneesForManyCasesInOneQuery() {
+        final UUID caseId1 = randomUUID();
+        final UUID caseId2 = randomUUID();
+        final UUID caseIdWithoutAssignees = randomUUID();
+        final UUID advocateUserId = randomUUID();
+
+        final ProsecutionOrganisationAccess organisationAccessForCase1 = getProsecutionOrganisationAccessEntity(caseId1);
+        final ProsecutionOrganisationAccess advocateAccessForCase2 = getProsecutionOrganisationAccessEntity(caseId2, getProsecutionAdvocateAccess(advocateUserId));
+        when(organisationAccessRepository.findByCaseIdIn(asList(caseId1, caseId2, caseIdWithoutAssignees))).thenReturn(asList(organisationAccessForCase1, advocateAccessForCase2));
+
+        final Map<UUID, List<ProsecutionCaseAssigneeVO>> assigneesByCaseId = advocateAccessQueryView.getAssignedUsersToTheCases(asList(caseId1, caseId2, caseIdWithoutAssignees, caseId1));
+
+        assertThat(assigneesByCaseId.size(), is(2));
+        assertThat(assigneesByCaseId.get(caseId1).get(0).getAssigneeName(), is("Jhon Rambo"));
+        assertThat(assigneesByCaseId.get(caseId2).get(0).getAssigneeUserId(), is(advocateUserId));
+        assertThat(assigneesByCaseId.get(caseId2).get(0).getStatus(), is("Access granted by John Smith"));
+        assertThat(assigneesByCaseId.containsKey(caseIdWithoutAssignees), is(false));
+        verify(organisationAccessRepository, times(1)).findByCaseIdIn(any());
+    }
+
     @Test
     public void shouldGetEmptyListOfAssigneesWhenCaseIdNotMatch() {
 
@@ -285,15 +313,9 @@ public class CpsCaseAccessQueryViewTest {
         when(jsonPayload.getBoolean(ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY, false)).thenReturn(true);
         when(defenceQueryService.getCaseId(urn)).thenReturn(caseId);
 
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(defendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, defendantId), prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findActiveByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
-        when(advocateAssignmentRepository.findActiveByCaseIdAndAssigneeId(caseId, userId)).thenReturn(emptyList());
         final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCase(envelope);
 
         assertThat(assignedUsersToTheCase, is(notNullValue()));
@@ -326,11 +348,7 @@ public class CpsCaseAccessQueryViewTest {
         when(progressionService.getProsecutionCaseDetails(any(), any())).thenReturn(getProsecutionCaseQueryResponsePayload(authorisedDefendantId));
         when(progressionService.getProsecutionCaseDetailsForCaag(any(), any())).thenReturn(getProsecutionCaseCaagQueryResponsePayload(authorisedDefendantId, masterDefendantId));
 
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(authorisedDefendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, authorisedDefendantId));
 
         final Envelope<ProsecutioncaseCaag> prosecutioncaseCaagEnvelope = advocateAccessQueryView.queryProsecutioncaseDefenceCaag(searchCaseByUrnEnvelope);
         final ProsecutioncaseCaag prosecutioncaseCaag = prosecutioncaseCaagEnvelope.payload();
@@ -374,11 +392,7 @@ public class CpsCaseAccessQueryViewTest {
         when(searchCaseByUrnEnvelope.metadata()).thenReturn(roleInCaseMetadata);
         when(progressionService.getProsecutionCaseDetailsAsJson(any(), any())).thenReturn(getProsecutionCaseQueryResponsePayload(authorisedDefendantId));
 
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(authorisedDefendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, authorisedDefendantId));
 
         final Envelope<Prosecutioncase> prosecutioncaseEnvelope = advocateAccessQueryView.queryProsecutioncaseDefence(searchCaseByUrnEnvelope);
         final Prosecutioncase prosecutioncase = prosecutioncaseEnvelope.payload();
@@ -389,6 +403,56 @@ public class CpsCaseAccessQueryViewTest {
         assertThat(prosecutioncase.getProsecutionCase().getDefendants().get(0).getAssociatedPersons(), notNullValue());
     }
 
+    @Test
+    public void shouldReuseResolvedAuthorisationWhenQueryingProsecutioncaseForDefence() throws IOException {
+        final UUID caseId = randomUUID();
+        final UUID userId = randomUUID();
+        final UUID authorisedDefendantId = randomUUID();
+        final SearchCaseByUrn searchCaseByUrn = SearchCaseByUrn.searchCaseByUrn()
+                .withCaseId(caseId)
+                .build();
+        when(searchCaseByUrnEnvelope.payload()).thenReturn(searchCaseByUrn);
+        when(searchCaseByUrnEnvelope.metadata()).thenReturn(metadataBuilder().withId(randomUUID())
+                .withUserId(userId.toString())
+                .withName("advocate.query.prosecutioncase-defence")
+                .createdAt(now()).build());
+        when(progressionService.getProsecutionCaseDetailsAsJson(any(), any())).thenReturn(getProsecutionCaseQueryResponsePayload(authorisedDefendantId));
+        final AdvocateCaseAuthorisation authorisation = new AdvocateCaseAuthorisation(userId.toString(), caseId, false, true, false, of(authorisedDefendantId));
+
+        final Prosecutioncase prosecutioncase = advocateAccessQueryView.queryProsecutioncaseDefence(searchCaseByUrnEnvelope, authorisation).payload();
+
+        assertThat(prosecutioncase.getProsecutionCase().getDefendants().size(), is(1));
+        assertThat(prosecutioncase.getProsecutionCase().getDefendants().get(0).getId(), is(authorisedDefendantId));
+        verifyNoInteractions(userGroupService, advocateCaseRoleRepository, organisationAccessRepository, advocateAssignmentRepository);
+    }
+
+    @Test
+    public void shouldKeepRelatedCasesAndCourtOrdersOfAuthorisedMasterDefendantsOnly() throws IOException {
+        final UUID caseId = randomUUID();
+        final UUID userId = randomUUID();
+        final UUID authorisedDefendantId = randomUUID();
+        final UUID otherDefendantId = randomUUID();
+        final SearchCaseByUrn searchCaseByUrn = SearchCaseByUrn.searchCaseByUrn()
+                .withCaseId(caseId)
+                .build();
+        when(searchCaseByUrnEnvelope.payload()).thenReturn(searchCaseByUrn);
+        when(searchCaseByUrnEnvelope.metadata()).thenReturn(metadataBuilder().withId(randomUUID())
+                .withUserId(userId.toString())
+                .withName("advocate.query.prosecutioncase-defence")
+                .createdAt(now()).build());
+        when(progressionService.getProsecutionCaseDetailsAsJson(any(), any()))
+                .thenReturn(getProsecutionCaseWithMasterDefendantsQueryResponsePayload(authorisedDefendantId, otherDefendantId));
+        // the authorised ids may repeat, as one defendant can be granted through more than one assignment
+        final AdvocateCaseAuthorisation authorisation = new AdvocateCaseAuthorisation(userId.toString(), caseId, false, true, false, of(authorisedDefendantId, authorisedDefendantId));
+
+        final Prosecutioncase prosecutioncase = advocateAccessQueryView.queryProsecutioncaseDefence(searchCaseByUrnEnvelope, authorisation).payload();
+
+        assertThat(prosecutioncase.getRelatedCases(), hasSize(1));
+        assertThat(prosecutioncase.getRelatedCases().get(0).getMasterDefendantId(), is(authorisedDefendantId));
+        assertThat(prosecutioncase.getActiveCourtOrders(), hasSize(1));
+        assertThat(prosecutioncase.getActiveCourtOrders().get(0).getMasterDefendantId(), is(authorisedDefendantId));
+    }
+
     @Test
     public void shouldQueryProsecutioncaseProsecutorCaagAndVerifyDefendantIsNotFiltered() throws IOException {
 
@@ -432,6 +496,15 @@ public class CpsCaseAccessQueryViewTest {
         return new DefaultJsonParser().toObject(payload, JsonObject.class);
     }
 
+    private JsonObject getProsecutionCaseWithMasterDefendantsQueryResponsePayload(final UUID authorisedDefendantId, final UUID otherDefendantId) throws IOException {
+        final String masterDefendants = format("\"relatedCases\": [{\"masterDefendantId\": \"%1$s\", \"cases\": []}, {\"masterDefendantId\": \"%2$s\", \"cases\": []}]," +
+                " \"activeCourtOrders\": [{\"masterDefendantId\": \"%2$s\", \"courtOrders\": []}, {\"masterDefendantId\": \"%1$s\", \"courtOrders\": []}],", authorisedDefendantId, otherDefendantId);
+        final String payload = readFileToString(new File(this.getClass().getClassLoader().getResource("defence.query.prosecutioncase.json").getFile()))
+                .replace("DEFENDANT_ID", authorisedDefendantId.toString())
+                .replaceFirst("\\{", "{" + masterDefendants);
+        return new DefaultJsonParser().toObject(payload, JsonObject.class);
+    }
+
     @Test
     public void shouldGetRoleOfAdvocateAsProsecuting() {
 
@@ -450,10 +523,8 @@ public class CpsCaseAccessQueryViewTest {
         when(defenceQueryService.getCaseId(urn)).thenReturn(caseId);
 
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(emptyList());
+        givenCaseRoles(caseId, userId, orgId, prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findActiveByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
-        when(advocateAssignmentRepository.findActiveByCaseIdAndAssigneeId(caseId, userId)).thenReturn(emptyList());
         final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCase(envelope);
 
         assertThat(assignedUsersToTheCase, is(notNullValue()));
@@ -479,14 +550,7 @@ public class CpsCaseAccessQueryViewTest {
         when(defenceQueryService.getCaseId(urn)).thenReturn(caseId);
 
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(defendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
-        when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(emptyList());
-        when(advocateAssignmentRepository.findByCaseIdAndAssigneeId(caseId, userId)).thenReturn(emptyList());
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, defendantId));
         final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCase(envelope);
 
         assertThat(assignedUsersToTheCase, is(notNullValue()));
@@ -494,6 +558,59 @@ public class CpsCaseAccessQueryViewTest {
         assertThat(assignedUsersToTheCase.payloadAsJsonObject().getJsonArray("authorizedDefendantIds").getString(0), is(defendantId.toString()));
     }
 
+    @Test
+    public void shouldGetRoleOfAdvocateAsDefendingFromGrantedAccessWhenOrganisationIsNotAssociated() {
+
+        final String urn = "55DP0028116";
+        final UUID caseId = randomUUID();
+        final UUID userId = randomUUID();
+        final UUID orgId = randomUUID();
+        final UUID defendantId = randomUUID();
+        when(envelope.payloadAsJsonObject()).thenReturn(jsonPayload);
+        final Metadata metadata = metadataBuilder().withId(randomUUID())
+                .withUserId(userId.toString())
+                .withName("advocate.query.role-in-case")
+                .createdAt(now()).build();
+        when(envelope.metadata()).thenReturn(metadata);
+        when(jsonPayload.getString("caseUrn")).thenReturn(urn);
+        when(jsonPayload.getBoolean(ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY, false)).thenReturn(false);
+        when(defenceQueryService.getCaseId(urn)).thenReturn(caseId);
+
+        when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
+        givenCaseRoles(caseId, userId, orgId, new AdvocateCaseRole(randomUUID(), caseId, userId, USER, DEFENDING, defendantId, null));
+        final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCase(envelope);
+
+        assertThat(assignedUsersToTheCase.payloadAsJsonObject().getString(IS_ADVOCATE_DEFENDING_OR_PROSECUTING), is("defending"));
+        assertThat(assignedUsersToTheCase.payloadAsJsonObject().getJsonArray("authorizedDefendantIds").getString(0), is(defendantId.toString()));
+    }
+
+    @Test
+    public void shouldNotGetRoleOfAdvocateWhenOnlyExpiredProsecutingAssignmentsAndActiveOnlyRequested() {
+
+        final String urn = "55DP0028116";
+        final UUID caseId = randomUUID();
+        final UUID userId = randomUUID();
+        final UUID orgId = randomUUID();
+        when(envelope.payloadAsJsonObject()).thenReturn(jsonPayload);
+        final Metadata metadata = metadataBuilder().withId(randomUUID())
+                .withUserId(userId.toString())
+                .withName("advocate.query.role-in-case")
+                .createdAt(now()).build();
+        when(envelope.metadata()).thenReturn(metadata);
+        when(jsonPayload.getString("caseUrn")).thenReturn(urn);
+        when(jsonPayload.getBoolean(ACTIVE_PROSECUTING_ASSIGNMENTS_ONLY, false)).thenReturn(true);
+        when(defenceQueryService.getCaseId(urn)).thenReturn(caseId);
+
+        when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
+        givenCaseRoles(caseId, userId, orgId,
+                new AdvocateCaseRole(randomUUID(), caseId, userId, USER, PROSECUTING, null, now().minusDays(1)),
+                new AdvocateCaseRole(randomUUID(), caseId, orgId, ORGANISATION, PROSECUTING, null, now().minusDays(1)));
+        final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCase(envelope);
+
+        assertThat(assignedUsersToTheCase.payloadAsJsonObject().containsKey(IS_ADVOCATE_DEFENDING_OR_PROSECUTING), is(false));
+        verify(userGroupService, times(0)).getGroupNamesForUser(userId, metadata, requester);
+    }
+
     @Test
     public void shouldGetRoleInCaseByIdOfAdvocateAsProsecuting() {
 
@@ -509,10 +626,8 @@ public class CpsCaseAccessQueryViewTest {
         when(jsonPayload.getString("caseId")).thenReturn(caseId.toString());
 
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(emptyList());
+        givenCaseRoles(caseId, userId, orgId, prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
-        when(advocateAssignmentRepository.findByCaseIdAndAssigneeId(caseId, userId)).thenReturn(emptyList());
         final JsonEnvelope assignedUsersToTheCase = advocateAccessQueryView.findAdvocatesRoleInCaseByCaseId(envelope);
 
         assertThat(assignedUsersToTheCase, is(notNullValue()));
@@ -538,12 +653,11 @@ public class CpsCaseAccessQueryViewTest {
                 .createdAt(now()).build();
         when(envelope.metadata()).thenReturn(metadata);
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(emptyList());
+        givenCaseRoles(caseId, userId, orgId, prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
         when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(metadata, caseId)).thenReturn(prosecutorOrProsecutionCaseAuthorityID);
         when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(prosecutorJsonObject));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
 
         when(hearingService.getHearingTimelineByCaseId(metadata, caseId)).thenReturn(
                 Timeline.timeline()
@@ -560,6 +674,41 @@ public class CpsCaseAccessQueryViewTest {
         assertEquals(expectedPayload, caseAndApplicationTimelines.payloadAsJsonObject().toString(), true);
     }
 
+    @Test
+    public void shouldReturnHearingSummariesWithoutUnallocatedHearingsWhenListingIsUnavailable() {
+
+        final UUID orgId = randomUUID();
+        final UUID caseId = fromString("9310e4c1-2ed4-46ed-b796-936938526877");
+        final UUID userId = fromString("7f8c79e7-fb85-464d-8fd1-3d58c9622197");
+        final UUID prosecutorOrProsecutionCaseAuthorityID = randomUUID();
+        final UUID hearingId = randomUUID();
+
+        JsonObject jsonPayload = createObjectBuilder().add("caseId", caseId.toString()).add("advocateRole", "prosecuting").build();
+        when(envelope.payloadAsJsonObject()).thenReturn(jsonPayload);
+        final Metadata metadata = metadataBuilder().withId(randomUUID())
+                .withUserId(userId.toString())
+                .withName("advocate.query.hearing.timeline")
+                .createdAt(now()).build();
+        when(envelope.metadata()).thenReturn(metadata);
+        when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
+        givenCaseRoles(caseId, userId, orgId, prosecutingRole(caseId, orgId));
+        when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
+        when(usersGroupQueryService.validateNonCPSUserOrg(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(metadata, caseId)).thenReturn(prosecutorOrProsecutionCaseAuthorityID);
+        when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(getProsecutorQueryResponse(false, true)));
+        when(hearingService.getHearingTimelineByCaseId(metadata, caseId)).thenReturn(
+                Timeline.timeline()
+                        .withHearingSummaries(of(HearingSummaries.hearingSummaries().withHearingId(hearingId).build()))
+                        .build());
+        when(listingService.getHearings(metadata, caseId.toString())).thenThrow(new IllegalStateException("listing unavailable"));
+
+        final JsonObject timelines = advocateAccessQueryView.getCaseAndApplicationTimelines(envelope).payloadAsJsonObject();
+
+        assertThat(timelines.getJsonArray(HEARING_SUMMARIES), hasSize(1));
+        assertThat(timelines.getJsonArray(HEARING_SUMMARIES).getJsonObject(0).getString("hearingId"), is(hearingId.toString()));
+        assertThat(timelines.getJsonArray(UNALLOCATED_HEARINGS), hasSize(0));
+    }
+
     private JsonObject getProsecutorQueryResponse(final boolean cpsFlag, final boolean policeFlag) {
         return createObjectBuilder()
                 .add("cpsFlag", cpsFlag)
@@ -612,13 +761,8 @@ public class CpsCaseAccessQueryViewTest {
         when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(prosecutorJsonObject));
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(defendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, defendantId), prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
 
         when(hearingService.getHearingTimelineByCaseId(metadata, caseId)).thenReturn(
                 Timeline.timeline()
@@ -657,12 +801,11 @@ public class CpsCaseAccessQueryViewTest {
         when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(prosecutorJsonObject));
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMatch"));
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(emptyList());
+        givenCaseRoles(caseId, userId, orgId, prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.empty());
         when(progressionService.getProsecutorOrProsecutionCaseAuthorityID(metadata, caseId)).thenReturn(prosecutorOrProsecutionCaseAuthorityID);
         when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(prosecutorJsonObject));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
 
         when(hearingService.getHearingTimelineByCaseId(metadata, caseId)).thenReturn(
                 Timeline.timeline()
@@ -700,13 +843,8 @@ public class CpsCaseAccessQueryViewTest {
         when(referenceDataService.getProsecutor(metadata, prosecutorOrProsecutionCaseAuthorityID)).thenReturn(Optional.of(prosecutorJsonObject));
         when(usersGroupQueryService.validateNonCPSUserOrg(any(),any(),any(),any())).thenReturn(Optional.of("OrganisationMisMatch"));
         when(userGroupService.getOrganisationDetailsForUser(userId, metadata, requester)).thenReturn(Organisation.organisation().withOrgId(orgId).build());
-        DefenceAssociation da = new DefenceAssociation();
-        DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(defendantId);
-        da.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        when(defenceAssociationRepository.findByOrganisationIdAndCaseId(orgId, caseId)).thenReturn(of(da));
+        givenCaseRoles(caseId, userId, orgId, defendingRole(caseId, orgId, defendantId), prosecutingRole(caseId, orgId));
         when(userGroupService.getGroupNamesForUser(userId, metadata, requester)).thenReturn(of("Defence Lawyers"));
-        when(organisationAccessRepository.findByCaseIdAndAssigneeOrganisationId(caseId, orgId)).thenReturn(of(new ProsecutionOrganisationAccess()));
 
         assertThrows(ForbiddenRequestException.class, () -> advocateAccessQueryView.getCaseAndApplicationTimelines(envelope));
      }
@@ -739,6 +877,18 @@ public class CpsCaseAccessQueryViewTest {
         return prosecutionOrganisationAccess;
     }
 
+    private void givenCaseRoles(final UUID caseId, final UUID userId, final UUID orgId, final AdvocateCaseRole... caseRoles) {
+        when(advocateCaseRoleRepository.findByCaseIdAndPrincipalIds(caseId, asList(userId, orgId))).thenReturn(asList(caseRoles));
+    }
+
+    private AdvocateCaseRole defendingRole(final UUID caseId, final UUID orgId, final UUID defendantId) {
+        return new AdvocateCaseRole(randomUUID(), caseId, orgId, ORGANISATION, DEFENDING, defendantId, null);
+    }
+
+    private AdvocateCaseRole prosecutingRole(final UUID caseId, final UUID orgId) {
+        return new AdvocateCaseRole(randomUUID(), caseId, orgId, ORGANISATION, PROSECUTING, null, null);
+    }
+
     private ProsecutionOrganisationAccess getProsecutionOrganisationAccessEntity(UUID caseId, UUID organisationId) {
 
         ProsecutionOrganisationAccess prosecutionOrganisationAccess = new ProsecutionOrganisationAccess();
@@ -1,6 +1,9 @@
 package uk.gov.moj.cpp.defence.query.view;
 
 import static java.time.ZoneId.of;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -13,14 +16,10 @@ import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
 
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.MetadataBuilder;
-import uk.gov.moj.cpp.defence.persistence.DefenceAssociationDefendantRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceAssociationRepository;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
-import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociationDefendant;
+import uk.gov.moj.cpp.defence.persistence.projection.DefenceAssociationSummary;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -47,9 +46,6 @@ public class DefenceAssociationQueryViewTest {
     @InjectMocks
     private DefenceAssociationQueryView defenceAssociationQueryView;
 
-    @Mock
-    private DefenceAssociationDefendantRepository defenceAssociationDefendantRepository;
-
     @Mock
     private DefenceAssociationRepository defenceAssociationRepository;
 
@@ -57,7 +53,7 @@ public class DefenceAssociationQueryViewTest {
     public void shouldReturnDefenceAssociation() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedCurrentDefenceAssociationDefendant());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(stubbedCurrentDefenceAssociationDefendant());
 
         //When
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedOrganisation(stubbedQueryObject());
@@ -74,7 +70,7 @@ public class DefenceAssociationQueryViewTest {
     public void shouldReturnEmptyDataWhenNoAssociationExist() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedEmptyDefenceAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(emptyList());
 
         //When
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedOrganisation(stubbedQueryObject());
@@ -86,10 +82,7 @@ public class DefenceAssociationQueryViewTest {
 
 
     @Test
-    public void shouldReturnEmptyDataWhenAssociationIsNull() {
-
-        //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(null);
+    public void shouldReturnEmptyDataWhenDefendantWasNeverAssociated() {
 
         //When
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedOrganisation(stubbedQueryObject());
@@ -103,7 +96,7 @@ public class DefenceAssociationQueryViewTest {
     public void shouldReturnCurrentAssociationGivenExpiredAssociationExist() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedExpiredAssociationAndCurrentAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(stubbedExpiredAssociationAndCurrentAssociation());
 
         //When
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedOrganisation(stubbedQueryObject());
@@ -119,7 +112,7 @@ public class DefenceAssociationQueryViewTest {
     public void shouldReturnEmptyDataWhenOnlyExpiredAssociationEntryExist() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedOnlyExpiredAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(stubbedOnlyExpiredAssociation());
 
         //When
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedOrganisation(stubbedQueryObject());
@@ -136,7 +129,7 @@ public class DefenceAssociationQueryViewTest {
         final UUID defendantId1 = randomUUID();
         final UUID defendantId2 = randomUUID();
 
-        when(defenceAssociationRepository.findByUserIdAndCurrentDate(any(), any())).thenReturn(getAssociatedDefendantsDetails(defendantId1, defendantId2));
+        when(defenceAssociationRepository.findDefendantIdsByUserIdAndCurrentDate(any(), any())).thenReturn(asList(defendantId1, defendantId2));
 
         final JsonEnvelope defenceAssociationResponse = defenceAssociationQueryView.getAssociatedDefendants(getQueryWithUserId());
 
@@ -158,7 +151,7 @@ public class DefenceAssociationQueryViewTest {
     void shouldReturnDefenceAssociations() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedExpiredAssociationAndCurrentAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(stubbedExpiredAssociationAndCurrentAssociation());
 
         //When
         final JsonEnvelope defenceAssociationsResponse = defenceAssociationQueryView.getAssociatedOrganisations(stubbedQueryObject());
@@ -185,7 +178,7 @@ public class DefenceAssociationQueryViewTest {
     void shouldReturnEmptyAssociationsArrayWhenNoAssociationsExist() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedEmptyDefenceAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(emptyList());
 
         //When
         final JsonEnvelope defenceAssociationsResponse = defenceAssociationQueryView.getAssociatedOrganisations(stubbedQueryObject());
@@ -196,10 +189,7 @@ public class DefenceAssociationQueryViewTest {
     }
 
     @Test
-    void shouldReturnEmptyAssociationsArrayWhenAssociationIsNull() {
-
-        //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(null);
+    void shouldReturnEmptyAssociationsArrayWhenDefendantWasNeverAssociated() {
 
         //When
         final JsonEnvelope defenceAssociationsResponse = defenceAssociationQueryView.getAssociatedOrganisations(stubbedQueryObject());
@@ -213,7 +203,7 @@ public class DefenceAssociationQueryViewTest {
     void shouldReturnExpiredAssociationDataWhenOnlyExpiredAssociationEntryExist() {
 
         //Given
-        when(defenceAssociationDefendantRepository.findOptionalByDefendantId(DEFENDANT_ID)).thenReturn(stubbedOnlyExpiredAssociation());
+        when(defenceAssociationRepository.findSummariesByDefendantId(DEFENDANT_ID)).thenReturn(stubbedOnlyExpiredAssociation());
 
         //When
         final JsonEnvelope defenceAssociationsResponse = defenceAssociationQueryView.getAssociatedOrganisations(stubbedQueryObject());
@@ -228,13 +218,6 @@ public class DefenceAssociationQueryViewTest {
         assertThat(getValue(associations.get(0).asJsonObject(), "endDate"), notNullValue());
     }
 
-    private DefenceAssociationDefendant stubbedEmptyDefenceAssociation() {
-        final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(DEFENDANT_ID);
-        defenceAssociationDefendant.setDefenceAssociations(new ArrayList<>());
-        return defenceAssociationDefendant;
-    }
-
     private String getValue(final JsonObject associationsJsonObject, final String key) {
         return associationsJsonObject.getString(key);
     }
@@ -270,67 +253,24 @@ public class DefenceAssociationQueryViewTest {
                 .withUserId(randomUUID().toString());
     }
 
-    private DefenceAssociationDefendant stubbedCurrentDefenceAssociationDefendant() {
-        final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(DEFENDANT_ID);
-        final DefenceAssociation defenceAssociation = stubbedAssociation(ZonedDateTime.now(of(UTC)), null, defenceAssociationDefendant, USER_ID, ORGANISATION_ID);
-        defenceAssociationDefendant.setDefenceAssociations(new ArrayList<>());
-        defenceAssociationDefendant.getDefenceAssociations().add(defenceAssociation);
-        return defenceAssociationDefendant;
-    }
-
-    private List<DefenceAssociation> getAssociatedDefendantsDetails(final UUID defendantId1, final UUID defendantId2) {
-        final DefenceAssociationDefendant defenceAssociationDefendant1 = new DefenceAssociationDefendant();
-        defenceAssociationDefendant1.setDefendantId(defendantId1);
-        final DefenceAssociation defenceAssociation1 = stubbedAssociation(ZonedDateTime.now(of(UTC)), null, defenceAssociationDefendant1, USER_ID, ORGANISATION_ID);
-        defenceAssociationDefendant1.setDefenceAssociations(new ArrayList<>());
-        defenceAssociationDefendant1.getDefenceAssociations().add(defenceAssociation1);
-
-        final DefenceAssociationDefendant defenceAssociationDefendant2 = new DefenceAssociationDefendant();
-        defenceAssociationDefendant2.setDefendantId(defendantId2);
-        final DefenceAssociation defenceAssociation2 = stubbedAssociation(ZonedDateTime.now(of(UTC)), null, defenceAssociationDefendant2, USER_ID, ORGANISATION_ID);
-        defenceAssociationDefendant2.setDefenceAssociations(new ArrayList<>());
-        defenceAssociationDefendant2.getDefenceAssociations().add(defenceAssociation2);
-
-        return Arrays.asList(defenceAssociation1, defenceAssociation2);
+    private List<DefenceAssociationSummary> stubbedCurrentDefenceAssociationDefendant() {
+        return singletonList(stubbedAssociation(ZonedDateTime.now(of(UTC)), null, USER_ID, ORGANISATION_ID));
     }
 
-    private DefenceAssociationDefendant stubbedOnlyExpiredAssociation() {
-        final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(DEFENDANT_ID);
-        final DefenceAssociation defenceAssociation = stubbedAssociation(ZonedDateTime.now(of(UTC)), ZonedDateTime.now(of(UTC)), defenceAssociationDefendant, randomUUID(), ORGANISATION_ID2);
-        defenceAssociationDefendant.setDefenceAssociations(new ArrayList<>());
-        defenceAssociationDefendant.getDefenceAssociations().add(defenceAssociation);
-        return defenceAssociationDefendant;
+    private List<DefenceAssociationSummary> stubbedOnlyExpiredAssociation() {
+        return singletonList(stubbedAssociation(ZonedDateTime.now(of(UTC)), ZonedDateTime.now(of(UTC)), randomUUID(), ORGANISATION_ID2));
     }
 
-    private DefenceAssociationDefendant stubbedExpiredAssociationAndCurrentAssociation() {
-        final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
-        defenceAssociationDefendant.setDefendantId(DEFENDANT_ID);
-        DefenceAssociation defenceAssociation = stubbedAssociation(ZonedDateTime.now(of(UTC)), ZonedDateTime.now(of(UTC)), defenceAssociationDefendant, randomUUID(), ORGANISATION_ID2);
-        defenceAssociationDefendant.setDefenceAssociations(new ArrayList<>());
-        defenceAssociationDefendant.getDefenceAssociations().add(defenceAssociation);
-        defenceAssociation = stubbedAssociation(ZonedDateTime.now(of(UTC)), null, defenceAssociationDefendant, USER_ID, ORGANISATION_ID);
-        defenceAssociationDefendant.getDefenceAssociations().add(defenceAssociation);
-        assertThat(defenceAssociationDefendant.getDefenceAssociations().size(), equalTo(2));
-        return defenceAssociationDefendant;
+    private List<DefenceAssociationSummary> stubbedExpiredAssociationAndCurrentAssociation() {
+        return asList(stubbedAssociation(ZonedDateTime.now(of(UTC)), ZonedDateTime.now(of(UTC)), randomUUID(), ORGANISATION_ID2),
+                stubbedAssociation(ZonedDateTime.now(of(UTC)), null, USER_ID, ORGANISATION_ID));
     }
 
-
-    private DefenceAssociation stubbedAssociation(final ZonedDateTime startDate,
-                                                  final ZonedDateTime endDate,
-                                                  final DefenceAssociationDefendant defenceAssociationDefendant,
-                                                  final UUID userId,
-                                                  final UUID orgId) {
-        final DefenceAssociation defenceAssociation = new DefenceAssociation();
-        defenceAssociation.setId(randomUUID());
-        defenceAssociation.setDefenceAssociationDefendant(defenceAssociationDefendant);
-        defenceAssociation.setUserId(userId);
-        defenceAssociation.setOrgId(orgId);
-        defenceAssociation.setStartDate(startDate);
-        defenceAssociation.setEndDate(endDate);
-        defenceAssociation.setRepresentationType(PRO_BONO);
-        return defenceAssociation;
+    private DefenceAssociationSummary stubbedAssociation(final ZonedDateTime startDate,
+                                                         final ZonedDateTime endDate,
+                                                         final UUID userId,
+                                                         final UUID orgId) {
+        return new DefenceAssociationSummary(orgId, userId, startDate, endDate, PRO_BONO);
     }
 
 }
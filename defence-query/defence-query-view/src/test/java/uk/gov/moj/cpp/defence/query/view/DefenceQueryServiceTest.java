@@ -7,6 +7,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.justice.cps.defence.Allegations;
 import uk.gov.justice.cps.defence.CaseDefendantsOrganisations;
@@ -18,6 +19,7 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.moj.cpp.defence.common.Defendant;
+import uk.gov.moj.cpp.defence.common.cache.CaseUrnCache;
 import uk.gov.moj.cpp.defence.persistence.DefenceCaseRepository;
 import uk.gov.moj.cpp.defence.persistence.DefenceClientRepository;
 import uk.gov.moj.cpp.defence.persistence.IdpcAccessHistoryRepository;
@@ -27,6 +29,9 @@ import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcDetails;
 import uk.gov.moj.cpp.defence.persistence.entity.Instruction;
+import uk.gov.moj.cpp.defence.persistence.projection.CaseIdpcAccessOrganisation;
+import uk.gov.moj.cpp.defence.persistence.projection.DefendantOrganisationSummary;
+import uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary;
 
 import javax.json.JsonObject;
 import java.io.File;
@@ -42,6 +47,7 @@ import static java.lang.Boolean.TRUE;
 import static java.time.LocalDate.now;
 import static java.time.LocalDate.parse;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
@@ -51,8 +57,10 @@ import static org.apache.commons.io.FileUtils.readFileToString;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.deltaspike.core.util.ArraysUtils.asSet;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -85,6 +93,9 @@ public class DefenceQueryServiceTest {
     @Mock
     DefenceCaseRepository defenceCaseRepository;
 
+    @Spy
+    CaseUrnCache caseUrnCache = new CaseUrnCache();
+
     @InjectMocks
     DefenceQueryService defenceQueryService;
     @Mock
@@ -100,9 +111,8 @@ public class DefenceQueryServiceTest {
     @Test
     public void getIdpcFileName() {
         final UUID defenceClientId = randomUUID();
-        IdpcDetails idpcDetails = new IdpcDetails(null, null, getIdpcDetailsVo(),
-                "SURNAME firstname 11DD0304617 IDPC");
-        when(idpcDetailsRepository.findOptionalByDefenceClientId(defenceClientId)).thenReturn(idpcDetails);
+        final IdpcMetadataSummary idpcDetails = new IdpcMetadataSummary("SURNAME firstname 11DD0304617 IDPC", 2, now(), "1MB");
+        when(idpcDetailsRepository.findIdpcMetadataForDefenceClient(defenceClientId)).thenReturn(idpcDetails);
 
         String idpcFileName = defenceQueryService.getIdpcFileName(defenceClientId);
         assertThat(idpcFileName, is("SURNAME_firstname_11DD0304617_IDPC.pdf"));
@@ -126,7 +136,11 @@ public class DefenceQueryServiceTest {
         defenceClient.setLastAssociatedOrganisation(fromString(lastOrganisation));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(FIRSTNAME, LASTNAME, DOB, URN, IS_CIVIL.get())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        final UUID earlierIdpcOrganisation = randomUUID();
+        final UUID latestIdpcOrganisation = randomUUID();
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(asList(
+                new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, latestIdpcOrganisation),
+                new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, earlierIdpcOrganisation)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -140,6 +154,10 @@ public class DefenceQueryServiceTest {
         assertEquals(organisationId, defenceClientIdpcAccessOrganisations.getAssociatedOrganisationVO().getOrganisationId().toString());
         assertEquals(lastOrganisation, defenceClientIdpcAccessOrganisations.getLastAssociatedOrganisationVO().getOrganisationId().toString());
         assertTrue(defenceClientIdpcAccessOrganisations.getInstructionHistory().isEmpty());
+        assertThat(defenceClientIdpcAccessOrganisations.getCaseUrn(), is(URN));
+        assertThat(defenceClientIdpcAccessOrganisations.getProsecutionAuthorityCode(), is(PROSECUTING_AUTHORITY));
+        assertThat(defenceClientIdpcAccessOrganisations.getIdpcAccessingOrganisations().get(0).getOrganisationId(), is(latestIdpcOrganisation));
+        assertThat(defenceClientIdpcAccessOrganisations.getIdpcAccessingOrganisations().get(1).getOrganisationId(), is(earlierIdpcOrganisation));
     }
 
     @Test
@@ -186,13 +204,8 @@ public class DefenceQueryServiceTest {
         when(envelope.metadata()).thenReturn(metadata);
         when(envelope.payload()).thenReturn(DefenceClientId.defenceClientId().withDefenceClientId(defenceClientId).build());
 
-        final IdpcDetails idpcDetails = new IdpcDetails();
-        idpcDetails.setDefenceClientId(defenceClientId);
-        idpcDetails.setId(randomUUID());
-        idpcDetails.setMaterialId(randomUUID());
-        idpcDetails.setDocumentName("documentName");
-        idpcDetails.setPublishedDate(now());
-        when(idpcDetailsRepository.findOptionalByDefenceClientId(defenceClientId)).thenReturn(idpcDetails);
+        final IdpcMetadataSummary idpcDetails = new IdpcMetadataSummary("documentName", null, now(), null);
+        when(idpcDetailsRepository.findIdpcMetadataForDefenceClient(defenceClientId)).thenReturn(idpcDetails);
 
         //When
         final Envelope<DefenceClientIdpcMetadata> defenceClientIdpcMetadataResponse = defenceQueryService.findIdpcMetadataForDefenceClient(envelope);
@@ -213,13 +226,8 @@ public class DefenceQueryServiceTest {
         when(envelope.metadata()).thenReturn(metadata);
         when(envelope.payload()).thenReturn(Defendant.defendant().withDefendantId(defenceClientId).build());
 
-        final IdpcDetails idpcDetails = new IdpcDetails();
-        idpcDetails.setDefenceClientId(defenceClientId);
-        idpcDetails.setId(randomUUID());
-        idpcDetails.setMaterialId(randomUUID());
-        idpcDetails.setDocumentName("documentName");
-        idpcDetails.setPublishedDate(now());
-        when(idpcDetailsRepository.findIdpcDetailsForDefendantId(defenceClientId)).thenReturn(idpcDetails);
+        final IdpcMetadataSummary idpcDetails = new IdpcMetadataSummary("documentName", null, now(), null);
+        when(idpcDetailsRepository.findIdpcMetadataForDefendantId(defenceClientId)).thenReturn(idpcDetails);
 
         //When
         final Envelope<DefenceClientIdpcMetadata> defenceClientIdpcMetadataResponse = defenceQueryService.findIdpcMetadataForDefendant(envelope);
@@ -245,11 +253,12 @@ public class DefenceQueryServiceTest {
         defenceCase.setUrn("urn123");
         defenceCase.setProsecutionAuthorityCode(randomUUID().toString());
 
-        final DefenceClient defenceClient = new DefenceClient();
-        defenceClient.setCaseId(caseId);
+        final UUID defendantId = randomUUID();
+        final UUID organisationId = randomUUID();
 
         when(defenceCaseRepository.findBy(caseId)).thenReturn(defenceCase);
-        when(defenceClientRepository.findByCaseId(caseId)).thenReturn(singletonList(defenceClient));
+        when(defenceClientRepository.findDefendantOrganisationSummariesByCaseId(caseId))
+                .thenReturn(singletonList(new DefendantOrganisationSummary(defendantId, "first", "last", null, organisationId)));
 
         //When
         final Envelope<CaseDefendantsOrganisations> caseDefendantsOrganisations = defenceQueryService.getCaseDefendantsWithOrganisations(jsonEnvelope);
@@ -257,6 +266,8 @@ public class DefenceQueryServiceTest {
         //Then
         final CaseDefendantsOrganisations caseDefendantsOrganisation = caseDefendantsOrganisations.payload();
         assertThat(caseDefendantsOrganisation.getCaseDefendantOrganisation().getCaseId(), is(caseId));
+        assertThat(caseDefendantsOrganisation.getCaseDefendantOrganisation().getDefendants().get(0).getDefendantId(), is(defendantId));
+        assertThat(caseDefendantsOrganisation.getCaseDefendantOrganisation().getDefendants().get(0).getAssociatedOrganisation(), is(organisationId));
 
     }
 
@@ -324,10 +335,25 @@ public class DefenceQueryServiceTest {
     @Test
     public void shouldGetCaseIdByUrn() {
         final UUID caseId = randomUUID();
-        when(defenceCaseRepository.findOptionalByUrn(URN)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(defenceCaseRepository.findCaseIdsByUrn(URN.toUpperCase())).thenReturn(singletonList(caseId));
+
+        assertThat(defenceQueryService.getCaseId(URN), is(caseId));
+        assertThat(defenceQueryService.getCaseId(URN.toLowerCase()), is(caseId));
+        verify(defenceCaseRepository, times(1)).findCaseIdsByUrn(URN.toUpperCase());
+    }
+
+    @Test
+    public void shouldFailWhenUrnIsHeldByMoreThanOneCase() {
+        when(defenceCaseRepository.findCaseIdsByUrn(URN)).thenReturn(asList(randomUUID(), randomUUID()));
+
+        assertThrows(IllegalStateException.class, () -> defenceQueryService.getCaseId(URN));
+    }
+
+    @Test
+    public void shouldReturnNullCaseIdForUnknownUrn() {
+        when(defenceCaseRepository.findCaseIdsByUrn(URN)).thenReturn(emptyList());
 
-        final UUID foundCaseId = defenceQueryService.getCaseId(URN);
-        assertThat(foundCaseId, is(caseId));
+        assertThat(defenceQueryService.getCaseId(URN), nullValue());
     }
 
 
@@ -347,7 +373,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setInstructionHistory(asList(instruction));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(FIRSTNAME, LASTNAME, DOB, URN)).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -379,7 +405,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setInstructionHistory(asList(instruction));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(FIRSTNAME, LASTNAME, DOB, URN, IS_CIVIL.get())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -410,7 +436,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setInstructionHistory(asList(instruction));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(any(), any(), any())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(FIRSTNAME,
                 LASTNAME, DOB.toString(), null, Optional.empty());
@@ -436,7 +462,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setInstructionHistory(asList(instruction));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(anyString(), anyString(), any(), anyBoolean())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(FIRSTNAME,
                 LASTNAME, DOB.toString(), null, IS_CIVIL);
@@ -465,7 +491,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setInstructionHistory(asList(instruction, instruction1));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(FIRSTNAME, LASTNAME, DOB, URN)).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -506,7 +532,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setLastAssociatedOrganisation(fromString(lastOrganisation));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(ORGANISATION_NAME, URN)).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -533,7 +559,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setLastAssociatedOrganisation(fromString(lastOrganisation));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(ORGANISATION_NAME, URN, IS_CIVIL.get())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         //When
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(
@@ -561,7 +587,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setLastAssociatedOrganisation(fromString(lastOrganisation));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(any(String.class))).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(ORGANISATION_NAME, null, isCivil);
 
@@ -584,7 +610,7 @@ public class DefenceQueryServiceTest {
         defenceClient.setLastAssociatedOrganisation(fromString(lastOrganisation));
         defenceClient.setCaseId(caseId);
         when(defenceClientRepository.findDefenceClientByCriteria(anyString(), anyBoolean())).thenReturn(singletonList(defenceClient));
-        when(defenceCaseRepository.findBy(caseId)).thenReturn(new DefenceCase(caseId, URN, PROSECUTING_AUTHORITY, FALSE, FALSE));
+        when(idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId)).thenReturn(singletonList(new CaseIdpcAccessOrganisation(URN, PROSECUTING_AUTHORITY, null)));
 
         final DefenceClientIdpcAccessOrganisations defenceClientIdpcAccessOrganisations = defenceQueryService.getClientAndIDPCAccessOrganisations(ORGANISATION_NAME, null, IS_CIVIL);
 
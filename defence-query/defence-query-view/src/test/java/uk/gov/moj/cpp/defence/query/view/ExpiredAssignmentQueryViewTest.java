@@ -9,6 +9,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_CASE_ID;
+import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_AFTER_ID;
 import static uk.gov.moj.cpp.defence.query.view.CpsCaseAccessQueryView.EXPIRED_ASSIGNMENTS_SELECT_COUNT;
 
 import uk.gov.justice.cps.defence.ExpiredProsecutorAssignments;
@@ -25,6 +29,7 @@ import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
 import uk.gov.moj.cpp.defence.persistence.entity.RepresentationType;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -157,6 +162,46 @@ public class ExpiredAssignmentQueryViewTest {
         assertThat(organisationAssignments, hasSize(equalTo(1)));
     }
 
+    @Test
+    public void shouldGetNextPageOfExpiredProsecutorAssignmentsAfterCursor() {
+        final ZonedDateTime expiredAfter = now().minusDays(1);
+        final UUID idAfter = randomUUID();
+        final ProsecutionAdvocateAccess prosecutionAdvocateAccess = getProsecutionAdvocateAccess(randomUUID());
+        prosecutionAdvocateAccess.setId(randomUUID());
+        prosecutionAdvocateAccess.setProsecutionOrganisation(getProsecutionOrganisationAccessEntity(caseId, organisationId));
+        when(advocateAccessRepository.findExpiredCaseAssignmentsAfter(expiredAfter, idAfter, 50)).thenReturn(singletonList(prosecutionAdvocateAccess));
+        when(envelope.payloadAsJsonObject()).thenReturn(createObjectBuilder()
+                .add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, "50")
+                .add(EXPIRED_AFTER, expiredAfter.toString())
+                .add(EXPIRED_AFTER_ID, idAfter.toString())
+                .build());
+
+        final List<ProsecutorAssignment> prosecutorAssignments = advocateAccessQueryView.queryExpiredProsecutorAssignments(envelope).payload().getProsecutorAssignments();
+
+        assertThat(prosecutorAssignments, hasSize(equalTo(1)));
+        assertThat(prosecutorAssignments.get(0).getId(), is(prosecutionAdvocateAccess.getId()));
+    }
+
+    @Test
+    public void shouldGetNextPageOfExpiredProsecutorOrganisationAssignmentsAfterCursor() {
+        final ZonedDateTime expiredAfter = now().minusDays(1);
+        final UUID caseIdAfter = randomUUID();
+        final UUID assigneeOrganisationIdAfter = randomUUID();
+        final ProsecutionOrganisationAccess prosecutionOrganisationAccess = getProsecutionOrganisationAccessEntity(caseId, organisationId);
+        when(organisationAccessRepository.findExpiredCaseAssignmentsAfter(expiredAfter, caseIdAfter, assigneeOrganisationIdAfter, 50)).thenReturn(singletonList(prosecutionOrganisationAccess));
+        when(envelope.payloadAsJsonObject()).thenReturn(createObjectBuilder()
+                .add(EXPIRED_ASSIGNMENTS_SELECT_COUNT, "50")
+                .add(EXPIRED_AFTER, expiredAfter.toString())
+                .add(EXPIRED_AFTER_CASE_ID, caseIdAfter.toString())
+                .add(EXPIRED_AFTER_ASSIGNEE_ORGANISATION_ID, assigneeOrganisationIdAfter.toString())
+                .build());
+
+        final List<OrganisationAssignment> organisationAssignments = advocateAccessQueryView.queryExpiredProsecutorOrganisationAssignments(envelope).payload().getOrganisationAssignments();
+
+        assertThat(organisationAssignments, hasSize(equalTo(1)));
+        assertThat(organisationAssignments.get(0).getCaseId(), is(caseId));
+    }
+
     private ProsecutionAdvocateAccess getProsecutionAdvocateAccess(UUID advocateUserId) {
         ProsecutionAdvocateAccess prosecutionAdvocateAccess = new ProsecutionAdvocateAccess();
         prosecutionAdvocateAccess.setAssigneeDetails(new AssignmentUserDetails(randomUUID(), advocateUserId, "Patesh", "Singh"));
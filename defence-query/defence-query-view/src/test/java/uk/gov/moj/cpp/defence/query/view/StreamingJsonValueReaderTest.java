@@ -0,0 +1,89 @@
+package uk.gov.moj.cpp.defence.query.view;
+
+import static java.util.UUID.randomUUID;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.cps.defence.caag.ProsecutioncaseCaag;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.justice.services.common.json.DefaultJsonParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class StreamingJsonValueReaderTest {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Test
+    public void shouldReadCaagWithoutMigrationSourceSystem() throws IOException {
+        final UUID defendantId = randomUUID();
+        final String payload = readFileToString(new File(this.getClass().getClassLoader().getResource("defence.query.prosecutioncase-caag.json").getFile()))
+                .replace("DEFENDANT_ID", defendantId.toString());
+        final JsonObject caagJson = new DefaultJsonParser().toObject(payload, JsonObject.class);
+
+        final ProsecutioncaseCaag prosecutioncaseCaag = new StreamingJsonValueReader(objectMapper, "caseDetails.migrationSourceSystem")
+                .read(caagJson, ProsecutioncaseCaag.class);
+
+        assertThat(prosecutioncaseCaag.getCaseId(), is("de197db7-f0cd-46c6-a588-2f266793a612"));
+        assertThat(prosecutioncaseCaag.getCaseDetails().getCaseURN(), is("53NP3458322"));
+        assertThat(prosecutioncaseCaag.getDefendants().size(), is(caagJson.getJsonArray("defendants").size()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldDropFieldsOnlyAtTheirPathIncludingWithinArrays() throws IOException {
+        final JsonObject json = createObjectBuilder()
+                .add("secret", "top")
+                .add("defendants", createArrayBuilder()
+                        .add(createObjectBuilder().add("id", "1").add("secret", "first"))
+                        .add(createObjectBuilder().add("id", "2").add("secret", "second")))
+                .build();
+
+        final Map<String, Object> result = new StreamingJsonValueReader(objectMapper, "defendants.secret").read(json, MAP);
+
+        assertThat(result.get("secret"), is("top"));
+        final List<Map<String, Object>> defendants = (List<Map<String, Object>>) result.get("defendants");
+        assertThat(defendants.size(), is(2));
+        assertThat(defendants.get(0).get("id"), is("1"));
+        assertThat(defendants.get(0), not(hasKey("secret")));
+        assertThat(defendants.get(1), not(hasKey("secret")));
+    }
+
+    @Test
+    public void shouldKeepScalarValues() throws IOException {
+        final BigInteger big = new BigInteger("123456789012345678901234567890");
+        final JsonObject json = createObjectBuilder()
+                .add("count", 3)
+                .add("big", big)
+                .add("amount", 12.5)
+                .add("flag", true)
+                .addNull("nothing")
+                .build();
+
+        final Map<String, Object> result = new StreamingJsonValueReader(objectMapper).read(json, MAP);
+
+        assertThat(((Number) result.get("count")).intValue(), is(3));
+        assertThat(result.get("big"), is(big));
+        assertThat(((Number) result.get("amount")).doubleValue(), is(12.5));
+        assertThat(result.get("flag"), is(true));
+        assertThat(result.containsKey("nothing"), is(true));
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.moj.cpp.defence.service;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.util.Objects.isNull;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.defence.common.cache.ExpiringLruCache;
+import uk.gov.moj.cpp.defence.common.metrics.DefenceMetrics;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, time-to-live cache for users-groups lookups keyed on (lookup, userId).
+ * Entries are evicted in least-recently-used order once the configured size is reached.
+ * Null results are never cached so that unknown users are always looked up again.
+ * Group memberships and permissions are not cached: users-groups publishes no event this service
+ * could invalidate them on, and a grant or revoke has to take effect on the next request.
+ */
+@ApplicationScoped
+public class UserGroupCache {
+
+    public static final String ORGANISATION_DETAILS = "organisation-details";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserGroupCache.class);
+
+    private static final long DEFAULT_TTL_SECONDS = 30L;
+    private static final int DEFAULT_MAX_ENTRIES = 5000;
+
+    @Inject
+    @Value(key = "defence.usersgroups.cache.ttl.seconds", defaultValue = "30")
+    private String ttlSecondsValue;
+
+    @Inject
+    @Value(key = "defence.usersgroups.cache.max.entries", defaultValue = "5000")
+    private String maxEntriesValue;
+
+    @Inject
+    private DefenceMetrics defenceMetrics;
+
+    private final ExpiringLruCache<CacheKey, Object> entries = new ExpiringLruCache<>(this::ttlSeconds, this::maxEntries);
+
+    @PostConstruct
+    void registerGauges() {
+        defenceMetrics.gauge("usersgroups-cache.hits", this::getHitCount);
+        defenceMetrics.gauge("usersgroups-cache.misses", this::getMissCount);
+        defenceMetrics.gauge("usersgroups-cache.evictions", this::getEvictionCount);
+        defenceMetrics.gauge("usersgroups-cache.size", this::size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String lookup, final UUID userId, final Supplier<T> loader) {
+        if (isNull(userId)) {
+            return loader.get();
+        }
+        return (T) entries.get(new CacheKey(lookup, userId), loader::get);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+        LOGGER.info("Users groups cache cleared, hits={} misses={} evictions={}", getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    public long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    public long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void setClock(final Clock clock) {
+        entries.setClock(clock);
+    }
+
+    private long ttlSeconds() {
+        return isNull(ttlSecondsValue) ? DEFAULT_TTL_SECONDS : parseLong(ttlSecondsValue);
+    }
+
+    private int maxEntries() {
+        return isNull(maxEntriesValue) ? DEFAULT_MAX_ENTRIES : parseInt(maxEntriesValue);
+    }
+
+    private static final class CacheKey {
+        private final String lookup;
+        private final UUID userId;
+
+        private CacheKey(final String lookup, final UUID userId) {
+            this.lookup = lookup;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return lookup.equals(that.lookup) && userId.equals(that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lookup, userId);
+        }
+    }
+}
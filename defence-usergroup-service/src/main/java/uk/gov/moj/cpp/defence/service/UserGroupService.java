@@ -1,7 +1,6 @@
 package uk.gov.moj.cpp.defence.service;
 
 import static java.lang.String.format;
-import static java.util.Objects.nonNull;
 import static java.util.UUID.fromString;
 import static java.util.stream.Collectors.toList;
 import static javax.json.JsonValue.NULL;
@@ -12,6 +11,11 @@ import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.OBJECT;
 import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.SOURCE;
 import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.TARGET;
 import static uk.gov.moj.cpp.defence.service.PermissionService.hasNullPayload;
+import static uk.gov.moj.cpp.defence.service.UserGroupCache.ORGANISATION_DETAILS;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toFirstUser;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toGroupNames;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toOrganisation;
+import static uk.gov.moj.cpp.defence.service.UsersGroupsResponseDecoder.toPermissions;
 
 import uk.gov.justice.cps.defence.Permission;
 import uk.gov.justice.cps.defence.PersonDetails;
@@ -20,22 +24,18 @@ import uk.gov.justice.services.core.requester.Requester;
 import uk.gov.justice.services.core.sender.Sender;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
-import uk.gov.justice.services.messaging.JsonObjects;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.messaging.MetadataBuilder;
-import uk.gov.moj.cpp.defence.Address;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.OrganisationDetails;
 import uk.gov.moj.cpp.defence.UsergroupDetails;
 import uk.gov.moj.cpp.defence.exception.UserGroupQueryException;
 
 import java.time.ZonedDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import javax.json.JsonArray;
+import javax.inject.Inject;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
@@ -66,6 +66,8 @@ public class UserGroupService {
     public static final String STATUS = "status";
     public static final String ID = "id";
 
+    @Inject
+    private UserGroupCache userGroupCache;
 
     public void givePermission(final Permission permission, final Metadata metadata, final Sender sender) {
         final JsonObject permissionRequest = createObjectBuilder()
@@ -83,6 +85,10 @@ public class UserGroupService {
     }
 
     public Organisation getOrganisationDetailsForUser(final UUID userId, final Metadata metadata, final Requester requester) {
+        return userGroupCache.get(ORGANISATION_DETAILS, userId, () -> fetchOrganisationDetailsForUser(userId, metadata, requester));
+    }
+
+    private Organisation fetchOrganisationDetailsForUser(final UUID userId, final Metadata metadata, final Requester requester) {
         final JsonObject getOrganisationForUserRequest = createObjectBuilder().add(USER_ID, userId.toString()).build();
         final MetadataBuilder metadataWithActionName = metadataBuilderWithNewActionName(metadata, "usersgroups.get-organisation-details-for-user");
         final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithActionName, getOrganisationForUserRequest);
@@ -92,28 +98,7 @@ public class UserGroupService {
             return null;
         }
 
-        final Address.Builder addressBuilder = Address.address();
-        if (response.payload().toString().contains(ADDRESS_LINE1)) {
-            addressBuilder.withAddress1(response.payload().getJsonString(ADDRESS_LINE1).getString());
-        }
-        if (response.payload().toString().contains(ADDRESS_LINE2)) {
-            addressBuilder.withAddress2(response.payload().getJsonString(ADDRESS_LINE2).getString());
-        }
-        if (response.payload().toString().contains(ADDRESS_LINE3)) {
-            addressBuilder.withAddress3(response.payload().getJsonString(ADDRESS_LINE3).getString());
-        }
-        if (response.payload().toString().contains(ADDRESS_LINE4)) {
-            addressBuilder.withAddress4(response.payload().getJsonString(ADDRESS_LINE4).getString());
-        }
-        if (response.payload().toString().contains(ADDRESS_POSTCODE)) {
-            addressBuilder.withAddressPostcode(response.payload().getJsonString(ADDRESS_POSTCODE).getString());
-        }
-
-        return uk.gov.moj.cpp.defence.Organisation.organisation()
-                .withOrgId(fromString(response.payload().getJsonString(ORGANISATION_ID).getString()))
-                .withOrganisationName(response.payload().getJsonString(ORGANISATION_NAME).getString())
-                .withAddress(addressBuilder.build())
-                .build();
+        return toOrganisation(response.payload());
     }
 
 
@@ -141,17 +126,11 @@ public class UserGroupService {
 
         final Envelope<JsonObject> response = requester.requestAsAdmin(requestEnvelope, JsonObject.class);
 
-        if (hasNullPayload(response) || response.payload().getJsonArray(USERS) == null || response.payload().getJsonArray(USERS).isEmpty()) {
+        if (hasNullPayload(response)) {
             return null;
         }
 
-        final JsonObject userJson = ((JsonObject) response.payload().getJsonArray(USERS).get(0));
-
-        return PersonDetails.personDetails()
-                .withFirstName(userJson.getString(FIRST_NAME))
-                .withLastName(userJson.getString(LAST_NAME))
-                .withUserId(fromString(userJson.getString(USER_ID)))
-                .build();
+        return toFirstUser(response.payload());
     }
 
     public List<String> getGroupNamesForUser(final UUID userId, final Metadata metadata, final Requester requester) {
@@ -163,12 +142,7 @@ public class UserGroupService {
         if (hasNullPayload(response) || response.payload().getJsonArray(GROUPS) == null) {
             throw new UserGroupQueryException(format("Groups information could not be found for the user %s", userId.toString()));
         }
-        final JsonArray groupsJsonArray = response.payload().getJsonArray(GROUPS);
-
-        return groupsJsonArray.stream()
-                .map(group -> JsonObjects.getString((JsonObject) group, GROUP_NAME).get()
-                ).collect(Collectors.toList());
-
+        return toGroupNames(response.payload().getJsonArray(GROUPS));
     }
 
     public List<Permission> getPermissions(final UUID userId, final Metadata metadata, final Requester requester) {
@@ -178,33 +152,7 @@ public class UserGroupService {
         final JsonEnvelope requestEnvelope = envelopeFrom(metadataWithActionName, getOrganisationForUserRequest);
         final Envelope<JsonObject> response = requester.requestAsAdmin(requestEnvelope, JsonObject.class);
 
-        final JsonArray permissionsJsonArray = response.payload().getJsonArray(PERMISSIONS);
-
-        if (permissionsJsonArray == null) {
-            return Collections.emptyList();
-        }
-
-        return permissionsJsonArray.stream()
-                .map(p -> (JsonObject) p)
-                .map(permission ->
-                        Permission.permission()
-                                .withAction(JsonObjects.getString(permission, ACTION).orElse(null))
-                                .withObject(JsonObjects.getString(permission, OBJECT).orElse(null))
-                                .withSource(getNullableUUID(permission, SOURCE))
-                                .withTarget(getNullableUUID(permission, TARGET))
-                                .build()
-                ).collect(Collectors.toList());
-
-    }
-
-    private static UUID getNullableUUID(final JsonObject permission, final String attribute) {
-        final String uuidString = JsonObjects.getString(permission, attribute).orElse(null);
-        if (nonNull(uuidString)) {
-            return fromString(uuidString);
-        } else {
-            return null;
-        }
-
+        return toPermissions(response.payload());
     }
 
     public MetadataBuilder metadataBuilderWithNewActionName(final Metadata metadata, final String actionName) {
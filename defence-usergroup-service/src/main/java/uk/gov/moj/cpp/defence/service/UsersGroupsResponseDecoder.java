@@ -0,0 +1,133 @@
+package uk.gov.moj.cpp.defence.service;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static java.util.UUID.fromString;
+import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.ACTION;
+import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.OBJECT;
+import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.SOURCE;
+import static uk.gov.moj.cpp.defence.common.util.GrantAccessUtil.TARGET;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE1;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE2;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE3;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_LINE4;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ADDRESS_POSTCODE;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.FIRST_NAME;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.GROUPS;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.GROUP_NAME;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.LAST_NAME;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ORGANISATION_ID;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.ORGANISATION_NAME;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.PERMISSIONS;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.USERS;
+import static uk.gov.moj.cpp.defence.service.UserGroupService.USER_ID;
+
+import uk.gov.justice.cps.defence.Permission;
+import uk.gov.justice.cps.defence.PersonDetails;
+import uk.gov.moj.cpp.defence.Address;
+import uk.gov.moj.cpp.defence.Organisation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+/**
+ * Decodes users-groups responses into the defence types. Each payload is read once with typed lookups,
+ * optional attributes are checked by key rather than by searching the serialised payload.
+ */
+public final class UsersGroupsResponseDecoder {
+
+    private UsersGroupsResponseDecoder() {
+    }
+
+    public static Organisation toOrganisation(final JsonObject organisationDetails) {
+        return Organisation.organisation()
+                .withOrgId(fromString(organisationDetails.getString(ORGANISATION_ID)))
+                .withOrganisationName(organisationDetails.getString(ORGANISATION_NAME))
+                .withAddress(toAddress(organisationDetails))
+                .build();
+    }
+
+    public static Address toAddress(final JsonObject organisationDetails) {
+        return Address.address()
+                .withAddress1(organisationDetails.getString(ADDRESS_LINE1, null))
+                .withAddress2(organisationDetails.getString(ADDRESS_LINE2, null))
+                .withAddress3(organisationDetails.getString(ADDRESS_LINE3, null))
+                .withAddress4(organisationDetails.getString(ADDRESS_LINE4, null))
+                .withAddressPostcode(organisationDetails.getString(ADDRESS_POSTCODE, null))
+                .build();
+    }
+
+    public static String toOrganisationId(final JsonObject organisationDetails) {
+        return organisationDetails.getString(ORGANISATION_ID);
+    }
+
+    /**
+     * Returns the first user of a usersgroups.search-users response, or null when no user matched.
+     */
+    public static PersonDetails toFirstUser(final JsonObject users) {
+        final JsonArray usersArray = users.getJsonArray(USERS);
+        if (isNull(usersArray) || usersArray.isEmpty()) {
+            return null;
+        }
+
+        final JsonObject user = usersArray.getJsonObject(0);
+        return PersonDetails.personDetails()
+                .withFirstName(user.getString(FIRST_NAME))
+                .withLastName(user.getString(LAST_NAME))
+                .withUserId(fromString(user.getString(USER_ID)))
+                .build();
+    }
+
+    public static List<Permission> toPermissions(final JsonObject permissions) {
+        final JsonArray permissionsArray = permissions.getJsonArray(PERMISSIONS);
+        if (isNull(permissionsArray)) {
+            return emptyList();
+        }
+
+        final List<Permission> decoded = new ArrayList<>(permissionsArray.size());
+        for (int i = 0; i < permissionsArray.size(); i++) {
+            final JsonObject permission = permissionsArray.getJsonObject(i);
+            decoded.add(Permission.permission()
+                    .withAction(permission.getString(ACTION, null))
+                    .withObject(permission.getString(OBJECT, null))
+                    .withSource(toNullableUUID(permission.getString(SOURCE, null)))
+                    .withTarget(toNullableUUID(permission.getString(TARGET, null)))
+                    .build());
+        }
+        return unmodifiableList(decoded);
+    }
+
+    public static List<String> toGroupNames(final JsonArray groups) {
+        final List<String> groupNames = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            groupNames.add(groups.getJsonObject(i).getString(GROUP_NAME));
+        }
+        return unmodifiableList(groupNames);
+    }
+
+    /**
+     * Whether any group of a users-groups response has the given value for the attribute. Groups without
+     * the attribute, and responses without groups, never match.
+     */
+    public static boolean hasGroupWith(final JsonObject userGroups, final String attribute, final String value) {
+        final JsonArray groups = userGroups.getJsonArray(GROUPS);
+        if (isNull(groups)) {
+            return false;
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            if (value.equals(groups.getJsonObject(i).getString(attribute, null))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UUID toNullableUUID(final String uuid) {
+        return isNull(uuid) ? null : fromString(uuid);
+    }
+}
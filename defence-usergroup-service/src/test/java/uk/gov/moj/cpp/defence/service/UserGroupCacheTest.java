@@ -0,0 +1,115 @@
+package uk.gov.moj.cpp.defence.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static uk.gov.moj.cpp.defence.service.UserGroupCache.ORGANISATION_DETAILS;
+
+import uk.gov.moj.cpp.defence.common.metrics.DefenceMetrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class UserGroupCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+    private static final String OTHER_LOOKUP = "other-lookup";
+
+    @Spy
+    private DefenceMetrics defenceMetrics = new DefenceMetrics();
+
+    @InjectMocks
+    private UserGroupCache userGroupCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        userGroupCache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldLoadOnceAndServeSubsequentLookupsFromCache() {
+        final UUID userId = randomUUID();
+
+        assertThat(userGroupCache.get(ORGANISATION_DETAILS, userId, this::load), is("value-1"));
+        assertThat(userGroupCache.get(ORGANISATION_DETAILS, userId, this::load), is("value-1"));
+
+        assertThat(loads.get(), is(1));
+        assertThat(userGroupCache.getHitCount(), is(1L));
+        assertThat(userGroupCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldKeepLookupsForTheSameUserSeparate() {
+        final UUID userId = randomUUID();
+
+        userGroupCache.get(ORGANISATION_DETAILS, userId, this::load);
+        userGroupCache.get(OTHER_LOOKUP, userId, this::load);
+
+        assertThat(loads.get(), is(2));
+        assertThat(userGroupCache.size(), is(2));
+    }
+
+    @Test
+    public void shouldReloadOnceEntryHasExpired() {
+        final UUID userId = randomUUID();
+
+        userGroupCache.get(ORGANISATION_DETAILS, userId, this::load);
+        userGroupCache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+
+        assertThat(userGroupCache.get(ORGANISATION_DETAILS, userId, this::load), is("value-2"));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void shouldNotCacheNullResults() {
+        final UUID userId = randomUUID();
+
+        assertThat(userGroupCache.get(ORGANISATION_DETAILS, userId, () -> null), nullValue());
+        assertThat(userGroupCache.get(ORGANISATION_DETAILS, userId, this::load), is("value-1"));
+    }
+
+    @Test
+    public void shouldInvalidateAllLookups() {
+        userGroupCache.get(ORGANISATION_DETAILS, randomUUID(), this::load);
+        userGroupCache.get(OTHER_LOOKUP, randomUUID(), this::load);
+
+        userGroupCache.invalidateAll();
+
+        assertThat(userGroupCache.size(), is(0));
+    }
+
+    @Test
+    public void shouldPublishCacheCountsAsGauges() {
+        final UUID userId = randomUUID();
+        userGroupCache.registerGauges();
+
+        userGroupCache.get(ORGANISATION_DETAILS, userId, this::load);
+        userGroupCache.get(ORGANISATION_DETAILS, userId, this::load);
+
+        final Map<String, Long> gauges = defenceMetrics.gaugeValues();
+        assertThat(gauges.get("usersgroups-cache.hits"), is(1L));
+        assertThat(gauges.get("usersgroups-cache.misses"), is(1L));
+        assertThat(gauges.get("usersgroups-cache.evictions"), is(0L));
+        assertThat(gauges.get("usersgroups-cache.size"), is(1L));
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+}
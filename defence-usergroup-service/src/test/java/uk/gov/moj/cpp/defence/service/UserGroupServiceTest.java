@@ -7,6 +7,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
@@ -38,6 +39,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 
@@ -78,6 +80,9 @@ public class UserGroupServiceTest {
     @Mock
     private Envelope envelope;
 
+    @Spy
+    private UserGroupCache userGroupCache = new UserGroupCache();
+
     @InjectMocks
     private UserGroupService userGroupService;
 
@@ -377,6 +382,54 @@ public class UserGroupServiceTest {
 
     }
 
+    @Test
+    public void shouldServeRepeatedOrganisationDetailsLookupFromCache() {
+        final UUID userId = randomUUID();
+        final UUID organisationId = randomUUID();
+        final Metadata metadata = getMetaData(randomUUID(), userId);
+
+        when(requester.requestAsAdmin(any(JsonEnvelope.class), any())).thenAnswer(invocationOnMock -> {
+            final JsonEnvelope envelope = (JsonEnvelope) invocationOnMock.getArguments()[0];
+            return JsonEnvelope.envelopeFrom(envelope.metadata(), createObjectBuilder()
+                    .add(ORGANISATION_ID, organisationId.toString())
+                    .add(ORGANISATION_NAME, ORGANISATION_NAME)
+                    .build());
+        });
+
+        userGroupService.getOrganisationDetailsForUser(userId, metadata, requester);
+        final Organisation organisation = userGroupService.getOrganisationDetailsForUser(userId, metadata, requester);
+
+        assertThat(organisation.getOrgId(), is(organisationId));
+        verify(requester, times(1)).requestAsAdmin(any(JsonEnvelope.class), any());
+        assertThat(userGroupCache.getHitCount(), is(1L));
+        assertThat(userGroupCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void shouldSeeGrantedAndRevokedPermissionsStraightAway() {
+        final UUID userId = randomUUID();
+        final Metadata metadata = getMetaData(randomUUID(), userId);
+        final JsonObject granted = createObjectBuilder()
+                .add(PERMISSIONS, createArrayBuilder()
+                        .add(createObjectBuilder()
+                                .add(ACTION, "view")
+                                .add(OBJECT, "caseDocument")
+                                .add(SOURCE, userId.toString())
+                                .add(TARGET, randomUUID().toString())))
+                .build();
+        final JsonObject revoked = createObjectBuilder().add(PERMISSIONS, createArrayBuilder()).build();
+
+        when(requester.requestAsAdmin(any(JsonEnvelope.class), any()))
+                .thenAnswer(invocationOnMock -> JsonEnvelope.envelopeFrom(((JsonEnvelope) invocationOnMock.getArguments()[0]).metadata(), revoked))
+                .thenAnswer(invocationOnMock -> JsonEnvelope.envelopeFrom(((JsonEnvelope) invocationOnMock.getArguments()[0]).metadata(), granted))
+                .thenAnswer(invocationOnMock -> JsonEnvelope.envelopeFrom(((JsonEnvelope) invocationOnMock.getArguments()[0]).metadata(), revoked));
+
+        assertThat(userGroupService.getPermissions(userId, metadata, requester).size(), is(0));
+        assertThat(userGroupService.getPermissions(userId, metadata, requester).size(), is(1));
+        assertThat(userGroupService.getPermissions(userId, metadata, requester).size(), is(0));
+        assertThat(userGroupCache.size(), is(0));
+    }
+
     @Test
     public void shouldThrowExceptionForGetGroupNamesForUserWhenResponsePayloadIsNull() {
         final UUID uuid = randomUUID();
@@ -0,0 +1,121 @@
+package uk.gov.moj.cpp.defence.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static uk.gov.justice.services.messaging.JsonObjects.createArrayBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.createObjectBuilder;
+
+import uk.gov.justice.cps.defence.Permission;
+import uk.gov.justice.cps.defence.PersonDetails;
+import uk.gov.moj.cpp.defence.Organisation;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+public class UsersGroupsResponseDecoderTest {
+
+    @Test
+    public void shouldDecodeOrganisationWithOnlyTheAddressLinesPresent() {
+        final UUID organisationId = randomUUID();
+        final JsonObject organisationDetails = createObjectBuilder()
+                .add("organisationId", organisationId.toString())
+                .add("organisationName", "Smith & Co")
+                .add("organisationType", "LEGAL_ORGANISATION")
+                .add("addressLine1", "1 High Street")
+                .add("addressLine4", "London")
+                .add("addressPostcode", "SW1A 1AA")
+                .build();
+
+        final Organisation organisation = UsersGroupsResponseDecoder.toOrganisation(organisationDetails);
+
+        assertThat(organisation.getOrgId(), is(organisationId));
+        assertThat(organisation.getOrganisationName(), is("Smith & Co"));
+        assertThat(organisation.getAddress().getAddress1(), is("1 High Street"));
+        assertThat(organisation.getAddress().getAddress2(), is(nullValue()));
+        assertThat(organisation.getAddress().getAddress3(), is(nullValue()));
+        assertThat(organisation.getAddress().getAddress4(), is("London"));
+        assertThat(organisation.getAddress().getAddressPostcode(), is("SW1A 1AA"));
+    }
+
+    @Test
+    public void shouldNotTreatAValueMentioningAnAddressKeyAsTheAddressLine() {
+        final JsonObject organisationDetails = createObjectBuilder()
+                .add("organisationId", randomUUID().toString())
+                .add("organisationName", "addressLine2 Chambers")
+                .add("addressLine1", "1 High Street")
+                .build();
+
+        assertThat(UsersGroupsResponseDecoder.toOrganisation(organisationDetails).getAddress().getAddress2(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldDecodeFirstUserOrNullWhenNoUserMatched() {
+        final UUID userId = randomUUID();
+        final JsonObject users = createObjectBuilder()
+                .add("users", createArrayBuilder()
+                        .add(createObjectBuilder().add("userId", userId.toString()).add("firstName", "Jane").add("lastName", "Doe"))
+                        .add(createObjectBuilder().add("userId", randomUUID().toString()).add("firstName", "John").add("lastName", "Roe")))
+                .build();
+
+        final PersonDetails personDetails = UsersGroupsResponseDecoder.toFirstUser(users);
+
+        assertThat(personDetails.getUserId(), is(userId));
+        assertThat(personDetails.getFirstName(), is("Jane"));
+        assertThat(personDetails.getLastName(), is("Doe"));
+        assertThat(UsersGroupsResponseDecoder.toFirstUser(createObjectBuilder().add("users", createArrayBuilder()).build()), is(nullValue()));
+        assertThat(UsersGroupsResponseDecoder.toFirstUser(createObjectBuilder().build()), is(nullValue()));
+    }
+
+    @Test
+    public void shouldDecodePermissionsWithOptionalSourceAndTarget() {
+        final UUID source = randomUUID();
+        final JsonObject permissions = createObjectBuilder()
+                .add("permissions", createArrayBuilder()
+                        .add(createObjectBuilder().add("action", "View").add("object", "DefendantDocuments").add("source", source.toString()))
+                        .add(createObjectBuilder().add("action", "Upload").add("object", "DefendantDocuments")))
+                .build();
+
+        final List<Permission> decoded = UsersGroupsResponseDecoder.toPermissions(permissions);
+
+        assertThat(decoded.size(), is(2));
+        assertThat(decoded.get(0).getAction(), is("View"));
+        assertThat(decoded.get(0).getSource(), is(source));
+        assertThat(decoded.get(0).getTarget(), is(nullValue()));
+        assertThat(decoded.get(1).getAction(), is("Upload"));
+        assertThat(decoded.get(1).getSource(), is(nullValue()));
+        assertThat(UsersGroupsResponseDecoder.toPermissions(createObjectBuilder().build()), is(empty()));
+    }
+
+    @Test
+    public void shouldDecodeGroupNames() {
+        final JsonObject groups = createObjectBuilder()
+                .add("groups", createArrayBuilder()
+                        .add(createObjectBuilder().add("groupId", randomUUID().toString()).add("groupName", "Defence Lawyers"))
+                        .add(createObjectBuilder().add("groupId", randomUUID().toString()).add("groupName", "Chambers Admin")))
+                .build();
+
+        assertThat(UsersGroupsResponseDecoder.toGroupNames(groups.getJsonArray("groups")), contains("Defence Lawyers", "Chambers Admin"));
+    }
+
+    @Test
+    public void shouldMatchGroupsByAttribute() {
+        final JsonObject userGroups = createObjectBuilder()
+                .add("groups", createArrayBuilder()
+                        .add(createObjectBuilder().add("groupName", "Defence Lawyers"))
+                        .add(createObjectBuilder().add("groupName", "Non CPS Prosecutors").add("prosecutingAuthority", "DVLA")))
+                .build();
+
+        assertThat(UsersGroupsResponseDecoder.hasGroupWith(userGroups, "groupName", "Non CPS Prosecutors"), is(true));
+        assertThat(UsersGroupsResponseDecoder.hasGroupWith(userGroups, "prosecutingAuthority", "DVLA"), is(true));
+        assertThat(UsersGroupsResponseDecoder.hasGroupWith(userGroups, "prosecutingAuthority", "TFL"), is(false));
+        assertThat(UsersGroupsResponseDecoder.hasGroupWith(createObjectBuilder().build(), "groupName", "Defence Lawyers"), is(false));
+    }
+}
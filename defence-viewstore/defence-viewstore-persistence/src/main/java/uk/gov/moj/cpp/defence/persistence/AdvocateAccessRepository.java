@@ -3,6 +3,7 @@ package uk.gov.moj.cpp.defence.persistence;
 import org.apache.deltaspike.data.api.AbstractEntityRepository;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +14,9 @@ import org.apache.deltaspike.data.api.Repository;
 @Repository(forEntity = ProsecutionAdvocateAccess.class )
 public abstract class AdvocateAccessRepository extends AbstractEntityRepository<ProsecutionAdvocateAccess, UUID> {
 
+    private static final String FROM_EXPIRED_CASE_ASSIGNMENTS = " from prosecution_advocate_access pa  JOIN prosecution_organisation_access po ON pa.assignee_organisation_id = po.assignee_organisation_id AND pa.case_id = po.case_id where pa.assignment_expiry_date  < now()";
+    private static final String ORDER_BY_EXPIRY_AND_ID = " order by pa.assignment_expiry_date, pa.id";
+
     @Query(value = "select entity from ProsecutionAdvocateAccess entity where entity.prosecutionOrganisation.id.caseId = :caseId and entity.assigneeDetails.userId = :assigneeId")
     public abstract List<ProsecutionAdvocateAccess> findByCaseIdAndAssigneeId(@QueryParam("caseId") final UUID caseId, @QueryParam("assigneeId") final UUID assigneeId);
 
@@ -24,9 +28,28 @@ public abstract class AdvocateAccessRepository extends AbstractEntityRepository<
 
     public List<ProsecutionAdvocateAccess> findExpiredCaseAssignments(final int limitCount){
 
-        return entityManager().createNativeQuery("select pa.*  from prosecution_advocate_access pa  JOIN prosecution_organisation_access po ON pa.assignee_organisation_id = po.assignee_organisation_id AND pa.case_id = po.case_id where pa.assignment_expiry_date  < now() order by pa.assignment_expiry_date desc",
+        return entityManager().createNativeQuery("select pa.*" + FROM_EXPIRED_CASE_ASSIGNMENTS + " order by pa.assignment_expiry_date desc",
                 ProsecutionAdvocateAccess.class).setMaxResults(limitCount).getResultList();
     }
 
+    /**
+     * Next page of expired assignments after the given (assignment_expiry_date, id) position, in that order, so that
+     * a sweep never rescans rows it has already handled.
+     */
+    public List<ProsecutionAdvocateAccess> findExpiredCaseAssignmentsAfter(final ZonedDateTime expiredAfter, final UUID idAfter, final int limitCount) {
+
+        return entityManager().createNativeQuery("select pa.*" + FROM_EXPIRED_CASE_ASSIGNMENTS + " and (pa.assignment_expiry_date, pa.id) > (:expiredAfter, :idAfter)" + ORDER_BY_EXPIRY_AND_ID,
+                ProsecutionAdvocateAccess.class)
+                .setParameter("expiredAfter", expiredAfter)
+                .setParameter("idAfter", idAfter)
+                .setMaxResults(limitCount).getResultList();
+    }
+
+    /**
+     * Number of expired assignments the sweep will visit, counted over the same join as the paged selects.
+     */
+    public Long countExpiredCaseAssignments() {
 
+        return ((Number) entityManager().createNativeQuery("select count(*)" + FROM_EXPIRED_CASE_ASSIGNMENTS).getSingleResult()).longValue();
+    }
 }
@@ -0,0 +1,48 @@
+package uk.gov.moj.cpp.defence.persistence;
+
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.deltaspike.data.api.AbstractEntityRepository;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.QueryParam;
+import org.apache.deltaspike.data.api.Repository;
+
+@Repository(forEntity = AdvocateCaseRole.class)
+public abstract class AdvocateCaseRoleRepository extends AbstractEntityRepository<AdvocateCaseRole, UUID> {
+
+    private static final String DELETE_CASE_ROLES = "delete from advocate_case_role where case_id = :caseId";
+
+    private static final String LOCK_CASE = "select count(*) from (select pg_advisory_xact_lock(:lockKey)) case_lock";
+
+    private static final String INSERT_CASE_ROLES = "insert into advocate_case_role (id, case_id, principal_id, principal_type, role, defendant_id, assignment_expiry_date)" +
+            " select id, case_id, principal_id, principal_type, role, defendant_id, assignment_expiry_date from advocate_case_role_source where case_id = :caseId" +
+            " on conflict (id) do update set principal_id = excluded.principal_id, principal_type = excluded.principal_type, role = excluded.role," +
+            " defendant_id = excluded.defendant_id, assignment_expiry_date = excluded.assignment_expiry_date";
+
+    @Query(value = "from AdvocateCaseRole acr where acr.caseId = :caseId and acr.principalId in (:principalIds)")
+    public abstract List<AdvocateCaseRole> findByCaseIdAndPrincipalIds(@QueryParam("caseId") final UUID caseId, @QueryParam("principalIds") final Collection<UUID> principalIds);
+
+    @Query(value = "select distinct dc.caseId from DefenceClient dc where dc.defendantId = :defendantId and dc.caseId is not null")
+    public abstract List<UUID> findCaseIdsOfDefendant(@QueryParam("defendantId") final UUID defendantId);
+
+    /**
+     * Recomputes every role held in the case from the association, grant and assignment tables, so it has to be
+     * called after those have been changed in the same transaction. Replaying the events through the listeners
+     * therefore rebuilds the table as well. Refreshes of the same case are serialised on a transaction-scoped advisory
+     * lock, so a concurrent refresh sees the rows the other one committed instead of inserting the same ids again.
+     */
+    public void refreshCase(final UUID caseId) {
+        entityManager().flush();
+        entityManager().createNativeQuery(LOCK_CASE).setParameter("lockKey", caseId.getMostSignificantBits() ^ caseId.getLeastSignificantBits()).getSingleResult();
+        entityManager().createNativeQuery(DELETE_CASE_ROLES).setParameter("caseId", caseId).executeUpdate();
+        entityManager().createNativeQuery(INSERT_CASE_ROLES).setParameter("caseId", caseId).executeUpdate();
+    }
+
+    public void refreshCasesOfDefendant(final UUID defendantId) {
+        findCaseIdsOfDefendant(defendantId).forEach(this::refreshCase);
+    }
+}
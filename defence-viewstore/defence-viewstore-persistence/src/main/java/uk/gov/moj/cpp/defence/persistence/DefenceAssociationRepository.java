@@ -1,13 +1,19 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.FLUSH_MODE;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.MANUAL;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.READ_ONLY;
 
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
+import uk.gov.moj.cpp.defence.persistence.projection.DefenceAssociationSummary;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.apache.deltaspike.data.api.EntityRepository;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
@@ -27,4 +33,12 @@ public interface DefenceAssociationRepository extends EntityRepository<DefenceAs
     @Query(value = "FROM DefenceAssociation da WHERE da.userId = :userId AND (da.endDate is null OR da.startDate <= :currentDate AND da.endDate >= :currentDate)")
     List<DefenceAssociation> findByUserIdAndCurrentDate(@QueryParam("userId") final UUID userId, @QueryParam("currentDate") final ZonedDateTime currentDate);
 
+    @Query(value = "SELECT da.defenceAssociationDefendant.defendantId FROM DefenceAssociation da WHERE da.userId = :userId AND (da.endDate is null OR da.startDate <= :currentDate AND da.endDate >= :currentDate)",
+            hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    List<UUID> findDefendantIdsByUserIdAndCurrentDate(@QueryParam("userId") final UUID userId, @QueryParam("currentDate") final ZonedDateTime currentDate);
+
+    @Query(value = "select new uk.gov.moj.cpp.defence.persistence.projection.DefenceAssociationSummary(da.orgId, da.userId, da.startDate, da.endDate, da.representationType)"
+            + " FROM DefenceAssociation da WHERE da.defenceAssociationDefendant.defendantId = :defendantId", hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    List<DefenceAssociationSummary> findSummariesByDefendantId(@QueryParam("defendantId") final UUID defendantId);
+
 }
@@ -1,10 +1,19 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.FLUSH_MODE;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.MANUAL;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.READ_ONLY;
+
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
 
+import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.apache.deltaspike.data.api.EntityRepository;
+import org.apache.deltaspike.data.api.Query;
+import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
 
 @Repository
@@ -12,4 +21,12 @@ public interface DefenceCaseRepository extends EntityRepository<DefenceCase, UUI
 
     DefenceCase findOptionalByUrn(String urn);
 
+    /**
+     * Ids of the cases holding the URN. URNs are stored upper-cased but are not unique in defence_case, so
+     * callers decide what to do with more than one match.
+     */
+    @Query(value = "select dc.id from DefenceCase dc where dc.urn = :urn",
+            hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    List<UUID> findCaseIdsByUrn(@QueryParam("urn") final String urn);
+
 }
@@ -1,11 +1,18 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.FLUSH_MODE;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.MANUAL;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.READ_ONLY;
+
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
+import uk.gov.moj.cpp.defence.persistence.projection.DefendantOrganisationSummary;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.apache.deltaspike.data.api.EntityRepository;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
@@ -14,14 +21,14 @@ import org.apache.deltaspike.data.api.Repository;
 @Repository
 public interface DefenceClientRepository extends EntityRepository<DefenceClient, UUID> {
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth  and c.urn = :ptiUrn and dc.visible = true")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
                                                     @QueryParam("dateOfBirth") final LocalDate dateOfBirth,
                                                     @QueryParam("ptiUrn") final String ptiUrn);
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth  and c.urn = :ptiUrn and dc.visible = true and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
@@ -29,48 +36,48 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
                                                     @QueryParam("ptiUrn") final String ptiUrn,
                                                     @QueryParam("isCivil") final boolean isCivil);
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE upper(dc.firstName) = upper(:firstName) and upper(dc.lastName) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "c.urn = :ptiUrn and dc.visible = true and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteriaWithOutDob(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
                                                     @QueryParam("ptiUrn") final String ptiUrn,
                                                     @QueryParam("isCivil") final boolean isCivil);
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth and dc.visible = true")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
                                                     @QueryParam("dateOfBirth") final LocalDate dateOfBirth);
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth and dc.visible = true and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
                                                     @QueryParam("dateOfBirth") final LocalDate dateOfBirth,
                                                     @QueryParam("isCivil") final boolean isCivil);
 
-    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE upper(dc.firstName) = upper(:firstName) and upper(dc.lastName) = upper(:lastName) and "
+    @Query(value = "select dc FROM DefenceClient dc INNER JOIN  DefenceCase c ON  c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.visible = true and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteriaWithOutDob(@QueryParam("firstName") final String firstName,
                                                     @QueryParam("lastName") final String lastName,
                                                     @QueryParam("isCivil") final boolean isCivil);
 
-    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName)  and upper(c.urn) = upper(:ptiUrn) and"
+    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName))  and upper(c.urn) = upper(:ptiUrn) and"
             + " dc.visible = true and dc.caseId = c.id")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("organisationName") final String organisationName,
                                                     @QueryParam("ptiUrn") final String ptiUrn);
 
-    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName)  and upper(c.urn) = upper(:ptiUrn) and"
+    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName))  and upper(c.urn) = upper(:ptiUrn) and"
             + " dc.visible = true and dc.caseId = c.id and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("organisationName") final String organisationName,
                                                     @QueryParam("ptiUrn") final String ptiUrn,
                                                     @QueryParam("isCivil") final boolean isCivil);
 
-    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName) and"
+    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName)) and"
             + " dc.visible = true and dc.caseId = c.id")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("organisationName") final String organisationName);
 
-    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName) and"
+    @Query(value = "select dc FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName)) and"
             + " dc.visible = true and dc.caseId = c.id and c.isCivil = :isCivil")
     List<DefenceClient> findDefenceClientByCriteria(@QueryParam("organisationName") final String organisationName,
                                                     @QueryParam("isCivil") final boolean isCivil);
@@ -84,14 +91,18 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
 
     List<DefenceClient> findByCaseId(UUID caseId);
 
+    @Query(value = "select new uk.gov.moj.cpp.defence.persistence.projection.DefendantOrganisationSummary(dc.defendantId, dc.firstName, dc.lastName, dc.organisationName, dc.associatedOrganisation)"
+            + " FROM DefenceClient dc WHERE dc.caseId = :caseId", hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    List<DefendantOrganisationSummary> findDefendantOrganisationSummariesByCaseId(@QueryParam("caseId") final UUID caseId);
+
 
-    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth and dc.visible = true and dc.caseId = c.id")
     List<UUID> findCasesAssociatedWithDefenceClientByPersonDefendant(@QueryParam("firstName") final String firstName,
                                                                      @QueryParam("lastName") final String lastName,
                                                                      @QueryParam("dateOfBirth") final LocalDate dateOfBirth);
 
-    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth and dc.visible = true and dc.caseId = c.id and c.isCivil = :isCivil and c.isGroupMember = :isGroupMember")
     List<UUID> findCasesAssociatedWithDefenceClientByPersonDefendant(@QueryParam("firstName") final String firstName,
                                                                      @QueryParam("lastName") final String lastName,
@@ -99,7 +110,7 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
                                                                      @QueryParam("isCivil") final boolean isCivil,
                                                                      @QueryParam("isGroupMember") final boolean isGroupMember);
 
-    @Query(value = "SELECT DISTINCT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE upper(dc.firstName) = upper(:firstName) and upper(dc.lastName) = upper(:lastName) and "
+    @Query(value = "SELECT DISTINCT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.visible = true and dc.caseId = c.id and c.isCivil = :isCivil and c.isGroupMember = :isGroupMember")
     List<UUID> findCasesAssociatedWithDefenceClientByPersonDefendantWithoutDob(@QueryParam("firstName") final String firstName,
                                                                      @QueryParam("lastName") final String lastName,
@@ -107,24 +118,24 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
                                                                      @QueryParam("isGroupMember") final boolean isGroupMember);
 
 
-    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName) and"
+    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName)) and"
             + " dc.visible = true and dc.caseId = c.id")
     List<UUID> findCasesAssociatedWithDefenceClientByOrganisationDefendant(@QueryParam("organisationName") final String organisationName);
 
-    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE upper(dc.organisationName) = upper(:organisationName) and"
+    @Query(value = "SELECT dc.caseId FROM DefenceClient dc, DefenceCase c WHERE dc.normalisedOrganisationName = upper(trim(:organisationName)) and"
             + " dc.visible = true and dc.caseId = c.id and c.isCivil = :isCivil and c.isGroupMember = :isGroupMember")
     List<UUID> findCasesAssociatedWithDefenceClientByOrganisationDefendant(@QueryParam("organisationName") final String organisationName,
                                                                            @QueryParam("isCivil") final boolean isCivil,
                                                                            @QueryParam("isGroupMember") final boolean isGroupMember);
 
 
-    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth ")
     List<UUID> getPersonDefendant(@QueryParam("firstName") final String firstName,
                                   @QueryParam("lastName") final String lastName,
                                   @QueryParam("dateOfBirth") final LocalDate dateOfBirth);
 
-    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE TRIM(upper(dc.firstName)) = upper(:firstName) and TRIM(upper(dc.lastName)) = upper(:lastName) and "
+    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "dc.dateOfBirth = :dateOfBirth and c.isCivil = :isCivil and c.isGroupMember = :isGroupMember")
     List<UUID> getPersonDefendant(@QueryParam("firstName") final String firstName,
                                   @QueryParam("lastName") final String lastName,
@@ -132,7 +143,7 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
                                   @QueryParam("isCivil") final boolean isCivil,
                                   @QueryParam("isGroupMember") final boolean isGroupMember);
 
-    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE upper(dc.firstName) = upper(:firstName) and upper(dc.lastName) = upper(:lastName) and "
+    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedFirstName = upper(trim(:firstName)) and dc.normalisedLastName = upper(trim(:lastName)) and "
             + "c.isCivil = :isCivil and c.isGroupMember = :isGroupMember")
     List<UUID> getPersonDefendantWithOutDob(@QueryParam("firstName") final String firstName,
                                             @QueryParam("lastName") final String lastName,
@@ -140,10 +151,10 @@ public interface DefenceClientRepository extends EntityRepository<DefenceClient,
                                             @QueryParam("isGroupMember") final boolean isGroupMember);
 
 
-    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc WHERE upper(dc.organisationName) = upper(:organisationName)")
+    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc WHERE dc.normalisedOrganisationName = upper(trim(:organisationName))")
     List<UUID> getOrganisationDefendant(@QueryParam("organisationName") final String organisationName);
 
-    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE upper(dc.organisationName) = upper(:organisationName) and c.isCivil = :isCivil" +
+    @Query(value = "SELECT dc.defendantId FROM DefenceClient dc INNER JOIN DefenceCase c ON c.id = dc.caseId WHERE dc.normalisedOrganisationName = upper(trim(:organisationName)) and c.isCivil = :isCivil" +
             " and c.isGroupMember = :isGroupMember")
     List<UUID> getOrganisationDefendant(@QueryParam("organisationName") final String organisationName,
                                         @QueryParam("isCivil") final boolean isCivil,
@@ -1,10 +1,17 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.FLUSH_MODE;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.MANUAL;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.READ_ONLY;
+
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcAccess;
+import uk.gov.moj.cpp.defence.persistence.projection.CaseIdpcAccessOrganisation;
 
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.apache.deltaspike.data.api.EntityRepository;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
@@ -24,6 +31,10 @@ public interface IdpcAccessHistoryRepository extends EntityRepository<IdpcAccess
     List<UUID> findIdpcAccessOrganisationByCriteria(@QueryParam("defenceClientId") final UUID defenceClientId,
                                               @QueryParam("idpcId") final UUID idpcId);
 
-    @Query(value = "Select  ia.organisationId FROM IdpcAccess ia  WHERE ia.defenceClientId = :defenceClientId GROUP BY ia.organisationId ORDER BY max(accessTimestamp) DESC")
-    List<UUID> findOrderedDistinctOrgIdsOfIdpcAccessForDefenceClient(@QueryParam("defenceClientId") final UUID defenceClientId);
+    @Query(value = "select new uk.gov.moj.cpp.defence.persistence.projection.CaseIdpcAccessOrganisation(dc.urn, dc.prosecutionAuthorityCode, ia.organisationId)"
+            + " FROM DefenceCase dc LEFT JOIN IdpcAccess ia ON ia.defenceClientId = :defenceClientId"
+            + " WHERE dc.id = :caseId GROUP BY dc.urn, dc.prosecutionAuthorityCode, ia.organisationId ORDER BY max(ia.accessTimestamp) DESC",
+            hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    List<CaseIdpcAccessOrganisation> findCaseWithOrderedIdpcAccessOrganisations(@QueryParam("defenceClientId") final UUID defenceClientId,
+                                                                                @QueryParam("caseId") final UUID caseId);
 }
@@ -1,9 +1,16 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.FLUSH_MODE;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.MANUAL;
+import static uk.gov.moj.cpp.defence.persistence.ReadOnlyQueryHints.READ_ONLY;
+
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcDetails;
+import uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary;
 
 import java.util.UUID;
 
+import javax.persistence.QueryHint;
+
 import org.apache.deltaspike.data.api.EntityRepository;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
@@ -21,4 +28,12 @@ public interface IdpcDetailsRepository extends EntityRepository<IdpcDetails, UUI
     @Query(value = "select idpc FROM IdpcDetails idpc where idpc.defenceClientId in ( select dc.id from DefenceClient dc where defendantId=:defendantId) ",singleResult = SingleResultType.OPTIONAL)
     IdpcDetails findIdpcDetailsForDefendantId(@QueryParam("defendantId")final UUID defendantId);
 
+    @Query(value = "select new uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary(idpc.documentName, idpc.pageCount, idpc.publishedDate, idpc.size)"
+            + " FROM IdpcDetails idpc WHERE idpc.defenceClientId = :defenceClientId", singleResult = SingleResultType.OPTIONAL, hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    IdpcMetadataSummary findIdpcMetadataForDefenceClient(@QueryParam("defenceClientId") final UUID defenceClientId);
+
+    @Query(value = "select new uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary(idpc.documentName, idpc.pageCount, idpc.publishedDate, idpc.size)"
+            + " FROM IdpcDetails idpc where idpc.defenceClientId in ( select dc.id from DefenceClient dc where dc.defendantId = :defendantId)", singleResult = SingleResultType.OPTIONAL, hints = {@QueryHint(name = READ_ONLY, value = "true"), @QueryHint(name = FLUSH_MODE, value = MANUAL)})
+    IdpcMetadataSummary findIdpcMetadataForDefendantId(@QueryParam("defendantId") final UUID defendantId);
+
 }
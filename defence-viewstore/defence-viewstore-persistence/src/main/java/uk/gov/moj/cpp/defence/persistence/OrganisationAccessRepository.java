@@ -4,6 +4,8 @@ package uk.gov.moj.cpp.defence.persistence;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,21 +19,41 @@ import org.apache.deltaspike.data.api.Repository;
 @Repository
 public interface OrganisationAccessRepository extends EntityRepository<ProsecutionOrganisationAccess, ProsecutionOrganisationCaseKey> {
 
-    @Query("from ProsecutionOrganisationAccess poa where poa.id.caseId=:caseId")
+    String SELECT_WITH_USER_DETAILS = "select poa from ProsecutionOrganisationAccess poa left join fetch poa.assigneeDetails left join fetch poa.assignorDetails";
+
+    String SELECT_WITH_ADVOCATES = "select distinct poa from ProsecutionOrganisationAccess poa left join fetch poa.assigneeDetails left join fetch poa.assignorDetails" +
+            " left join fetch poa.prosecutionAdvocatesWithAccess paa left join fetch paa.assigneeDetails left join fetch paa.assignorDetails";
+
+    @Query(SELECT_WITH_ADVOCATES + " where poa.id.caseId=:caseId")
     List<ProsecutionOrganisationAccess> findByCaseId(@QueryParam("caseId") UUID caseId);
 
-    @Query("from ProsecutionOrganisationAccess poa where poa.id.assigneeOrganisationId=:assigneeOrganisationId and poa.id.caseId=:caseId")
+    @Query(SELECT_WITH_ADVOCATES + " where poa.id.caseId in (:caseIds)")
+    List<ProsecutionOrganisationAccess> findByCaseIdIn(@QueryParam("caseIds") Collection<UUID> caseIds);
+
+    @Query(SELECT_WITH_ADVOCATES + " where poa.id.assigneeOrganisationId=:assigneeOrganisationId and poa.id.caseId=:caseId")
     Optional<ProsecutionOrganisationAccess> findByAssigneeOrganisationIdAndCaseId(@QueryParam("assigneeOrganisationId") UUID assigneeOrganisationId, @QueryParam("caseId") UUID caseId);
 
-    @Query("from ProsecutionOrganisationAccess poa where poa.id.caseId=:caseId and poa.id.assigneeOrganisationId=:assigneeOrganisationId")
+    @Query(SELECT_WITH_ADVOCATES + " where poa.id.caseId=:caseId and poa.id.assigneeOrganisationId=:assigneeOrganisationId")
     List<ProsecutionOrganisationAccess> findByCaseIdAndAssigneeOrganisationId(@QueryParam("caseId") UUID caseId, @QueryParam("assigneeOrganisationId") UUID assigneeOrganisationId);
 
-    @Query("from ProsecutionOrganisationAccess poa where poa.id.caseId=:caseId and poa.id.assigneeOrganisationId=:assigneeOrganisationId and (poa.assignmentExpiryDate is null or poa.assignmentExpiryDate > now())")
+    @Query(SELECT_WITH_ADVOCATES + " where poa.id.caseId=:caseId and poa.id.assigneeOrganisationId=:assigneeOrganisationId and (poa.assignmentExpiryDate is null or poa.assignmentExpiryDate > now())")
     List<ProsecutionOrganisationAccess> findActiveByCaseIdAndAssigneeOrganisationId(@QueryParam("caseId") UUID caseId, @QueryParam("assigneeOrganisationId") UUID assigneeOrganisationId);
 
-    @Query(value = "from ProsecutionOrganisationAccess poa where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY order by poa.assignmentExpiryDate desc")
+    @Query(value = SELECT_WITH_USER_DETAILS + " where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY order by poa.assignmentExpiryDate desc")
     List<ProsecutionOrganisationAccess> findExpiredCaseAssignments();
 
-    @Query(value = "from ProsecutionOrganisationAccess poa where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY order by poa.assignmentExpiryDate desc")
+    @Query(value = SELECT_WITH_USER_DETAILS + " where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY order by poa.assignmentExpiryDate desc")
     List<ProsecutionOrganisationAccess> findExpiredCaseAssignments(@MaxResults int max);
+
+    @Query(value = SELECT_WITH_USER_DETAILS + " where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY" +
+            " and (poa.assignmentExpiryDate > :expiredAfter or (poa.assignmentExpiryDate = :expiredAfter and (poa.id.caseId > :caseIdAfter" +
+            " or (poa.id.caseId = :caseIdAfter and poa.id.assigneeOrganisationId > :assigneeOrganisationIdAfter))))" +
+            " order by poa.assignmentExpiryDate, poa.id.caseId, poa.id.assigneeOrganisationId")
+    List<ProsecutionOrganisationAccess> findExpiredCaseAssignmentsAfter(@QueryParam("expiredAfter") ZonedDateTime expiredAfter,
+                                                                       @QueryParam("caseIdAfter") UUID caseIdAfter,
+                                                                       @QueryParam("assigneeOrganisationIdAfter") UUID assigneeOrganisationIdAfter,
+                                                                       @MaxResults int max);
+
+    @Query(value = "select count(poa) from ProsecutionOrganisationAccess poa where poa.assignmentExpiryDate  < now() and poa.prosecutionAdvocatesWithAccess is EMPTY")
+    Long countExpiredCaseAssignments();
 }
\ No newline at end of file
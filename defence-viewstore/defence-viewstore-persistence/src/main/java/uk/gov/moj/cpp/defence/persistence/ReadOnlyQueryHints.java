@@ -0,0 +1,15 @@
+package uk.gov.moj.cpp.defence.persistence;
+
+/**
+ * Hints for query-side reads that never write: nothing is dirty checked and the persistence context is not
+ * flushed before the query runs.
+ */
+public final class ReadOnlyQueryHints {
+
+    public static final String READ_ONLY = "org.hibernate.readOnly";
+    public static final String FLUSH_MODE = "org.hibernate.flushMode";
+    public static final String MANUAL = "MANUAL";
+
+    private ReadOnlyQueryHints() {
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.moj.cpp.defence.persistence.entity;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * One role held in a case by an organisation or a user, denormalised from the defence association, defence grant
+ * access and prosecution organisation/advocate access tables. Rows are only written by
+ * {@link uk.gov.moj.cpp.defence.persistence.AdvocateCaseRoleRepository#refreshCase(UUID)}.
+ */
+@Entity
+@Table(name = "advocate_case_role")
+public class AdvocateCaseRole {
+
+    public enum PrincipalType {
+        ORGANISATION, USER
+    }
+
+    public enum Role {
+        DEFENDING, PROSECUTING
+    }
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false)
+    private UUID id;
+
+    @Column(name = "case_id", nullable = false)
+    private UUID caseId;
+
+    @Column(name = "principal_id", nullable = false)
+    private UUID principalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "principal_type", nullable = false, length = 20)
+    private PrincipalType principalType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false, length = 20)
+    private Role role;
+
+    @Column(name = "defendant_id")
+    private UUID defendantId;
+
+    @Column(name = "assignment_expiry_date")
+    private ZonedDateTime assignmentExpiryDate;
+
+    public AdvocateCaseRole() {
+    }
+
+    public AdvocateCaseRole(final UUID id, final UUID caseId, final UUID principalId, final PrincipalType principalType, final Role role,
+                            final UUID defendantId, final ZonedDateTime assignmentExpiryDate) {
+        this.id = id;
+        this.caseId = caseId;
+        this.principalId = principalId;
+        this.principalType = principalType;
+        this.role = role;
+        this.defendantId = defendantId;
+        this.assignmentExpiryDate = assignmentExpiryDate;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getCaseId() {
+        return caseId;
+    }
+
+    public UUID getPrincipalId() {
+        return principalId;
+    }
+
+    public PrincipalType getPrincipalType() {
+        return principalType;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public UUID getDefendantId() {
+        return defendantId;
+    }
+
+    public ZonedDateTime getAssignmentExpiryDate() {
+        return assignmentExpiryDate;
+    }
+
+    public boolean isHeldBy(final PrincipalType principalType, final UUID principalId) {
+        return this.principalType == principalType && this.principalId.equals(principalId);
+    }
+
+    public boolean isActiveAt(final ZonedDateTime dateTime) {
+        return assignmentExpiryDate == null || assignmentExpiryDate.isAfter(dateTime);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.defence.persistence.entity;
 
+import static java.util.Objects.isNull;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -180,6 +181,65 @@ public class DefenceClient {
         this.organisationName = organisationName;
     }
 
+    /**
+     * Trimmed, upper-cased copies of the names, derived on every flush so that searches can use
+     * the indexes on these columns instead of applying upper/trim to every row.
+     */
+    @JsonIgnore
+    @Column(name = "normalised_first_name")
+    public String getNormalisedFirstName() {
+        return normaliseName(firstName);
+    }
+
+    @SuppressWarnings("squid:S1186")
+    private void setNormalisedFirstName(final String normalisedFirstName) {
+        // derived from firstName
+    }
+
+    @JsonIgnore
+    @Column(name = "normalised_last_name")
+    public String getNormalisedLastName() {
+        return normaliseName(lastName);
+    }
+
+    @SuppressWarnings("squid:S1186")
+    private void setNormalisedLastName(final String normalisedLastName) {
+        // derived from lastName
+    }
+
+    @JsonIgnore
+    @Column(name = "normalised_organisation_name")
+    public String getNormalisedOrganisationName() {
+        return normaliseName(organisationName);
+    }
+
+    @SuppressWarnings("squid:S1186")
+    private void setNormalisedOrganisationName(final String normalisedOrganisationName) {
+        // derived from organisationName
+    }
+
+    /**
+     * Mirrors postgres upper(trim(name)): only leading and trailing spaces are trimmed, unlike
+     * String.trim() which also strips tabs and other control characters, and each character is
+     * upper-cased on its own, so that e.g. 'ß' is kept rather than expanded to "SS".
+     */
+    public static String normaliseName(final String name) {
+        if (isNull(name)) {
+            return null;
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) == ' ') {
+            end--;
+        }
+        final StringBuilder normalised = new StringBuilder(end - start);
+        name.substring(start, end).codePoints().map(Character::toUpperCase).forEach(normalised::appendCodePoint);
+        return normalised.toString();
+    }
+
     @Column(name = "is_locked_by_rep_order", nullable = false)
     public Boolean isLockedByRepOrder() {
         return lockedByRepOrder;
@@ -46,7 +46,8 @@ public class ProsecutionOrganisationAccess implements Serializable {
     @Column(name = "assignor_organisation_name")
     private String assignorOrganisationName;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "prosecutionOrganisation", orphanRemoval = true)
+    // loaded by the join fetch queries in OrganisationAccessRepository that need it, rather than a select per row
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "prosecutionOrganisation", orphanRemoval = true)
     private Set<ProsecutionAdvocateAccess> prosecutionAdvocatesWithAccess = new HashSet<>();
 
     @Column(name = "representation_type", nullable = false, length = 50)
@@ -0,0 +1,32 @@
+package uk.gov.moj.cpp.defence.persistence.projection;
+
+import java.util.UUID;
+
+/**
+ * One row per organisation that accessed a defence client's IDPC, most recent access first, carrying the
+ * client's case details. A case without IDPC access yields a single row with a null organisation.
+ */
+public class CaseIdpcAccessOrganisation {
+
+    private final String urn;
+    private final String prosecutionAuthorityCode;
+    private final UUID organisationId;
+
+    public CaseIdpcAccessOrganisation(final String urn, final String prosecutionAuthorityCode, final UUID organisationId) {
+        this.urn = urn;
+        this.prosecutionAuthorityCode = prosecutionAuthorityCode;
+        this.organisationId = organisationId;
+    }
+
+    public String getUrn() {
+        return urn;
+    }
+
+    public String getProsecutionAuthorityCode() {
+        return prosecutionAuthorityCode;
+    }
+
+    public UUID getOrganisationId() {
+        return organisationId;
+    }
+}
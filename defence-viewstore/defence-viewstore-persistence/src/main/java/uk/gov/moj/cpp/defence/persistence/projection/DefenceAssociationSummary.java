@@ -0,0 +1,41 @@
+package uk.gov.moj.cpp.defence.persistence.projection;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+public class DefenceAssociationSummary {
+
+    private final UUID orgId;
+    private final UUID userId;
+    private final ZonedDateTime startDate;
+    private final ZonedDateTime endDate;
+    private final String representationType;
+
+    public DefenceAssociationSummary(final UUID orgId, final UUID userId, final ZonedDateTime startDate, final ZonedDateTime endDate, final String representationType) {
+        this.orgId = orgId;
+        this.userId = userId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.representationType = representationType;
+    }
+
+    public UUID getOrgId() {
+        return orgId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public ZonedDateTime getStartDate() {
+        return startDate;
+    }
+
+    public ZonedDateTime getEndDate() {
+        return endDate;
+    }
+
+    public String getRepresentationType() {
+        return representationType;
+    }
+}
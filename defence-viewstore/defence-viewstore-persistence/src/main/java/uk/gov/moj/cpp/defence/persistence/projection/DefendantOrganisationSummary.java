@@ -0,0 +1,40 @@
+package uk.gov.moj.cpp.defence.persistence.projection;
+
+import java.util.UUID;
+
+public class DefendantOrganisationSummary {
+
+    private final UUID defendantId;
+    private final String firstName;
+    private final String lastName;
+    private final String organisationName;
+    private final UUID associatedOrganisation;
+
+    public DefendantOrganisationSummary(final UUID defendantId, final String firstName, final String lastName, final String organisationName, final UUID associatedOrganisation) {
+        this.defendantId = defendantId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.organisationName = organisationName;
+        this.associatedOrganisation = associatedOrganisation;
+    }
+
+    public UUID getDefendantId() {
+        return defendantId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getOrganisationName() {
+        return organisationName;
+    }
+
+    public UUID getAssociatedOrganisation() {
+        return associatedOrganisation;
+    }
+}
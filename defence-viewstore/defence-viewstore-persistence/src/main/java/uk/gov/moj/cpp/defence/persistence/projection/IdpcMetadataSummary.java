@@ -0,0 +1,34 @@
+package uk.gov.moj.cpp.defence.persistence.projection;
+
+import java.time.LocalDate;
+
+public class IdpcMetadataSummary {
+
+    private final String documentName;
+    private final Integer pageCount;
+    private final LocalDate publishedDate;
+    private final String size;
+
+    public IdpcMetadataSummary(final String documentName, final Integer pageCount, final LocalDate publishedDate, final String size) {
+        this.documentName = documentName;
+        this.pageCount = pageCount;
+        this.publishedDate = publishedDate;
+        this.size = size;
+    }
+
+    public String getDocumentName() {
+        return documentName;
+    }
+
+    public Integer getPageCount() {
+        return pageCount;
+    }
+
+    public LocalDate getPublishedDate() {
+        return publishedDate;
+    }
+
+    public String getSize() {
+        return size;
+    }
+}
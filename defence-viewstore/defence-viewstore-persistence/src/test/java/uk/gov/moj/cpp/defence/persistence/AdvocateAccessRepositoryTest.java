@@ -39,6 +39,8 @@ public class AdvocateAccessRepositoryTest extends BaseTransactionalJunit4Test {
     private static final UUID ASSIGNOR_ID = randomUUID();
     private static final ZonedDateTime ASSIGNED_TIME = now();
     private static final ZonedDateTime ASSIGNMENT_EXPIRED_DATE = now().plusDays(5);
+    private static final ZonedDateTime SWEEP_START = ZonedDateTime.parse("1970-01-01T00:00Z");
+    private static final UUID NO_ID = new UUID(0L, 0L);
 
     @Test
     public void shouldFindCaseIdAndAssigneeId() {
@@ -149,6 +151,78 @@ public class AdvocateAccessRepositoryTest extends BaseTransactionalJunit4Test {
 
     }
 
+    @Test
+    public void shouldPageThroughExpiredCaseAssignmentsOldestFirst() {
+        final ZonedDateTime expiredAt = now().minusDays(1);
+        final UUID sameExpiryFirstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        final UUID sameExpirySecondId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        saveExpiredAdvocateAccess(randomUUID(), expiredAt.minusHours(1));
+        saveExpiredAdvocateAccess(sameExpirySecondId, expiredAt);
+        saveExpiredAdvocateAccess(sameExpiryFirstId, expiredAt);
+
+        final List<ProsecutionAdvocateAccess> firstPage = advocateAccessRepository.findExpiredCaseAssignmentsAfter(SWEEP_START, NO_ID, 2);
+        assertThat(firstPage.size(), is(2));
+        assertThat(firstPage.get(0).getAssignmentExpiryDate().toInstant(), is(expiredAt.minusHours(1).toInstant()));
+        assertThat(firstPage.get(1).getId(), is(sameExpiryFirstId));
+
+        final ProsecutionAdvocateAccess lastOfFirstPage = firstPage.get(1);
+        final List<ProsecutionAdvocateAccess> secondPage = advocateAccessRepository.findExpiredCaseAssignmentsAfter(lastOfFirstPage.getAssignmentExpiryDate(), lastOfFirstPage.getId(), 2);
+        assertThat(secondPage.size(), is(1));
+        assertThat(secondPage.get(0).getId(), is(sameExpirySecondId));
+
+        assertThat(advocateAccessRepository.findExpiredCaseAssignmentsAfter(secondPage.get(0).getAssignmentExpiryDate(), sameExpirySecondId, 2).size(), is(0));
+    }
+
+    @Test
+    public void shouldFindMostRecentlyExpiredCaseAssignmentsFirst() {
+        final ZonedDateTime expiredAt = now().minusDays(1);
+        saveExpiredAdvocateAccess(randomUUID(), expiredAt.minusHours(2));
+        saveExpiredAdvocateAccess(randomUUID(), expiredAt);
+        saveExpiredAdvocateAccess(randomUUID(), expiredAt.minusHours(1));
+
+        final List<ProsecutionAdvocateAccess> expired = advocateAccessRepository.findExpiredCaseAssignments(2);
+
+        assertThat(expired.size(), is(2));
+        assertThat(expired.get(0).getAssignmentExpiryDate().toInstant(), is(expiredAt.toInstant()));
+        assertThat(expired.get(1).getAssignmentExpiryDate().toInstant(), is(expiredAt.minusHours(1).toInstant()));
+    }
+
+    @Test
+    public void shouldCountOnlyExpiredAssignmentsTheSweepVisits() {
+        saveExpiredAdvocateAccess(randomUUID(), now().minusDays(1));
+        saveExpiredAdvocateAccess(randomUUID(), now().minusDays(2));
+
+        final ProsecutionAdvocateAccess withoutOrganisationAccess = new ProsecutionAdvocateAccess();
+        withoutOrganisationAccess.setId(randomUUID());
+        withoutOrganisationAccess.setCaseId(randomUUID());
+        withoutOrganisationAccess.setAssignedDate(now());
+        withoutOrganisationAccess.setAssignmentExpiryDate(now().minusDays(1));
+        advocateAccessRepository.save(withoutOrganisationAccess);
+
+        assertThat(advocateAccessRepository.countExpiredCaseAssignments(), is(2L));
+        assertThat(advocateAccessRepository.findExpiredCaseAssignments(50).size(), is(2));
+    }
+
+    private void saveExpiredAdvocateAccess(final UUID id, final ZonedDateTime assignmentExpiryDate) {
+        final UUID caseId = randomUUID();
+        final ProsecutionOrganisationAccess prosecutionOrganisationAccess = new ProsecutionOrganisationAccess();
+        prosecutionOrganisationAccess.setId(new ProsecutionOrganisationCaseKey(caseId, randomUUID()));
+        prosecutionOrganisationAccess.setCaseId(caseId);
+        prosecutionOrganisationAccess.setAssignedDate(now());
+        prosecutionOrganisationAccess.setRepresentationType(RepresentationType.PROSECUTION);
+        prosecutionOrganisationAccess.setRepresenting("CPS");
+        organisationAccessRepository.save(prosecutionOrganisationAccess);
+
+        final ProsecutionAdvocateAccess prosecutionAdvocateAccess = new ProsecutionAdvocateAccess();
+        prosecutionAdvocateAccess.setId(id);
+        prosecutionAdvocateAccess.setCaseId(caseId);
+        prosecutionAdvocateAccess.setAssignedDate(now());
+        prosecutionAdvocateAccess.setAssignmentExpiryDate(assignmentExpiryDate);
+        prosecutionAdvocateAccess.setAssigneeDetails(new AssignmentUserDetails(randomUUID(), randomUUID(), "f", "l"));
+        prosecutionAdvocateAccess.setProsecutionOrganisation(prosecutionOrganisationAccess);
+        advocateAccessRepository.saveAndFlush(prosecutionAdvocateAccess);
+    }
+
     private List<ProsecutionAdvocateAccess> buildProsecutionAdvocateAccessEntity() {
         final List<ProsecutionAdvocateAccess> advocateAccessList = new ArrayList<>();
 
@@ -0,0 +1,209 @@
+package uk.gov.moj.cpp.defence.persistence;
+
+import static java.time.ZonedDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.ORGANISATION;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.PrincipalType.USER;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.Role.DEFENDING;
+import static uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole.Role.PROSECUTING;
+
+import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
+import uk.gov.moj.cpp.defence.persistence.entity.AdvocateCaseRole;
+import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociationDefendant;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceGrantAccess;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceUserDetails;
+import uk.gov.moj.cpp.defence.persistence.entity.OrganisationDetails;
+import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
+import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
+import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
+import uk.gov.moj.cpp.defence.persistence.entity.RepresentationType;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(CdiTestRunner.class)
+public class AdvocateCaseRoleRepositoryIT extends BaseTransactionalJunit4Test {
+
+    private static final UUID CASE_ID = randomUUID();
+    private static final UUID DEFENDANT_ID = randomUUID();
+    private static final UUID DEFENDING_ORGANISATION_ID = randomUUID();
+    private static final UUID GRANTEE_USER_ID = randomUUID();
+    private static final UUID PROSECUTING_ORGANISATION_ID = randomUUID();
+    private static final UUID ADVOCATE_USER_ID = randomUUID();
+
+    @Inject
+    private AdvocateCaseRoleRepository advocateCaseRoleRepository;
+
+    @Inject
+    private DefenceClientRepository defenceClientRepository;
+
+    @Inject
+    private DefenceAssociationDefendantRepository defenceAssociationDefendantRepository;
+
+    @Inject
+    private DefenceGrantAccessRepository defenceGrantAccessRepository;
+
+    @Inject
+    private OrganisationAccessRepository organisationAccessRepository;
+
+    @Inject
+    private AdvocateAccessRepository advocateAccessRepository;
+
+    @Test
+    public void shouldDeriveARoleFromEachSourceTable() {
+        final ZonedDateTime organisationExpiry = now().plusDays(10);
+        final ZonedDateTime advocateExpiry = now().plusDays(5);
+        final DefenceClient defenceClient = saveDefenceClient();
+        saveDefenceAssociation(DEFENDING_ORGANISATION_ID, null);
+        saveDefenceGrantAccess(defenceClient, GRANTEE_USER_ID, false);
+        final ProsecutionOrganisationAccess organisationAccess = saveOrganisationAccess(organisationExpiry);
+        saveAdvocateAccess(organisationAccess, advocateExpiry);
+
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+
+        final AdvocateCaseRole defendingOrganisation = roleOf(DEFENDING_ORGANISATION_ID);
+        assertThat(defendingOrganisation.getPrincipalType(), is(ORGANISATION));
+        assertThat(defendingOrganisation.getRole(), is(DEFENDING));
+        assertThat(defendingOrganisation.getDefendantId(), is(DEFENDANT_ID));
+        assertThat(defendingOrganisation.getAssignmentExpiryDate(), nullValue());
+
+        final AdvocateCaseRole grantee = roleOf(GRANTEE_USER_ID);
+        assertThat(grantee.getPrincipalType(), is(USER));
+        assertThat(grantee.getRole(), is(DEFENDING));
+        assertThat(grantee.getDefendantId(), is(DEFENDANT_ID));
+
+        final AdvocateCaseRole prosecutingOrganisation = roleOf(PROSECUTING_ORGANISATION_ID);
+        assertThat(prosecutingOrganisation.getPrincipalType(), is(ORGANISATION));
+        assertThat(prosecutingOrganisation.getRole(), is(PROSECUTING));
+        assertThat(prosecutingOrganisation.getDefendantId(), nullValue());
+        assertThat(prosecutingOrganisation.getAssignmentExpiryDate().toInstant(), is(organisationExpiry.toInstant()));
+
+        final AdvocateCaseRole advocate = roleOf(ADVOCATE_USER_ID);
+        assertThat(advocate.getPrincipalType(), is(USER));
+        assertThat(advocate.getRole(), is(PROSECUTING));
+        assertThat(advocate.getAssignmentExpiryDate().toInstant(), is(advocateExpiry.toInstant()));
+    }
+
+    @Test
+    public void shouldSkipEndedAssociationsAndRemovedGrants() {
+        final UUID endedOrganisationId = randomUUID();
+        final UUID removedGranteeUserId = randomUUID();
+        final DefenceClient defenceClient = saveDefenceClient();
+        saveDefenceAssociation(endedOrganisationId, now().minusDays(1));
+        saveDefenceGrantAccess(defenceClient, removedGranteeUserId, true);
+
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+
+        assertThat(advocateCaseRoleRepository.findByCaseIdAndPrincipalIds(CASE_ID, asList(endedOrganisationId, removedGranteeUserId)).size(), is(0));
+    }
+
+    @Test
+    public void shouldKeepExpiredAssignmentsButReportThemInactive() {
+        final ProsecutionOrganisationAccess organisationAccess = saveOrganisationAccess(now().minusDays(2));
+        saveAdvocateAccess(organisationAccess, now().minusDays(1));
+
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+
+        assertThat(roleOf(PROSECUTING_ORGANISATION_ID).isActiveAt(now()), is(false));
+        assertThat(roleOf(ADVOCATE_USER_ID).isActiveAt(now()), is(false));
+        assertThat(roleOf(ADVOCATE_USER_ID).isActiveAt(now().minusDays(3)), is(true));
+    }
+
+    @Test
+    public void shouldReplaceRolesOnRepeatedRefresh() {
+        final DefenceClient defenceClient = saveDefenceClient();
+        final DefenceGrantAccess defenceGrantAccess = saveDefenceGrantAccess(defenceClient, GRANTEE_USER_ID, false);
+        saveOrganisationAccess(now().plusDays(1));
+
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+
+        assertThat(rolesOf(GRANTEE_USER_ID, PROSECUTING_ORGANISATION_ID).size(), is(2));
+
+        defenceGrantAccess.setRemoved(true);
+        advocateCaseRoleRepository.refreshCase(CASE_ID);
+
+        assertThat(rolesOf(GRANTEE_USER_ID, PROSECUTING_ORGANISATION_ID).size(), is(1));
+    }
+
+    private AdvocateCaseRole roleOf(final UUID principalId) {
+        final List<AdvocateCaseRole> roles = rolesOf(principalId);
+        assertThat(roles.size(), is(1));
+        return roles.get(0);
+    }
+
+    private List<AdvocateCaseRole> rolesOf(final UUID... principalIds) {
+        return advocateCaseRoleRepository.findByCaseIdAndPrincipalIds(CASE_ID, asList(principalIds));
+    }
+
+    private DefenceClient saveDefenceClient() {
+        final DefenceClient defenceClient = new DefenceClient(randomUUID(), "FIRST NAME", "LAST NAME", CASE_ID, LocalDate.of(1970, 5, 17), DEFENDANT_ID);
+        defenceClientRepository.save(defenceClient);
+        return defenceClient;
+    }
+
+    private void saveDefenceAssociation(final UUID organisationId, final ZonedDateTime endDate) {
+        final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
+        defenceAssociationDefendant.setDefendantId(DEFENDANT_ID);
+        final DefenceAssociation defenceAssociation = new DefenceAssociation();
+        defenceAssociation.setId(randomUUID());
+        defenceAssociation.setOrgId(organisationId);
+        defenceAssociation.setUserId(randomUUID());
+        defenceAssociation.setStartDate(now().minusDays(5));
+        defenceAssociation.setEndDate(endDate);
+        defenceAssociation.setDefenceAssociationDefendant(defenceAssociationDefendant);
+        defenceAssociationDefendant.getDefenceAssociations().add(defenceAssociation);
+        defenceAssociationDefendantRepository.save(defenceAssociationDefendant);
+    }
+
+    private DefenceGrantAccess saveDefenceGrantAccess(final DefenceClient defenceClient, final UUID granteeUserId, final boolean removed) {
+        final DefenceGrantAccess defenceGrantAccess = new DefenceGrantAccess();
+        defenceGrantAccess.setId(randomUUID());
+        defenceGrantAccess.setDefenceClient(defenceClient);
+        defenceGrantAccess.setStartDate(now());
+        defenceGrantAccess.setGranteeDefenceUserDetails(new DefenceUserDetails(randomUUID(), granteeUserId, "John", "Trackey"));
+        defenceGrantAccess.setGrantorDefenceUserDetails(new DefenceUserDetails(randomUUID(), randomUUID(), "Tim", "Quick"));
+        defenceGrantAccess.setGranteeOrganisationDetails(new OrganisationDetails(randomUUID(), DEFENDING_ORGANISATION_ID, "Test Ltd"));
+        defenceGrantAccess.setRemoved(removed);
+        defenceGrantAccessRepository.save(defenceGrantAccess);
+        return defenceGrantAccess;
+    }
+
+    private ProsecutionOrganisationAccess saveOrganisationAccess(final ZonedDateTime assignmentExpiryDate) {
+        final ProsecutionOrganisationAccess organisationAccess = new ProsecutionOrganisationAccess();
+        organisationAccess.setId(new ProsecutionOrganisationCaseKey(CASE_ID, PROSECUTING_ORGANISATION_ID));
+        organisationAccess.setCaseId(CASE_ID);
+        organisationAccess.setAssignedDate(now());
+        organisationAccess.setAssignmentExpiryDate(assignmentExpiryDate);
+        organisationAccess.setRepresentationType(RepresentationType.PROSECUTION);
+        organisationAccess.setRepresenting("CPS");
+        organisationAccessRepository.save(organisationAccess);
+        return organisationAccess;
+    }
+
+    private void saveAdvocateAccess(final ProsecutionOrganisationAccess organisationAccess, final ZonedDateTime assignmentExpiryDate) {
+        final ProsecutionAdvocateAccess advocateAccess = new ProsecutionAdvocateAccess();
+        advocateAccess.setId(randomUUID());
+        advocateAccess.setCaseId(CASE_ID);
+        advocateAccess.setAssignedDate(now());
+        advocateAccess.setAssignmentExpiryDate(assignmentExpiryDate);
+        advocateAccess.setAssigneeDetails(new AssignmentUserDetails(randomUUID(), ADVOCATE_USER_ID, "Advocate", "One"));
+        advocateAccess.setProsecutionOrganisation(organisationAccess);
+        advocateAccessRepository.save(advocateAccess);
+    }
+}
@@ -16,8 +16,11 @@ import java.util.Set;
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
 
 import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -30,6 +33,9 @@ public class AllegationRepositoryIT extends BaseTransactionalJunit4Test {
     @Inject
     DefenceClientRepository defenceClientRepository;
 
+    @Inject
+    EntityManager entityManager;
+
     @Test
     public void shouldFindAllegationsByDefenceClientId() {
 
@@ -118,6 +124,24 @@ public class AllegationRepositoryIT extends BaseTransactionalJunit4Test {
         assertThat(allegations.size(), is(0));
     }
 
+    @Test
+    public void shouldBatchTheInsertsOfAllegationsPersistedForOneEvent() {
+
+        final DefenceClient defClient = createDefenceClient();
+        defenceClientRepository.save(defClient);
+        entityManager.flush();
+        final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(createAllegation(defClient));
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount(), is(5L));
+        assertThat(statistics.getPrepareStatementCount(), is(1L));
+    }
+
     private Allegation createAllegation(final DefenceClient defClient) {
         final UUID allegationId = UUID.randomUUID();
         final String legislation = "s18, Offences Against the Person Act 1861";
@@ -3,11 +3,13 @@ package uk.gov.moj.cpp.defence.persistence;
 import static com.google.common.collect.ImmutableList.of;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociation;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceAssociationDefendant;
+import uk.gov.moj.cpp.defence.persistence.projection.DefenceAssociationSummary;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -121,6 +123,36 @@ public class DefenceAssociationRepositoryTest extends BaseTransactionalJunit4Tes
         assertThat(result.size(), is(2));
     }
 
+    @Test
+    public void shouldProjectDefendantIdsByUserIdWithoutLoadingAssociations() {
+        final UUID userId = randomUUID();
+        final UUID defendantId1 = randomUUID();
+        final UUID defendantId2 = randomUUID();
+        createDefenceAssociation(userId, defendantId1, null, null);
+        createDefenceAssociation(userId, defendantId2, ZonedDateTime.now().minusDays(10), ZonedDateTime.now().minusDays(1));
+        defenceAssociationRepository.flush();
+
+        final List<UUID> result = defenceAssociationRepository.findDefendantIdsByUserIdAndCurrentDate(userId, ZonedDateTime.now());
+
+        assertThat(result, is(of(defendantId1)));
+    }
+
+    @Test
+    public void shouldProjectAssociationSummariesOfDefendant() {
+        final UUID userId = randomUUID();
+        final UUID defendantId = randomUUID();
+        final DefenceAssociation defenceAssociation = createDefenceAssociation(userId, defendantId, ZonedDateTime.now(), null);
+        createDefenceAssociation(randomUUID(), randomUUID(), ZonedDateTime.now(), null);
+        defenceAssociationRepository.flush();
+
+        final List<DefenceAssociationSummary> result = defenceAssociationRepository.findSummariesByDefendantId(defendantId);
+
+        assertThat(result.size(), is(1));
+        assertThat(result.get(0).getOrgId(), is(defenceAssociation.getOrgId()));
+        assertThat(result.get(0).getUserId(), is(userId));
+        assertThat(result.get(0).getEndDate(), is(nullValue()));
+    }
+
     private DefenceAssociation createDefenceAssociation(final String laaContractNumber) {
         UUID defendantId = randomUUID();
         final DefenceAssociationDefendant defenceAssociationDefendant = new DefenceAssociationDefendant();
@@ -1,8 +1,12 @@
 package uk.gov.moj.cpp.defence.persistence;
 
 import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
@@ -40,6 +44,34 @@ public class DefenceCaseRepositoryIT extends BaseTransactionalJunit4Test {
         assertEquals(defenceCase, savedCase);
     }
 
+    @Test
+    public void shouldFindCaseIdsByUpperCasedUrn() {
+        final UUID caseId = randomUUID();
+        final DefenceCase defenceCase = new DefenceCase();
+        defenceCase.setId(caseId);
+        defenceCase.setUrn("Test Upper URN");
+        defenceCaseRepository.save(defenceCase);
+
+        assertThat(defenceCaseRepository.findCaseIdsByUrn("TEST UPPER URN"), contains(caseId));
+        assertTrue(defenceCaseRepository.findCaseIdsByUrn("UNKNOWN URN").isEmpty());
+    }
+
+    @Test
+    public void shouldFindEveryCaseSharingAnUrn() {
+        final UUID firstCaseId = randomUUID();
+        final UUID secondCaseId = randomUUID();
+        final DefenceCase firstCase = new DefenceCase();
+        firstCase.setId(firstCaseId);
+        firstCase.setUrn("SHARED URN");
+        defenceCaseRepository.save(firstCase);
+        final DefenceCase secondCase = new DefenceCase();
+        secondCase.setId(secondCaseId);
+        secondCase.setUrn("Shared Urn");
+        defenceCaseRepository.save(secondCase);
+
+        assertThat(defenceCaseRepository.findCaseIdsByUrn("SHARED URN"), containsInAnyOrder(firstCaseId, secondCaseId));
+    }
+
     @Test
     public void shouldReturnNullWhenDefenceClientNotKnown() {
         DefenceCase random = defenceCaseRepository.findBy(UUID.randomUUID());
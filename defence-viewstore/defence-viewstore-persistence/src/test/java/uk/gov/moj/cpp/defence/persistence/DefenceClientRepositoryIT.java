@@ -14,6 +14,7 @@ import static org.hamcrest.collection.IsEmptyCollection.empty;
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
+import uk.gov.moj.cpp.defence.persistence.projection.DefendantOrganisationSummary;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -476,6 +477,47 @@ public class DefenceClientRepositoryIT extends BaseTransactionalJunit4Test {
         assertThat(defendantIdFromDB.get(0), is(defendantId));
     }
 
+    @Test
+    public void shouldRetrievePersonDefendantIdIgnoringCaseAndSurroundingSpaces() {
+        final UUID defendantId = randomUUID();
+        final LocalDate dateOfBirth = of(1990, 1, 2);
+        defenceClientRepository.save(new DefenceClient(randomUUID(), " Brian ", "burglar ", randomUUID(), dateOfBirth, defendantId));
+
+        final List<UUID> defendantIdFromDB = defenceClientRepository.getPersonDefendant("brian", " BURGLAR", dateOfBirth);
+
+        assertThat(defendantIdFromDB, hasSize(1));
+        assertThat(defendantIdFromDB.get(0), is(defendantId));
+    }
+
+    @Test
+    public void shouldProjectDefendantOrganisationSummariesOfCase() {
+        final UUID caseId = randomUUID();
+        final UUID associatedOrganisation = randomUUID();
+        final DefenceClient personDefendant = getDefenceClient1(caseId);
+        personDefendant.setAssociatedOrganisation(associatedOrganisation);
+        final DefenceClient organisationDefendant = new DefenceClient(randomUUID(), ORGANISATION_NAME, caseId, randomUUID());
+        defenceClientRepository.save(personDefendant);
+        defenceClientRepository.save(organisationDefendant);
+        defenceClientRepository.save(getDefenceClient2(randomUUID()));
+        defenceClientRepository.flush();
+
+        final List<DefendantOrganisationSummary> summaries = defenceClientRepository.findDefendantOrganisationSummariesByCaseId(caseId);
+
+        assertThat(summaries, hasSize(2));
+        final DefendantOrganisationSummary personSummary = summaryOf(summaries, personDefendant.getDefendantId());
+        assertThat(personSummary.getFirstName(), is(personDefendant.getFirstName()));
+        assertThat(personSummary.getLastName(), is(personDefendant.getLastName()));
+        assertThat(personSummary.getOrganisationName(), nullValue());
+        assertThat(personSummary.getAssociatedOrganisation(), is(associatedOrganisation));
+        final DefendantOrganisationSummary organisationSummary = summaryOf(summaries, organisationDefendant.getDefendantId());
+        assertThat(organisationSummary.getOrganisationName(), is(ORGANISATION_NAME));
+        assertThat(organisationSummary.getAssociatedOrganisation(), nullValue());
+    }
+
+    private DefendantOrganisationSummary summaryOf(final List<DefendantOrganisationSummary> summaries, final UUID defendantId) {
+        return summaries.stream().filter(summary -> defendantId.equals(summary.getDefendantId())).findFirst().orElseThrow(AssertionError::new);
+    }
+
     protected UUID saveDefenceClientAndLastAssociatedOrganisation(final UUID defendantId, final UUID organisationId) {
         DefenceClient defenceClient = generateDefenceClient(defendantId);
         UUID lastAssociatedOrganisation = randomUUID();
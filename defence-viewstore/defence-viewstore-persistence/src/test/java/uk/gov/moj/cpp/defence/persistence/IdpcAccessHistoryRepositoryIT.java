@@ -1,12 +1,14 @@
 package uk.gov.moj.cpp.defence.persistence;
 
 import static java.util.UUID.randomUUID;
-import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
+import uk.gov.moj.cpp.defence.persistence.entity.DefenceCase;
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcAccess;
+import uk.gov.moj.cpp.defence.persistence.projection.CaseIdpcAccessOrganisation;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -18,7 +20,6 @@ import java.util.UUID;
 import javax.inject.Inject;
 
 import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
-import org.awaitility.Durations;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -31,6 +32,9 @@ public class IdpcAccessHistoryRepositoryIT extends BaseTransactionalJunit4Test {
     @Inject
     DefenceClientRepository defenceClientRepository;
 
+    @Inject
+    DefenceCaseRepository defenceCaseRepository;
+
     private static UUID DEFENCECLIENT_ID = randomUUID();
     private static UUID USER_ID = randomUUID();
     private static UUID IDPC_ID = randomUUID();
@@ -66,23 +70,38 @@ public class IdpcAccessHistoryRepositoryIT extends BaseTransactionalJunit4Test {
     }
 
     @Test
-    public void testAccessFromOrganisationByDifferentUsers() {
-        List<UUID> organisations = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
-            UUID orgId = UUID.randomUUID();
-            for (int j = 0; j < 5; j++) {
-                IdpcAccess idpc = new IdpcAccess(randomUUID(), DEFENCECLIENT_ID, IDPC_ID,
-                        randomUUID(), orgId, ZonedDateTime.now(ZoneId.of("UTC")));
-                idpcAccessHistoryRepository.save(idpc);
-                await().atMost(Durations.ONE_HUNDRED_MILLISECONDS);
-            }
-            //Latest user will always be at 0th location
-            organisations.add(0, orgId);
-        }
-
-        final List<UUID> resultList = idpcAccessHistoryRepository.findOrderedDistinctOrgIdsOfIdpcAccessForDefenceClient(DEFENCECLIENT_ID);
-
-        assertThat(resultList, is(organisations));
+    public void shouldFindCaseWithIdpcAccessOrganisationsMostRecentFirst() {
+        final UUID caseId = randomUUID();
+        final UUID defenceClientId = randomUUID();
+        final UUID earlierOrgId = randomUUID();
+        final UUID laterOrgId = randomUUID();
+        defenceCaseRepository.save(new DefenceCase(caseId, "55dd1234567", "TFL", false, false));
+        idpcAccessHistoryRepository.save(createIdpcAccessEntity(defenceClientId, IDPC_ID, randomUUID(), earlierOrgId, NOW.minusHours(2)));
+        idpcAccessHistoryRepository.save(createIdpcAccessEntity(defenceClientId, IDPC_ID, randomUUID(), laterOrgId, NOW.minusHours(1)));
+        idpcAccessHistoryRepository.save(createIdpcAccessEntity(defenceClientId, IDPC_ID, randomUUID(), earlierOrgId, NOW.minusHours(3)));
+        idpcAccessHistoryRepository.save(createIdpcAccessEntity(randomUUID(), IDPC_ID, randomUUID(), randomUUID(), NOW));
+        idpcAccessHistoryRepository.flush();
+
+        final List<CaseIdpcAccessOrganisation> rows = idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(defenceClientId, caseId);
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0).getOrganisationId(), is(laterOrgId));
+        assertThat(rows.get(1).getOrganisationId(), is(earlierOrgId));
+        assertThat(rows.get(0).getUrn(), is("55DD1234567"));
+        assertThat(rows.get(0).getProsecutionAuthorityCode(), is("TFL"));
+    }
+
+    @Test
+    public void shouldFindCaseWithoutOrganisationWhenIdpcNeverAccessed() {
+        final UUID caseId = randomUUID();
+        defenceCaseRepository.save(new DefenceCase(caseId, "55DD7654321", "CPS", false, false));
+        defenceCaseRepository.flush();
+
+        final List<CaseIdpcAccessOrganisation> rows = idpcAccessHistoryRepository.findCaseWithOrderedIdpcAccessOrganisations(randomUUID(), caseId);
+
+        assertThat(rows.size(), is(1));
+        assertThat(rows.get(0).getUrn(), is("55DD7654321"));
+        assertThat(rows.get(0).getOrganisationId(), is(nullValue()));
     }
 
     private IdpcAccess createStaticIdpcAccess() {
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertNull;
 import uk.gov.justice.services.test.utils.persistence.BaseTransactionalJunit4Test;
 import uk.gov.moj.cpp.defence.persistence.entity.DefenceClient;
 import uk.gov.moj.cpp.defence.persistence.entity.IdpcDetails;
+import uk.gov.moj.cpp.defence.persistence.projection.IdpcMetadataSummary;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -97,6 +98,49 @@ public class IdpcDetailsRepositoryIT extends BaseTransactionalJunit4Test {
         assertNull(actualIdpcDetails);
     }
 
+    @Test
+    public void findIdpcMetadataForDefenceClientId() {
+        final IdpcDetails idpcDetails = saveIdpcDetails(randomUUID());
+
+        final IdpcMetadataSummary idpcMetadata = idpcRepository.findIdpcMetadataForDefenceClient(idpcDetails.getDefenceClientId());
+
+        assertIdpcMetadata(idpcDetails, idpcMetadata);
+        assertNull(idpcRepository.findIdpcMetadataForDefenceClient(randomUUID()));
+    }
+
+    @Test
+    public void findIdpcMetadataForDefendantId() {
+        final DefenceClient defenceClient = getDefenceClient1(randomUUID());
+        defenceClientRepository.save(defenceClient);
+        final IdpcDetails idpcDetails = saveIdpcDetails(defenceClient.getId());
+        saveIdpcDetails(randomUUID());
+
+        final IdpcMetadataSummary idpcMetadata = idpcRepository.findIdpcMetadataForDefendantId(defenceClient.getDefendantId());
+
+        assertIdpcMetadata(idpcDetails, idpcMetadata);
+        assertNull(idpcRepository.findIdpcMetadataForDefendantId(randomUUID()));
+    }
+
+    private IdpcDetails saveIdpcDetails(final UUID defenceClientId) {
+        final uk.gov.moj.cpp.defence.IdpcDetails idpcDetailsVo = uk.gov.moj.cpp.defence.IdpcDetails.idpcDetails()
+                .withPublishedDate(of(2024, 3, 14))
+                .withSize("2.7Mb")
+                .withPageCount(20)
+                .withMaterialId(randomUUID())
+                .build();
+        final IdpcDetails idpcDetails = new IdpcDetails(randomUUID(), defenceClientId, idpcDetailsVo, "SURNAME firstname 11DD0304617 Initial Details Pros Case");
+        idpcRepository.save(idpcDetails);
+        idpcRepository.flush();
+        return idpcDetails;
+    }
+
+    private void assertIdpcMetadata(final IdpcDetails expected, final IdpcMetadataSummary actual) {
+        assertEquals(expected.getDocumentName(), actual.getDocumentName());
+        assertEquals(expected.getPageCount(), actual.getPageCount());
+        assertEquals(expected.getPublishedDate(), actual.getPublishedDate());
+        assertEquals(expected.getSize(), actual.getSize());
+    }
+
     private DefenceClient getDefenceClient1(final UUID caseId) {
         final String defenceClientOneFirstName = "TEST ONE FIRST NAME";
         final String defenceClientOneLastName = "TEST ONE LAST NAME";
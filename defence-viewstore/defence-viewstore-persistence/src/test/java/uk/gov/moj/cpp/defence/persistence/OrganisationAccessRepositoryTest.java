@@ -1,21 +1,28 @@
 package uk.gov.moj.cpp.defence.persistence;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hibernate.Hibernate.isInitialized;
 
 import uk.gov.justice.cps.defence.PersonDetails;
 import uk.gov.moj.cpp.defence.Organisation;
 import uk.gov.moj.cpp.defence.persistence.entity.AssignmentUserDetails;
+import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionAdvocateAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationAccess;
 import uk.gov.moj.cpp.defence.persistence.entity.ProsecutionOrganisationCaseKey;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
 import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,9 +31,15 @@ import org.junit.runner.RunWith;
 @Transactional
 public class OrganisationAccessRepositoryTest {
 
+    private static final ZonedDateTime SWEEP_START = ZonedDateTime.parse("1970-01-01T00:00Z");
+    private static final UUID NO_ID = new UUID(0L, 0L);
+
     @Inject
     private OrganisationAccessRepository organisationAccessRepository;
 
+    @Inject
+    private EntityManager entityManager;
+
     @Before
     public void setUp() {
         organisationAccessRepository.findAll().forEach(organisationAccessRepository::remove);
@@ -34,6 +47,10 @@ public class OrganisationAccessRepositoryTest {
     }
 
     private void createOrganisationAccessRecord(UUID caseId, UUID assigneeOrgId, UUID assigneeId, ZonedDateTime assignmentExpiryDate) {
+        createOrganisationAccessRecord(caseId, assigneeOrgId, assigneeId, assignmentExpiryDate, 0);
+    }
+
+    private void createOrganisationAccessRecord(UUID caseId, UUID assigneeOrgId, UUID assigneeId, ZonedDateTime assignmentExpiryDate, int advocates) {
         // Insert OrganisationAccess record inlined logic from ProsecutionCaseAccessTransformer#toOrganisationAccess
         Organisation assignorOrganisation = Organisation.organisation().withOrgId(UUID.randomUUID()).withOrganisationName("Assignor Org").build();
         PersonDetails assigneeUserDetails = PersonDetails.personDetails().withUserId(UUID.randomUUID()).withFirstName("Assignee").build();
@@ -54,6 +71,16 @@ public class OrganisationAccessRepositoryTest {
         organisationAccess.setRepresenting(representingOrganisation);
         organisationAccess.setAssignedDate(assignedDate);
         organisationAccess.setAssignmentExpiryDate(assignmentExpiryDate);
+        for (int i = 0; i < advocates; i++) {
+            final ProsecutionAdvocateAccess advocateAccess = new ProsecutionAdvocateAccess();
+            advocateAccess.setId(UUID.randomUUID());
+            advocateAccess.setCaseId(caseId);
+            advocateAccess.setAssigneeDetails(new AssignmentUserDetails(UUID.randomUUID(), UUID.randomUUID(), "Advocate", "Assignee"));
+            advocateAccess.setAssignorDetails(new AssignmentUserDetails(UUID.randomUUID(), UUID.randomUUID(), "Advocate", "Assignor"));
+            advocateAccess.setAssignedDate(assignedDate);
+            advocateAccess.setProsecutionOrganisation(organisationAccess);
+            organisationAccess.getProsecutionAdvocatesWithAccess().add(advocateAccess);
+        }
         organisationAccessRepository.save(organisationAccess);
         organisationAccessRepository.flush();
     }
@@ -74,6 +101,40 @@ public class OrganisationAccessRepositoryTest {
         assertThat(organisationAccessRepository.findExpiredCaseAssignments(2).size(), is(2));
     }
 
+    @Test
+    public void shouldPageThroughExpiredCaseAssignmentsOldestFirst() {
+        final ZonedDateTime expiredAt = ZonedDateTime.now().minusDays(1);
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt.minusHours(2));
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt.minusHours(1));
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt);
+
+        assertThat(organisationAccessRepository.countExpiredCaseAssignments(), is(3L));
+
+        final List<ProsecutionOrganisationAccess> firstPage = organisationAccessRepository.findExpiredCaseAssignmentsAfter(SWEEP_START, NO_ID, NO_ID, 2);
+        assertThat(firstPage.size(), is(2));
+        assertThat(firstPage.get(0).getAssignmentExpiryDate().toInstant(), is(expiredAt.minusHours(2).toInstant()));
+
+        final ProsecutionOrganisationAccess lastOfFirstPage = firstPage.get(1);
+        final List<ProsecutionOrganisationAccess> secondPage = organisationAccessRepository.findExpiredCaseAssignmentsAfter(lastOfFirstPage.getAssignmentExpiryDate(),
+                lastOfFirstPage.getId().getCaseId(), lastOfFirstPage.getId().getAssigneeOrganisationId(), 2);
+        assertThat(secondPage.size(), is(1));
+        assertThat(secondPage.get(0).getAssignmentExpiryDate().toInstant(), is(expiredAt.toInstant()));
+    }
+
+    @Test
+    public void shouldFindMostRecentlyExpiredCaseAssignmentsFirst() {
+        final ZonedDateTime expiredAt = ZonedDateTime.now().minusDays(1);
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt.minusHours(2));
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt);
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), expiredAt.minusHours(1));
+
+        final List<ProsecutionOrganisationAccess> expired = organisationAccessRepository.findExpiredCaseAssignments(2);
+
+        assertThat(expired.size(), is(2));
+        assertThat(expired.get(0).getAssignmentExpiryDate().toInstant(), is(expiredAt.toInstant()));
+        assertThat(expired.get(1).getAssignmentExpiryDate().toInstant(), is(expiredAt.minusHours(1).toInstant()));
+    }
+
     @Test
     public void shouldFindActiveAssignmentsByCaseIdAndAssigneeOrganisationId() {
         final UUID caseIdExpired = UUID.randomUUID();
@@ -90,4 +151,57 @@ public class OrganisationAccessRepositoryTest {
         assertThat(organisationAccessRepository.findActiveByCaseIdAndAssigneeOrganisationId(caseIdActive, assigneeOrgId).size(), is(1));
         assertThat(organisationAccessRepository.findActiveByCaseIdAndAssigneeOrganisationId(caseIdExpired, assigneeOrgId).size(), is(0));
     }
+
+    @Test
+    public void shouldFindOrganisationAccessForManyCasesInOneQuery() {
+        final UUID caseId1 = UUID.randomUUID();
+        final UUID caseId2 = UUID.randomUUID();
+        createOrganisationAccessRecord(caseId1, UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1));
+        createOrganisationAccessRecord(caseId1, UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1));
+        createOrganisationAccessRecord(caseId2, UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1));
+        createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1));
+
+        assertThat(organisationAccessRepository.findByCaseIdIn(asList(caseId1, caseId2)).size(), is(3));
+    }
+
+    @Test
+    public void shouldLoadAssigneesOfCaseWithTheirAdvocatesInOneStatement() {
+        final UUID caseId = UUID.randomUUID();
+        createOrganisationAccessRecord(caseId, UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1), 2);
+        createOrganisationAccessRecord(caseId, UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().plusDays(1), 3);
+        final Statistics statistics = clearedStatistics();
+
+        final List<ProsecutionOrganisationAccess> assignees = organisationAccessRepository.findByCaseId(caseId);
+
+        assertThat(assignees.size(), is(2));
+        assignees.forEach(assignee -> {
+            assertThat(isInitialized(assignee.getProsecutionAdvocatesWithAccess()), is(true));
+            assignee.getProsecutionAdvocatesWithAccess().forEach(advocate -> assertThat(advocate.getAssigneeDetails().getFirstName(), is("Advocate")));
+        });
+        assertThat(statistics.getPrepareStatementCount(), is(1L));
+    }
+
+    @Test
+    public void shouldSweepExpiredCaseAssignmentsInOneStatementWithoutLoadingAdvocates() {
+        for (int i = 0; i < 3; i++) {
+            createOrganisationAccessRecord(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), ZonedDateTime.now().minusDays(1));
+        }
+        final Statistics statistics = clearedStatistics();
+
+        final List<ProsecutionOrganisationAccess> expired = organisationAccessRepository.findExpiredCaseAssignments(10);
+
+        assertThat(expired.size(), is(3));
+        expired.forEach(assignment -> {
+            assertThat(assignment.getAssigneeDetails().getFirstName(), is("Assignee"));
+            assertThat(assignment.getAssignorDetails().getFirstName(), is("Assignor"));
+        });
+        assertThat(statistics.getPrepareStatementCount(), is(1L));
+    }
+
+    private Statistics clearedStatistics() {
+        entityManager.clear();
+        final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }